@@ -5,13 +5,29 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.example.springbootweb.entities.analytics.AnalyticsReportProperties;
+import com.example.springbootweb.entities.cache.CatalogCacheProperties;
+import com.example.springbootweb.entities.cache.ResponseCacheProperties;
+import com.example.springbootweb.entities.events.SessionEventProperties;
+import com.example.springbootweb.entities.imports.QuestionImportProperties;
 import com.example.springbootweb.entities.jwt.JwtProperties;
+import com.example.springbootweb.entities.jwt.RefreshTokenProperties;
+import com.example.springbootweb.entities.logging.RequestLoggingProperties;
+import com.example.springbootweb.entities.querystats.QueryStatsProperties;
+import com.example.springbootweb.entities.quizversions.QuizVersionProperties;
+import com.example.springbootweb.entities.security.PasswordHashingProperties;
+import com.example.springbootweb.entities.security.RateLimitProperties;
 
 @SpringBootApplication
 @EnableJpaRepositories(basePackages = "com.example.springbootweb.repositories")
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({ JwtProperties.class, SessionEventProperties.class, AnalyticsReportProperties.class,
+		CatalogCacheProperties.class, QuestionImportProperties.class, QuizVersionProperties.class,
+		ResponseCacheProperties.class, RefreshTokenProperties.class, PasswordHashingProperties.class,
+		RateLimitProperties.class, RequestLoggingProperties.class, QueryStatsProperties.class })
 @EnableFeignClients
+@EnableScheduling
 public class SpringBootWebApplication {
 
     public static void main(String[] args) {
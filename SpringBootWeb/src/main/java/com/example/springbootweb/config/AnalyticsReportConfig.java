@@ -0,0 +1,29 @@
+package com.example.springbootweb.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.springbootweb.entities.analytics.AnalyticsReportProperties;
+import com.example.springbootweb.services.executors.BoundedPriorityExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class AnalyticsReportConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public BoundedPriorityExecutor analyticsReportExecutor(AnalyticsReportProperties properties,
+			MeterRegistry meterRegistry) {
+		BoundedPriorityExecutor executor = new BoundedPriorityExecutor("analytics-report-",
+				properties.workerThreads(), properties.queueCapacity());
+		Gauge.builder("analytics.reports.queued", executor, BoundedPriorityExecutor::pendingTasks)
+			.description("Report jobs waiting for a worker")
+			.register(meterRegistry);
+		Gauge.builder("analytics.reports.running", executor, BoundedPriorityExecutor::activeTasks)
+			.description("Report jobs being computed")
+			.register(meterRegistry);
+		return executor;
+	}
+
+}
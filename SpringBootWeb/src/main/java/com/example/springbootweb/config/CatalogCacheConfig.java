@@ -0,0 +1,69 @@
+package com.example.springbootweb.config;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.springbootweb.entities.cache.CatalogCacheProperties;
+import com.example.springbootweb.entities.constants.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Local (Caffeine) JCache manager backing the Hibernate second-level cache. Regions are
+ * created here with their size and TTL bounds and handed to Hibernate, so nothing is
+ * ever cached in an unbounded region.
+ * <p>
+ * Invalidation is Hibernate's: entities and collections are cached {@code READ_WRITE},
+ * so every change flushed through the persistence context updates or evicts its entry.
+ * Writes that bypass it (native SQL, JDBC) must evict the affected regions themselves.
+ * <p>
+ * The cache is switched on here rather than in {@code spring.jpa.properties}: Spring
+ * Data builds its own AOT metamodel from those properties, without this manager.
+ */
+@Configuration
+public class CatalogCacheConfig {
+
+	@Bean(destroyMethod = "close")
+	public CacheManager catalogCacheManager(CatalogCacheProperties properties) {
+		CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+		CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(),
+				CatalogCacheConfig.class.getClassLoader());
+		for (String region : CacheRegions.ALL) {
+			// Another context in the same JVM (tests) may already have created it
+			if (cacheManager.getCache(region) == null) {
+				cacheManager.createCache(region, regionConfiguration(properties, region));
+			}
+		}
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer catalogCacheHibernateProperties(CacheManager catalogCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(CacheSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(CacheSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, catalogCacheManager);
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+		};
+	}
+
+	private CaffeineConfiguration<Object, Object> regionConfiguration(CatalogCacheProperties properties,
+			String region) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setMaximumSize(OptionalLong.of(properties.maxEntries(region)));
+		configuration.setExpireAfterWrite(OptionalLong.of(properties.timeToLive(region).toNanos()));
+		// Hibernate stores immutable disassembled state, no need to copy it on every access
+		configuration.setStoreByValue(false);
+		return configuration;
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.example.springbootweb.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.springbootweb.controllers.cache.CachedResponseInterceptor;
+import com.example.springbootweb.controllers.etag.CatalogETagInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP caching of the API: conditional GETs first, then the serialized response cache,
+ * which relies on the ETag set by the former.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HttpCacheConfig implements WebMvcConfigurer {
+
+	private final CatalogETagInterceptor catalogETagInterceptor;
+
+	private final CachedResponseInterceptor cachedResponseInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(catalogETagInterceptor).addPathPatterns("/api/**");
+		registry.addInterceptor(cachedResponseInterceptor).addPathPatterns("/api/**");
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.example.springbootweb.config;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.util.ClassUtils;
+
+import com.example.springbootweb.entities.dtos.analytics.QuestionDifficultyResponse;
+import com.example.springbootweb.entities.dtos.analytics.QuizStatisticsResponse;
+import com.example.springbootweb.entities.dtos.analytics.UserPerformanceResponse;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Runtime hints for the native image ({@code -Pnative}) that Spring AOT cannot derive
+ * from the bean definitions: types the application only reaches by name, through
+ * proxies or through its own JSON (de)serialization. The registrar runs at build time
+ * and finds mappers, projections and Feign clients by scanning, so new ones are covered
+ * without touching this class.
+ * <p>
+ * Libraries that ship their own metadata (springdoc, OpenFeign, Liquibase, Caffeine via
+ * the GraalVM reachability metadata repository) are not repeated here.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+	static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+		private static final String BASE_PACKAGE = "com.example.springbootweb";
+
+		private static final String PROJECTIONS_PACKAGE = BASE_PACKAGE + ".entities.projections";
+
+		/**
+		 * Serialized by services rather than by Spring MVC: quiz version snapshots, the
+		 * NDJSON import rows and the stored analytics report results.
+		 */
+		private static final List<Class<?>> JSON_TYPES = List.of(QuizSnapshot.class, QuestionImportRow.class,
+				QuizStatisticsResponse.class, UserPerformanceResponse.class, QuestionDifficultyResponse.class);
+
+		private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+		@Override
+		public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+			// MapStruct's Mappers.getMapper(...) instantiates the generated implementation by name
+			for (Class<?> mapper : scan(classLoader, BASE_PACKAGE, new AnnotationTypeFilter(Mapper.class))) {
+				hints.reflection()
+					.registerTypeIfPresent(classLoader, mapper.getName() + "Impl",
+							MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+			}
+			// Spring Data backs interface projections with JDK proxies over the query tuple
+			for (Class<?> projection : scan(classLoader, PROJECTIONS_PACKAGE,
+					(reader, factory) -> reader.getClassMetadata().isInterface())) {
+				hints.proxies()
+					.registerJdkProxy(projection, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+				hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+			}
+			// Feign reads the contract from the interface and (de)serializes its payloads
+			for (Class<?> client : scan(classLoader, BASE_PACKAGE, new AnnotationTypeFilter(FeignClient.class))) {
+				hints.proxies().registerJdkProxy(client);
+				hints.reflection().registerType(client, MemberCategory.INVOKE_PUBLIC_METHODS);
+				for (Method method : client.getMethods()) {
+					this.bindingHints.registerReflectionHints(hints.reflection(), method.getGenericReturnType());
+					this.bindingHints.registerReflectionHints(hints.reflection(), method.getGenericParameterTypes());
+				}
+			}
+			this.bindingHints.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+			// Caching.getCachingProvider(name) loads the provider by name (CatalogCacheConfig)
+			hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+		}
+
+		private List<Class<?>> scan(ClassLoader classLoader, String basePackage, TypeFilter filter) {
+			ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(
+					false) {
+
+				@Override
+				protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+					// Interfaces too, not only concrete classes
+					return beanDefinition.getMetadata().isIndependent();
+				}
+
+			};
+			scanner.addIncludeFilter(filter);
+			return scanner.findCandidateComponents(basePackage)
+				.stream()
+				.<Class<?>>map(candidate -> ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader))
+				.toList();
+		}
+
+	}
+
+}
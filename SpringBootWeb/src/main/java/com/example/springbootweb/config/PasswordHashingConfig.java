@@ -0,0 +1,35 @@
+package com.example.springbootweb.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.springbootweb.entities.security.PasswordHashingProperties;
+import com.example.springbootweb.services.executors.BoundedPriorityExecutor;
+import com.example.springbootweb.services.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PasswordHashingConfig {
+
+	/**
+	 * The executor stays private to the encoder; it is not a bean, so it cannot be picked
+	 * up in place of {@code analyticsReportExecutor}.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+		BoundedPriorityExecutor executor = new BoundedPriorityExecutor("password-hashing-", properties.threads(),
+				properties.queueCapacity());
+		Gauge.builder("auth.password.hashing.queued", executor, BoundedPriorityExecutor::pendingTasks)
+			.description("Passwords waiting for a hashing worker")
+			.register(meterRegistry);
+		Gauge.builder("auth.password.hashing.active", executor, BoundedPriorityExecutor::activeTasks)
+			.description("Passwords being hashed")
+			.register(meterRegistry);
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), executor, properties.timeout(),
+				Math.max(1, properties.retryAfter().toSeconds()), meterRegistry);
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.example.springbootweb.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.springbootweb.controllers.querystats.QueryBudgetInterceptor;
+import com.example.springbootweb.repositories.stats.QueryStatsInspector;
+import com.example.springbootweb.repositories.stats.QueryStatsSessionListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-request SQL statement counting: Hibernate reports statements and their execution
+ * time to {@link com.example.springbootweb.repositories.stats.QueryStats}, and
+ * {@link QueryBudgetInterceptor} checks each API request against its budget.
+ */
+@Configuration
+@ConditionalOnBooleanProperty(name = "app.query-stats.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryStatsConfig implements WebMvcConfigurer {
+
+	private final QueryBudgetInterceptor queryBudgetInterceptor;
+
+	@Bean
+	public HibernatePropertiesCustomizer queryStatsHibernateProperties() {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, QueryStatsInspector.class.getName());
+			hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+					QueryStatsSessionListener.class.getName());
+		};
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(queryBudgetInterceptor).addPathPatterns("/api/**");
+	}
+
+}
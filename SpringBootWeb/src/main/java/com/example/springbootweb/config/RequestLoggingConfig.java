@@ -1,20 +1,34 @@
 package com.example.springbootweb.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.filter.CommonsRequestLoggingFilter;
 
+import com.example.springbootweb.entities.logging.RequestLoggingProperties;
+import com.example.springbootweb.services.logging.AccessLogFilter;
+import com.example.springbootweb.services.logging.SampledRequestLoggingFilter;
+
 @Configuration
 public class RequestLoggingConfig {
 
   @Bean
-  public CommonsRequestLoggingFilter logFilter() {
-    CommonsRequestLoggingFilter filter = new CommonsRequestLoggingFilter();
+  public CommonsRequestLoggingFilter logFilter(RequestLoggingProperties properties) {
+    CommonsRequestLoggingFilter filter = new SampledRequestLoggingFilter(properties.payloadSampleRate());
     filter.setIncludeQueryString(true);
     filter.setIncludePayload(true);
-    filter.setMaxPayloadLength(10000);
+    filter.setMaxPayloadLength(properties.maxPayloadLength());
     filter.setIncludeHeaders(false);
     filter.setAfterMessagePrefix("API REQUEST DATA: ");
     return filter;
   }
+
+  @Bean
+  public FilterRegistrationBean<AccessLogFilter> accessLogFilter(RequestLoggingProperties properties) {
+    FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter());
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    registration.setEnabled(properties.accessLog());
+    return registration;
+  }
 }
@@ -10,8 +10,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -19,6 +17,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.example.springbootweb.services.jwt.JwtAuthenticationFilter;
+import com.example.springbootweb.services.security.RateLimitFilter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +28,8 @@ public class SecurityConfig {
 
 	private final JwtAuthenticationFilter jwtAuthFilter;
 
+	private final RateLimitFilter rateLimitFilter;
+
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http.cors(Customizer.withDefaults())
@@ -36,11 +37,16 @@ public class SecurityConfig {
 			.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests(auth -> auth
 				.requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html",
-						"/swagger-resources/**", "/webjars/**")
+						"/swagger-resources/**", "/webjars/**", "/openapi.json", "/actuator/health",
+						"/actuator/health/**")
 				.permitAll()
+				.requestMatchers("/actuator/loggers/**", "/actuator/metrics", "/actuator/metrics/**",
+						"/actuator/prometheus")
+				.hasRole("ADMIN")
 				.anyRequest()
 				.authenticated())
-			.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+			.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+			.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 		return http.build();
 	}
 
@@ -62,9 +68,4 @@ public class SecurityConfig {
 		return configuration.getAuthenticationManager();
 	}
 
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-
 }
@@ -1,5 +1,6 @@
 package com.example.springbootweb.controllers.analytics;
 
+import java.net.URI;
 import java.util.UUID;
 
 import org.slf4j.Logger;
@@ -10,10 +11,14 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.springbootweb.controllers.analytics.api.AnalyticsApi;
 import com.example.springbootweb.entities.dtos.analytics.AdminDashboardResponse;
+import com.example.springbootweb.entities.dtos.analytics.CreateReportJobRequest;
 import com.example.springbootweb.entities.dtos.analytics.QuestionDifficultyResponse;
 import com.example.springbootweb.entities.dtos.analytics.QuizStatisticsResponse;
+import com.example.springbootweb.entities.dtos.analytics.ReportJobResponse;
 import com.example.springbootweb.entities.dtos.analytics.UserPerformanceResponse;
+import com.example.springbootweb.services.interfaces.IAnalyticsReportService;
 import com.example.springbootweb.services.interfaces.IAnalyticsService;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,6 +34,8 @@ public class AnalyticsController implements AnalyticsApi {
 
     private final IAnalyticsService analyticsService;
 
+    private final IAnalyticsReportService analyticsReportService;
+
     // ==================== Quiz Statistics ====================
 
     @Override
@@ -71,4 +78,40 @@ public class AnalyticsController implements AnalyticsApi {
         QuestionDifficultyResponse response = analyticsService.getQuestionDifficultyAnalysis(questionId);
         return ResponseEntity.ok(response);
     }
+
+    // ==================== Asynchronous Reports ====================
+
+    @Override
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<ReportJobResponse> submitReport(CreateReportJobRequest request, AuthenticatedUser currentUser) {
+        LOG.info("Request to queue {} report for target: {}", request.reportType(), request.targetId());
+        UUID userId = currentUser.id();
+        ReportJobResponse response = analyticsReportService.submitReport(request, userId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/analytics/reports/" + response.id()))
+                .body(response);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<ReportJobResponse> getReportJob(UUID jobId, AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(analyticsReportService.getReportJob(jobId, requesterScope(currentUser)));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public ResponseEntity<String> getReportResult(UUID jobId, AuthenticatedUser currentUser) {
+        LOG.info("Request to get result of report job: {}", jobId);
+        return ResponseEntity.ok(analyticsReportService.getReportResult(jobId, requesterScope(currentUser)));
+    }
+
+    /**
+     * Admins may read every report job, other users only their own.
+     */
+    private static UUID requesterScope(AuthenticatedUser currentUser) {
+        boolean admin = currentUser.getAuthorities()
+                .stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return admin ? null : currentUser.id();
+    }
 }
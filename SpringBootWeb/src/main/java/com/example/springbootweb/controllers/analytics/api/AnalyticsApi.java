@@ -2,15 +2,22 @@ package com.example.springbootweb.controllers.analytics.api;
 
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import com.example.springbootweb.entities.dtos.analytics.AdminDashboardResponse;
+import com.example.springbootweb.entities.dtos.analytics.CreateReportJobRequest;
 import com.example.springbootweb.entities.dtos.analytics.QuestionDifficultyResponse;
 import com.example.springbootweb.entities.dtos.analytics.QuizStatisticsResponse;
+import com.example.springbootweb.entities.dtos.analytics.ReportJobResponse;
 import com.example.springbootweb.entities.dtos.analytics.UserPerformanceResponse;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,6 +27,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 /**
  * API interface for Analytics endpoints.
@@ -218,4 +226,107 @@ public interface AnalyticsApi {
         )
         @PathVariable UUID questionId
     );
+
+    // ==================== Asynchronous Reports ====================
+
+    @Operation(
+        summary = "Queue Analytics Report",
+        description = """
+            Queues a quiz statistics, user performance or item (question difficulty) analysis report
+            and returns immediately with a job id. Poll the job status and fetch the result once it is COMPLETED.
+            
+            Identical reports (same type and target) the user still has queued or running are not started twice:
+            the existing job is returned instead. Results are kept for a limited time.
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Report queued (or an identical report is already in progress)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReportJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Report target not found",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Report queue is full, retry after the Retry-After delay",
+            content = @Content
+        )
+    })
+    @PostMapping("/reports")
+    ResponseEntity<ReportJobResponse> submitReport(
+        @Valid @RequestBody CreateReportJobRequest request,
+        @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser currentUser
+    );
+
+    @Operation(
+        summary = "Get Analytics Report Status",
+        description = "Returns the status of a queued report job without its result. Only the user who queued it and admins can see a job."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved report status",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReportJobResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Report job not found or queued by another user",
+            content = @Content
+        )
+    })
+    @GetMapping("/reports/{jobId}")
+    ResponseEntity<ReportJobResponse> getReportJob(
+        @Parameter(
+            description = "The report job id returned when the report was queued",
+            required = true,
+            example = "550e8400-e29b-41d4-a716-446655440000"
+        )
+        @PathVariable UUID jobId,
+        @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser currentUser
+    );
+
+    @Operation(
+        summary = "Get Analytics Report Result",
+        description = """
+            Returns the stored report. The body has the same shape as the matching synchronous endpoint
+            (quiz statistics, user performance or question difficulty analysis).
+            """
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved report result",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Report is not completed yet or has failed",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Report job not found, queued by another user or result expired",
+            content = @Content
+        )
+    })
+    @GetMapping(value = "/reports/{jobId}/result", produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<String> getReportResult(
+        @Parameter(
+            description = "The report job id returned when the report was queued",
+            required = true,
+            example = "550e8400-e29b-41d4-a716-446655440000"
+        )
+        @PathVariable UUID jobId,
+        @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser currentUser
+    );
 }
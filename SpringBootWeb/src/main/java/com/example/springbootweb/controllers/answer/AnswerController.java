@@ -22,11 +22,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.springbootweb.controllers.answer.api.AnswerApi;
+import com.example.springbootweb.controllers.etag.CatalogETag;
 import com.example.springbootweb.entities.dtos.answers.AnswerFilter;
 import com.example.springbootweb.entities.dtos.answers.AnswerResponse;
 import com.example.springbootweb.entities.dtos.answers.AnswerSummaryResponse;
 import com.example.springbootweb.entities.dtos.answers.CreateAnswerRequest;
 import com.example.springbootweb.entities.dtos.answers.UpdateAnswerRequest;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
+import com.example.springbootweb.entities.enums.CatalogResource;
 import com.example.springbootweb.services.interfaces.IAnswerService;
 
 import jakarta.validation.Valid;
@@ -37,6 +40,7 @@ import lombok.RequiredArgsConstructor;
  * clean separation of Swagger documentation.
  */
 @RestController
+@CatalogETag(CatalogResource.ANSWERS)
 @RequestMapping("/api/answers")
 @RequiredArgsConstructor
 public class AnswerController implements AnswerApi {
@@ -69,6 +73,17 @@ public class AnswerController implements AnswerApi {
 		return ResponseEntity.ok(answerService.getPagedAnswers(page, size, filter));
 	}
 
+	@Override
+	@GetMapping("/cursor")
+	public ResponseEntity<CursorPageResponse<AnswerSummaryResponse>> getAnswersByCursor(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "10") Integer size,
+			@RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+			@ModelAttribute AnswerFilter filter) {
+		log.info("GET /api/answers/cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+		return ResponseEntity.ok(answerService.getAnswersByCursor(cursor, size, includeTotal, filter));
+	}
+
 	@Override
 	@GetMapping("/{id}")
 	public ResponseEntity<AnswerResponse> getAnswerById(@PathVariable("id") UUID id) {
@@ -13,6 +13,7 @@ import com.example.springbootweb.entities.dtos.answers.AnswerResponse;
 import com.example.springbootweb.entities.dtos.answers.AnswerSummaryResponse;
 import com.example.springbootweb.entities.dtos.answers.CreateAnswerRequest;
 import com.example.springbootweb.entities.dtos.answers.UpdateAnswerRequest;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +52,19 @@ public interface AnswerApi {
             @Parameter(description = "Page size", example = "10") Integer size,
             @ModelAttribute AnswerFilter filter);
 
+    @Operation(summary = "Get answers by cursor", 
+               description = "Retrieve answers ordered by id with cursor (keyset) pagination. "
+               + "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved answers"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    ResponseEntity<CursorPageResponse<AnswerSummaryResponse>> getAnswersByCursor(
+            @Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+            @Parameter(description = "Page size", example = "10") Integer size,
+            @Parameter(description = "Also count all matching answers", example = "false") boolean includeTotal,
+            @ModelAttribute AnswerFilter filter);
+
     @Operation(summary = "Get answer by ID", 
                description = "Retrieve detailed information about a specific answer")
     @ApiResponses({
@@ -0,0 +1,30 @@
+package com.example.springbootweb.controllers.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the serialized (and gzipped) JSON body of a GET handler in the
+ * {@link ResponseBytesCache}, keyed by the response ETag. The handler must produce a
+ * strong ETag that changes with the body, either through
+ * {@link com.example.springbootweb.controllers.etag.CatalogETag} or on its
+ * {@code ResponseEntity}.
+ * <p>
+ * With {@code CatalogETag} the ETag is known before the handler runs, so a hit skips the
+ * handler entirely. Otherwise only the serialization is skipped.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+
+	/**
+	 * Whether the request path and query string are part of the key. Turn it off when the
+	 * ETag alone identifies the body, so all URLs serving it share one entry.
+	 */
+	boolean includeRequestPath() default true;
+
+}
@@ -0,0 +1,69 @@
+package com.example.springbootweb.controllers.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Writes the body of {@link CachedResponse} handlers from the {@link ResponseBytesCache},
+ * serializing it only on a miss. Only successful JSON responses that carry an ETag are
+ * cached; anything else is written by the message converter as usual.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class CachedResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ResponseBytesCache cache;
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return returnType.hasMethodAnnotation(CachedResponse.class);
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)
+				|| !(request instanceof ServletServerHttpRequest servletRequest)
+				|| !(response instanceof ServletServerHttpResponse servletResponse)
+				|| !HttpMethod.GET.matches(servletRequest.getServletRequest().getMethod())
+				|| servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
+			return body;
+		}
+		String etag = response.getHeaders().getETag();
+		if (etag == null) {
+			return body;
+		}
+
+		CachedResponse cachedResponse = returnType.getMethodAnnotation(CachedResponse.class);
+		ResponseBytesCache.Key key = ResponseBytesCache.key(servletRequest.getServletRequest(), cachedResponse, etag);
+		ResponseBytesCache.Entry entry = cache.get(key, MediaType.APPLICATION_JSON,
+				() -> objectMapper.writeValueAsBytes(body));
+		try {
+			entry.writeTo(response);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		// Already written, nothing left for the converter
+		return null;
+	}
+
+}
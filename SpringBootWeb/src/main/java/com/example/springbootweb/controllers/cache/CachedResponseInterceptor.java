@@ -0,0 +1,65 @@
+package com.example.springbootweb.controllers.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Answers {@link CachedResponse} GETs from the {@link ResponseBytesCache} before the
+ * handler runs. Needs the ETag to be set already, so it must be registered after
+ * {@link com.example.springbootweb.controllers.etag.CatalogETagInterceptor}; handlers
+ * that set their ETag themselves are only served by {@link CachedResponseAdvice}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CachedResponseInterceptor implements HandlerInterceptor {
+
+	private final ResponseBytesCache cache;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws IOException {
+		if (!(handler instanceof HandlerMethod handlerMethod) || !HttpMethod.GET.matches(request.getMethod())) {
+			return true;
+		}
+		CachedResponse cachedResponse = handlerMethod.getMethodAnnotation(CachedResponse.class);
+		String etag = response.getHeader(HttpHeaders.ETAG);
+		if (cachedResponse == null || etag == null) {
+			return true;
+		}
+
+		ResponseBytesCache.Entry entry = cache.get(ResponseBytesCache.key(request, cachedResponse, etag));
+		if (entry == null || !isAcceptable(request, entry.contentType())) {
+			return true;
+		}
+		entry.writeTo(new ServletServerHttpResponse(response));
+		return false;
+	}
+
+	private boolean isAcceptable(HttpServletRequest request, MediaType contentType) {
+		String accept = request.getHeader(HttpHeaders.ACCEPT);
+		if (accept == null) {
+			return true;
+		}
+		try {
+			List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+			return accepted.isEmpty() || accepted.stream().anyMatch(type -> type.isCompatibleWith(contentType));
+		}
+		catch (InvalidMediaTypeException e) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.example.springbootweb.controllers.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.example.springbootweb.entities.cache.ResponseCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Serialized response bodies of {@link CachedResponse} handlers, bounded by their total
+ * size. Entries are keyed by ETag, so a changed resource simply misses and the old entry
+ * ages out; nothing has to be evicted on writes. The hit rate is exported as the
+ * {@code cache.*} metrics of cache {@code http-responses}.
+ */
+@Component
+public class ResponseBytesCache {
+
+	private static final String CACHE_NAME = "http-responses";
+
+	private static final String GZIP = "gzip";
+
+	private final Cache<Key, Entry> entries;
+
+	private final long gzipMinSize;
+
+	public ResponseBytesCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+		this.gzipMinSize = properties.gzipMinSize().toBytes();
+		this.entries = Caffeine.newBuilder()
+			.maximumWeight(properties.maxSize().toBytes())
+			.weigher((Key key, Entry entry) -> entry.body().length)
+			.expireAfterWrite(properties.timeToLive())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+	}
+
+	/**
+	 * @return the cached body, or {@code null} on a miss
+	 */
+	public Entry get(Key key) {
+		return entries.getIfPresent(key);
+	}
+
+	/**
+	 * Cached body for the key, serializing (and compressing, if the client accepts gzip)
+	 * the body on a miss.
+	 */
+	public Entry get(Key key, MediaType contentType, Supplier<byte[]> serializer) {
+		return entries.get(key, k -> {
+			byte[] body = serializer.get();
+			if (k.gzip() && body.length >= gzipMinSize) {
+				return new Entry(gzip(body), true, contentType);
+			}
+			return new Entry(body, false, contentType);
+		});
+	}
+
+	public static Key key(HttpServletRequest request, CachedResponse cachedResponse, String etag) {
+		String path = null;
+		if (cachedResponse.includeRequestPath()) {
+			path = request.getQueryString() != null ? request.getRequestURI() + "?" + request.getQueryString()
+					: request.getRequestURI();
+		}
+		return new Key(path, etag, acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+	}
+
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+			String[] parts = coding.split(";");
+			String name = parts[0].trim();
+			if ((GZIP.equals(name) || "*".equals(name)) && !isRejected(parts)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isRejected(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String param = parts[i].replace(" ", "");
+			if (param.startsWith("q=") && param.substring(2).matches("0(\\.0*)?")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param path request path and query string, or {@code null} when the ETag alone
+	 * identifies the body
+	 * @param etag ETag of the response
+	 * @param gzip whether the client accepts gzip
+	 */
+	public record Key(String path, String etag, boolean gzip) {
+	}
+
+	/**
+	 * @param body serialized body, gzipped if {@code gzipped}
+	 * @param gzipped whether the body is gzipped
+	 * @param contentType content type of the body
+	 */
+	public record Entry(byte[] body, boolean gzipped, MediaType contentType) {
+
+		/**
+		 * Write the body with its representation headers. The caller has already set the
+		 * status, ETag and cache headers.
+		 */
+		public void writeTo(ServerHttpResponse response) throws IOException {
+			HttpHeaders headers = response.getHeaders();
+			headers.setContentType(contentType);
+			headers.setContentLength(body.length);
+			headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (gzipped) {
+				headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+			}
+			response.getBody().write(body);
+			response.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.example.springbootweb.controllers.etag;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.example.springbootweb.entities.enums.CatalogResource;
+
+/**
+ * Serves the GET endpoints of a controller (or a single handler method) with strong
+ * ETags and answers {@code If-None-Match} with 304 before the handler runs. See
+ * {@link CatalogETagInterceptor}.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CatalogETag {
+
+	CatalogResource value();
+
+	/**
+	 * Path variable holding the id of a single resource. Endpoints without it are
+	 * treated as list reads of the whole resource type.
+	 */
+	String idVariable() default "id";
+
+}
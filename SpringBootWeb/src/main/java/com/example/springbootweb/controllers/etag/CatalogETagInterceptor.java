@@ -0,0 +1,83 @@
+package com.example.springbootweb.controllers.etag;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.springbootweb.services.interfaces.ICatalogVersionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Conditional GET for handlers annotated with {@link CatalogETag}. The ETag comes from a
+ * version lookup, so a matching {@code If-None-Match} is answered with 304 without
+ * calling the handler; otherwise the ETag header is set and the handler runs as usual.
+ * <p>
+ * Unknown or malformed ids are left to the handler, which answers 404/400 as before.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+	/** Cacheable by the client only, and always revalidated. */
+	private static final String CACHE_CONTROL = "private, no-cache";
+
+	private final ICatalogVersionService catalogVersionService;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod handlerMethod) || !isGetOrHead(request)) {
+			return true;
+		}
+		CatalogETag catalogETag = findAnnotation(handlerMethod);
+		if (catalogETag == null) {
+			return true;
+		}
+
+		Optional<String> etag = resolveETag(request, catalogETag);
+		if (etag.isEmpty()) {
+			return true;
+		}
+		// Also keeps Spring Security from writing its no-store default
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+		return !new ServletWebRequest(request, response).checkNotModified(etag.get());
+	}
+
+	private Optional<String> resolveETag(HttpServletRequest request, CatalogETag catalogETag) {
+		@SuppressWarnings("unchecked")
+		Map<String, String> variables = (Map<String, String>) request
+			.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		String id = variables != null ? variables.get(catalogETag.idVariable()) : null;
+		if (id == null) {
+			return Optional.of(catalogVersionService.getCollectionETag(catalogETag.value()));
+		}
+		try {
+			return catalogVersionService.getResourceETag(catalogETag.value(), UUID.fromString(id));
+		}
+		catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	private CatalogETag findAnnotation(HandlerMethod handlerMethod) {
+		CatalogETag annotation = handlerMethod.getMethodAnnotation(CatalogETag.class);
+		return annotation != null ? annotation
+				: AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), CatalogETag.class);
+	}
+
+	private boolean isGetOrHead(HttpServletRequest request) {
+		return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.example.springbootweb.controllers.querystats;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.springbootweb.entities.querystats.QueryStatsProperties;
+import com.example.springbootweb.repositories.stats.QueryStats;
+import com.example.springbootweb.repositories.stats.QueryStats.RepeatedStatement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts the SQL statements of each API request and reports requests over their budget
+ * ({@code app.query-stats.*}): too many statements in total, or one statement repeated
+ * often enough to be an N+1. Reported requests are logged at WARN with the most repeated
+ * statement and counted in {@code http.server.requests.query.budget.exceeded}.
+ * <p>
+ * Every request also records {@code http.server.requests.statements}, per method and
+ * path pattern.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(QueryBudgetInterceptor.class);
+
+	private final QueryStatsProperties properties;
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (handler instanceof HandlerMethod) {
+			QueryStats.start();
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		QueryStats stats = QueryStats.stop();
+		if (stats == null) {
+			return;
+		}
+		String method = request.getMethod();
+		String uri = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		DistributionSummary.builder("http.server.requests.statements")
+			.description("SQL statements run per request")
+			.tag("method", method)
+			.tag("uri", uri != null ? uri : "UNKNOWN")
+			.register(meterRegistry)
+			.record(stats.statements());
+
+		RepeatedStatement repeated = stats.mostRepeated().orElse(null);
+		int budget = properties.maxStatements(uri);
+		if (stats.statements() > budget) {
+			report(method, uri, "budget", stats, repeated,
+					"%d statements, budget %d".formatted(stats.statements(), budget));
+		}
+		else if (repeated != null && repeated.count() > properties.maxRepeatedStatements()) {
+			report(method, uri, "repeated", stats, repeated,
+					"one statement ran %d times, likely N+1".formatted(repeated.count()));
+		}
+	}
+
+	private void report(String method, String uri, String reason, QueryStats stats, RepeatedStatement repeated,
+			String problem) {
+		Counter.builder("http.server.requests.query.budget.exceeded")
+			.description("Requests over their SQL statement budget")
+			.tag("method", method)
+			.tag("uri", uri != null ? uri : "UNKNOWN")
+			.tag("reason", reason)
+			.register(meterRegistry)
+			.increment();
+		LOG.warn("{} {}: {} ({} ms executing, {} entities loaded); most repeated ({}x): {}", method, uri, problem,
+				stats.executionTime().toMillis(), stats.entitiesLoaded(), repeated != null ? repeated.count() : 0,
+				repeated != null ? repeated.sql() : "-");
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.example.springbootweb.controllers.question;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -9,7 +10,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -19,15 +22,24 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.example.springbootweb.controllers.etag.CatalogETag;
 import com.example.springbootweb.controllers.question.api.QuestionApi;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.questions.CreateQuestionRequest;
 import com.example.springbootweb.entities.dtos.questions.QuestionDetailResponse;
 import com.example.springbootweb.entities.dtos.questions.QuestionFilter;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportResponse;
 import com.example.springbootweb.entities.dtos.questions.QuestionSummaryResponse;
 import com.example.springbootweb.entities.dtos.questions.UpdateQuestionRequest;
+import com.example.springbootweb.entities.enums.CatalogResource;
+import com.example.springbootweb.entities.enums.QuestionImportFormat;
 import com.example.springbootweb.entities.enums.QuestionType;
+import com.example.springbootweb.exceptions.BadRequestException;
+import com.example.springbootweb.services.interfaces.IQuestionImportService;
 import com.example.springbootweb.services.interfaces.IQuestionService;
 
 import jakarta.validation.Valid;
@@ -38,12 +50,14 @@ import lombok.RequiredArgsConstructor;
  * Implements QuestionApi interface for clean separation of Swagger documentation.
  */
 @RestController
+@CatalogETag(CatalogResource.QUESTIONS)
 @RequestMapping("/api/questions")
 @RequiredArgsConstructor
 public class QuestionController implements QuestionApi {
 
     private static final Logger log = LoggerFactory.getLogger(QuestionController.class);
     private final IQuestionService questionService;
+    private final IQuestionImportService questionImportService;
 
     // ==================== READ Operations ====================
 
@@ -69,6 +83,17 @@ public class QuestionController implements QuestionApi {
         return ResponseEntity.ok(questionService.getPagedQuestions(page, size, filter));
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<QuestionSummaryResponse>> getQuestionsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+            @ModelAttribute QuestionFilter filter) {
+        log.info("GET /api/questions/cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        return ResponseEntity.ok(questionService.getQuestionsByCursor(cursor, size, includeTotal, filter));
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<QuestionDetailResponse> getQuestionById(@PathVariable("id") UUID id) {
@@ -131,6 +156,28 @@ public class QuestionController implements QuestionApi {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @Override
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<QuestionImportResponse> importQuestions(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(name = "format", required = false) QuestionImportFormat format,
+            @RequestParam(name = "quizId", required = false) UUID quizId) {
+        log.info("POST /api/questions/import - file: {}, size: {}, format: {}, quizId: {}",
+                file.getOriginalFilename(), file.getSize(), format, quizId);
+        QuestionImportFormat resolvedFormat = format != null ? format
+                : QuestionImportFormat.fromFilename(file.getOriginalFilename());
+        if (resolvedFormat == null) {
+            throw new BadRequestException("Unknown import format, pass format=CSV or format=NDJSON");
+        }
+        try {
+            return ResponseEntity.ok(
+                    questionImportService.importQuestions(file.getInputStream(), resolvedFormat, quizId));
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import file: " + e.getMessage());
+        }
+    }
+
     @Override
     @PutMapping("/{id}")
     public ResponseEntity<QuestionDetailResponse> updateQuestion(
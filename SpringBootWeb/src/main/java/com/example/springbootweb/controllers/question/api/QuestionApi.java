@@ -7,12 +7,16 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.questions.CreateQuestionRequest;
 import com.example.springbootweb.entities.dtos.questions.QuestionDetailResponse;
 import com.example.springbootweb.entities.dtos.questions.QuestionFilter;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportResponse;
 import com.example.springbootweb.entities.dtos.questions.QuestionSummaryResponse;
 import com.example.springbootweb.entities.dtos.questions.UpdateQuestionRequest;
+import com.example.springbootweb.entities.enums.QuestionImportFormat;
 import com.example.springbootweb.entities.enums.QuestionType;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,6 +56,19 @@ public interface QuestionApi {
             @Parameter(description = "Page size", example = "10") Integer size,
             @ModelAttribute QuestionFilter filter);
 
+    @Operation(summary = "Get questions by cursor", 
+               description = "Retrieve questions ordered by id with cursor (keyset) pagination. "
+               + "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved questions"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    ResponseEntity<CursorPageResponse<QuestionSummaryResponse>> getQuestionsByCursor(
+            @Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+            @Parameter(description = "Page size", example = "10") Integer size,
+            @Parameter(description = "Also count all matching questions", example = "false") boolean includeTotal,
+            @ModelAttribute QuestionFilter filter);
+
     @Operation(summary = "Get question by ID", 
                description = "Retrieve detailed information about a specific question")
     @ApiResponses({
@@ -106,6 +123,23 @@ public interface QuestionApi {
     })
     ResponseEntity<QuestionDetailResponse> createQuestion(CreateQuestionRequest createQuestionRequest);
 
+    @Operation(summary = "Import a question bank", 
+               description = "Bulk import questions from a CSV or NDJSON file. Rows are validated one by one; "
+               + "invalid rows are skipped and reported with their line number, valid rows are written in batches. "
+               + "CSV columns: content, questionType, isActive, options, correctOptions, answers "
+               + "(list columns separate items with |, correctOptions holds 1-based option positions)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import finished, see the row counts and errors",
+            content = @Content(schema = @Schema(implementation = QuestionImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Unreadable file, unknown format or missing CSV header"),
+        @ApiResponse(responseCode = "404", description = "Quiz not found"),
+        @ApiResponse(responseCode = "413", description = "File too large")
+    })
+    ResponseEntity<QuestionImportResponse> importQuestions(
+            @Parameter(description = "CSV or NDJSON file", required = true) MultipartFile file,
+            @Parameter(description = "File format, inferred from the file extension (.csv, .ndjson, .jsonl) when omitted") QuestionImportFormat format,
+            @Parameter(description = "Quiz to append the imported questions to") UUID quizId);
+
     @Operation(summary = "Update a question", 
                description = "Update an existing question with the provided details")
     @ApiResponses({
@@ -10,6 +10,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -21,13 +23,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.springbootweb.controllers.cache.CachedResponse;
+import com.example.springbootweb.controllers.etag.CatalogETag;
 import com.example.springbootweb.controllers.quiz.api.QuizApi;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizzes.CreateQuizRequest;
 import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
 import com.example.springbootweb.entities.dtos.quizzes.QuizFilter;
 import com.example.springbootweb.entities.dtos.quizzes.QuizSummaryResponse;
+import com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse;
 import com.example.springbootweb.entities.dtos.quizzes.UpdateQuizRequest;
+import com.example.springbootweb.entities.enums.CatalogResource;
 import com.example.springbootweb.services.interfaces.IQuizService;
+import com.example.springbootweb.services.interfaces.IQuizVersionService;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -37,16 +46,19 @@ import lombok.RequiredArgsConstructor;
  * Implements QuizApi interface for clean separation of Swagger documentation.
  */
 @RestController
+@CatalogETag(CatalogResource.QUIZZES)
 @RequestMapping("/api/quizzes")
 @RequiredArgsConstructor
 public class QuizController implements QuizApi {
 
     private static final Logger log = LoggerFactory.getLogger(QuizController.class);
     private final IQuizService quizService;
+    private final IQuizVersionService quizVersionService;
 
     // ==================== READ Operations ====================
 
     @Override
+    @CachedResponse
     @GetMapping
     public ResponseEntity<List<QuizSummaryResponse>> getAllQuizzes(
             @ModelAttribute QuizFilter filter) {
@@ -59,6 +71,7 @@ public class QuizController implements QuizApi {
     }
 
     @Override
+    @CachedResponse
     @GetMapping("/paged")
     public ResponseEntity<Page<QuizSummaryResponse>> getPagedQuizzes(
             @RequestParam(name = "page", defaultValue = "0") Integer page,
@@ -68,6 +81,17 @@ public class QuizController implements QuizApi {
         return ResponseEntity.ok(quizService.getPagedQuizzes(page, size, filter));
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<QuizSummaryResponse>> getQuizzesByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+            @ModelAttribute QuizFilter filter) {
+        log.info("GET /api/quizzes/cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        return ResponseEntity.ok(quizService.getQuizzesByCursor(cursor, size, includeTotal, filter));
+    }
+
     @Override
     @GetMapping("/paged-detail")
     public ResponseEntity<Page<QuizDetailResponse>> getPagedQuizDetail(
@@ -79,6 +103,18 @@ public class QuizController implements QuizApi {
     }
 
     @Override
+    @GetMapping("/cursor-detail")
+    public ResponseEntity<CursorPageResponse<QuizDetailResponse>> getQuizDetailsByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+            @ModelAttribute QuizFilter filter) {
+        log.info("GET /api/quizzes/cursor-detail - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        return ResponseEntity.ok(quizService.getQuizDetailsByCursor(cursor, size, includeTotal, filter));
+    }
+
+    @Override
+    @CachedResponse
     @GetMapping("/{id}")
     public ResponseEntity<QuizDetailResponse> getQuizById(@PathVariable("id") UUID id) {
         log.info("GET /api/quizzes/{}", id);
@@ -86,6 +122,7 @@ public class QuizController implements QuizApi {
     }
 
     @Override
+    @CachedResponse
     @GetMapping("/active")
     public ResponseEntity<List<QuizSummaryResponse>> getActiveQuizzes() {
         log.info("GET /api/quizzes/active");
@@ -157,4 +194,24 @@ public class QuizController implements QuizApi {
         quizService.deleteQuiz(id);
         return ResponseEntity.noContent().build();
     }
+
+    // ==================== VERSION Operations ====================
+
+    @Override
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/{id}/versions")
+    public ResponseEntity<QuizVersionResponse> publishVersion(
+            @PathVariable("id") UUID id,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        log.info("POST /api/quizzes/{}/versions", id);
+        UUID userId = currentUser.id();
+        return ResponseEntity.status(HttpStatus.CREATED).body(quizVersionService.publishVersion(id, userId));
+    }
+
+    @Override
+    @GetMapping("/{id}/versions")
+    public ResponseEntity<List<QuizVersionResponse>> getVersions(@PathVariable("id") UUID id) {
+        log.info("GET /api/quizzes/{}/versions", id);
+        return ResponseEntity.ok(quizVersionService.getVersions(id));
+    }
 }
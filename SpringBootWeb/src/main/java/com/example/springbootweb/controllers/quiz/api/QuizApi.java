@@ -8,11 +8,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizzes.CreateQuizRequest;
 import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
 import com.example.springbootweb.entities.dtos.quizzes.QuizFilter;
 import com.example.springbootweb.entities.dtos.quizzes.QuizSummaryResponse;
+import com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse;
 import com.example.springbootweb.entities.dtos.quizzes.UpdateQuizRequest;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +54,19 @@ public interface QuizApi {
             @Parameter(description = "Page size", example = "10") Integer size,
             @ModelAttribute QuizFilter filter);
 
+    @Operation(summary = "Get quizzes by cursor", 
+               description = "Retrieve quizzes ordered by title with cursor (keyset) pagination. "
+               + "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved quizzes"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    ResponseEntity<CursorPageResponse<QuizSummaryResponse>> getQuizzesByCursor(
+            @Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+            @Parameter(description = "Page size", example = "10") Integer size,
+            @Parameter(description = "Also count all matching quizzes", example = "false") boolean includeTotal,
+            @ModelAttribute QuizFilter filter);
+
     @Operation(summary = "Get paged quiz details", 
                description = "Retrieve detailed quiz information with pagination and optional filtering support")
     @ApiResponses({
@@ -62,6 +78,19 @@ public interface QuizApi {
             @Parameter(description = "Page size", example = "10") Integer size,
             @ModelAttribute QuizFilter filter);
 
+    @Operation(summary = "Get quiz details by cursor", 
+               description = "Retrieve quiz details ordered by title with cursor (keyset) pagination. "
+               + "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved quiz details"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    ResponseEntity<CursorPageResponse<QuizDetailResponse>> getQuizDetailsByCursor(
+            @Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+            @Parameter(description = "Page size", example = "10") Integer size,
+            @Parameter(description = "Also count all matching quiz details", example = "false") boolean includeTotal,
+            @ModelAttribute QuizFilter filter);
+
     @Operation(summary = "Get quiz by ID", 
                description = "Retrieve detailed information about a specific quiz")
     @ApiResponses({
@@ -137,4 +166,28 @@ public interface QuizApi {
     })
     ResponseEntity<Void> deleteQuiz(
             @Parameter(description = "Quiz ID", required = true) UUID id);
+
+    // ==================== VERSION Operations ====================
+
+    @Operation(summary = "Publish a quiz version", 
+               description = "Freeze the current questions and answer key of a quiz as its next immutable version. "
+               + "New sessions start on the latest version; sessions in progress keep the version they started on")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Version published successfully",
+            content = @Content(schema = @Schema(implementation = QuizVersionResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Quiz has no questions"),
+        @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    ResponseEntity<QuizVersionResponse> publishVersion(
+            @Parameter(description = "Quiz ID", required = true) UUID id,
+            AuthenticatedUser currentUser);
+
+    @Operation(summary = "Get quiz versions", 
+               description = "Retrieve the published versions of a quiz, newest first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved versions"),
+        @ApiResponse(responseCode = "404", description = "Quiz not found")
+    })
+    ResponseEntity<List<QuizVersionResponse>> getVersions(
+            @Parameter(description = "Quiz ID", required = true) UUID id);
 }
@@ -9,7 +9,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,11 +17,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.springbootweb.controllers.quizhistory.api.QuizHistoryApi;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.LeaderboardResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionFilter;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionSummaryResponse;
-import com.example.springbootweb.services.interfaces.IAuthService;
 import com.example.springbootweb.services.interfaces.IQuizSessionService;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,17 +41,15 @@ public class QuizHistoryController implements QuizHistoryApi {
 
 	private final IQuizSessionService quizSessionService;
 
-	private final IAuthService authService;
-
 	// ==================== User History ====================
 
 	@Override
 	@GetMapping("/me")
 	public ResponseEntity<List<QuizSessionSummaryResponse>> getMyHistory(
 			@ModelAttribute QuizSessionFilter quizSessionFilter,
-			@AuthenticationPrincipal UserDetails userDetails) {
+			@AuthenticationPrincipal AuthenticatedUser currentUser) {
 		log.debug("GET /api/quiz-history/me with filters");
-		UUID userId = authService.getUserIdByEmail(userDetails.getUsername());
+		UUID userId = currentUser.id();
 		List<QuizSessionSummaryResponse> history = quizSessionService.getUserHistory(
 				userId, quizSessionFilter);
 		return history.isEmpty() ? ResponseEntity.noContent().build() : ResponseEntity.ok(history);
@@ -63,13 +61,27 @@ public class QuizHistoryController implements QuizHistoryApi {
 			@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "10") int size,
 			@ModelAttribute QuizSessionFilter quizSessionFilter,
-			@AuthenticationPrincipal UserDetails userDetails) {
+			@AuthenticationPrincipal AuthenticatedUser currentUser) {
 		log.debug("GET /api/quiz-history/me/paged - page: {}, size: {} with filters", page, size);
-		UUID userId = authService.getUserIdByEmail(userDetails.getUsername());
+		UUID userId = currentUser.id();
 		return ResponseEntity.ok(quizSessionService.getUserHistory(
 				userId, page, size, quizSessionFilter));
 	}
 
+	@Override
+	@GetMapping("/me/cursor")
+	public ResponseEntity<CursorPageResponse<QuizSessionSummaryResponse>> getMyHistoryByCursor(
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "10") Integer size,
+			@RequestParam(defaultValue = "false") boolean includeTotal,
+			@ModelAttribute QuizSessionFilter quizSessionFilter,
+			@AuthenticationPrincipal AuthenticatedUser currentUser) {
+		log.debug("GET /api/quiz-history/me/cursor - size: {}, includeTotal: {} with filters", size, includeTotal);
+		UUID userId = currentUser.id();
+		return ResponseEntity.ok(quizSessionService.getUserHistoryByCursor(
+				userId, cursor, size, includeTotal, quizSessionFilter));
+	}
+
 	@Override
 	@GetMapping("/user/{userId}")
 	@PreAuthorize("hasRole('ROLE_ADMIN')")
@@ -100,4 +112,13 @@ public class QuizHistoryController implements QuizHistoryApi {
 		return ResponseEntity.ok(quizSessionService.getLeaderboard(quizId, page, size));
 	}
 
+	@Override
+	@GetMapping("/quiz/{quizId}/leaderboard/cursor")
+	public ResponseEntity<CursorPageResponse<LeaderboardResponse.LeaderboardEntry>> getLeaderboardByCursor(
+			@PathVariable UUID quizId, @RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "10") Integer size, @RequestParam(defaultValue = "false") boolean includeTotal) {
+		log.debug("GET /api/quiz-history/quiz/{}/leaderboard/cursor - size: {}", quizId, size);
+		return ResponseEntity.ok(quizSessionService.getLeaderboardByCursor(quizId, cursor, size, includeTotal));
+	}
+
 }
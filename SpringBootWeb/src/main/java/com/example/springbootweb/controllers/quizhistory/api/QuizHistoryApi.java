@@ -8,13 +8,14 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.LeaderboardResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionFilter;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionSummaryResponse;
 import com.example.springbootweb.entities.enums.QuizSessionStatus;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,7 +37,7 @@ public interface QuizHistoryApi {
 			@ApiResponse(responseCode = "204", description = "No quiz attempts found") })
 	ResponseEntity<List<QuizSessionSummaryResponse>> getMyHistory(
 			@ModelAttribute QuizSessionFilter quizSessionFilter,
-			UserDetails userDetails);
+			AuthenticatedUser currentUser);
 
 	@Operation(summary = "Get my history (paginated)",
 			description = "Get the authenticated user's quiz attempt history with pagination and optional filters")
@@ -46,7 +47,18 @@ public interface QuizHistoryApi {
 			@Parameter(description = "Page size") int size,
 			@ModelAttribute QuizSessionFilter quizSessionFilter,
 
-			UserDetails userDetails);
+			AuthenticatedUser currentUser);
+
+	@Operation(summary = "Get my history (cursor)",
+			description = "Get the authenticated user's quiz attempt history, newest first, with cursor (keyset) pagination. "
+					+ "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+	@ApiResponses({ @ApiResponse(responseCode = "200", description = "History retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor or page size") })
+	ResponseEntity<CursorPageResponse<QuizSessionSummaryResponse>> getMyHistoryByCursor(
+			@Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+			@Parameter(description = "Page size") Integer size,
+			@Parameter(description = "Also count all matching attempts") boolean includeTotal,
+			@ModelAttribute QuizSessionFilter quizSessionFilter, AuthenticatedUser currentUser);
 
 	@Operation(summary = "Get user's history (Admin)",
 			description = "Get a specific user's quiz attempt history with optional filters (admin only)")
@@ -74,4 +86,15 @@ public interface QuizHistoryApi {
 			@Parameter(description = "Quiz ID", required = true) UUID quizId,
 			@Parameter(description = "Page number (0-based)") int page, @Parameter(description = "Page size") int size);
 
+	@Operation(summary = "Get leaderboard (cursor)",
+			description = "Get the leaderboard for a specific quiz with cursor (keyset) pagination; ranks continue across pages")
+	@ApiResponses({ @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+			@ApiResponse(responseCode = "404", description = "Quiz not found") })
+	ResponseEntity<CursorPageResponse<LeaderboardResponse.LeaderboardEntry>> getLeaderboardByCursor(
+			@Parameter(description = "Quiz ID", required = true) UUID quizId,
+			@Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+			@Parameter(description = "Page size") Integer size,
+			@Parameter(description = "Also count all participants") boolean includeTotal);
+
 }
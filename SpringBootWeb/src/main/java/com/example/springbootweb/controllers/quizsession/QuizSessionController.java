@@ -1,13 +1,14 @@
 package com.example.springbootweb.controllers.quizsession;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,14 +18,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.springbootweb.controllers.cache.CachedResponse;
 import com.example.springbootweb.controllers.quizsession.api.QuizSessionApi;
+import com.example.springbootweb.entities.dtos.quizsessions.QuestionBundleResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizQuestionResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionDetailResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionResultResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.SubmitAnswerRequest;
 import com.example.springbootweb.entities.dtos.quizsessions.SubmitAnswerResponse;
-import com.example.springbootweb.services.interfaces.IAuthService;
 import com.example.springbootweb.services.interfaces.IQuizSessionService;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -41,9 +44,9 @@ import lombok.RequiredArgsConstructor;
 public class QuizSessionController implements QuizSessionApi {
 
     private static final Logger log = LoggerFactory.getLogger(QuizSessionController.class);
+    private static final Duration BUNDLE_MAX_AGE = Duration.ofHours(1);
     
     private final IQuizSessionService quizSessionService;
-    private final IAuthService authService;
 
     // ==================== Session Lifecycle ====================
 
@@ -51,9 +54,9 @@ public class QuizSessionController implements QuizSessionApi {
     @PostMapping("/start/{quizId}")
     public ResponseEntity<QuizSessionDetailResponse> startSession(
             @PathVariable UUID quizId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.info("POST /api/quiz-sessions/start/{}", quizId);
-        UUID userId = authService.getUserIdByEmail(userDetails.getUsername());
+        UUID userId = currentUser.id();
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(quizSessionService.startSession(quizId, userId));
     }
@@ -62,36 +65,36 @@ public class QuizSessionController implements QuizSessionApi {
     @GetMapping("/{sessionId}")
     public ResponseEntity<QuizSessionDetailResponse> getSession(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("GET /api/quiz-sessions/{}", sessionId);
-        return ResponseEntity.ok(quizSessionService.getSession(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.getSession(sessionId, currentUser.id()));
     }
 
     @Override
     @PutMapping("/{sessionId}/pause")
     public ResponseEntity<QuizSessionDetailResponse> pauseSession(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.info("PUT /api/quiz-sessions/{}/pause", sessionId);
-        return ResponseEntity.ok(quizSessionService.pauseSession(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.pauseSession(sessionId, currentUser.id()));
     }
 
     @Override
     @PutMapping("/{sessionId}/resume")
     public ResponseEntity<QuizSessionDetailResponse> resumeSession(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.info("PUT /api/quiz-sessions/{}/resume", sessionId);
-        return ResponseEntity.ok(quizSessionService.resumeSession(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.resumeSession(sessionId, currentUser.id()));
     }
 
     @Override
     @DeleteMapping("/{sessionId}")
     public ResponseEntity<Void> abandonSession(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.info("DELETE /api/quiz-sessions/{}", sessionId);
-        quizSessionService.abandonSession(sessionId, authService.getUserIdByEmail(userDetails.getUsername()));
+        quizSessionService.abandonSession(sessionId, currentUser.id());
         return ResponseEntity.noContent().build();
     }
 
@@ -101,9 +104,9 @@ public class QuizSessionController implements QuizSessionApi {
     @GetMapping("/{sessionId}/current-question")
     public ResponseEntity<QuizQuestionResponse> getCurrentQuestion(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("GET /api/quiz-sessions/{}/current-question", sessionId);
-        return ResponseEntity.ok(quizSessionService.getCurrentQuestion(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.getCurrentQuestion(sessionId, currentUser.id()));
     }
 
     @Override
@@ -111,27 +114,42 @@ public class QuizSessionController implements QuizSessionApi {
     public ResponseEntity<QuizQuestionResponse> getQuestionByIndex(
             @PathVariable UUID sessionId,
             @PathVariable int index,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("GET /api/quiz-sessions/{}/questions/{}", sessionId, index);
-        return ResponseEntity.ok(quizSessionService.getQuestionByIndex(sessionId, index, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.getQuestionByIndex(sessionId, index, currentUser.id()));
+    }
+
+    @Override
+    @CachedResponse(includeRequestPath = false)
+    @GetMapping("/{sessionId}/questions")
+    public ResponseEntity<QuestionBundleResponse> getQuestionBundle(
+            @PathVariable UUID sessionId,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        log.debug("GET /api/quiz-sessions/{}/questions", sessionId);
+        QuestionBundleResponse bundle = quizSessionService.getQuestionBundle(sessionId, currentUser.id());
+        // Versions are immutable, so the version id alone identifies the body
+        return ResponseEntity.ok()
+                .eTag("\"quiz-version-" + bundle.quizVersionId() + "\"")
+                .cacheControl(CacheControl.maxAge(BUNDLE_MAX_AGE).cachePrivate())
+                .body(bundle);
     }
 
     @Override
     @PostMapping("/{sessionId}/next")
     public ResponseEntity<QuizQuestionResponse> nextQuestion(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("POST /api/quiz-sessions/{}/next", sessionId);
-        return ResponseEntity.ok(quizSessionService.nextQuestion(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.nextQuestion(sessionId, currentUser.id()));
     }
 
     @Override
     @PostMapping("/{sessionId}/previous")
     public ResponseEntity<QuizQuestionResponse> previousQuestion(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("POST /api/quiz-sessions/{}/previous", sessionId);
-        return ResponseEntity.ok(quizSessionService.previousQuestion(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.previousQuestion(sessionId, currentUser.id()));
     }
 
     // ==================== Answer Submission ====================
@@ -141,9 +159,9 @@ public class QuizSessionController implements QuizSessionApi {
     public ResponseEntity<SubmitAnswerResponse> submitAnswer(
             @PathVariable UUID sessionId,
             @Valid @RequestBody SubmitAnswerRequest request,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.info("POST /api/quiz-sessions/{}/submit-answer - Question: {}", sessionId, request.questionId());
-        return ResponseEntity.ok(quizSessionService.submitAnswer(sessionId, request, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.submitAnswer(sessionId, request, currentUser.id()));
     }
 
     // ==================== Quiz Submission & Results ====================
@@ -152,18 +170,18 @@ public class QuizSessionController implements QuizSessionApi {
     @PostMapping("/{sessionId}/submit")
     public ResponseEntity<QuizSessionResultResponse> submitQuiz(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.info("POST /api/quiz-sessions/{}/submit", sessionId);
-        return ResponseEntity.ok(quizSessionService.submitQuiz(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.submitQuiz(sessionId, currentUser.id()));
     }
 
     @Override
     @GetMapping("/{sessionId}/result")
     public ResponseEntity<QuizSessionResultResponse> getResult(
             @PathVariable UUID sessionId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("GET /api/quiz-sessions/{}/result", sessionId);
-        return ResponseEntity.ok(quizSessionService.getResult(sessionId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.getResult(sessionId, currentUser.id()));
     }
 
     // ==================== Utility ====================
@@ -172,8 +190,8 @@ public class QuizSessionController implements QuizSessionApi {
     @GetMapping("/quiz/{quizId}/can-start")
     public ResponseEntity<Boolean> canStartSession(
             @PathVariable UUID quizId,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
         log.debug("GET /api/quiz-sessions/quiz/{}/can-start", quizId);
-        return ResponseEntity.ok(quizSessionService.canStartSession(quizId, authService.getUserIdByEmail(userDetails.getUsername())));
+        return ResponseEntity.ok(quizSessionService.canStartSession(quizId, currentUser.id()));
     }
 }
@@ -3,13 +3,14 @@ package com.example.springbootweb.controllers.quizsession.api;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetails;
 
+import com.example.springbootweb.entities.dtos.quizsessions.QuestionBundleResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizQuestionResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionDetailResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionResultResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.SubmitAnswerRequest;
 import com.example.springbootweb.entities.dtos.quizsessions.SubmitAnswerResponse;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -39,7 +40,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizSessionDetailResponse> startSession(
             @Parameter(description = "Quiz ID", required = true) UUID quizId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Get session status", 
                description = "Get current status and progress of a quiz session")
@@ -50,7 +51,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizSessionDetailResponse> getSession(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Pause session", 
                description = "Pause an in-progress quiz session")
@@ -61,7 +62,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizSessionDetailResponse> pauseSession(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Resume session", 
                description = "Resume a paused quiz session")
@@ -72,7 +73,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizSessionDetailResponse> resumeSession(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Abandon session", 
                description = "Abandon/cancel a quiz session")
@@ -83,7 +84,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<Void> abandonSession(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     // ==================== Question Navigation ====================
 
@@ -96,7 +97,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizQuestionResponse> getCurrentQuestion(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Get question by index", 
                description = "Get a specific question by its index (0-based)")
@@ -108,7 +109,21 @@ public interface QuizSessionApi {
     ResponseEntity<QuizQuestionResponse> getQuestionByIndex(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
             @Parameter(description = "Question index (0-based)", required = true) int index,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
+
+    @Operation(summary = "Get all questions",
+               description = "Get every question of the quiz version the session is pinned to, without correct answers. "
+                       + "Identical for all sessions on that version, so it is served with a version ETag")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Questions retrieved successfully",
+            content = @Content(schema = @Schema(implementation = QuestionBundleResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Questions not modified since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Session not in progress"),
+        @ApiResponse(responseCode = "404", description = "Session not found")
+    })
+    ResponseEntity<QuestionBundleResponse> getQuestionBundle(
+            @Parameter(description = "Session ID", required = true) UUID sessionId,
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Next question", 
                description = "Navigate to the next question")
@@ -118,7 +133,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizQuestionResponse> nextQuestion(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Previous question", 
                description = "Navigate to the previous question")
@@ -128,7 +143,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizQuestionResponse> previousQuestion(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     // ==================== Answer Submission ====================
 
@@ -143,7 +158,7 @@ public interface QuizSessionApi {
     ResponseEntity<SubmitAnswerResponse> submitAnswer(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
             SubmitAnswerRequest request,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     // ==================== Quiz Submission & Results ====================
 
@@ -157,7 +172,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizSessionResultResponse> submitQuiz(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     @Operation(summary = "Get result", 
                description = "Get detailed result of a completed quiz session")
@@ -168,7 +183,7 @@ public interface QuizSessionApi {
     })
     ResponseEntity<QuizSessionResultResponse> getResult(
             @Parameter(description = "Session ID", required = true) UUID sessionId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 
     // ==================== Utility ====================
 
@@ -180,5 +195,5 @@ public interface QuizSessionApi {
     })
     ResponseEntity<Boolean> canStartSession(
             @Parameter(description = "Quiz ID", required = true) UUID quizId,
-            UserDetails userDetails);
+            AuthenticatedUser currentUser);
 }
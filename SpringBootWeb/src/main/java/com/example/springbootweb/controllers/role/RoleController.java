@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.springbootweb.controllers.role.api.RoleApi;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.roles.CreateRoleRequest;
 import com.example.springbootweb.entities.dtos.roles.RoleDetailResponse;
 import com.example.springbootweb.entities.dtos.roles.RoleFilter;
@@ -68,6 +69,17 @@ public class RoleController implements RoleApi {
         return ResponseEntity.ok(roleService.getPagedRoles(page, size, filter));
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<RoleSummaryResponse>> getRolesByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+            @ModelAttribute RoleFilter filter) {
+        log.info("GET /api/roles/cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        return ResponseEntity.ok(roleService.getRolesByCursor(cursor, size, includeTotal, filter));
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<RoleDetailResponse> getRoleById(@PathVariable("id") UUID id) {
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.roles.CreateRoleRequest;
 import com.example.springbootweb.entities.dtos.roles.RoleDetailResponse;
 import com.example.springbootweb.entities.dtos.roles.RoleFilter;
@@ -51,6 +52,19 @@ public interface RoleApi {
             @Parameter(description = "Page size", example = "10") Integer size,
             @ModelAttribute RoleFilter filter);
 
+    @Operation(summary = "Get roles by cursor", 
+               description = "Retrieve roles ordered by name with cursor (keyset) pagination. "
+               + "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved roles"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    ResponseEntity<CursorPageResponse<RoleSummaryResponse>> getRolesByCursor(
+            @Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+            @Parameter(description = "Page size", example = "10") Integer size,
+            @Parameter(description = "Also count all matching roles", example = "false") boolean includeTotal,
+            @ModelAttribute RoleFilter filter);
+
     @Operation(summary = "Get role by ID", 
                description = "Retrieve detailed information about a specific role")
     @ApiResponses({
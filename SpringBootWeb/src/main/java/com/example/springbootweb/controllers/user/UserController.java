@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.springbootweb.controllers.user.api.UserApi;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.users.CreateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UpdateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UserDetailResponse;
@@ -68,6 +69,17 @@ public class UserController implements UserApi {
         return ResponseEntity.ok(userService.getPagedUsers(page, size, filter));
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<UserSummaryResponse>> getUsersByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") Integer size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal,
+            @ModelAttribute UserFilter filter) {
+        log.info("GET /api/users/cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        return ResponseEntity.ok(userService.getUsersByCursor(cursor, size, includeTotal, filter));
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<UserDetailResponse> getUserById(@PathVariable("id") UUID id) {
@@ -89,9 +101,10 @@ public class UserController implements UserApi {
     @Override
     @GetMapping("/search")
     public ResponseEntity<List<UserSummaryResponse>> searchUsers(
-            @RequestParam("keyword") String keyword) {
-        log.info("GET /api/users/search - keyword: {}", keyword);
-        List<UserSummaryResponse> users = userService.searchUsers(keyword);
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        log.info("GET /api/users/search - keyword: {}, fuzzy: {}", keyword, fuzzy);
+        List<UserSummaryResponse> users = userService.searchUsers(keyword, fuzzy);
         if (users.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.users.CreateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UpdateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UserDetailResponse;
@@ -51,6 +52,19 @@ public interface UserApi {
             @Parameter(description = "Page size", example = "10") Integer size,
             @ModelAttribute UserFilter filter);
 
+    @Operation(summary = "Get users by cursor", 
+               description = "Retrieve users ordered by email with cursor (keyset) pagination. "
+               + "Pass nextCursor of the previous page as cursor; the total is only counted when includeTotal is true")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved users"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    ResponseEntity<CursorPageResponse<UserSummaryResponse>> getUsersByCursor(
+            @Parameter(description = "nextCursor of the previous page, empty for the first page") String cursor,
+            @Parameter(description = "Page size", example = "10") Integer size,
+            @Parameter(description = "Also count all matching users", example = "false") boolean includeTotal,
+            @ModelAttribute UserFilter filter);
+
     @Operation(summary = "Get user by ID", 
                description = "Retrieve detailed information about a specific user")
     @ApiResponses({
@@ -70,13 +84,14 @@ public interface UserApi {
     ResponseEntity<List<UserSummaryResponse>> getActiveUsers();
 
     @Operation(summary = "Search users", 
-               description = "Search for users by keyword (name, email, etc.)")
+               description = "Search for users by keyword (name, email, etc.), most similar first")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Successfully retrieved matching users"),
         @ApiResponse(responseCode = "204", description = "No users found matching the search criteria")
     })
     ResponseEntity<List<UserSummaryResponse>> searchUsers(
-            @Parameter(description = "Search keyword", required = true) String keyword);
+            @Parameter(description = "Search keyword", required = true) String keyword,
+            @Parameter(description = "Tolerate typos in the keyword", example = "false") boolean fuzzy);
 
     @Operation(summary = "Get total user count", 
                description = "Get the total number of users in the system")
@@ -0,0 +1,46 @@
+package com.example.springbootweb.entities.analytics;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sizing of the asynchronous analytics report workers.
+ *
+ * @param workerThreads number of reports computed concurrently
+ * @param queueCapacity reports that may wait for a worker before new ones are rejected
+ * @param resultTtl how long a finished report is kept
+ * @param instanceId identifies this instance as the owner of the jobs it queued; the
+ * host name (the pod name on Kubernetes) by default, so a restarted container
+ * recognizes its own jobs
+ * @param heartbeatInterval how often an instance confirms it still owns its unfinished
+ * jobs; jobs not confirmed for four intervals belong to a gone instance and are failed
+ */
+@ConfigurationProperties(prefix = "app.analytics.reports")
+public record AnalyticsReportProperties(
+		int workerThreads,
+		int queueCapacity,
+		Duration resultTtl,
+		String instanceId,
+		Duration heartbeatInterval) {
+
+	public AnalyticsReportProperties {
+		workerThreads = workerThreads > 0 ? workerThreads : 2;
+		queueCapacity = queueCapacity > 0 ? queueCapacity : 100;
+		resultTtl = resultTtl != null ? resultTtl : Duration.ofHours(1);
+		if (instanceId == null || instanceId.isBlank()) {
+			String hostName = System.getenv("HOSTNAME");
+			instanceId = hostName != null && !hostName.isBlank() ? hostName : UUID.randomUUID().toString();
+		}
+		heartbeatInterval = heartbeatInterval != null ? heartbeatInterval : Duration.ofSeconds(30);
+	}
+
+	/**
+	 * Unfinished jobs whose heartbeat is older than this have lost their instance.
+	 */
+	public Duration staleAfter() {
+		return heartbeatInterval.multipliedBy(4);
+	}
+
+}
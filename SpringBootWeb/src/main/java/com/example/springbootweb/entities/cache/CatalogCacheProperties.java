@@ -0,0 +1,45 @@
+package com.example.springbootweb.entities.cache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Bounds of the Hibernate second-level cache regions (see
+ * {@link com.example.springbootweb.entities.constants.CacheRegions}).
+ *
+ * @param maxEntries default maximum number of entries per region
+ * @param timeToLive default time an entry is kept after it was written
+ * @param regions per-region overrides, keyed by region name
+ */
+@ConfigurationProperties(prefix = "app.cache.catalog")
+public record CatalogCacheProperties(
+		long maxEntries,
+		Duration timeToLive,
+		Map<String, Region> regions) {
+
+	public CatalogCacheProperties {
+		maxEntries = maxEntries > 0 ? maxEntries : 10_000;
+		timeToLive = timeToLive != null ? timeToLive : Duration.ofMinutes(10);
+		regions = regions != null ? Map.copyOf(regions) : Map.of();
+	}
+
+	public long maxEntries(String region) {
+		Region override = regions.get(region);
+		return override != null && override.maxEntries() != null ? override.maxEntries() : maxEntries;
+	}
+
+	public Duration timeToLive(String region) {
+		Region override = regions.get(region);
+		return override != null && override.timeToLive() != null ? override.timeToLive() : timeToLive;
+	}
+
+	/**
+	 * @param maxEntries maximum number of entries, or {@code null} for the default
+	 * @param timeToLive time an entry is kept, or {@code null} for the default
+	 */
+	public record Region(Long maxEntries, Duration timeToLive) {
+	}
+
+}
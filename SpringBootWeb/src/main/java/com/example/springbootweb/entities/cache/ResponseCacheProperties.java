@@ -0,0 +1,28 @@
+package com.example.springbootweb.entities.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Bounds of the serialized response cache (see
+ * {@link com.example.springbootweb.controllers.cache.ResponseBytesCache}).
+ *
+ * @param maxSize total size of the cached bodies
+ * @param timeToLive time an entry is kept after it was written
+ * @param gzipMinSize bodies smaller than this are stored (and sent) uncompressed
+ */
+@ConfigurationProperties(prefix = "app.cache.responses")
+public record ResponseCacheProperties(
+		DataSize maxSize,
+		Duration timeToLive,
+		DataSize gzipMinSize) {
+
+	public ResponseCacheProperties {
+		maxSize = maxSize != null ? maxSize : DataSize.ofMegabytes(64);
+		timeToLive = timeToLive != null ? timeToLive : Duration.ofMinutes(10);
+		gzipMinSize = gzipMinSize != null ? gzipMinSize : DataSize.ofKilobytes(1);
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.example.springbootweb.entities.constants;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Every region must be listed in {@link #ALL}:
+ * they are created up front with a size bound and Hibernate refuses to start on an
+ * unknown one.
+ */
+public class CacheRegions {
+
+	public static final String QUIZZES = "quizzes";
+
+	public static final String QUESTIONS = "questions";
+
+	public static final String QUESTION_OPTIONS = "question-options";
+
+	public static final String ANSWERS = "answers";
+
+	public static final String ROLES = "roles";
+
+	/** {@code Question.options}: ids of the options of a question. */
+	public static final String QUESTION_OPTION_IDS = "question-option-ids";
+
+	/** {@code User.roles}: ids of the roles of a user, read on every authenticated request. */
+	public static final String USER_ROLE_IDS = "user-role-ids";
+
+	public static final List<String> ALL = List.of(QUIZZES, QUESTIONS, QUESTION_OPTIONS, ANSWERS, ROLES,
+			QUESTION_OPTION_IDS, USER_ROLE_IDS);
+
+	private CacheRegions() {
+	}
+
+}
@@ -14,6 +14,10 @@ public class ErrorMessage {
 
 	public static final String REFRESH_TOKEN_EXPIRED = "Refresh token has expired";
 
+	public static final String PASSWORD_HASHING_BUSY = "Too many sign-in requests right now, please retry shortly";
+
+	public static final String RATE_LIMIT_EXCEEDED = "Too many requests, please slow down and retry later";
+
 	public static final String QUIZ_TITLE_EMPTY = "Quiz title cannot be empty";
 
 	public static final String QUIZ_DURATION_INVALID = "Quiz duration must be between 1 and 3600 minutes";
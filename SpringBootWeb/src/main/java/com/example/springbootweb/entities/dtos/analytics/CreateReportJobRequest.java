@@ -0,0 +1,21 @@
+package com.example.springbootweb.entities.dtos.analytics;
+
+import java.util.UUID;
+
+import com.example.springbootweb.entities.enums.ReportPriority;
+import com.example.springbootweb.entities.enums.ReportType;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO to queue an asynchronous analytics report
+ */
+public record CreateReportJobRequest(
+    @NotNull(message = "Report type is required")
+    ReportType reportType,
+
+    @NotNull(message = "Target ID is required")
+    UUID targetId,
+
+    ReportPriority priority
+) {}
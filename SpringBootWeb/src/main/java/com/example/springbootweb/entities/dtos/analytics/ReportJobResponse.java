@@ -0,0 +1,25 @@
+package com.example.springbootweb.entities.dtos.analytics;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.enums.ReportJobStatus;
+import com.example.springbootweb.entities.enums.ReportPriority;
+import com.example.springbootweb.entities.enums.ReportType;
+
+/**
+ * Response DTO describing the state of an asynchronous analytics report
+ */
+public record ReportJobResponse(
+    UUID id,
+    ReportType reportType,
+    UUID targetId,
+    ReportJobStatus status,
+    ReportPriority priority,
+    UUID requestedBy,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    LocalDateTime expiresAt,
+    String errorMessage
+) {}
@@ -0,0 +1,20 @@
+package com.example.springbootweb.entities.dtos.pagination;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * One page of a cursor (keyset) paginated list. Pass {@code nextCursor} back as
+ * {@code cursor} to get the following page.
+ */
+@Schema(description = "One page of a cursor paginated list")
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    @Schema(description = "Opaque cursor of the next page, null on the last page")
+    String nextCursor,
+    @Schema(description = "Total number of matching items, only present when includeTotal=true")
+    Long totalElements
+) {}
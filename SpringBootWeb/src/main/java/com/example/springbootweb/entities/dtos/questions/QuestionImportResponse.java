@@ -0,0 +1,31 @@
+package com.example.springbootweb.entities.dtos.questions;
+
+import java.util.List;
+
+/**
+ * Outcome of a question bank import. Rows listed in {@code errors} were skipped, every
+ * other row was imported.
+ *
+ * @param processedRows Data rows read from the file
+ * @param importedQuestions Questions written to the database
+ * @param failedRows Rows that were rejected or could not be written
+ * @param errors Per-row errors, at most {@code app.questions.import.max-errors} of them
+ * @param errorsTruncated Whether more rows failed than are listed in {@code errors}
+ * @param durationMillis Wall-clock time of the import
+ */
+public record QuestionImportResponse(
+    int processedRows,
+    int importedQuestions,
+    int failedRows,
+    List<RowError> errors,
+    boolean errorsTruncated,
+    long durationMillis
+) {
+
+    /**
+     * @param line 1-based line of the file where the row starts
+     * @param message Why the row was skipped
+     */
+    public record RowError(long line, String message) {}
+
+}
@@ -0,0 +1,57 @@
+package com.example.springbootweb.entities.dtos.questions;
+
+import java.util.List;
+
+import com.example.springbootweb.entities.enums.QuestionType;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * One question of an imported question bank (a line of an NDJSON file, or a CSV row
+ * converted to the same shape).
+ *
+ * @param content Question text
+ * @param questionType Question type
+ * @param isActive Defaults to {@code true}
+ * @param options Options in display order; required for SINGLE_CHOICE and
+ * MULTIPLE_CHOICE
+ * @param answers Reference answers, mostly used by FILL_IN_THE_BLANKS and LONG_ANSWER
+ */
+public record QuestionImportRow(
+		@NotBlank(message = "Content is required") @Size(min = 5, max = 5000,
+				message = "Content must be between 5 and 5000 characters") String content,
+
+		@NotNull(message = "Question type is required") QuestionType questionType,
+
+		Boolean isActive,
+
+		@Valid List<OptionRow> options,
+
+		@Valid List<AnswerRow> answers) {
+
+	/**
+	 * @param content Option text
+	 * @param isCorrect Defaults to {@code false}
+	 */
+	public record OptionRow(
+			@NotBlank(message = "Option content is required") @Size(min = 1, max = 5000,
+					message = "Option content must be between 1 and 5000 characters") String content,
+
+			Boolean isCorrect) {
+	}
+
+	/**
+	 * @param content Answer text
+	 * @param isCorrect Defaults to {@code true}
+	 */
+	public record AnswerRow(
+			@NotBlank(message = "Answer content is required") @Size(min = 5, max = 5000,
+					message = "Answer content must be between 5 and 5000 characters") String content,
+
+			Boolean isCorrect) {
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.example.springbootweb.entities.dtos.quizsessions;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.enums.QuestionType;
+
+/**
+ * All questions of the quiz version a session is pinned to, without correct answers or
+ * per-session state. Identical for every session on the same version.
+ */
+public record QuestionBundleResponse(
+    UUID quizId,
+    UUID quizVersionId,
+    Integer quizVersion,
+    String quizTitle,
+    Integer duration,
+    Integer totalQuestions,
+    List<BundleQuestion> questions
+) {
+    /**
+     * Question of the bundle, options without revealing if they are correct
+     */
+    public record BundleQuestion(
+        UUID id,
+        Integer questionNumber,
+        String content,
+        QuestionType questionType,
+        List<QuizQuestionResponse.QuizAnswerOption> options
+    ) {}
+}
@@ -9,9 +9,9 @@ import com.example.springbootweb.entities.enums.QuizSessionStatus;
 /**
  * Response DTO for quiz session summary
  */
-public record QuizSessionDetailResponse(UUID id, UUID quizId, String quizTitle, UUID userId, String userName,
-		QuizSessionStatus status, LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime finishedAt,
-		LocalDateTime expiresAt, Integer timeSpentSeconds, Integer totalQuestions, Integer answeredQuestions,
-		Integer correctAnswers, BigDecimal score, BigDecimal pointsEarned, BigDecimal maxPoints, Boolean isPassed,
-		Integer currentQuestionIndex, Integer remainingTimeSeconds) {
+public record QuizSessionDetailResponse(UUID id, UUID quizId, String quizTitle, Integer quizVersion, UUID userId,
+		String userName, QuizSessionStatus status, LocalDateTime createdAt, LocalDateTime startedAt,
+		LocalDateTime finishedAt, LocalDateTime expiresAt, Integer timeSpentSeconds, Integer totalQuestions,
+		Integer answeredQuestions, Integer correctAnswers, BigDecimal score, BigDecimal pointsEarned,
+		BigDecimal maxPoints, Boolean isPassed, Integer currentQuestionIndex, Integer remainingTimeSeconds) {
 }
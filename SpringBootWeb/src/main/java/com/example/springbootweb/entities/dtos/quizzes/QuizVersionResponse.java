@@ -0,0 +1,11 @@
+package com.example.springbootweb.entities.dtos.quizzes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A published quiz version, without its snapshot.
+ */
+public record QuizVersionResponse(UUID id, UUID quizId, Integer versionNumber, String title, Integer duration,
+		Integer totalQuestions, LocalDateTime publishedAt, UUID publishedBy) {
+}
@@ -22,6 +22,10 @@ public class UserFilter {
 	@Schema(description = "Search keyword for user name or email (partial match)")
 	private String keyword;
 
+	@Schema(description = "Tolerate typos in the keyword (similar words match instead of substrings)",
+			defaultValue = "false")
+	private Boolean fuzzy;
+
 	@Schema(description = "Filter by active status")
 	private Boolean isActive;
 
@@ -0,0 +1,34 @@
+package com.example.springbootweb.entities.enums;
+
+/**
+ * Catalog resources served with ETags. Each one has a row in {@code catalog_versions}
+ * that database triggers bump on every write to its tables.
+ */
+public enum CatalogResource {
+
+	/**
+	 * Quizzes, including the question and attempt counts of their details
+	 */
+	QUIZZES("quizzes"),
+
+	/**
+	 * Questions and their options
+	 */
+	QUESTIONS("questions"),
+
+	/**
+	 * Answers
+	 */
+	ANSWERS("answers");
+
+	private final String key;
+
+	CatalogResource(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.example.springbootweb.entities.enums;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the question bank import.
+ */
+public enum QuestionImportFormat {
+
+	/**
+	 * Comma separated values with a header row. List columns ({@code options},
+	 * {@code correctOptions}, {@code answers}) separate their items with {@code |}.
+	 */
+	CSV,
+
+	/**
+	 * One JSON object per line, shaped like {@code QuestionImportRow}.
+	 */
+	NDJSON;
+
+	/**
+	 * Guess the format from a file name extension.
+	 * @return the format, or {@code null} if the extension is not recognized
+	 */
+	public static QuestionImportFormat fromFilename(String filename) {
+		if (filename == null) {
+			return null;
+		}
+		String name = filename.toLowerCase(Locale.ROOT);
+		if (name.endsWith(".csv")) {
+			return CSV;
+		}
+		if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+			return NDJSON;
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.example.springbootweb.entities.enums;
+
+/**
+ * Lifecycle of an asynchronous analytics report job
+ */
+public enum ReportJobStatus {
+
+	/**
+	 * Accepted and waiting for a worker
+	 */
+	QUEUED,
+
+	/**
+	 * Being computed by a worker
+	 */
+	RUNNING,
+
+	/**
+	 * Result is stored and can be fetched until it expires
+	 */
+	COMPLETED,
+
+	/**
+	 * Computation failed, see the error message
+	 */
+	FAILED
+
+}
@@ -0,0 +1,15 @@
+package com.example.springbootweb.entities.enums;
+
+/**
+ * Scheduling priority of a report job. Jobs with a higher priority are picked up first,
+ * jobs with the same priority in submission order.
+ */
+public enum ReportPriority {
+
+	HIGH,
+
+	NORMAL,
+
+	LOW
+
+}
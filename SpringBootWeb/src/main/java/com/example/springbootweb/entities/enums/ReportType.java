@@ -0,0 +1,23 @@
+package com.example.springbootweb.entities.enums;
+
+/**
+ * Kinds of analytics reports that can be generated asynchronously
+ */
+public enum ReportType {
+
+	/**
+	 * Quiz statistics, target is a quiz id
+	 */
+	QUIZ_STATISTICS,
+
+	/**
+	 * User performance dashboard, target is a user id
+	 */
+	USER_PERFORMANCE,
+
+	/**
+	 * Question difficulty (item) analysis, target is a question id
+	 */
+	ITEM_ANALYSIS
+
+}
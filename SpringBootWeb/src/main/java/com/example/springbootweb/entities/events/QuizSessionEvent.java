@@ -0,0 +1,39 @@
+package com.example.springbootweb.entities.events;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Domain events raised by the quiz session lifecycle. Events are only handed to
+ * consumers after the transaction that produced them has committed.
+ */
+public sealed interface QuizSessionEvent {
+
+	UUID sessionId();
+
+	UUID quizId();
+
+	UUID userId();
+
+	Instant occurredAt();
+
+	record SessionStarted(UUID sessionId, UUID quizId, UUID userId, Integer totalQuestions, Instant occurredAt)
+			implements QuizSessionEvent {
+	}
+
+	record AnswerSubmitted(UUID sessionId, UUID quizId, UUID userId, UUID questionId, UUID answerId,
+			Boolean isCorrect, BigDecimal pointsAwarded, Integer timeSpentSeconds, Instant occurredAt)
+			implements QuizSessionEvent {
+	}
+
+	record QuizSubmitted(UUID sessionId, UUID quizId, UUID userId, BigDecimal score, Boolean isPassed,
+			Integer correctAnswers, Integer totalQuestions, Integer timeSpentSeconds, Instant occurredAt)
+			implements QuizSessionEvent {
+	}
+
+	record SessionTimedOut(UUID sessionId, UUID quizId, UUID userId, BigDecimal score, Boolean isPassed,
+			Instant occurredAt) implements QuizSessionEvent {
+	}
+
+}
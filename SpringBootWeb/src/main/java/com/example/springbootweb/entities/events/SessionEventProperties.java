@@ -0,0 +1,44 @@
+package com.example.springbootweb.entities.events;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the in-process session event pipeline.
+ *
+ * @param bufferSize ring buffer capacity, rounded up to a power of two
+ * @param maxBatchSize maximum number of events handed to a consumer in one call
+ * @param overflowStrategy what a publisher does when the slowest consumer is a full
+ * buffer behind
+ * @param publishTimeout how long {@link OverflowStrategy#BLOCK} waits for free space
+ * before dropping the event
+ * @param idleWait how long a consumer parks when there is nothing to read
+ */
+@ConfigurationProperties(prefix = "app.session-events")
+public record SessionEventProperties(
+		int bufferSize,
+		int maxBatchSize,
+		OverflowStrategy overflowStrategy,
+		Duration publishTimeout,
+		Duration idleWait) {
+
+	public SessionEventProperties {
+		bufferSize = bufferSize > 0 ? bufferSize : 8192;
+		maxBatchSize = maxBatchSize > 0 ? maxBatchSize : 256;
+		overflowStrategy = overflowStrategy != null ? overflowStrategy : OverflowStrategy.DROP;
+		publishTimeout = publishTimeout != null ? publishTimeout : Duration.ofMillis(50);
+		idleWait = idleWait != null ? idleWait : Duration.ofMillis(1);
+	}
+
+	public enum OverflowStrategy {
+
+		/** Drop the new event immediately and count it. */
+		DROP,
+
+		/** Wait up to {@code publishTimeout} for the slowest consumer, then drop. */
+		BLOCK
+
+	}
+
+}
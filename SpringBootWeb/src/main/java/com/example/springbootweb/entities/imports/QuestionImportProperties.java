@@ -0,0 +1,22 @@
+package com.example.springbootweb.entities.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning of the question bank import.
+ *
+ * @param chunkSize questions written per JDBC batch and transaction
+ * @param maxErrors row errors listed in the import response, further failures are only
+ * counted
+ */
+@ConfigurationProperties(prefix = "app.questions.import")
+public record QuestionImportProperties(
+		int chunkSize,
+		int maxErrors) {
+
+	public QuestionImportProperties {
+		chunkSize = chunkSize > 0 ? chunkSize : 1000;
+		maxErrors = maxErrors > 0 ? maxErrors : 1000;
+	}
+
+}
@@ -1,10 +1,28 @@
 package com.example.springbootweb.entities.jwt;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+/**
+ * @param secret HMAC secret used to sign and verify tokens
+ * @param expiration access token lifetime in milliseconds
+ * @param refreshExpiration refresh token lifetime in milliseconds
+ * @param verifiedCacheSize maximum number of recently verified access tokens remembered,
+ * so repeated requests skip parsing and signature checks
+ * @param revocationCheckInterval how long a user's current token version is cached, i.e.
+ * how late a token can still be accepted after the user was disabled on another instance
+ */
 @ConfigurationProperties(prefix = "jwt")
 public record JwtProperties(
         String secret,
         long expiration,
-        long refreshExpiration) {
+        long refreshExpiration,
+        long verifiedCacheSize,
+        Duration revocationCheckInterval) {
+
+    public JwtProperties {
+        verifiedCacheSize = verifiedCacheSize > 0 ? verifiedCacheSize : 10_000;
+        revocationCheckInterval = revocationCheckInterval != null ? revocationCheckInterval : Duration.ofSeconds(30);
+    }
 }
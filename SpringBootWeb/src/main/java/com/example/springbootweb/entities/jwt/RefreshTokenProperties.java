@@ -0,0 +1,31 @@
+package com.example.springbootweb.entities.jwt;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Refresh token store maintenance.
+ *
+ * @param purgeInterval delay between two purges of expired tokens
+ * @param purgeBatchSize expired tokens deleted per statement
+ * @param revokedFilterCapacity revoked tokens remembered by the in-memory filter before it
+ * starts a new generation
+ * @param revokedFilterFalsePositiveRate share of valid tokens the filter wrongly rejects
+ * at full capacity
+ */
+@ConfigurationProperties(prefix = "jwt.refresh-tokens")
+public record RefreshTokenProperties(
+        Duration purgeInterval,
+        int purgeBatchSize,
+        int revokedFilterCapacity,
+        double revokedFilterFalsePositiveRate) {
+
+    public RefreshTokenProperties {
+        purgeInterval = purgeInterval != null ? purgeInterval : Duration.ofHours(1);
+        purgeBatchSize = purgeBatchSize > 0 ? purgeBatchSize : 5000;
+        revokedFilterCapacity = revokedFilterCapacity > 0 ? revokedFilterCapacity : 100_000;
+        revokedFilterFalsePositiveRate = revokedFilterFalsePositiveRate > 0 && revokedFilterFalsePositiveRate < 1
+                ? revokedFilterFalsePositiveRate : 1e-6;
+    }
+}
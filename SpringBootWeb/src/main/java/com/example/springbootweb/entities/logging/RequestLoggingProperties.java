@@ -0,0 +1,26 @@
+package com.example.springbootweb.entities.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Request logging (see {@link com.example.springbootweb.config.RequestLoggingConfig}).
+ *
+ * @param accessLog whether every request is logged as one line with its status and
+ * latency (logger {@code ACCESS_LOG})
+ * @param payloadSampleRate share of requests, between 0 and 1, whose payload is logged
+ * when {@code CommonsRequestLoggingFilter} is at DEBUG
+ * @param maxPayloadLength bytes of a payload that are buffered and logged
+ */
+@ConfigurationProperties(prefix = "app.logging.requests")
+public record RequestLoggingProperties(
+		Boolean accessLog,
+		Double payloadSampleRate,
+		int maxPayloadLength) {
+
+	public RequestLoggingProperties {
+		accessLog = accessLog != null ? accessLog : Boolean.TRUE;
+		payloadSampleRate = payloadSampleRate != null ? Math.clamp(payloadSampleRate, 0.0, 1.0) : 1.0;
+		maxPayloadLength = maxPayloadLength > 0 ? maxPayloadLength : 10_000;
+	}
+
+}
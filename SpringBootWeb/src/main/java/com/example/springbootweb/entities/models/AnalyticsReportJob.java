@@ -0,0 +1,111 @@
+package com.example.springbootweb.entities.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import com.example.springbootweb.entities.enums.ReportJobStatus;
+import com.example.springbootweb.entities.enums.ReportPriority;
+import com.example.springbootweb.entities.enums.ReportType;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An analytics report computed outside the HTTP request. The serialized result is kept
+ * until {@code expiresAt} and then purged.
+ */
+@Entity
+@Table(name = "analytics_report_jobs")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AnalyticsReportJob {
+
+	@Id
+	@UuidGenerator
+	private UUID id;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(name = "report_type", nullable = false, length = 30)
+	private ReportType reportType;
+
+	/**
+	 * Quiz, user or question id depending on the report type
+	 */
+	@NotNull
+	@Column(name = "target_id", nullable = false)
+	private UUID targetId;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	@Builder.Default
+	private ReportJobStatus status = ReportJobStatus.QUEUED;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	@Builder.Default
+	private ReportPriority priority = ReportPriority.NORMAL;
+
+	/**
+	 * User who queued the report; only they (and administrators) may read it
+	 */
+	@Column(name = "requested_by")
+	private UUID requestedBy;
+
+	/**
+	 * Instance whose in-memory executor holds the job while it is queued or running
+	 */
+	@Column(name = "owner_instance", length = 100)
+	private String ownerInstance;
+
+	/**
+	 * Last time the owning instance confirmed it is still alive
+	 */
+	@Column(name = "heartbeat_at")
+	private LocalDateTime heartbeatAt;
+
+	@NotNull
+	@Column(name = "created_at", nullable = false)
+	@Builder.Default
+	private LocalDateTime createdAt = LocalDateTime.now();
+
+	@Column(name = "started_at")
+	private LocalDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+
+	/**
+	 * When the stored result (or failure) stops being served
+	 */
+	@Column(name = "expires_at")
+	private LocalDateTime expiresAt;
+
+	/**
+	 * Report serialized as JSON, served as-is by the result endpoint
+	 */
+	@Basic(fetch = FetchType.LAZY)
+	@Column(columnDefinition = "TEXT")
+	private String result;
+
+	@Column(name = "error_message", length = 1000)
+	private String errorMessage;
+
+}
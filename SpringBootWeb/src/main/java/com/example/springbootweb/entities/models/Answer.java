@@ -1,6 +1,8 @@
 package com.example.springbootweb.entities.models;
 
+import com.example.springbootweb.entities.constants.CacheRegions;
 import jakarta.persistence.Basic;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.util.UUID;
@@ -16,11 +19,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 import org.jspecify.annotations.NonNull;
 
 @Entity
 @Table(name = "answers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ANSWERS)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -54,6 +61,12 @@ public class Answer {
 	@Column(name = "question_id", nullable = false, columnDefinition = "uniqueidentifier")
 	private UUID questionId;
 
+	/**
+	 * Bumped on every update; the ETag of the answer
+	 */
+	@Version
+	private Long version;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "question_id", insertable = false, updatable = false)
 	private Question question;
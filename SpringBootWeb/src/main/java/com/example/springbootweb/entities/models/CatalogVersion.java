@@ -0,0 +1,30 @@
+package com.example.springbootweb.entities.models;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change counter of a catalog resource, maintained by statement-level database triggers
+ * on the resource's tables. Read-only for the application.
+ */
+@Entity
+@Table(name = "catalog_versions")
+@Immutable
+@Getter
+@NoArgsConstructor
+public class CatalogVersion {
+
+	@Id
+	@Column(length = 50)
+	private String name;
+
+	@Column(nullable = false)
+	private Long version;
+
+}
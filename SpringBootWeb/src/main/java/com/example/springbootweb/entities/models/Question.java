@@ -4,11 +4,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 import org.jspecify.annotations.NonNull;
 
+import com.example.springbootweb.entities.constants.CacheRegions;
 import com.example.springbootweb.entities.enums.QuestionType;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +23,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -28,6 +33,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "questions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTIONS)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -55,6 +62,12 @@ public class Question {
 	@Column(nullable = false)
 	private Boolean isActive = true;
 
+	/**
+	 * Bumped on every update, including option changes; the ETag of the question
+	 */
+	@Version
+	private Long version;
+
 	@OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
 	@Builder.Default
 	private List<QuizQuestion> quizQuestions = new ArrayList<>();
@@ -68,6 +81,7 @@ public class Question {
 	 * và MULTIPLE_CHOICE. Có thể rỗng nếu là TRUE_FALSE hoặc LONG_ANSWER.
 	 */
 	@OneToMany(mappedBy = "question", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION_OPTION_IDS)
 	@Builder.Default
 	private List<QuestionOption> options = new ArrayList<>();
 
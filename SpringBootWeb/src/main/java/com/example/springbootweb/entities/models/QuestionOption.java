@@ -2,9 +2,14 @@ package com.example.springbootweb.entities.models;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 import org.jspecify.annotations.NonNull;
 
+import com.example.springbootweb.entities.constants.CacheRegions;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -21,6 +26,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "question_options")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUESTION_OPTIONS)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -3,8 +3,13 @@ package com.example.springbootweb.entities.models;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
+import com.example.springbootweb.entities.constants.CacheRegions;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +18,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +27,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "quizzes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.QUIZZES)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -48,6 +56,12 @@ public class Quiz {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    /**
+     * Bumped on every update; part of the ETag of the quiz
+     */
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<UserQuiz> userQuizzes;
 
@@ -65,6 +65,14 @@ public class QuizSession {
 	@JoinColumn(name = "quiz_id", insertable = false, updatable = false)
 	private Quiz quiz;
 
+	/**
+	 * The published quiz version the session was started on; questions are shown and
+	 * graded from its snapshot. {@code null} for sessions started before versioning until
+	 * they are pinned on first use.
+	 */
+	@Column(name = "quiz_version_id")
+	private UUID quizVersionId;
+
 	/**
 	 * Current status of the session
 	 */
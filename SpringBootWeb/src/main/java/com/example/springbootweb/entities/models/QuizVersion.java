@@ -0,0 +1,73 @@
+package com.example.springbootweb.entities.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.UuidGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A published, immutable version of a quiz. Sessions are pinned to the version they
+ * started on and grade against its snapshot, so editing the live quiz never affects an
+ * attempt in progress. Rows are only ever inserted (a database trigger rejects updates).
+ */
+@Entity
+@Table(name = "quiz_versions")
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizVersion {
+
+	@Id
+	@UuidGenerator
+	private UUID id;
+
+	@Column(name = "quiz_id", nullable = false)
+	private UUID quizId;
+
+	/**
+	 * 1 for the first published version of the quiz, then incremented
+	 */
+	@Column(name = "version_number", nullable = false)
+	private Integer versionNumber;
+
+	@Column(nullable = false, length = 255)
+	private String title;
+
+	/**
+	 * Duration in minutes at publish time
+	 */
+	@Column(nullable = false)
+	private Integer duration;
+
+	@Column(name = "total_questions", nullable = false)
+	private Integer totalQuestions;
+
+	/**
+	 * {@code QuizSnapshot} serialized as JSON. Read through the repository's projections,
+	 * so that listing versions never loads it
+	 */
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String snapshot;
+
+	@Column(name = "published_at", nullable = false)
+	private LocalDateTime publishedAt;
+
+	/**
+	 * Publishing user, {@code null} when published implicitly by the first session
+	 */
+	@Column(name = "published_by")
+	private UUID publishedBy;
+
+}
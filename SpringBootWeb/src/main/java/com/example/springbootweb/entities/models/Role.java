@@ -2,10 +2,15 @@ package com.example.springbootweb.entities.models;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 import org.jspecify.annotations.NonNull;
 
+import com.example.springbootweb.entities.constants.CacheRegions;
+
 import jakarta.persistence.Basic;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -20,6 +25,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLES)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.example.springbootweb.entities.models;
 
+import com.example.springbootweb.entities.constants.CacheRegions;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -23,6 +24,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
 @Entity
@@ -66,11 +69,19 @@ public class User {
 	@Builder.Default
 	private LocalDateTime createdAt = LocalDateTime.now();
 
+	/**
+	 * Embedded in access tokens. Maintained by database triggers (active flag, password,
+	 * email and role changes), so it is never written from here.
+	 */
+	@Column(name = "token_version", insertable = false, updatable = false)
+	private Long tokenVersion;
+
 	@OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
 	@Builder.Default
 	private List<UserQuiz> userQuizzes = new ArrayList<>();
 
 	@ManyToMany(fetch = FetchType.EAGER)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER_ROLE_IDS)
 	@JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"),
 			inverseJoinColumns = @JoinColumn(name = "role_id"))
 	@Builder.Default
@@ -0,0 +1,36 @@
+package com.example.springbootweb.entities.querystats;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request SQL statement budgets (see
+ * {@link com.example.springbootweb.controllers.querystats.QueryBudgetInterceptor}).
+ *
+ * @param enabled whether statements are counted per request
+ * @param maxStatements statements a request may run before it is reported
+ * @param maxRepeatedStatements times a single statement may run in one request before
+ * the request is reported as a likely N+1
+ * @param endpoints {@code maxStatements} overrides, keyed by the endpoint's path pattern,
+ * e.g. {@code "[/api/analytics/admin/dashboard]"}
+ */
+@ConfigurationProperties(prefix = "app.query-stats")
+public record QueryStatsProperties(
+		Boolean enabled,
+		int maxStatements,
+		int maxRepeatedStatements,
+		Map<String, Integer> endpoints) {
+
+	public QueryStatsProperties {
+		enabled = enabled != null ? enabled : Boolean.TRUE;
+		maxStatements = maxStatements > 0 ? maxStatements : 20;
+		maxRepeatedStatements = maxRepeatedStatements > 0 ? maxRepeatedStatements : 5;
+		endpoints = endpoints != null ? Map.copyOf(endpoints) : Map.of();
+	}
+
+	public int maxStatements(String pathPattern) {
+		return pathPattern != null ? endpoints.getOrDefault(pathPattern, maxStatements) : maxStatements;
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.example.springbootweb.entities.quizversions;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.enums.QuestionType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Frozen content of a published quiz version: everything a session needs to show
+ * questions and grade answers. Never changes once published, so it is safe to cache and
+ * share between sessions.
+ *
+ * @param versionId id of the {@code QuizVersion} row; not part of the stored JSON
+ * @param quizId the quiz
+ * @param versionNumber version number within the quiz
+ * @param title quiz title at publish time
+ * @param description quiz description at publish time
+ * @param duration duration in minutes
+ * @param questions questions in quiz order
+ */
+public record QuizSnapshot(
+		@JsonIgnore UUID versionId,
+		UUID quizId,
+		Integer versionNumber,
+		String title,
+		String description,
+		Integer duration,
+		List<QuestionSnapshot> questions) {
+
+	public QuizSnapshot withVersionId(UUID versionId) {
+		return new QuizSnapshot(versionId, quizId, versionNumber, title, description, duration, questions);
+	}
+
+	public Optional<QuestionSnapshot> findQuestion(UUID questionId) {
+		return questions.stream().filter(question -> question.id().equals(questionId)).findFirst();
+	}
+
+	/**
+	 * @param answers all answers of the question, including inactive ones so answers
+	 * already given stay resolvable
+	 */
+	public record QuestionSnapshot(
+			UUID id,
+			String content,
+			QuestionType questionType,
+			List<AnswerSnapshot> answers) {
+
+		public Optional<AnswerSnapshot> findAnswer(UUID answerId) {
+			return answers.stream().filter(answer -> answer.id().equals(answerId)).findFirst();
+		}
+
+	}
+
+	public record AnswerSnapshot(
+			UUID id,
+			String content,
+			boolean isCorrect,
+			boolean isActive) {
+	}
+
+}
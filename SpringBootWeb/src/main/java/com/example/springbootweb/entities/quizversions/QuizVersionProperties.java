@@ -0,0 +1,19 @@
+package com.example.springbootweb.entities.quizversions;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Quiz version snapshots kept in memory.
+ *
+ * @param snapshotCacheSize maximum number of cached snapshots; snapshots never change, so
+ * entries are only evicted by size
+ */
+@ConfigurationProperties(prefix = "app.quiz-versions")
+public record QuizVersionProperties(
+		long snapshotCacheSize) {
+
+	public QuizVersionProperties {
+		snapshotCacheSize = snapshotCacheSize > 0 ? snapshotCacheSize : 500;
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.example.springbootweb.entities.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sizing of the password hashing workers, which keep BCrypt off the request threads.
+ *
+ * @param threads passwords hashed concurrently; defaults to half the cores, so a login
+ * burst leaves CPU for the rest of the API
+ * @param queueCapacity hashing requests that may wait for a worker before logins are
+ * rejected
+ * @param retryAfter {@code Retry-After} sent with rejected requests
+ * @param timeout how long a request waits for its password to be queued and hashed
+ * before it is rejected like a full queue
+ */
+@ConfigurationProperties(prefix = "app.security.password-hashing")
+public record PasswordHashingProperties(
+		int threads,
+		int queueCapacity,
+		Duration retryAfter,
+		Duration timeout) {
+
+	public PasswordHashingProperties {
+		threads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		queueCapacity = queueCapacity > 0 ? queueCapacity : threads * 16;
+		retryAfter = retryAfter != null ? retryAfter : Duration.ofSeconds(2);
+		timeout = timeout != null ? timeout : Duration.ofSeconds(10);
+	}
+
+}
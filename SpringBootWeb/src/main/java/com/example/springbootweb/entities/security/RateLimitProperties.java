@@ -0,0 +1,74 @@
+package com.example.springbootweb.entities.security;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-route request rate limits (see
+ * {@link com.example.springbootweb.services.security.RateLimitFilter}).
+ *
+ * @param enabled whether requests are limited at all
+ * @param maxKeys maximum number of clients tracked per policy; the least recently seen
+ * are forgotten first
+ * @param policies limits keyed by policy name, checked in declaration order; the first
+ * policy matching a request applies
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+		Boolean enabled,
+		long maxKeys,
+		Map<String, Policy> policies) {
+
+	public RateLimitProperties {
+		enabled = enabled != null ? enabled : Boolean.TRUE;
+		maxKeys = maxKeys > 0 ? maxKeys : 100_000;
+		policies = policies != null ? Collections.unmodifiableMap(new LinkedHashMap<>(policies)) : Map.of();
+	}
+
+	/**
+	 * What a request is counted against.
+	 */
+	public enum KeyType {
+
+		/** The client address. */
+		IP,
+
+		/** The authenticated user, or the client address for anonymous requests. */
+		USER
+
+	}
+
+	/**
+	 * A token bucket of {@code capacity} requests, refilled evenly over
+	 * {@code refillPeriod}.
+	 *
+	 * @param paths path patterns the policy applies to, e.g.
+	 * {@code /api/quiz-sessions/*}{@code /submit-answer}
+	 * @param methods HTTP methods the policy applies to; empty for all
+	 * @param key what requests are counted against
+	 * @param capacity requests a client may burst
+	 * @param refillPeriod time for an empty bucket to fill up again
+	 */
+	public record Policy(
+			List<String> paths,
+			List<String> methods,
+			KeyType key,
+			int capacity,
+			Duration refillPeriod) {
+
+		public Policy {
+			paths = paths != null ? List.copyOf(paths) : List.of();
+			methods = methods != null ? List.copyOf(methods) : List.of();
+			key = key != null ? key : KeyType.USER;
+			capacity = capacity > 0 ? capacity : 60;
+			refillPeriod = refillPeriod != null ? refillPeriod : Duration.ofMinutes(1);
+		}
+
+	}
+
+}
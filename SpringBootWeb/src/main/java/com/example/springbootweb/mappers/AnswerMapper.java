@@ -30,11 +30,13 @@ public interface AnswerMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "question", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "isActive", constant = "true")
     Answer toEntity(CreateAnswerRequest request);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "question", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntity(UpdateAnswerRequest request, @MappingTarget Answer answer);
 }
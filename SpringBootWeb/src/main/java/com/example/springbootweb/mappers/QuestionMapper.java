@@ -25,6 +25,7 @@ public interface QuestionMapper {
 	@Mapping(target = "quizQuestions", ignore = true)
 	@Mapping(target = "answers", ignore = true)
 	@Mapping(target = "options", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	@Mapping(target = "isActive", constant = "true")
 	Question toEntity(CreateQuestionRequest request);
 
@@ -33,6 +34,7 @@ public interface QuestionMapper {
 	@Mapping(target = "quizQuestions", ignore = true)
 	@Mapping(target = "answers", ignore = true)
 	@Mapping(target = "options", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	void updateEntity(UpdateQuestionRequest request, @MappingTarget Question question);
 
 }
@@ -26,6 +26,7 @@ public interface QuizMapper {
 	@Mapping(target = "id", ignore = true)
 	@Mapping(target = "userQuizzes", ignore = true)
 	@Mapping(target = "quizQuestions", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	@Mapping(target = "isActive", expression = "java(request.isActive() == null ? Boolean.TRUE : request.isActive())")
 	Quiz toEntity(CreateQuizRequest request);
 
@@ -33,6 +34,7 @@ public interface QuizMapper {
 	@Mapping(target = "id", ignore = true)
 	@Mapping(target = "userQuizzes", ignore = true)
 	@Mapping(target = "quizQuestions", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	void updateEntity(UpdateQuizRequest request, @MappingTarget Quiz quiz);
 
 }
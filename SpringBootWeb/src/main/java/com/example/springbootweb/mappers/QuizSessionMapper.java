@@ -12,6 +12,7 @@ import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionSummaryRe
 import com.example.springbootweb.entities.models.Quiz;
 import com.example.springbootweb.entities.models.QuizSession;
 import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
 
 /**
  * MapStruct mapper for QuizSession entity. Provides mapping methods for detail, summary
@@ -23,16 +24,17 @@ public interface QuizSessionMapper {
 	// ==================== Detail Response ====================
 
 	/**
-	 * Map QuizSession to QuizSessionDetailResponse. Requires Quiz and User context for
-	 * derived fields.
+	 * Map QuizSession to QuizSessionDetailResponse. Requires the snapshot of the session's
+	 * quiz version and the User for derived fields.
 	 * @param session the quiz session entity
-	 * @param quiz the associated quiz
+	 * @param quiz snapshot of the quiz version the session is pinned to
 	 * @param user the user taking the quiz
 	 * @param remainingTimeSeconds calculated remaining time
 	 * @return QuizSessionDetailResponse
 	 */
 	@Mapping(target = "quizId", source = "session.quizId")
 	@Mapping(target = "quizTitle", source = "quiz.title")
+	@Mapping(target = "quizVersion", source = "quiz.versionNumber")
 	@Mapping(target = "userId", source = "session.userId")
 	@Mapping(target = "userName", source = "user.displayName")
 	@Mapping(target = "id", source = "session.id")
@@ -51,7 +53,8 @@ public interface QuizSessionMapper {
 	@Mapping(target = "isPassed", source = "session.isPassed")
 	@Mapping(target = "currentQuestionIndex", source = "session.currentQuestionIndex")
 	@Mapping(target = "remainingTimeSeconds", source = "remainingTimeSeconds")
-	QuizSessionDetailResponse toDetailResponse(QuizSession session, Quiz quiz, User user, Integer remainingTimeSeconds);
+	QuizSessionDetailResponse toDetailResponse(QuizSession session, QuizSnapshot quiz, User user,
+			Integer remainingTimeSeconds);
 
 	// ==================== Summary Response ====================
 
@@ -29,6 +29,7 @@ public interface UserMapper {
 	@Mapping(target = "id", ignore = true)
 	@Mapping(target = "userQuizzes", ignore = true)
 	@Mapping(target = "roles", ignore = true)
+	@Mapping(target = "tokenVersion", ignore = true)
 	@Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
 	@Mapping(target = "isActive", expression = "java(Boolean.TRUE)")
 	User toEntity(CreateUserRequest request);
@@ -40,6 +41,7 @@ public interface UserMapper {
 	@Mapping(target = "password", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "email", ignore = true)
+	@Mapping(target = "tokenVersion", ignore = true)
 	void updateEntity(UpdateUserRequest request, @MappingTarget User user);
 
 	default Set<RoleSummaryResponse> mapToRoleSummaryResponses(Set<Role> roles) {
@@ -0,0 +1,87 @@
+package com.example.springbootweb.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.springbootweb.entities.dtos.analytics.ReportJobResponse;
+import com.example.springbootweb.entities.enums.ReportJobStatus;
+import com.example.springbootweb.entities.models.AnalyticsReportJob;
+
+@Repository
+public interface AnalyticsReportJobRepository extends JpaRepository<AnalyticsReportJob, UUID> {
+
+	/**
+	 * Job status without the (possibly large) result column, for polling.
+	 */
+	@Query("""
+			SELECT new com.example.springbootweb.entities.dtos.analytics.ReportJobResponse(
+				j.id, j.reportType, j.targetId, j.status, j.priority, j.requestedBy, j.createdAt, j.startedAt,
+				j.finishedAt, j.expiresAt, j.errorMessage)
+			FROM AnalyticsReportJob j WHERE j.id = :id
+			""")
+	Optional<ReportJobResponse> findResponseById(@Param("id") UUID id);
+
+	@Query("SELECT j.result FROM AnalyticsReportJob j WHERE j.id = :id")
+	Optional<String> findResultById(@Param("id") UUID id);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM AnalyticsReportJob j WHERE j.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+
+	/**
+	 * Confirms that the instance still holds its queued and running jobs.
+	 */
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE AnalyticsReportJob j SET j.heartbeatAt = :now
+			WHERE j.ownerInstance = :instance AND j.status IN :statuses
+			""")
+	int heartbeat(@Param("instance") String instance, @Param("statuses") Collection<ReportJobStatus> statuses,
+			@Param("now") LocalDateTime now);
+
+	/**
+	 * Fails queued or running jobs of an earlier process of this instance, those created
+	 * before {@code createdBefore}; their in-memory tasks are gone and nobody would ever
+	 * finish them.
+	 */
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE AnalyticsReportJob j
+			SET j.status = com.example.springbootweb.entities.enums.ReportJobStatus.FAILED,
+				j.errorMessage = :message, j.finishedAt = :now, j.expiresAt = :expiresAt
+			WHERE j.ownerInstance = :instance AND j.status IN :statuses AND j.createdAt < :createdBefore
+			""")
+	int failOwned(@Param("instance") String instance, @Param("statuses") Collection<ReportJobStatus> statuses,
+			@Param("createdBefore") LocalDateTime createdBefore, @Param("message") String message,
+			@Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+	/**
+	 * Fails queued or running jobs whose instance stopped sending heartbeats (scaled
+	 * down, crashed, replaced during a rollout). Jobs without owner or heartbeat predate
+	 * job ownership.
+	 */
+	@Modifying
+	@Transactional
+	@Query("""
+			UPDATE AnalyticsReportJob j
+			SET j.status = com.example.springbootweb.entities.enums.ReportJobStatus.FAILED,
+				j.errorMessage = :message, j.finishedAt = :now, j.expiresAt = :expiresAt
+			WHERE j.status IN :statuses AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+			""")
+	int failStale(@Param("statuses") Collection<ReportJobStatus> statuses,
+			@Param("staleBefore") LocalDateTime staleBefore, @Param("message") String message,
+			@Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+}
@@ -1,18 +1,20 @@
 package com.example.springbootweb.repositories;
 
 import com.example.springbootweb.entities.models.Answer;
+import com.example.springbootweb.repositories.readmodels.AnswerReadModelRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface AnswerRepository extends JpaRepository<Answer, UUID>, JpaSpecificationExecutor<Answer> {
-    List<Answer> findByIsActiveTrue();
+public interface AnswerRepository extends JpaRepository<Answer, UUID>, JpaSpecificationExecutor<Answer>,
+        AnswerReadModelRepository {
 
-    List<Answer> findByContentContainingIgnoreCase(String content);
-
-    List<Answer> findByQuestionId(UUID questionId);
+    @Query("SELECT a.version FROM Answer a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 }
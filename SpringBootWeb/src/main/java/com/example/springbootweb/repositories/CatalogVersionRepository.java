@@ -0,0 +1,18 @@
+package com.example.springbootweb.repositories;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.springbootweb.entities.models.CatalogVersion;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+
+	@Query("SELECT c.version FROM CatalogVersion c WHERE c.name = :name")
+	Optional<Long> findVersionByName(@Param("name") String name);
+
+}
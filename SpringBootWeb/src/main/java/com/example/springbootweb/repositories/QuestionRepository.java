@@ -1,24 +1,36 @@
 package com.example.springbootweb.repositories;
 
-import com.example.springbootweb.entities.enums.QuestionType;
 import com.example.springbootweb.entities.models.Question;
+import com.example.springbootweb.repositories.readmodels.QuestionReadModelRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import jakarta.persistence.LockModeType;
+
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, UUID>, JpaSpecificationExecutor<Question> {
-    List<Question> findByIsActiveTrue();
+public interface QuestionRepository extends JpaRepository<Question, UUID>, JpaSpecificationExecutor<Question>,
+        QuestionReadModelRepository {
 
     /**
      * Count active questions for analytics
      */
     Long countByIsActiveTrue();
 
-    List<Question> findByContentContainingIgnoreCase(String content);
+    @Query("SELECT q.version FROM Question q WHERE q.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 
-    List<Question> findByQuestionType(QuestionType questionType);
+    /**
+     * Load a question for update. Its version is bumped on commit even if only its
+     * options changed, so the question ETag covers them.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT q FROM Question q WHERE q.id = :id")
+    Optional<Question> findForUpdateById(@Param("id") UUID id);
 }
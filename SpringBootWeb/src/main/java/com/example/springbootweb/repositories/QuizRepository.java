@@ -1,24 +1,43 @@
 package com.example.springbootweb.repositories;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.springbootweb.entities.models.Quiz;
+import com.example.springbootweb.repositories.readmodels.QuizReadModelRepository;
 
-@Repository
-public interface QuizRepository extends JpaRepository<Quiz, UUID>, JpaSpecificationExecutor<Quiz> {
-
-	List<Quiz> findByIsActiveTrue();
+import jakarta.persistence.LockModeType;
 
-	List<Quiz> findByTitleContainingIgnoreCase(String title);
-
-	@Query("SELECT q FROM Quiz q WHERE q.duration BETWEEN :minDuration AND :maxDuration")
-	List<Quiz> findByDurationRange(@Param("minDuration") int minDuration, @Param("maxDuration") int maxDuration);
+@Repository
+public interface QuizRepository
+		extends JpaRepository<Quiz, UUID>, JpaSpecificationExecutor<Quiz>, QuizReadModelRepository {
+
+	/**
+	 * Version of the quiz plus the question, attempt and published version counts shown
+	 * under {@code /api/quizzes/{id}}, which change without the quiz row being updated.
+	 */
+	@Query("""
+			SELECT CONCAT(q.version, '-',
+				(SELECT COUNT(qq) FROM QuizQuestion qq WHERE qq.quizId = q.id), '-',
+				(SELECT COUNT(uq) FROM UserQuiz uq WHERE uq.quizId = q.id), '-',
+				(SELECT COUNT(qv) FROM QuizVersion qv WHERE qv.quizId = q.id))
+			FROM Quiz q WHERE q.id = :id
+			""")
+	Optional<String> findDetailVersionById(@Param("id") UUID id);
+
+	/**
+	 * Load a quiz and lock its row until the end of the transaction, so versions of the
+	 * same quiz are published one at a time.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT q FROM Quiz q WHERE q.id = :id")
+	Optional<Quiz> findForPublishById(@Param("id") UUID id);
 
 }
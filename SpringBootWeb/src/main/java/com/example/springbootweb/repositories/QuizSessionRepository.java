@@ -103,6 +103,20 @@ public interface QuizSessionRepository extends JpaRepository<QuizSession, UUID>,
 	@Query("UPDATE QuizSession qs SET qs.status = :status WHERE qs.id = :id")
 	void updateStatus(@Param("id") UUID id, @Param("status") QuizSessionStatus status);
 
+	/**
+	 * Pin a session started before quiz versioning to a version, unless it already is
+	 */
+	@Modifying
+	@Query("UPDATE QuizSession qs SET qs.quizVersionId = :versionId " + "WHERE qs.id = :id "
+			+ "AND qs.quizVersionId IS NULL")
+	int pinQuizVersion(@Param("id") UUID id, @Param("versionId") UUID versionId);
+
+	/**
+	 * Get the quiz version a session is pinned to
+	 */
+	@Query("SELECT qs.quizVersionId FROM QuizSession qs WHERE qs.id = :id")
+	Optional<UUID> findQuizVersionIdById(@Param("id") UUID id);
+
 	/**
 	 * Count total attempts by user
 	 */
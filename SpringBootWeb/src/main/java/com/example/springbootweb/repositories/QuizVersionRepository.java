@@ -0,0 +1,52 @@
+package com.example.springbootweb.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse;
+import com.example.springbootweb.entities.models.QuizVersion;
+
+@Repository
+public interface QuizVersionRepository extends JpaRepository<QuizVersion, UUID> {
+
+	/**
+	 * Id of the latest published version of a quiz.
+	 */
+	@Query("""
+			SELECT v.id FROM QuizVersion v
+			WHERE v.quizId = :quizId
+			ORDER BY v.versionNumber DESC
+			LIMIT 1
+			""")
+	Optional<UUID> findLatestIdByQuizId(@Param("quizId") UUID quizId);
+
+	@Query("SELECT COALESCE(MAX(v.versionNumber), 0) FROM QuizVersion v WHERE v.quizId = :quizId")
+	int findMaxVersionNumber(@Param("quizId") UUID quizId);
+
+	@Query("SELECT v.snapshot FROM QuizVersion v WHERE v.id = :id")
+	Optional<String> findSnapshotById(@Param("id") UUID id);
+
+	@Query("""
+			SELECT new com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse(
+				v.id, v.quizId, v.versionNumber, v.title, v.duration, v.totalQuestions, v.publishedAt, v.publishedBy)
+			FROM QuizVersion v
+			WHERE v.quizId = :quizId
+			ORDER BY v.versionNumber DESC
+			""")
+	List<QuizVersionResponse> findResponsesByQuizId(@Param("quizId") UUID quizId);
+
+	@Query("""
+			SELECT new com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse(
+				v.id, v.quizId, v.versionNumber, v.title, v.duration, v.totalQuestions, v.publishedAt, v.publishedBy)
+			FROM QuizVersion v
+			WHERE v.id = :id
+			""")
+	Optional<QuizVersionResponse> findResponseById(@Param("id") UUID id);
+
+}
@@ -1,20 +1,34 @@
 package com.example.springbootweb.repositories;
 
 import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.repositories.readmodels.UserReadModelRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>,
+        UserReadModelRepository {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
-    List<User> findByIsActiveTrue();
+    /**
+     * Current token version of an active user; empty for disabled or deleted users.
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.isActive = true")
+    Optional<Long> findActiveTokenVersionById(@Param("id") UUID id);
 
-    List<User> findByEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
-            String email, String firstName, String lastName);
+    /**
+     * Users with their roles fetched in the same query, for lists that show many users
+     * at once (leaderboards).
+     */
+    @EntityGraph(attributePaths = "roles")
+    List<User> findByIdIn(Collection<UUID> ids);
 }
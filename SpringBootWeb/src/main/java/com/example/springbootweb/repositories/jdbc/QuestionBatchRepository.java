@@ -0,0 +1,107 @@
+package com.example.springbootweb.repositories.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.AnswerRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.OptionRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes imported questions with plain JDBC batches instead of the persistence context:
+ * one multi-row statement per table and chunk (the driver rewrites the batch with
+ * {@code reWriteBatchedInserts}), no entity instances and no dirty checking.
+ * <p>
+ * Only new rows are inserted, so the second-level cache never holds stale copies of
+ * them. The {@code search_vector} and {@code catalog_versions} triggers still run.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionBatchRepository {
+
+	private static final String INSERT_QUESTION = """
+			INSERT INTO questions (id, content, question_type, is_active, version)
+			VALUES (?, ?, ?, ?, 0)
+			""";
+
+	private static final String INSERT_OPTION = """
+			INSERT INTO question_options (id, question_id, content, order_index, is_correct, is_active)
+			VALUES (?, ?, ?, ?, ?, true)
+			""";
+
+	private static final String INSERT_ANSWER = """
+			INSERT INTO answers (id, content, is_correct, is_active, question_id, version)
+			VALUES (?, ?, ?, true, ?, 0)
+			""";
+
+	private static final String INSERT_QUIZ_QUESTION = """
+			INSERT INTO quiz_questions (id, quiz_id, question_id, "order")
+			VALUES (?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Highest question position in a quiz, {@code 0} for an empty quiz.
+	 */
+	public int findMaxQuestionOrder(UUID quizId) {
+		Integer order = jdbcTemplate.queryForObject(
+				"SELECT COALESCE(MAX(\"order\"), 0) FROM quiz_questions WHERE quiz_id = ?", Integer.class, quizId);
+		return order != null ? order : 0;
+	}
+
+	/**
+	 * Insert a chunk of validated rows with their options and answers. Must run inside a
+	 * transaction so a failing chunk leaves nothing behind.
+	 * @param quizId quiz to append the questions to, or {@code null}
+	 * @param firstOrder position of the first question in the quiz
+	 */
+	public void insertAll(List<QuestionImportRow> rows, UUID quizId, int firstOrder) {
+		List<Object[]> questions = new ArrayList<>(rows.size());
+		List<Object[]> options = new ArrayList<>();
+		List<Object[]> answers = new ArrayList<>();
+		List<Object[]> quizQuestions = quizId != null ? new ArrayList<>(rows.size()) : List.of();
+
+		int order = firstOrder;
+		for (QuestionImportRow row : rows) {
+			UUID questionId = UUID.randomUUID();
+			questions.add(new Object[] { questionId, row.content(), row.questionType().name(),
+					!Boolean.FALSE.equals(row.isActive()) });
+
+			if (row.options() != null) {
+				int orderIndex = 1;
+				for (OptionRow option : row.options()) {
+					options.add(new Object[] { UUID.randomUUID(), questionId, option.content(), orderIndex++,
+							Boolean.TRUE.equals(option.isCorrect()) });
+				}
+			}
+			if (row.answers() != null) {
+				for (AnswerRow answer : row.answers()) {
+					answers.add(new Object[] { UUID.randomUUID(), answer.content(),
+							!Boolean.FALSE.equals(answer.isCorrect()), questionId });
+				}
+			}
+			if (quizId != null) {
+				quizQuestions.add(new Object[] { UUID.randomUUID(), quizId, questionId, order++ });
+			}
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_QUESTION, questions);
+		if (!options.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_OPTION, options);
+		}
+		if (!answers.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_ANSWER, answers);
+		}
+		if (!quizQuestions.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_QUIZ_QUESTION, quizQuestions);
+		}
+	}
+
+}
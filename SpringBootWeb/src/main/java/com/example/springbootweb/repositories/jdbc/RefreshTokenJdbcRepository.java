@@ -0,0 +1,57 @@
+package com.example.springbootweb.repositories.jdbc;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Refresh token writes that JPA cannot express in a single statement: the login upsert
+ * and the batched purge of expired tokens.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenJdbcRepository {
+
+	/**
+	 * Relies on the unique index on {@code user_id}. The CTE reads the replaced hash
+	 * before the update, so it can be revoked.
+	 */
+	private static final String UPSERT = """
+			WITH previous AS (SELECT token_hash FROM refresh_tokens WHERE user_id = ? FOR UPDATE)
+			INSERT INTO refresh_tokens (id, user_id, token_hash, expiry_date)
+			VALUES (?, ?, ?, ?)
+			ON CONFLICT (user_id) DO UPDATE SET token_hash = EXCLUDED.token_hash, expiry_date = EXCLUDED.expiry_date
+			RETURNING (SELECT token_hash FROM previous)
+			""";
+
+	private static final String DELETE_EXPIRED_BATCH = """
+			DELETE FROM refresh_tokens
+			WHERE id IN (SELECT id FROM refresh_tokens WHERE expiry_date < ? LIMIT ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Store the user's refresh token, replacing the previous one.
+	 * @return hash of the replaced token, or {@code null} if the user had none
+	 */
+	public String upsert(UUID userId, String tokenHash, Instant expiryDate) {
+		return jdbcTemplate.queryForObject(UPSERT, String.class, userId, UUID.randomUUID(), userId, tokenHash,
+				Timestamp.from(expiryDate));
+	}
+
+	/**
+	 * Delete up to {@code limit} tokens that expired before {@code now}, in one short
+	 * statement so the purge never holds many row locks at once.
+	 * @return number of deleted tokens
+	 */
+	public int deleteExpiredBatch(Instant now, int limit) {
+		return jdbcTemplate.update(DELETE_EXPIRED_BATCH, Timestamp.from(now), limit);
+	}
+
+}
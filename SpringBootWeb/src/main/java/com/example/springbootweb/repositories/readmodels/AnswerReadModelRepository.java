@@ -0,0 +1,27 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.answers.AnswerResponse;
+import com.example.springbootweb.entities.dtos.answers.AnswerSummaryResponse;
+import com.example.springbootweb.entities.models.Answer;
+
+/**
+ * Read-only answer queries returning response DTOs directly.
+ */
+public interface AnswerReadModelRepository {
+
+	List<AnswerSummaryResponse> findSummaries(Specification<Answer> spec, Sort sort);
+
+	Page<AnswerSummaryResponse> findSummaries(Specification<Answer> spec, Pageable pageable);
+
+	Optional<AnswerResponse> findResponseById(UUID id);
+
+}
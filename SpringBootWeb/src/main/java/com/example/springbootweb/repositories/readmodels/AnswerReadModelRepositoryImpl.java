@@ -0,0 +1,61 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.answers.AnswerResponse;
+import com.example.springbootweb.entities.dtos.answers.AnswerSummaryResponse;
+import com.example.springbootweb.entities.models.Answer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class AnswerReadModelRepositoryImpl implements AnswerReadModelRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<AnswerSummaryResponse> findSummaries(Specification<Answer> spec, Sort sort) {
+		return ProjectionQueries.list(entityManager, Answer.class, AnswerSummaryResponse.class, this::summary, spec,
+				sort);
+	}
+
+	@Override
+	public Page<AnswerSummaryResponse> findSummaries(Specification<Answer> spec, Pageable pageable) {
+		return ProjectionQueries.page(entityManager, Answer.class, AnswerSummaryResponse.class, this::summary, spec,
+				pageable);
+	}
+
+	@Override
+	public Optional<AnswerResponse> findResponseById(UUID id) {
+		Specification<Answer> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+		return ProjectionQueries
+			.list(entityManager, Answer.class, AnswerResponse.class, this::response, byId, Sort.unsorted())
+			.stream()
+			.findFirst();
+	}
+
+	// ==================== Projections ====================
+
+	private Selection<?>[] summary(Root<Answer> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("content"), root.get("isCorrect"), root.get("isActive"),
+				root.get("questionId") };
+	}
+
+	private Selection<?>[] response(Root<Answer> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("content"), root.get("isCorrect"), root.get("isActive"),
+				root.get("questionId") };
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Runs a {@link Specification} as a constructor-expression query, so rows come back as
+ * read models ({@code SELECT new Dto(...)}) instead of managed entities: nothing is
+ * hydrated, added to the persistence context or dirty checked.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ProjectionQueries {
+
+	/**
+	 * Constructor arguments of the read model, in declaration order.
+	 */
+	@FunctionalInterface
+	interface Projection<E> {
+
+		Selection<?>[] select(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder cb);
+
+	}
+
+	static <E, R> List<R> list(EntityManager entityManager, Class<E> domainClass, Class<R> resultClass,
+			Projection<E> projection, Specification<E> spec, Sort sort) {
+		return query(entityManager, domainClass, resultClass, projection, spec, sort).getResultList();
+	}
+
+	/**
+	 * Offset page of read models; the count query is skipped when the page itself shows
+	 * the total (first page not full, or last page).
+	 */
+	static <E, R> Page<R> page(EntityManager entityManager, Class<E> domainClass, Class<R> resultClass,
+			Projection<E> projection, Specification<E> spec, Pageable pageable) {
+		TypedQuery<R> query = query(entityManager, domainClass, resultClass, projection, spec, pageable.getSort());
+		if (pageable.isPaged()) {
+			query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+			query.setMaxResults(pageable.getPageSize());
+		}
+		return PageableExecutionUtils.getPage(query.getResultList(), pageable,
+				() -> count(entityManager, domainClass, spec));
+	}
+
+	private static <E, R> TypedQuery<R> query(EntityManager entityManager, Class<E> domainClass,
+			Class<R> resultClass, Projection<E> projection, Specification<E> spec, Sort sort) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<R> query = cb.createQuery(resultClass);
+		Root<E> root = query.from(domainClass);
+
+		// Apply the specification first: it may add a relevance ordering of its own
+		Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.select(cb.construct(resultClass, projection.select(root, query, cb)));
+		if (sort.isSorted()) {
+			query.orderBy(QueryUtils.toOrders(sort, root, cb));
+		}
+		return entityManager.createQuery(query);
+	}
+
+	private static <E> long count(EntityManager entityManager, Class<E> domainClass, Specification<E> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<E> root = query.from(domainClass);
+
+		Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.select(cb.count(root));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+}
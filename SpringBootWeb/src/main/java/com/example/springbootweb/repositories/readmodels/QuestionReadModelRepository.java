@@ -0,0 +1,30 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionDetailResponse;
+import com.example.springbootweb.entities.dtos.questions.QuestionSummaryResponse;
+import com.example.springbootweb.entities.models.Question;
+
+/**
+ * Read-only question queries returning response DTOs directly.
+ */
+public interface QuestionReadModelRepository {
+
+	List<QuestionSummaryResponse> findSummaries(Specification<Question> spec, Sort sort);
+
+	Page<QuestionSummaryResponse> findSummaries(Specification<Question> spec, Pageable pageable);
+
+	/**
+	 * Question with its options (ordered by {@code orderIndex}), in two queries.
+	 */
+	Optional<QuestionDetailResponse> findDetailById(UUID id);
+
+}
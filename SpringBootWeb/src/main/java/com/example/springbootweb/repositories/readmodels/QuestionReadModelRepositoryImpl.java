@@ -0,0 +1,69 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.questionoption.QuestionOptionDetailResponse;
+import com.example.springbootweb.entities.dtos.questions.QuestionDetailResponse;
+import com.example.springbootweb.entities.dtos.questions.QuestionSummaryResponse;
+import com.example.springbootweb.entities.models.Question;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class QuestionReadModelRepositoryImpl implements QuestionReadModelRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<QuestionSummaryResponse> findSummaries(Specification<Question> spec, Sort sort) {
+		return ProjectionQueries.list(entityManager, Question.class, QuestionSummaryResponse.class, this::summary,
+				spec, sort);
+	}
+
+	@Override
+	public Page<QuestionSummaryResponse> findSummaries(Specification<Question> spec, Pageable pageable) {
+		return ProjectionQueries.page(entityManager, Question.class, QuestionSummaryResponse.class, this::summary,
+				spec, pageable);
+	}
+
+	@Override
+	public Optional<QuestionDetailResponse> findDetailById(UUID id) {
+		Specification<Question> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+		return ProjectionQueries
+			.list(entityManager, Question.class, QuestionSummaryResponse.class, this::summary, byId, Sort.unsorted())
+			.stream()
+			.findFirst()
+			.map(question -> new QuestionDetailResponse(question.id(), question.content(), question.questionType(),
+					question.isActive(), findOptions(id)));
+	}
+
+	// ==================== Projections ====================
+
+	private Selection<?>[] summary(Root<Question> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("content"), root.get("questionType"),
+				root.get("isActive") };
+	}
+
+	private List<QuestionOptionDetailResponse> findOptions(UUID questionId) {
+		return entityManager.createQuery("""
+				SELECT new com.example.springbootweb.entities.dtos.questionoption.QuestionOptionDetailResponse(
+					o.id, o.content, o.orderIndex, o.isCorrect, o.isActive)
+				FROM QuestionOption o WHERE o.questionId = :questionId ORDER BY o.orderIndex
+				""", QuestionOptionDetailResponse.class)
+			.setParameter("questionId", questionId)
+			.getResultList();
+	}
+
+}
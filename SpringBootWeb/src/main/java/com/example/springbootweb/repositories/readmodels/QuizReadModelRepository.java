@@ -0,0 +1,36 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
+import com.example.springbootweb.entities.dtos.quizzes.QuizSummaryResponse;
+import com.example.springbootweb.entities.models.Quiz;
+
+/**
+ * Read-only quiz queries returning response DTOs directly. Question and attempt counts
+ * are computed by subqueries instead of loading the collections.
+ */
+public interface QuizReadModelRepository {
+
+	List<QuizSummaryResponse> findSummaries(Specification<Quiz> spec, Sort sort);
+
+	Page<QuizSummaryResponse> findSummaries(Specification<Quiz> spec, Pageable pageable);
+
+	Page<QuizDetailResponse> findDetails(Specification<Quiz> spec, Pageable pageable);
+
+	Optional<QuizDetailResponse> findDetailById(UUID id);
+
+	/**
+	 * @return details of the given quizzes, in the order of {@code ids}
+	 */
+	List<QuizDetailResponse> findDetailsByIds(Collection<UUID> ids);
+
+}
@@ -0,0 +1,97 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
+import com.example.springbootweb.entities.dtos.quizzes.QuizSummaryResponse;
+import com.example.springbootweb.entities.models.Quiz;
+import com.example.springbootweb.entities.models.QuizQuestion;
+import com.example.springbootweb.entities.models.UserQuiz;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+public class QuizReadModelRepositoryImpl implements QuizReadModelRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<QuizSummaryResponse> findSummaries(Specification<Quiz> spec, Sort sort) {
+		return ProjectionQueries.list(entityManager, Quiz.class, QuizSummaryResponse.class, this::summary, spec, sort);
+	}
+
+	@Override
+	public Page<QuizSummaryResponse> findSummaries(Specification<Quiz> spec, Pageable pageable) {
+		return ProjectionQueries.page(entityManager, Quiz.class, QuizSummaryResponse.class, this::summary, spec,
+				pageable);
+	}
+
+	@Override
+	public Page<QuizDetailResponse> findDetails(Specification<Quiz> spec, Pageable pageable) {
+		return ProjectionQueries.page(entityManager, Quiz.class, QuizDetailResponse.class, this::detail, spec,
+				pageable);
+	}
+
+	@Override
+	public Optional<QuizDetailResponse> findDetailById(UUID id) {
+		Specification<Quiz> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+		return ProjectionQueries.list(entityManager, Quiz.class, QuizDetailResponse.class, this::detail, byId,
+				Sort.unsorted())
+			.stream()
+			.findFirst();
+	}
+
+	@Override
+	public List<QuizDetailResponse> findDetailsByIds(Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Specification<Quiz> byIds = (root, query, cb) -> root.get("id").in(ids);
+		Map<UUID, QuizDetailResponse> details = ProjectionQueries
+			.list(entityManager, Quiz.class, QuizDetailResponse.class, this::detail, byIds, Sort.unsorted())
+			.stream()
+			.collect(Collectors.toMap(QuizDetailResponse::id, Function.identity()));
+		return ids.stream().map(details::get).filter(Objects::nonNull).toList();
+	}
+
+	// ==================== Projections ====================
+
+	private Selection<?>[] summary(Root<Quiz> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("title"), root.get("duration"),
+				root.get("thumbnailUrl"), root.get("isActive"), root.get("description") };
+	}
+
+	private Selection<?>[] detail(Root<Quiz> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("title"), root.get("description"),
+				root.get("duration"), root.get("thumbnailUrl"), root.get("isActive"),
+				countByQuizId(QuizQuestion.class, root, query, cb), countByQuizId(UserQuiz.class, root, query, cb) };
+	}
+
+	private Expression<Integer> countByQuizId(Class<?> linkClass, Root<Quiz> root, CriteriaQuery<?> query,
+			CriteriaBuilder cb) {
+		Subquery<Long> count = query.subquery(Long.class);
+		Root<?> link = count.from(linkClass);
+		count.select(cb.count(link)).where(cb.equal(link.get("quizId"), root.get("id")));
+		return count.as(Integer.class);
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.roles.RoleDetailResponse;
+import com.example.springbootweb.entities.dtos.roles.RoleSummaryResponse;
+import com.example.springbootweb.entities.models.Role;
+
+/**
+ * Read-only role queries returning response DTOs directly.
+ */
+public interface RoleReadModelRepository {
+
+	List<RoleSummaryResponse> findSummaries(Specification<Role> spec, Sort sort);
+
+	Page<RoleSummaryResponse> findSummaries(Specification<Role> spec, Pageable pageable);
+
+	Optional<RoleDetailResponse> findDetailById(UUID id);
+
+}
@@ -0,0 +1,59 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.roles.RoleDetailResponse;
+import com.example.springbootweb.entities.dtos.roles.RoleSummaryResponse;
+import com.example.springbootweb.entities.models.Role;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class RoleReadModelRepositoryImpl implements RoleReadModelRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<RoleSummaryResponse> findSummaries(Specification<Role> spec, Sort sort) {
+		return ProjectionQueries.list(entityManager, Role.class, RoleSummaryResponse.class, this::summary, spec, sort);
+	}
+
+	@Override
+	public Page<RoleSummaryResponse> findSummaries(Specification<Role> spec, Pageable pageable) {
+		return ProjectionQueries.page(entityManager, Role.class, RoleSummaryResponse.class, this::summary, spec,
+				pageable);
+	}
+
+	@Override
+	public Optional<RoleDetailResponse> findDetailById(UUID id) {
+		Specification<Role> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+		return ProjectionQueries
+			.list(entityManager, Role.class, RoleDetailResponse.class, this::detail, byId, Sort.unsorted())
+			.stream()
+			.findFirst();
+	}
+
+	// ==================== Projections ====================
+
+	private Selection<?>[] summary(Root<Role> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("name"), root.get("isActive") };
+	}
+
+	private Selection<?>[] detail(Root<Role> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("name"), root.get("description"),
+				root.get("isActive") };
+	}
+
+}
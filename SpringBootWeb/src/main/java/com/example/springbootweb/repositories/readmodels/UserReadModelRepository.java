@@ -0,0 +1,28 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.users.UserDetailResponse;
+import com.example.springbootweb.entities.dtos.users.UserSummaryResponse;
+import com.example.springbootweb.entities.models.User;
+
+/**
+ * Read-only user queries returning response DTOs directly. Roles are loaded by one extra
+ * query per result (not per user).
+ */
+public interface UserReadModelRepository {
+
+	List<UserSummaryResponse> findSummaries(Specification<User> spec, Sort sort);
+
+	Page<UserSummaryResponse> findSummaries(Specification<User> spec, Pageable pageable);
+
+	Optional<UserDetailResponse> findDetailById(UUID id);
+
+}
@@ -0,0 +1,124 @@
+package com.example.springbootweb.repositories.readmodels;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.springbootweb.entities.dtos.roles.RoleSummaryResponse;
+import com.example.springbootweb.entities.dtos.users.UserDetailResponse;
+import com.example.springbootweb.entities.dtos.users.UserSummaryResponse;
+import com.example.springbootweb.entities.models.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class UserReadModelRepositoryImpl implements UserReadModelRepository {
+
+	/**
+	 * Upper bound of ids per role lookup, keeps the IN list well below the bind parameter
+	 * limit for unpaged lists.
+	 */
+	private static final int ROLE_LOOKUP_CHUNK = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<UserSummaryResponse> findSummaries(Specification<User> spec, Sort sort) {
+		List<UserRow> rows = ProjectionQueries.list(entityManager, User.class, UserRow.class, this::row, spec, sort);
+		Map<UUID, Set<String>> roles = findRoleNames(rows.stream().map(UserRow::id).toList());
+		return rows.stream().map(row -> row.toSummary(roles.getOrDefault(row.id(), Set.of()))).toList();
+	}
+
+	@Override
+	public Page<UserSummaryResponse> findSummaries(Specification<User> spec, Pageable pageable) {
+		Page<UserRow> rows = ProjectionQueries.page(entityManager, User.class, UserRow.class, this::row, spec,
+				pageable);
+		Map<UUID, Set<String>> roles = findRoleNames(rows.map(UserRow::id).getContent());
+		return rows.map(row -> row.toSummary(roles.getOrDefault(row.id(), Set.of())));
+	}
+
+	@Override
+	public Optional<UserDetailResponse> findDetailById(UUID id) {
+		Specification<User> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+		return ProjectionQueries
+			.list(entityManager, User.class, UserDetailRow.class, this::detailRow, byId, Sort.unsorted())
+			.stream()
+			.findFirst()
+			.map(row -> row.toDetail(findRoles(id)));
+	}
+
+	// ==================== Projections ====================
+
+	private Selection<?>[] row(Root<User> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("firstName"), root.get("lastName"), root.get("email"),
+				root.get("isActive") };
+	}
+
+	private Selection<?>[] detailRow(Root<User> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return new Selection<?>[] { root.get("id"), root.get("firstName"), root.get("lastName"), root.get("email"),
+				root.get("avatar"), root.get("dateOfBirth"), root.get("isActive"), root.get("createdAt") };
+	}
+
+	private Map<UUID, Set<String>> findRoleNames(List<UUID> userIds) {
+		Map<UUID, Set<String>> roles = new HashMap<>();
+		for (int from = 0; from < userIds.size(); from += ROLE_LOOKUP_CHUNK) {
+			List<UUID> chunk = userIds.subList(from, Math.min(from + ROLE_LOOKUP_CHUNK, userIds.size()));
+			entityManager
+				.createQuery("SELECT u.id, r.name FROM User u JOIN u.roles r WHERE u.id IN :ids", Object[].class)
+				.setParameter("ids", chunk)
+				.getResultList()
+				.forEach(row -> roles.computeIfAbsent((UUID) row[0], key -> new HashSet<>()).add((String) row[1]));
+		}
+		return roles;
+	}
+
+	private Set<RoleSummaryResponse> findRoles(UUID userId) {
+		return new HashSet<>(entityManager.createQuery("""
+				SELECT new com.example.springbootweb.entities.dtos.roles.RoleSummaryResponse(r.id, r.name, r.isActive)
+				FROM User u JOIN u.roles r WHERE u.id = :id
+				""", RoleSummaryResponse.class).setParameter("id", userId).getResultList());
+	}
+
+	/**
+	 * User columns of {@link UserSummaryResponse}; roles and the display name are added
+	 * afterwards.
+	 */
+	public record UserRow(UUID id, String firstName, String lastName, String email, Boolean isActive) {
+
+		UserSummaryResponse toSummary(Set<String> roles) {
+			return new UserSummaryResponse(id, firstName, lastName, email, isActive, firstName + " " + lastName,
+					roles);
+		}
+
+	}
+
+	/**
+	 * User columns of {@link UserDetailResponse}.
+	 */
+	public record UserDetailRow(UUID id, String firstName, String lastName, String email, String avatar,
+			LocalDate dateOfBirth, Boolean isActive, LocalDateTime createdAt) {
+
+		UserDetailResponse toDetail(Set<RoleSummaryResponse> roles) {
+			return new UserDetailResponse(id, firstName, lastName, email, avatar, dateOfBirth, isActive, createdAt,
+					roles, firstName + " " + lastName);
+		}
+
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.example.springbootweb.repositories.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Criteria API building blocks for searching the {@code search_vector} column of an
+ * entity table through its GIN index.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FullTextPredicates {
+
+	/**
+	 * Match the {@code search_vector} of {@code root} against a query built by
+	 * {@link FullTextQuery}. A {@code null} query (keyword without any searchable word)
+	 * matches nothing.
+	 * <p>
+	 * When the query is a select without an explicit ordering, results are also ordered
+	 * by relevance (then id, to keep pages stable). Count queries and callers that pass
+	 * their own {@code Sort} are left alone.
+	 */
+	public static Predicate matches(Root<?> root, CriteriaQuery<?> query, CriteriaBuilder cb, String tsQuery) {
+		if (tsQuery == null) {
+			return cb.disjunction();
+		}
+		Expression<Object> id = root.get("id");
+		if (query != null && !Long.class.equals(query.getResultType()) && query.getOrderList().isEmpty()) {
+			query.orderBy(cb.desc(cb.function("fts_rank", Double.class, id, cb.literal(tsQuery))), cb.asc(id));
+		}
+		return cb.isTrue(cb.function("fts_match", Boolean.class, id, cb.literal(tsQuery)));
+	}
+
+}
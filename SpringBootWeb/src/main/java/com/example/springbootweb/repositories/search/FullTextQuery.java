@@ -0,0 +1,54 @@
+package com.example.springbootweb.repositories.search;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Turns free-text user input into a {@code to_tsquery} expression. Only letters and
+ * digits survive, so the result can never be a malformed or injected tsquery.
+ * <p>
+ * Every word becomes a prefix match and all words must be present: {@code "java str"}
+ * becomes {@code java:* & str:*}, which matches "Java Streams".
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FullTextQuery {
+
+	private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+	private static final int MAX_TERMS = 8;
+
+	/**
+	 * Prefix query matching any weight.
+	 * @return the tsquery text, or {@code null} if the keyword contains no searchable
+	 * word
+	 */
+	public static String prefix(String keyword) {
+		return prefix(keyword, "");
+	}
+
+	/**
+	 * Prefix query restricted to the given tsvector weights, e.g. {@code "A"} to match
+	 * only titles in the quiz search vector.
+	 * @return the tsquery text, or {@code null} if the keyword contains no searchable
+	 * word
+	 */
+	public static String prefix(String keyword, String weights) {
+		if (keyword == null || keyword.isBlank()) {
+			return null;
+		}
+		Matcher matcher = WORD.matcher(keyword.toLowerCase(Locale.ROOT));
+		StringJoiner query = new StringJoiner(" & ");
+		int terms = 0;
+		while (matcher.find() && terms < MAX_TERMS) {
+			query.add(matcher.group() + ":*" + weights);
+			terms++;
+		}
+		return terms == 0 ? null : query.toString();
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.example.springbootweb.repositories.search;
+
+import java.util.List;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.metamodel.model.domain.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL search operators used by repositories and specifications, so
+ * they can be written in JPQL and the Criteria API. Loaded by Hibernate through
+ * {@code META-INF/services}.
+ * <ul>
+ * <li>{@code fts_match(id, query)} - {@code search_vector @@ to_tsquery('simple', query)}</li>
+ * <li>{@code fts_rank(id, query)} - {@code ts_rank(search_vector, to_tsquery('simple', query))}</li>
+ * <li>{@code user_search_text(firstName, lastName, email)} - the expression behind the
+ * {@code idx_users_search_trgm} index; it must render exactly like the index definition
+ * for PostgreSQL to use it</li>
+ * <li>{@code trgm_word_match(text, keyword)} - {@code keyword <% text} (pg_trgm word
+ * similarity above {@code pg_trgm.word_similarity_threshold})</li>
+ * <li>{@code trgm_word_similarity(text, keyword)} - {@code word_similarity(keyword, text)}</li>
+ * </ul>
+ * Queries passed to these functions should come from {@link FullTextQuery} and
+ * {@link TrigramQuery}.
+ * <p>
+ * The full-text functions take the id of the entity and read the trigger-maintained
+ * {@code search_vector} column of the same row. The vector is deliberately not mapped on
+ * the entities: a lazy basic attribute needs bytecode enhancement, so a mapped vector
+ * would be loaded with every quiz, question and answer only to be thrown away.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+		BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+		registry.register("fts_match", new SearchVectorFunction("fts_match", "(%s @@ to_tsquery('simple', ",
+				"))", types.resolve(StandardBasicTypes.BOOLEAN)));
+		registry.register("fts_rank", new SearchVectorFunction("fts_rank", "ts_rank(%s, to_tsquery('simple', ",
+				"))", types.resolve(StandardBasicTypes.DOUBLE)));
+
+		registry.registerPattern("user_search_text", "lower(?1 || ' ' || ?2 || ' ' || ?3)",
+				types.resolve(StandardBasicTypes.STRING));
+		registry.registerPattern("trgm_word_match", "(?2 <% ?1)", types.resolve(StandardBasicTypes.BOOLEAN));
+		registry.registerPattern("trgm_word_similarity", "word_similarity(?2, ?1)",
+				types.resolve(StandardBasicTypes.DOUBLE));
+	}
+
+	/**
+	 * Renders {@code prefix + query + suffix}, with {@code %s} in the prefix replaced by
+	 * the {@code search_vector} column of the table the id argument belongs to.
+	 */
+	static class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+		private static final String SEARCH_VECTOR_COLUMN = "search_vector";
+
+		private final String prefix;
+
+		private final String suffix;
+
+		SearchVectorFunction(String name, String prefix, String suffix, BasicType<?> returnType) {
+			super(name, StandardArgumentsValidators.exactly(2), StandardFunctionReturnTypeResolvers.invariant(returnType),
+					StandardFunctionArgumentTypeResolvers.NULL);
+			this.prefix = prefix;
+			this.suffix = suffix;
+		}
+
+		@Override
+		public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+				ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+			ColumnReference id = arguments.getFirst() instanceof Expression expression
+					? expression.getColumnReference() : null;
+			if (id == null || id.getQualifier() == null) {
+				throw new IllegalArgumentException(getName() + " expects the id attribute of the searched entity");
+			}
+			sqlAppender.appendSql(prefix.formatted(id.getQualifier() + "." + SEARCH_VECTOR_COLUMN));
+			arguments.get(1).accept(walker);
+			sqlAppender.appendSql(suffix);
+		}
+
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.example.springbootweb.repositories.search;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Normalizes free-text input for the {@code pg_trgm} based searches. Trigrams are built
+ * from lower-cased alphanumerics only, so dropping everything else except the characters
+ * that commonly appear in e-mail addresses does not change what matches, and keeps the
+ * value safe to render as a literal.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TrigramQuery {
+
+	private static final Pattern UNSUPPORTED = Pattern.compile("[^\\p{L}\\p{N}@._+\\-]+");
+
+	private static final int MAX_LENGTH = 100;
+
+	/**
+	 * @return the normalized keyword, or {@code null} if nothing searchable is left
+	 */
+	public static String normalize(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return null;
+		}
+		String normalized = UNSUPPORTED.matcher(keyword.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+		if (normalized.length() > MAX_LENGTH) {
+			normalized = normalized.substring(0, MAX_LENGTH).trim();
+		}
+		return normalized.isEmpty() ? null : normalized;
+	}
+
+	/**
+	 * {@code LIKE} pattern matching the normalized keyword anywhere. {@code %} never
+	 * survives {@link #normalize}, {@code _} is escaped with {@code \}.
+	 */
+	public static String containsPattern(String normalized) {
+		return "%" + normalized.replace("_", "\\_") + "%";
+	}
+
+}
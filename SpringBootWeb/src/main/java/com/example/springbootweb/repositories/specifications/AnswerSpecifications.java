@@ -8,6 +8,8 @@ import org.springframework.data.jpa.domain.Specification;
 
 import com.example.springbootweb.entities.dtos.answers.AnswerFilter;
 import com.example.springbootweb.entities.models.Answer;
+import com.example.springbootweb.repositories.search.FullTextPredicates;
+import com.example.springbootweb.repositories.search.FullTextQuery;
 
 import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
@@ -23,11 +25,11 @@ public class AnswerSpecifications {
 	// ==================== Basic Field Specifications ====================
 
 	/**
-	 * Filter by content keyword (partial match, case-insensitive)
+	 * Filter by content keyword (full-text, every word as a prefix), ordered by relevance
 	 */
 	public static Specification<Answer> contentContains(String keyword) {
 		return (root, query, cb) -> keyword == null || keyword.isBlank() ? null
-				: cb.like(cb.lower(root.get("content")), "%" + keyword.toLowerCase() + "%");
+				: FullTextPredicates.matches(root, query, cb, FullTextQuery.prefix(keyword));
 	}
 
 	/**
@@ -64,8 +66,8 @@ public class AnswerSpecifications {
 			List<Predicate> predicates = new ArrayList<>();
 
 			if (filter.getContentKeyword() != null && !filter.getContentKeyword().isBlank()) {
-				predicates.add(
-						cb.like(cb.lower(root.get("content")), "%" + filter.getContentKeyword().toLowerCase() + "%"));
+				predicates
+					.add(FullTextPredicates.matches(root, query, cb, FullTextQuery.prefix(filter.getContentKeyword())));
 			}
 
 			if (filter.getQuestionId() != null) {
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.domain.Specification;
 import com.example.springbootweb.entities.dtos.questions.QuestionFilter;
 import com.example.springbootweb.entities.enums.QuestionType;
 import com.example.springbootweb.entities.models.Question;
+import com.example.springbootweb.repositories.search.FullTextPredicates;
+import com.example.springbootweb.repositories.search.FullTextQuery;
 
 import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
@@ -24,11 +26,11 @@ public class QuestionSpecifications {
 	// ==================== Basic Field Specifications ====================
 
 	/**
-	 * Filter by content keyword (partial match, case-insensitive)
+	 * Filter by content keyword (full-text, every word as a prefix), ordered by relevance
 	 */
 	public static Specification<Question> contentContains(String keyword) {
 		return (root, query, cb) -> keyword == null || keyword.isBlank() ? null
-				: cb.like(cb.lower(root.get("content")), "%" + keyword.toLowerCase() + "%");
+				: FullTextPredicates.matches(root, query, cb, FullTextQuery.prefix(keyword));
 	}
 
 	/**
@@ -70,8 +72,8 @@ public class QuestionSpecifications {
 			List<Predicate> predicates = new ArrayList<>();
 
 			if (filter.getContentKeyword() != null && !filter.getContentKeyword().isBlank()) {
-				predicates.add(
-						cb.like(cb.lower(root.get("content")), "%" + filter.getContentKeyword().toLowerCase() + "%"));
+				predicates
+					.add(FullTextPredicates.matches(root, query, cb, FullTextQuery.prefix(filter.getContentKeyword())));
 			}
 
 			if (filter.getQuestionTypes() != null && !filter.getQuestionTypes().isEmpty()) {
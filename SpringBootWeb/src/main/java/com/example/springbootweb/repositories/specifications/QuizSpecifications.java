@@ -7,6 +7,8 @@ import org.springframework.data.jpa.domain.Specification;
 
 import com.example.springbootweb.entities.dtos.quizzes.QuizFilter;
 import com.example.springbootweb.entities.models.Quiz;
+import com.example.springbootweb.repositories.search.FullTextPredicates;
+import com.example.springbootweb.repositories.search.FullTextQuery;
 
 import jakarta.persistence.criteria.Predicate;
 import lombok.AccessLevel;
@@ -19,14 +21,19 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class QuizSpecifications {
 
+	/**
+	 * Weight of the title inside {@code quizzes.search_vector}; the description is B
+	 */
+	public static final String TITLE_WEIGHT = "A";
+
 	// ==================== Basic Field Specifications ====================
 
 	/**
-	 * Filter by title keyword (partial match, case-insensitive)
+	 * Filter by title keyword (full-text, every word as a prefix), ordered by relevance
 	 */
 	public static Specification<Quiz> titleContains(String keyword) {
 		return (root, query, cb) -> keyword == null || keyword.isBlank() ? null
-				: cb.like(cb.lower(root.get("title")), "%" + keyword.toLowerCase() + "%");
+				: FullTextPredicates.matches(root, query, cb, FullTextQuery.prefix(keyword, TITLE_WEIGHT));
 	}
 
 	/**
@@ -83,8 +90,8 @@ public class QuizSpecifications {
 			List<Predicate> predicates = new ArrayList<>();
 
 			if (filter.getTitleKeyword() != null && !filter.getTitleKeyword().isBlank()) {
-				predicates.add(
-						cb.like(cb.lower(root.get("title")), "%" + filter.getTitleKeyword().toLowerCase() + "%"));
+				predicates.add(FullTextPredicates.matches(root, query, cb,
+						FullTextQuery.prefix(filter.getTitleKeyword(), TITLE_WEIGHT)));
 			}
 
 			if (filter.getIsActive() != null) {
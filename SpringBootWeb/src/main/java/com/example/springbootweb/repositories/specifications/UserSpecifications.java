@@ -8,8 +8,13 @@ import org.springframework.data.jpa.domain.Specification;
 
 import com.example.springbootweb.entities.dtos.users.UserFilter;
 import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.repositories.search.TrigramQuery;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -23,17 +28,13 @@ public class UserSpecifications {
 	// ==================== Basic Field Specifications ====================
 
 	/**
-	 * Filter by keyword in firstName, lastName, or email (partial match, case-insensitive)
+	 * Filter by keyword in firstName, lastName, or email (case-insensitive), ordered by
+	 * similarity. With {@code fuzzy} the keyword only has to be similar to a word of the
+	 * name or email (typos are tolerated), otherwise it must appear as a substring.
 	 */
-	public static Specification<User> keywordMatches(String keyword) {
-		return (root, query, cb) -> {
-			if (keyword == null || keyword.isBlank()) {
-				return null;
-			}
-			String pattern = "%" + keyword.toLowerCase() + "%";
-			return cb.or(cb.like(cb.lower(root.get("firstName")), pattern),
-					cb.like(cb.lower(root.get("lastName")), pattern), cb.like(cb.lower(root.get("email")), pattern));
-		};
+	public static Specification<User> keywordMatches(String keyword, boolean fuzzy) {
+		return (root, query, cb) -> keyword == null || keyword.isBlank() ? null
+				: keywordPredicate(root, query, cb, keyword, fuzzy);
 	}
 
 	/**
@@ -71,10 +72,8 @@ public class UserSpecifications {
 			List<Predicate> predicates = new ArrayList<>();
 
 			if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
-				String pattern = "%" + filter.getKeyword().toLowerCase() + "%";
-				predicates.add(cb.or(cb.like(cb.lower(root.get("firstName")), pattern),
-						cb.like(cb.lower(root.get("lastName")), pattern),
-						cb.like(cb.lower(root.get("email")), pattern)));
+				predicates.add(keywordPredicate(root, query, cb, filter.getKeyword(),
+						Boolean.TRUE.equals(filter.getFuzzy())));
 			}
 
 			if (filter.getIsActive() != null) {
@@ -93,4 +92,31 @@ public class UserSpecifications {
 		};
 	}
 
+	// ==================== Helper Methods ====================
+
+	/**
+	 * Both modes search {@code user_search_text(firstName, lastName, email)}, which is
+	 * covered by the {@code idx_users_search_trgm} GIN trigram index: the substring mode
+	 * as a single {@code LIKE}, the fuzzy mode with the {@code <%} word similarity
+	 * operator. Select queries without an explicit ordering are ranked by word similarity
+	 * (then email, to keep pages stable).
+	 */
+	private static Predicate keywordPredicate(Root<User> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+			String keyword, boolean fuzzy) {
+		String normalized = TrigramQuery.normalize(keyword);
+		if (normalized == null) {
+			return cb.disjunction();
+		}
+		Expression<String> searchText = cb.function("user_search_text", String.class, root.get("firstName"),
+				root.get("lastName"), root.get("email"));
+		Expression<String> term = cb.literal(normalized);
+
+		if (query != null && !Long.class.equals(query.getResultType()) && query.getOrderList().isEmpty()) {
+			query.orderBy(cb.desc(cb.function("trgm_word_similarity", Double.class, searchText, term)),
+					cb.asc(root.get("email")));
+		}
+		return fuzzy ? cb.isTrue(cb.function("trgm_word_match", Boolean.class, searchText, term))
+				: cb.like(searchText, TrigramQuery.containsPattern(normalized), '\\');
+	}
+
 }
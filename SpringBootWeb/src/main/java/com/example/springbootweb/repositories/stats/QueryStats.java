@@ -0,0 +1,109 @@
+package com.example.springbootweb.repositories.stats;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL statements run by Hibernate on the current thread between {@link #start()} and
+ * {@link #stop()}: how many, how long they took to execute and how many entities they
+ * loaded. Each distinct statement is counted separately, so a statement repeated once
+ * per row of a previous result (an N+1) stands out in {@link #mostRepeated()}.
+ * <p>
+ * Filled by {@link QueryStatsInspector}, {@link QueryStatsSessionListener} and
+ * {@link QueryStatsIntegrator}. Threads that never called {@link #start()} pay one
+ * {@code ThreadLocal} lookup per statement. Statements run through {@code JdbcTemplate}
+ * are not seen.
+ */
+public final class QueryStats {
+
+	private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, Integer> statementCounts = new HashMap<>();
+
+	private int statements;
+
+	private long executionNanos;
+
+	private long executionStart;
+
+	private long entitiesLoaded;
+
+	private QueryStats() {
+	}
+
+	/**
+	 * Starts counting on the current thread, discarding anything counted before.
+	 */
+	public static QueryStats start() {
+		QueryStats stats = new QueryStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	/**
+	 * Stops counting on the current thread.
+	 * @return what was counted since {@link #start()}, or {@code null} if counting was not
+	 * started
+	 */
+	public static QueryStats stop() {
+		QueryStats stats = CURRENT.get();
+		CURRENT.remove();
+		return stats;
+	}
+
+	static QueryStats current() {
+		return CURRENT.get();
+	}
+
+	void statementPrepared(String sql) {
+		statements++;
+		statementCounts.merge(sql, 1, Integer::sum);
+	}
+
+	void executionStarted() {
+		executionStart = System.nanoTime();
+	}
+
+	void executionEnded() {
+		if (executionStart != 0) {
+			executionNanos += System.nanoTime() - executionStart;
+			executionStart = 0;
+		}
+	}
+
+	void entityLoaded() {
+		entitiesLoaded++;
+	}
+
+	public int statements() {
+		return statements;
+	}
+
+	public Duration executionTime() {
+		return Duration.ofNanos(executionNanos);
+	}
+
+	public long entitiesLoaded() {
+		return entitiesLoaded;
+	}
+
+	/**
+	 * The statement prepared the most times, if any ran.
+	 */
+	public Optional<RepeatedStatement> mostRepeated() {
+		return statementCounts.entrySet()
+			.stream()
+			.max(Map.Entry.comparingByValue())
+			.map(entry -> new RepeatedStatement(entry.getKey(), entry.getValue()));
+	}
+
+	/**
+	 * @param sql the statement, with {@code ?} placeholders
+	 * @param count times it was prepared
+	 */
+	public record RepeatedStatement(String sql, int count) {
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.example.springbootweb.repositories.stats;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares into the current thread's
+ * {@link QueryStats}. Registered as {@code hibernate.session_factory.statement_inspector}
+ * by {@link com.example.springbootweb.config.QueryStatsConfig}.
+ */
+public class QueryStatsInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		QueryStats stats = QueryStats.current();
+		if (stats != null) {
+			stats.statementPrepared(sql);
+		}
+		return sql;
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.example.springbootweb.repositories.stats;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+
+/**
+ * Counts the entities loaded into the current thread's {@link QueryStats}, the rows a
+ * request actually turned into objects. Loaded by Hibernate through
+ * {@code META-INF/services}.
+ */
+public class QueryStatsIntegrator implements Integrator {
+
+	@Override
+	public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory) {
+		sessionFactory.getServiceRegistry()
+			.requireService(EventListenerRegistry.class)
+			.appendListeners(EventType.POST_LOAD, new EntityLoadCounter());
+	}
+
+	private static final class EntityLoadCounter implements PostLoadEventListener {
+
+		@Override
+		public void onPostLoad(PostLoadEvent event) {
+			QueryStats stats = QueryStats.current();
+			if (stats != null) {
+				stats.entityLoaded();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.example.springbootweb.repositories.stats;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds the JDBC execution time of statements and batches to the current thread's
+ * {@link QueryStats}. Hibernate creates one per session from
+ * {@code hibernate.session.events.auto}, so it must keep its public no-arg constructor.
+ */
+public class QueryStatsSessionListener implements SessionEventListener {
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		QueryStats stats = QueryStats.current();
+		if (stats != null) {
+			stats.executionStarted();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		QueryStats stats = QueryStats.current();
+		if (stats != null) {
+			stats.executionEnded();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		jdbcExecuteStatementStart();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		jdbcExecuteStatementEnd();
+	}
+
+}
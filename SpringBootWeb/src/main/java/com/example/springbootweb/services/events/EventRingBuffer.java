@@ -0,0 +1,150 @@
+package com.example.springbootweb.services.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer ring buffer where every registered cursor sees every event.
+ * <p>
+ * Producers claim a sequence with a CAS on {@code claimed} and mark the slot readable by
+ * writing that sequence into {@code published}; nothing here takes a lock. A claim fails
+ * instead of overwriting when the slowest cursor is a whole buffer behind, which is what
+ * gives the pipeline its backpressure.
+ */
+public class EventRingBuffer<E> {
+
+	private final Object[] entries;
+
+	private final AtomicLongArray published;
+
+	private final int mask;
+
+	private final AtomicLong claimed = new AtomicLong(-1);
+
+	private final List<Cursor> cursors = new CopyOnWriteArrayList<>();
+
+	/** Cached minimum of all cursors, refreshed only when a claim looks like it would wrap. */
+	private volatile long gatingSequence = -1;
+
+	public EventRingBuffer(int requestedCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1;
+		this.entries = new Object[capacity];
+		this.published = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			published.set(i, -1);
+		}
+		this.mask = capacity - 1;
+	}
+
+	public int capacity() {
+		return entries.length;
+	}
+
+	/**
+	 * Registers a new reader starting after the last claimed sequence. Readers should be
+	 * registered before producers start, otherwise they only see events claimed after
+	 * registration.
+	 */
+	public Cursor newCursor() {
+		Cursor cursor = new Cursor(claimed.get());
+		cursors.add(cursor);
+		return cursor;
+	}
+
+	public void removeCursor(Cursor cursor) {
+		cursors.remove(cursor);
+	}
+
+	/**
+	 * Tries to publish an event without waiting.
+	 * @return {@code false} if the buffer is full for the slowest reader
+	 */
+	public boolean tryPublish(E event) {
+		long sequence = tryClaim();
+		if (sequence < 0) {
+			return false;
+		}
+		entries[index(sequence)] = event;
+		published.set(index(sequence), sequence);
+		return true;
+	}
+
+	/** Highest sequence claimed by a producer; it may not be readable yet. */
+	public long claimedSequence() {
+		return claimed.get();
+	}
+
+	/**
+	 * Copies up to {@code maxBatch} readable events following the cursor into
+	 * {@code batch}. The cursor is not moved; call {@link Cursor#commit(long)} once the
+	 * batch has been handled so producers can reuse the slots.
+	 * @return the sequence of the last event copied, or the cursor position if nothing was
+	 * readable
+	 */
+	@SuppressWarnings("unchecked")
+	public long poll(Cursor cursor, int maxBatch, List<E> batch) {
+		long sequence = cursor.get();
+		long limit = sequence + maxBatch;
+		while (sequence < limit) {
+			long next = sequence + 1;
+			if (published.get(index(next)) != next) {
+				break;
+			}
+			batch.add((E) entries[index(next)]);
+			sequence = next;
+		}
+		return sequence;
+	}
+
+	private long tryClaim() {
+		while (true) {
+			long current = claimed.get();
+			long next = current + 1;
+			long wrapPoint = next - entries.length;
+			if (wrapPoint > gatingSequence) {
+				long minimum = minimumCursor(current);
+				gatingSequence = minimum;
+				if (wrapPoint > minimum) {
+					return -1;
+				}
+			}
+			if (claimed.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+
+	private long minimumCursor(long fallback) {
+		long minimum = fallback;
+		for (Cursor cursor : cursors) {
+			minimum = Math.min(minimum, cursor.get());
+		}
+		return minimum;
+	}
+
+	private int index(long sequence) {
+		return (int) (sequence & mask);
+	}
+
+	/** Position of one reader: the sequence of the last event it has finished with. */
+	public static final class Cursor {
+
+		private final AtomicLong sequence;
+
+		private Cursor(long initial) {
+			this.sequence = new AtomicLong(initial);
+		}
+
+		public long get() {
+			return sequence.get();
+		}
+
+		public void commit(long value) {
+			sequence.set(value);
+		}
+
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.example.springbootweb.services.events;
+
+import java.util.List;
+
+import com.example.springbootweb.entities.events.QuizSessionEvent;
+
+/**
+ * Subscriber of committed quiz session events. Every bean implementing this interface
+ * gets its own reader thread and position in the event ring buffer, so a slow consumer
+ * never delays the others - it only shows up as lag.
+ */
+public interface SessionEventConsumer {
+
+	/**
+	 * Stable name used for the reader thread and the {@code consumer} metric tag.
+	 */
+	String name();
+
+	/**
+	 * Handles a batch of events in publication order. Exceptions are logged and the batch
+	 * is skipped; the pipeline does not retry.
+	 */
+	void onEvents(List<QuizSessionEvent> events);
+
+}
@@ -0,0 +1,186 @@
+package com.example.springbootweb.services.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.example.springbootweb.entities.events.QuizSessionEvent;
+import com.example.springbootweb.entities.events.SessionEventProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Owns the session event ring buffer and one reader thread per
+ * {@link SessionEventConsumer}. Readers drain the buffer in batches of up to
+ * {@code app.session-events.max-batch-size}; publishers never wait longer than the
+ * configured overflow strategy allows.
+ */
+@Component
+public class SessionEventPipeline implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(SessionEventPipeline.class);
+
+	private final SessionEventProperties properties;
+
+	private final List<SessionEventConsumer> consumers;
+
+	private final MeterRegistry meterRegistry;
+
+	private final EventRingBuffer<QuizSessionEvent> ringBuffer;
+
+	private final Counter publishedCounter;
+
+	private final Counter droppedCounter;
+
+	private final List<Worker> workers = new ArrayList<>();
+
+	private volatile boolean running;
+
+	public SessionEventPipeline(SessionEventProperties properties, List<SessionEventConsumer> consumers,
+			MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.consumers = consumers;
+		this.meterRegistry = meterRegistry;
+		this.ringBuffer = new EventRingBuffer<>(properties.bufferSize());
+		this.publishedCounter = Counter.builder("quiz.session.events.published")
+			.description("Session events accepted by the pipeline")
+			.register(meterRegistry);
+		this.droppedCounter = Counter.builder("quiz.session.events.dropped")
+			.description("Session events dropped because the slowest consumer was a full buffer behind")
+			.register(meterRegistry);
+		Gauge.builder("quiz.session.events.buffer.capacity", ringBuffer, EventRingBuffer::capacity)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Hands a committed event to all consumers. With no consumers registered this is
+	 * effectively free: the buffer never fills and nothing reads it.
+	 */
+	public void publish(QuizSessionEvent event) {
+		if (ringBuffer.tryPublish(event)) {
+			publishedCounter.increment();
+			return;
+		}
+		if (properties.overflowStrategy() == SessionEventProperties.OverflowStrategy.BLOCK
+				&& publishWithinTimeout(event)) {
+			publishedCounter.increment();
+			return;
+		}
+		droppedCounter.increment();
+		log.warn("Session event buffer full, dropped {} for session {}", event.getClass().getSimpleName(),
+				event.sessionId());
+	}
+
+	private boolean publishWithinTimeout(QuizSessionEvent event) {
+		long deadline = System.nanoTime() + properties.publishTimeout().toNanos();
+		while (System.nanoTime() < deadline) {
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+			if (ringBuffer.tryPublish(event)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void start() {
+		for (SessionEventConsumer consumer : consumers) {
+			Worker worker = new Worker(consumer, ringBuffer.newCursor());
+			Gauge.builder("quiz.session.events.lag", worker, Worker::lag)
+				.description("Events published but not yet handled by the consumer")
+				.tag("consumer", consumer.name())
+				.register(meterRegistry);
+			workers.add(worker);
+		}
+		running = true;
+		workers.forEach(Worker::start);
+		log.info("Session event pipeline started with {} consumer(s), buffer size {}", workers.size(),
+				ringBuffer.capacity());
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		for (Worker worker : workers) {
+			LockSupport.unpark(worker.thread);
+			try {
+				worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			ringBuffer.removeCursor(worker.cursor);
+		}
+		workers.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private final class Worker implements Runnable {
+
+		private final SessionEventConsumer consumer;
+
+		private final EventRingBuffer.Cursor cursor;
+
+		private final Counter failures;
+
+		private final Thread thread;
+
+		private Worker(SessionEventConsumer consumer, EventRingBuffer.Cursor cursor) {
+			this.consumer = consumer;
+			this.cursor = cursor;
+			this.failures = Counter.builder("quiz.session.events.consumer.failures")
+				.tag("consumer", consumer.name())
+				.register(meterRegistry);
+			this.thread = Thread.ofPlatform().name("session-events-" + consumer.name()).daemon().unstarted(this);
+		}
+
+		private void start() {
+			thread.start();
+		}
+
+		private double lag() {
+			return Math.max(0, ringBuffer.claimedSequence() - cursor.get());
+		}
+
+		@Override
+		public void run() {
+			List<QuizSessionEvent> batch = new ArrayList<>(properties.maxBatchSize());
+			long idleNanos = properties.idleWait().toNanos();
+			// Keep draining after stop() so events committed during shutdown are not lost
+			while (running || ringBuffer.claimedSequence() > cursor.get()) {
+				long last = ringBuffer.poll(cursor, properties.maxBatchSize(), batch);
+				if (batch.isEmpty()) {
+					if (!running) {
+						break;
+					}
+					LockSupport.parkNanos(idleNanos);
+					continue;
+				}
+				try {
+					consumer.onEvents(List.copyOf(batch));
+				}
+				catch (Exception e) {
+					failures.increment();
+					log.error("Session event consumer {} failed on a batch of {} event(s)", consumer.name(),
+							batch.size(), e);
+				}
+				cursor.commit(last);
+				batch.clear();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.example.springbootweb.services.events;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.springbootweb.entities.events.QuizSessionEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Defers session events until the surrounding transaction commits, so consumers never
+ * observe state that was rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionEventPublisher {
+
+	private final SessionEventPipeline pipeline;
+
+	public void publishAfterCommit(QuizSessionEvent event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			pipeline.publish(event);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				pipeline.publish(event);
+			}
+		});
+	}
+
+}
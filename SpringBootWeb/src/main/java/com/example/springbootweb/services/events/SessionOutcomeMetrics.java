@@ -0,0 +1,95 @@
+package com.example.springbootweb.services.events;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.springbootweb.entities.events.QuizSessionEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Live exam activity from committed session events: sessions started, finished (passed
+ * or not) and timed out, answers submitted (correct or not) and the score distribution
+ * of finished sessions. Counted off the request path, so a busy exam costs the
+ * submitting requests nothing extra.
+ * <p>
+ * Meters are not tagged by quiz or user to keep their cardinality fixed.
+ */
+@Component
+public class SessionOutcomeMetrics implements SessionEventConsumer {
+
+	private final Counter started;
+
+	private final Counter passed;
+
+	private final Counter failed;
+
+	private final Counter timedOut;
+
+	private final Counter correctAnswers;
+
+	private final Counter wrongAnswers;
+
+	private final DistributionSummary scores;
+
+	public SessionOutcomeMetrics(MeterRegistry meterRegistry) {
+		this.started = Counter.builder("quiz.sessions.started")
+			.description("Quiz sessions started")
+			.register(meterRegistry);
+		this.passed = finished(meterRegistry, "passed");
+		this.failed = finished(meterRegistry, "failed");
+		this.timedOut = finished(meterRegistry, "timed_out");
+		this.correctAnswers = answers(meterRegistry, true);
+		this.wrongAnswers = answers(meterRegistry, false);
+		this.scores = DistributionSummary.builder("quiz.sessions.score")
+			.description("Score of submitted and timed out sessions")
+			.serviceLevelObjectives(25, 50, 75, 90)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String name() {
+		return "outcome-metrics";
+	}
+
+	@Override
+	public void onEvents(List<QuizSessionEvent> events) {
+		for (QuizSessionEvent event : events) {
+			switch (event) {
+				case QuizSessionEvent.SessionStarted _ -> started.increment();
+				case QuizSessionEvent.AnswerSubmitted submitted ->
+					(Boolean.TRUE.equals(submitted.isCorrect()) ? correctAnswers : wrongAnswers).increment();
+				case QuizSessionEvent.QuizSubmitted submitted -> {
+					(Boolean.TRUE.equals(submitted.isPassed()) ? passed : failed).increment();
+					if (submitted.score() != null) {
+						scores.record(submitted.score().doubleValue());
+					}
+				}
+				case QuizSessionEvent.SessionTimedOut timedOutEvent -> {
+					timedOut.increment();
+					if (timedOutEvent.score() != null) {
+						scores.record(timedOutEvent.score().doubleValue());
+					}
+				}
+			}
+		}
+	}
+
+	private static Counter finished(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder("quiz.sessions.finished")
+			.description("Quiz sessions submitted or timed out")
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	private static Counter answers(MeterRegistry meterRegistry, boolean correct) {
+		return Counter.builder("quiz.answers.submitted")
+			.description("Answers submitted in quiz sessions")
+			.tag("correct", String.valueOf(correct))
+			.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.example.springbootweb.services.executors;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size worker pool whose waiting tasks are ordered by priority, then by submission
+ * order. Unlike a plain {@link PriorityBlockingQueue} pool the number of waiting tasks is
+ * capped, and {@link #trySubmit(int, Runnable)} reports a full queue instead of growing
+ * without bound.
+ */
+public class BoundedPriorityExecutor {
+
+	private final ThreadPoolExecutor executor;
+
+	private final int queueCapacity;
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	public BoundedPriorityExecutor(String threadNamePrefix, int threads, int queueCapacity) {
+		AtomicInteger threadCounter = new AtomicInteger();
+		this.queueCapacity = queueCapacity;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new PriorityBlockingQueue<>(), runnable -> Thread.ofPlatform()
+					.name(threadNamePrefix + threadCounter.incrementAndGet())
+					.daemon()
+					.unstarted(runnable));
+	}
+
+	/**
+	 * Queues a task.
+	 * @param priority lower values run first
+	 * @return {@code false} if the queue is already at capacity
+	 */
+	public boolean trySubmit(int priority, Runnable task) {
+		if (pending.incrementAndGet() > queueCapacity) {
+			pending.decrementAndGet();
+			return false;
+		}
+		executor.execute(new PrioritizedTask(priority, sequence.getAndIncrement(), task));
+		return true;
+	}
+
+	/** Tasks accepted but not yet picked up by a worker. */
+	public int pendingTasks() {
+		return pending.get();
+	}
+
+	public int activeTasks() {
+		return executor.getActiveCount();
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+		private final int priority;
+
+		private final long sequence;
+
+		private final Runnable delegate;
+
+		private PrioritizedTask(int priority, long sequence, Runnable delegate) {
+			this.priority = priority;
+			this.sequence = sequence;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void run() {
+			pending.decrementAndGet();
+			delegate.run();
+		}
+
+		@Override
+		public int compareTo(PrioritizedTask other) {
+			int byPriority = Integer.compare(priority, other.priority);
+			return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+		}
+
+	}
+
+}
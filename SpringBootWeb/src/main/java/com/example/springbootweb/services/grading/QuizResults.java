@@ -0,0 +1,101 @@
+package com.example.springbootweb.services.grading;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionResultResponse;
+import com.example.springbootweb.entities.models.QuizSession;
+import com.example.springbootweb.entities.models.SessionAnswer;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.AnswerSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.QuestionSnapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * The CPU-bound part of grading a session and building its result, kept free of
+ * repositories so it can be benchmarked on its own (see the {@code benchmarks} module).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QuizResults {
+
+	/**
+	 * Sets the correct/answered counts, points earned and percentage score of the
+	 * session from its answers.
+	 */
+	public static void applyFinalScore(QuizSession session, List<SessionAnswer> answers) {
+		int correct = 0;
+		BigDecimal pointsEarned = BigDecimal.ZERO;
+
+		for (SessionAnswer answer : answers) {
+			if (Boolean.TRUE.equals(answer.getIsCorrect())) {
+				correct++;
+				pointsEarned = pointsEarned
+					.add(answer.getPointsAwarded() != null ? answer.getPointsAwarded() : BigDecimal.ZERO);
+			}
+		}
+
+		session.setCorrectAnswers(correct);
+		session.setAnsweredQuestions(answers.size());
+		session.setPointsEarned(pointsEarned);
+
+		// Calculate percentage score
+		if (session.getTotalQuestions() > 0) {
+			BigDecimal score = BigDecimal.valueOf(correct)
+				.divide(BigDecimal.valueOf(session.getTotalQuestions()), 4, RoundingMode.HALF_UP)
+				.multiply(BigDecimal.valueOf(100))
+				.setScale(2, RoundingMode.HALF_UP);
+			session.setScore(score);
+		}
+	}
+
+	/**
+	 * One result per question of the quiz version, in quiz order, with the session's
+	 * answer (if any), the correct answer and all active options.
+	 */
+	public static List<QuizSessionResultResponse.AnswerResultResponse> answerResults(QuizSnapshot quiz,
+			List<SessionAnswer> sessionAnswers, BigDecimal pointsPerQuestion) {
+		List<QuizSessionResultResponse.AnswerResultResponse> answerResults = new ArrayList<>();
+
+		for (QuestionSnapshot question : quiz.questions()) {
+			SessionAnswer sa = sessionAnswers.stream()
+				.filter(a -> a.getQuestionId().equals(question.id()))
+				.findFirst()
+				.orElse(null);
+
+			// Find correct answer
+			AnswerSnapshot correctAnswer = question.answers()
+				.stream()
+				.filter(AnswerSnapshot::isCorrect)
+				.findFirst()
+				.orElse(null);
+
+			// Find selected answer
+			AnswerSnapshot selectedAnswer = sa != null && sa.getAnswerId() != null
+					? question.findAnswer(sa.getAnswerId()).orElse(null) : null;
+
+			// All options
+			List<QuizSessionResultResponse.AnswerOption> allOptions = question.answers()
+				.stream()
+				.filter(AnswerSnapshot::isActive)
+				.map(a -> new QuizSessionResultResponse.AnswerOption(a.id(), a.content(), a.isCorrect(),
+						sa != null && a.id().equals(sa.getAnswerId())))
+				.toList();
+
+			answerResults.add(new QuizSessionResultResponse.AnswerResultResponse(question.id(),
+					question.content(), question.questionType().name(), sa != null ? sa.getAnswerId() : null,
+					selectedAnswer != null ? selectedAnswer.content() : null,
+					correctAnswer != null ? correctAnswer.id() : null,
+					correctAnswer != null ? correctAnswer.content() : null, sa != null ? sa.getTextResponse() : null,
+					sa != null && Boolean.TRUE.equals(sa.getIsCorrect()),
+					sa != null ? sa.getPointsAwarded() : BigDecimal.ZERO, pointsPerQuestion,
+					sa != null ? sa.getTimeSpentSeconds() : 0, sa != null && Boolean.TRUE.equals(sa.getIsReviewed()),
+					sa != null ? sa.getReviewerFeedback() : null, allOptions));
+		}
+		return answerResults;
+	}
+
+}
@@ -0,0 +1,287 @@
+package com.example.springbootweb.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import com.example.springbootweb.entities.analytics.AnalyticsReportProperties;
+import com.example.springbootweb.entities.dtos.analytics.CreateReportJobRequest;
+import com.example.springbootweb.entities.dtos.analytics.ReportJobResponse;
+import com.example.springbootweb.entities.enums.ReportJobStatus;
+import com.example.springbootweb.entities.enums.ReportPriority;
+import com.example.springbootweb.entities.enums.ReportType;
+import com.example.springbootweb.entities.models.AnalyticsReportJob;
+import com.example.springbootweb.exceptions.BadRequestException;
+import com.example.springbootweb.exceptions.ResourceNotFoundException;
+import com.example.springbootweb.exceptions.TooManyRequestsException;
+import com.example.springbootweb.repositories.AnalyticsReportJobRepository;
+import com.example.springbootweb.repositories.QuestionRepository;
+import com.example.springbootweb.repositories.QuizRepository;
+import com.example.springbootweb.repositories.UserRepository;
+import com.example.springbootweb.services.executors.BoundedPriorityExecutor;
+import com.example.springbootweb.services.interfaces.IAnalyticsReportService;
+import com.example.springbootweb.services.interfaces.IAnalyticsService;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Runs analytics reports on {@code analyticsReportExecutor} instead of the request
+ * thread. Each job row is written in its own short transaction (queued, running,
+ * finished) so pollers see progress while the report is being computed.
+ * <p>
+ * Jobs live in the executor of the instance that queued them. Each instance keeps a
+ * heartbeat on its unfinished jobs; on restart it fails its own leftovers, and any
+ * instance fails jobs whose owner stopped beating, so rolling deploys and scale-downs do
+ * not touch jobs other live instances are still running.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsReportService implements IAnalyticsReportService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AnalyticsReportService.class);
+
+	private static final long RETRY_AFTER_SECONDS = 30;
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	private static final Set<ReportJobStatus> UNFINISHED = EnumSet.of(ReportJobStatus.QUEUED,
+			ReportJobStatus.RUNNING);
+
+	private final AnalyticsReportJobRepository jobRepository;
+
+	private final IAnalyticsService analyticsService;
+
+	private final QuizRepository quizRepository;
+
+	private final UserRepository userRepository;
+
+	private final QuestionRepository questionRepository;
+
+	private final BoundedPriorityExecutor analyticsReportExecutor;
+
+	private final AnalyticsReportProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Jobs of this instance created earlier belong to a previous run.
+	 */
+	private final LocalDateTime startedAt = LocalDateTime.now();
+
+	private volatile boolean previousRunFailed;
+
+	/**
+	 * Queued or running job per report and requester, used to hand out the same job for
+	 * identical requests.
+	 */
+	private final Map<ReportKey, UUID> inFlight = new ConcurrentHashMap<>();
+
+	// ==================== Job API ====================
+
+	@Override
+	public ReportJobResponse submitReport(CreateReportJobRequest request, UUID userId) {
+		ReportKey key = new ReportKey(request.reportType(), request.targetId(), userId);
+		UUID existing = inFlight.get(key);
+		if (existing != null) {
+			LOG.debug("Reusing in-flight report job {} for {}", existing, key);
+			return getReportJob(existing, userId);
+		}
+
+		validateTarget(request.reportType(), request.targetId());
+
+		ReportPriority priority = request.priority() != null ? request.priority() : ReportPriority.NORMAL;
+		AnalyticsReportJob job = jobRepository.save(AnalyticsReportJob.builder()
+			.reportType(request.reportType())
+			.targetId(request.targetId())
+			.priority(priority)
+			.requestedBy(userId)
+			.ownerInstance(properties.instanceId())
+			.heartbeatAt(LocalDateTime.now())
+			.build());
+
+		UUID winner = inFlight.putIfAbsent(key, job.getId());
+		if (winner != null) {
+			// Lost a race against an identical request submitted at the same time
+			jobRepository.delete(job);
+			return getReportJob(winner, userId);
+		}
+
+		if (!analyticsReportExecutor.trySubmit(priority.ordinal(), () -> runReport(job.getId(), key))) {
+			inFlight.remove(key, job.getId());
+			jobRepository.delete(job);
+			throw new TooManyRequestsException("Report queue is full, please retry later", RETRY_AFTER_SECONDS);
+		}
+
+		LOG.info("Queued {} report {} for target {}", request.reportType(), job.getId(), request.targetId());
+		return getReportJob(job.getId(), userId);
+	}
+
+	@Override
+	public ReportJobResponse getReportJob(UUID jobId, UUID requesterId) {
+		return jobRepository.findResponseById(jobId)
+			// Someone else's job is reported as missing, so job ids cannot be probed
+			.filter(job -> requesterId == null || Objects.equals(job.requestedBy(), requesterId))
+			.orElseThrow(() -> new ResourceNotFoundException("Report job not found: " + jobId));
+	}
+
+	@Override
+	public String getReportResult(UUID jobId, UUID requesterId) {
+		ReportJobResponse job = getReportJob(jobId, requesterId);
+		if (job.status() != ReportJobStatus.COMPLETED) {
+			throw new BadRequestException("Report is not available, current status: " + job.status());
+		}
+		if (job.expiresAt() != null && job.expiresAt().isBefore(LocalDateTime.now())) {
+			throw new ResourceNotFoundException("Report result has expired: " + jobId);
+		}
+		return jobRepository.findResultById(jobId)
+			.orElseThrow(() -> new ResourceNotFoundException("Report job not found: " + jobId));
+	}
+
+	// ==================== Maintenance ====================
+
+	@Override
+	@Scheduled(fixedDelayString = "${app.analytics.reports.purge-interval:PT10M}")
+	public int purgeExpiredReports() {
+		int deleted = jobRepository.deleteExpired(LocalDateTime.now());
+		if (deleted > 0) {
+			LOG.info("Purged {} expired analytics report(s)", deleted);
+		}
+		return deleted;
+	}
+
+	/**
+	 * Fails the leftovers of the previous run and of dead instances. Does not stop the
+	 * application from starting when the database is unreachable (e.g. the build-time
+	 * OpenAPI run); the heartbeat tries again.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void failAbandonedReports() {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			failPreviousRunReports(now);
+			failStaleReports(now);
+		}
+		catch (DataAccessException | TransactionException e) {
+			LOG.warn("Could not check for abandoned report jobs, retrying with the next heartbeat: {}",
+					e.getMessage());
+		}
+	}
+
+	@Scheduled(initialDelayString = "${app.analytics.reports.heartbeat-interval:PT30S}",
+			fixedDelayString = "${app.analytics.reports.heartbeat-interval:PT30S}")
+	public void heartbeat() {
+		LocalDateTime now = LocalDateTime.now();
+		try {
+			if (!previousRunFailed) {
+				failPreviousRunReports(now);
+			}
+			jobRepository.heartbeat(properties.instanceId(), UNFINISHED, now);
+			failStaleReports(now);
+		}
+		catch (DataAccessException | TransactionException e) {
+			LOG.warn("Report job heartbeat failed: {}", e.getMessage());
+		}
+	}
+
+	// ==================== Helper Methods ====================
+
+	private void failPreviousRunReports(LocalDateTime now) {
+		int failed = jobRepository.failOwned(properties.instanceId(), UNFINISHED, startedAt,
+				"Interrupted by application restart", now, now.plus(properties.resultTtl()));
+		previousRunFailed = true;
+		if (failed > 0) {
+			LOG.warn("Marked {} report job(s) from a previous run of {} as failed", failed,
+					properties.instanceId());
+		}
+	}
+
+	private void failStaleReports(LocalDateTime now) {
+		int failed = jobRepository.failStale(UNFINISHED, now.minus(properties.staleAfter()),
+				"Interrupted, the instance running it is gone", now, now.plus(properties.resultTtl()));
+		if (failed > 0) {
+			LOG.warn("Marked {} report job(s) of instances without heartbeat as failed", failed);
+		}
+	}
+
+	private void runReport(UUID jobId, ReportKey key) {
+		try {
+			AnalyticsReportJob job = jobRepository.findById(jobId).orElse(null);
+			if (job == null) {
+				return;
+			}
+			if (job.getStatus() != ReportJobStatus.QUEUED) {
+				// Failed as stale while it waited for a worker
+				return;
+			}
+			job.setStatus(ReportJobStatus.RUNNING);
+			job.setStartedAt(LocalDateTime.now());
+			job.setHeartbeatAt(job.getStartedAt());
+			job = jobRepository.save(job);
+
+			try {
+				job.setResult(objectMapper.writeValueAsString(computeReport(key)));
+				job.setStatus(ReportJobStatus.COMPLETED);
+			}
+			catch (Exception e) {
+				LOG.error("Report job {} failed", jobId, e);
+				job.setStatus(ReportJobStatus.FAILED);
+				job.setErrorMessage(truncate(e.getMessage()));
+			}
+			LocalDateTime finishedAt = LocalDateTime.now();
+			job.setFinishedAt(finishedAt);
+			job.setExpiresAt(finishedAt.plus(properties.resultTtl()));
+			jobRepository.save(job);
+			LOG.info("Report job {} finished with status {}", jobId, job.getStatus());
+		}
+		catch (Exception e) {
+			LOG.error("Could not update report job {}", jobId, e);
+		}
+		finally {
+			inFlight.remove(key, jobId);
+		}
+	}
+
+	private Object computeReport(ReportKey key) {
+		return switch (key.reportType()) {
+			case QUIZ_STATISTICS -> analyticsService.getQuizStatistics(key.targetId());
+			case USER_PERFORMANCE -> analyticsService.getUserPerformance(key.targetId());
+			case ITEM_ANALYSIS -> analyticsService.getQuestionDifficultyAnalysis(key.targetId());
+		};
+	}
+
+	private void validateTarget(ReportType reportType, UUID targetId) {
+		boolean exists = switch (reportType) {
+			case QUIZ_STATISTICS -> quizRepository.existsById(targetId);
+			case USER_PERFORMANCE -> userRepository.existsById(targetId);
+			case ITEM_ANALYSIS -> questionRepository.existsById(targetId);
+		};
+		if (!exists) {
+			throw new ResourceNotFoundException("Report target not found: " + targetId);
+		}
+	}
+
+	private String truncate(String message) {
+		if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_ERROR_LENGTH);
+	}
+
+	private record ReportKey(ReportType reportType, UUID targetId, UUID requestedBy) {
+	}
+
+}
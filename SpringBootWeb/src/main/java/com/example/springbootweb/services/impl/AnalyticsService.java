@@ -6,7 +6,9 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -35,6 +37,7 @@ import com.example.springbootweb.repositories.AnalyticsRepository;
 import com.example.springbootweb.repositories.QuestionRepository;
 import com.example.springbootweb.repositories.QuizRepository;
 import com.example.springbootweb.repositories.UserRepository;
+import com.example.springbootweb.repositories.specifications.QuizSpecifications;
 import com.example.springbootweb.services.interfaces.IAnalyticsService;
 
 import lombok.RequiredArgsConstructor;
@@ -195,9 +198,10 @@ public class AnalyticsService implements IAnalyticsService {
 	private List<RecentQuizAttemptDto> buildRecentAttempts(UUID userId) {
 		Pageable pageable = PageRequest.of(0, 10);
 		List<QuizSession> sessions = analyticsRepository.getUserRecentAttempts(userId, pageable);
+		Map<UUID, String> quizTitles = quizTitles(sessions.stream().map(QuizSession::getQuizId).toList());
 
 		return sessions.stream().map(session -> {
-			String quizTitle = quizRepository.findById(session.getQuizId()).map(Quiz::getTitle).orElse("Unknown Quiz");
+			String quizTitle = quizTitles.getOrDefault(session.getQuizId(), "Unknown Quiz");
 
 			return new RecentQuizAttemptDto(session.getId(), session.getQuizId(), quizTitle, session.getScore(),
 					session.getIsPassed(), session.getTimeSpentSeconds(), session.getFinishedAt());
@@ -265,7 +269,7 @@ public class AnalyticsService implements IAnalyticsService {
 		Long totalUsers = userRepository.count();
 		Long activeUsers = analyticsRepository.countActiveUsers();
 		Long totalQuizzes = quizRepository.count();
-		Long activeQuizzes = (long) quizRepository.findByIsActiveTrue().size();
+		Long activeQuizzes = quizRepository.count(QuizSpecifications.isActive(true));
 		Long totalQuestions = questionRepository.count();
 		Long totalAttempts = analyticsRepository.count();
 		Long completedAttempts = totalAttempts; // Fallback
@@ -303,6 +307,7 @@ public class AnalyticsService implements IAnalyticsService {
 	private List<TopPerformerDto> buildTopPerformers() {
 		Pageable pageable = PageRequest.of(0, 10);
 		List<TopPerformerProjection> results = analyticsRepository.getTopPerformers(pageable);
+		Map<UUID, User> users = usersById(results.stream().map(TopPerformerProjection::getUserId).toList());
 
 		List<TopPerformerDto> performers = new ArrayList<>();
 		int rank = 1;
@@ -314,7 +319,7 @@ public class AnalyticsService implements IAnalyticsService {
 			BigDecimal avgScore = nullSafe(proj.getAvgScore());
 			BigDecimal passRate = calculateRate(quizzesPassed, quizzesTaken);
 
-			User user = userRepository.findById(userId).orElse(null);
+			User user = users.get(userId);
 			String userName = user != null ? user.getFirstName() + " " + user.getLastName() : "Unknown";
 			String userEmail = user != null ? user.getEmail() : "unknown@email.com";
 
@@ -328,9 +333,10 @@ public class AnalyticsService implements IAnalyticsService {
 	private List<PopularQuizDto> buildPopularQuizzes() {
 		Pageable pageable = PageRequest.of(0, 10);
 		List<PopularQuizProjection> results = analyticsRepository.getPopularQuizzes(pageable);
+		Map<UUID, String> quizTitles = quizTitles(results.stream().map(PopularQuizProjection::getQuizId).toList());
 
 		return results.stream().map(proj -> {
-			String quizTitle = quizRepository.findById(proj.getQuizId()).map(Quiz::getTitle).orElse("Unknown Quiz");
+			String quizTitle = quizTitles.getOrDefault(proj.getQuizId(), "Unknown Quiz");
 
 			return new PopularQuizDto(proj.getQuizId(), quizTitle, nullSafe(proj.getTotalAttempts()),
 					nullSafe(proj.getCompletedAttempts()),
@@ -342,12 +348,14 @@ public class AnalyticsService implements IAnalyticsService {
 	private List<RecentActivityDto> buildRecentActivities() {
 		Pageable pageable = PageRequest.of(0, 15);
 		List<QuizSession> sessions = analyticsRepository.getRecentCompletedActivities(pageable);
+		Map<UUID, User> users = usersById(sessions.stream().map(QuizSession::getUserId).toList());
+		Map<UUID, String> quizTitles = quizTitles(sessions.stream().map(QuizSession::getQuizId).toList());
 
 		return sessions.stream().map(session -> {
-			User user = userRepository.findById(session.getUserId()).orElse(null);
+			User user = users.get(session.getUserId());
 			String userName = user != null ? user.getFirstName() + " " + user.getLastName() : "Unknown";
 
-			String quizTitle = quizRepository.findById(session.getQuizId()).map(Quiz::getTitle).orElse("Unknown Quiz");
+			String quizTitle = quizTitles.getOrDefault(session.getQuizId(), "Unknown Quiz");
 
 			return new RecentActivityDto(session.getId(), session.getUserId(), userName, session.getQuizId(), quizTitle,
 					session.getStatus().name(), session.getScore(), session.getIsPassed(), session.getFinishedAt());
@@ -356,13 +364,14 @@ public class AnalyticsService implements IAnalyticsService {
 
 	private List<QuizCompletionDto> buildQuizCompletionRates() {
 		List<QuizCompletionProjection> results = analyticsRepository.getQuizCompletionRates();
+		Map<UUID, String> quizTitles = quizTitles(results.stream().map(QuizCompletionProjection::getQuizId).toList());
 
 		return results.stream().map(proj -> {
 			Long totalAttempts = nullSafe(proj.getTotalAttempts());
 			Long completedAttempts = nullSafe(proj.getCompletedAttempts());
 			BigDecimal completionRate = calculateRate(completedAttempts, totalAttempts);
 
-			String quizTitle = quizRepository.findById(proj.getQuizId()).map(Quiz::getTitle).orElse("Unknown Quiz");
+			String quizTitle = quizTitles.getOrDefault(proj.getQuizId(), "Unknown Quiz");
 
 			return new QuizCompletionDto(proj.getQuizId(), quizTitle, totalAttempts, completedAttempts,
 					nullSafe(proj.getAbandonedAttempts()), completionRate, BigDecimal.ZERO // pass
@@ -376,6 +385,22 @@ public class AnalyticsService implements IAnalyticsService {
 		}).collect(Collectors.toList());
 	}
 
+	/**
+	 * Users by id, loaded with one query.
+	 */
+	private Map<UUID, User> usersById(List<UUID> ids) {
+		return userRepository.findByIdIn(ids)
+			.stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
+	}
+
+	/**
+	 * Quiz titles by id, loaded with one query.
+	 */
+	private Map<UUID, String> quizTitles(List<UUID> ids) {
+		return quizRepository.findAllById(ids).stream().collect(Collectors.toMap(Quiz::getId, Quiz::getTitle));
+	}
+
 	// ==================== Question Difficulty Analysis ====================
 
 	@Override
@@ -6,6 +6,7 @@ import com.example.springbootweb.entities.dtos.answers.AnswerResponse;
 import com.example.springbootweb.entities.dtos.answers.AnswerSummaryResponse;
 import com.example.springbootweb.entities.dtos.answers.CreateAnswerRequest;
 import com.example.springbootweb.entities.dtos.answers.UpdateAnswerRequest;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.models.Answer;
 import com.example.springbootweb.entities.models.Question;
 import com.example.springbootweb.exceptions.BadRequestException;
@@ -15,19 +16,20 @@ import com.example.springbootweb.repositories.AnswerRepository;
 import com.example.springbootweb.repositories.QuestionRepository;
 import com.example.springbootweb.repositories.specifications.AnswerSpecifications;
 import com.example.springbootweb.services.interfaces.IAnswerService;
+import com.example.springbootweb.services.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -43,10 +45,10 @@ public class AnswerService implements IAnswerService {
     public List<AnswerSummaryResponse> getAllAnswers(AnswerFilter filter) {
         logger.info("Fetching all answers with filter: {}", filter);
         Specification<Answer> spec = AnswerSpecifications.fromFilter(filter);
-        List<Answer> answers = answerRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "content"));
-        return answers.stream()
-                .map(answerMapper::toSummary)
-                .collect(Collectors.toList());
+        // Keyword searches are ordered by relevance inside the specification
+        Sort sort = StringUtils.hasText(filter.getContentKeyword()) ? Sort.unsorted()
+                : Sort.by(Sort.Direction.ASC, "content");
+        return answerRepository.findSummaries(spec, sort);
     }
 
     @Override
@@ -65,27 +67,32 @@ public class AnswerService implements IAnswerService {
         }
 
         Specification<Answer> spec = AnswerSpecifications.fromFilter(filter);
-        Page<Answer> answerPage = answerRepository.findAll(spec, PageRequest.of(pageNumber, pageSize));
-        return answerPage.map(answerMapper::toSummary);
+        return answerRepository.findSummaries(spec, PageRequest.of(pageNumber, pageSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AnswerSummaryResponse> getAnswersByCursor(String cursor, Integer size,
+            boolean includeTotal, AnswerFilter filter) {
+        logger.info("Fetching answers by cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        Specification<Answer> spec = AnswerSpecifications.fromFilter(filter);
+        return CursorPagination.page(answerRepository, spec, Sort.by(Sort.Direction.ASC, "id"), cursor, size,
+                includeTotal, answerMapper::toSummary);
     }
 
     @Override
     @Transactional(readOnly = true)
     public AnswerResponse getAnswerById(UUID id) {
         logger.info("Fetching answer with id: {}", id);
-        Answer answer = answerRepository.findById(id)
+        return answerRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.ANSWER_NOT_FOUND + id));
-        return answerMapper.toResponse(answer);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AnswerSummaryResponse> getActiveAnswers() {
         logger.info("Fetching active answers");
-        List<Answer> answers = answerRepository.findByIsActiveTrue();
-        return answers.stream()
-                .map(answerMapper::toSummary)
-                .collect(Collectors.toList());
+        return answerRepository.findSummaries(AnswerSpecifications.isActive(true), Sort.unsorted());
     }
 
     @Override
@@ -95,10 +102,7 @@ public class AnswerService implements IAnswerService {
         if (content == null || content.trim().isEmpty()) {
             throw new BadRequestException(ErrorMessage.SEARCH_CONTENT_EMPTY);
         }
-        List<Answer> answers = answerRepository.findByContentContainingIgnoreCase(content);
-        return answers.stream()
-                .map(answerMapper::toSummary)
-                .collect(Collectors.toList());
+        return answerRepository.findSummaries(AnswerSpecifications.contentContains(content), Sort.unsorted());
     }
 
     @Override
@@ -108,10 +112,7 @@ public class AnswerService implements IAnswerService {
         if (!questionRepository.existsById(questionId)) {
             throw new ResourceNotFoundException(ErrorMessage.QUESTION_NOT_FOUND + questionId);
         }
-        List<Answer> answers = answerRepository.findByQuestionId(questionId);
-        return answers.stream()
-                .map(answerMapper::toSummary)
-                .collect(Collectors.toList());
+        return answerRepository.findSummaries(AnswerSpecifications.hasQuestionId(questionId), Sort.unsorted());
     }
 
     @Override
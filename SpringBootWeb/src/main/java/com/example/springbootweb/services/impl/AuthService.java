@@ -1,11 +1,9 @@
 package com.example.springbootweb.services.impl;
 
-import java.util.UUID;
-
 import org.springframework.data.util.Pair;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -18,8 +16,8 @@ import com.example.springbootweb.entities.jwt.JwtProperties;
 import com.example.springbootweb.entities.models.RefreshToken;
 import com.example.springbootweb.entities.models.User;
 import com.example.springbootweb.exceptions.ResourceNotFoundException;
+import com.example.springbootweb.exceptions.TooManyRequestsException;
 import com.example.springbootweb.mappers.UserMapper;
-import com.example.springbootweb.repositories.RefreshTokenRepository;
 import com.example.springbootweb.repositories.UserRepository;
 import com.example.springbootweb.services.interfaces.IAuthService;
 import com.example.springbootweb.services.interfaces.IRefreshTokenService;
@@ -36,8 +34,6 @@ public class AuthService implements IAuthService {
 
 	private final UserRepository userRepository;
 
-	private final CustomUserDetailsService customUserDetailsService;
-
 	private final JwtTokenUtil jwtTokenUtil;
 
 	private final AuthenticationManager authenticationManager;
@@ -46,21 +42,29 @@ public class AuthService implements IAuthService {
 
 	private final IRefreshTokenService refreshTokenService;
 
-	private final RefreshTokenRepository refreshTokenRepository;
-
 	private final JwtProperties jwtProperties;
 
 	private final UserMapper userMapper;
 
 	@Override
 	public LoginResponseDto login(LoginRequestDto request, HttpServletResponse response) {
-		authenticationManager
-			.authenticate(new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+		try {
+			authenticationManager
+				.authenticate(new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
+		}
+		catch (InternalAuthenticationServiceException e) {
+			// Password hashing is saturated (see BoundedPasswordEncoder), surfaced as 429
+			if (e.getCause() instanceof TooManyRequestsException tooManyRequests) {
+				throw tooManyRequests;
+			}
+			throw e;
+		}
 
-		final UserDetails userDetails = customUserDetailsService.loadUserByUsername(request.getEmail());
-		final String accessToken = jwtTokenUtil.generateToken(userDetails);
-		final RefreshToken refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
-		refreshTokenService.saveRefreshToken(userDetails.getUsername(), refreshToken);
+		final User user = userRepository.findByEmail(request.getEmail())
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.USER_NOT_FOUND));
+		final String accessToken = jwtTokenUtil.generateToken(user);
+		final RefreshToken refreshToken = jwtTokenUtil.generateRefreshToken(user);
+		refreshTokenService.saveRefreshToken(refreshToken);
 
 		jwtTokenUtil.setTokenToHttpCookiesHeader(accessToken, refreshToken, response, jwtProperties.expiration(),
 				jwtProperties.refreshExpiration());
@@ -104,7 +108,7 @@ public class AuthService implements IAuthService {
 
 		// Delete refresh token from database
 		if (refreshToken != null) {
-			refreshTokenRepository.findByToken(refreshToken).ifPresent(refreshTokenRepository::delete);
+			refreshTokenService.revokeRefreshToken(refreshToken);
 		}
 		jwtTokenUtil.setTokenToHttpCookiesHeader("", null, response, Long.parseLong("0"), Long.parseLong("0"));
 	}
@@ -112,13 +116,10 @@ public class AuthService implements IAuthService {
 	@Override
 	public Pair<Boolean, String> refreshToken(HttpServletRequest request, HttpServletResponse response) {
 		final String refreshToken = jwtTokenUtil.getRefreshTokenFromCookie(request);
-		final Pair<Boolean, String> validationResult = refreshTokenService.validateRefreshToken(refreshToken);
-		if (Boolean.parseBoolean(validationResult.getFirst().toString())) {
-			RefreshToken existingRefreshToken = refreshTokenRepository.findByToken(refreshToken)
-				.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.REFRESH_TOKEN_NOT_FOUND));
-			String email = existingRefreshToken.getUser().getEmail();
-			final UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-			final String newAccessToken = jwtTokenUtil.generateToken(userDetails);
+		final IRefreshTokenService.Validation validation = refreshTokenService.validateRefreshToken(refreshToken);
+		if (validation.isValid()) {
+			RefreshToken existingRefreshToken = validation.refreshToken();
+			final String newAccessToken = jwtTokenUtil.generateToken(existingRefreshToken.getUser());
 
 			// Set new tokens in cookies
 			jwtTokenUtil.setTokenToHttpCookiesHeader(newAccessToken, existingRefreshToken, response,
@@ -126,14 +127,7 @@ public class AuthService implements IAuthService {
 
 			return Pair.of(true, newAccessToken);
 		}
-		return Pair.of(true, validationResult.getSecond());
-	}
-
-	@Override
-	public UUID getUserIdByEmail(String email) {
-		User user = userRepository.findByEmail(email)
-			.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.USER_NOT_FOUND));
-		return user.getId();
+		return Pair.of(false, validation.message());
 	}
 
 }
@@ -0,0 +1,52 @@
+package com.example.springbootweb.services.impl;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.springbootweb.entities.enums.CatalogResource;
+import com.example.springbootweb.repositories.AnswerRepository;
+import com.example.springbootweb.repositories.CatalogVersionRepository;
+import com.example.springbootweb.repositories.QuestionRepository;
+import com.example.springbootweb.repositories.QuizRepository;
+import com.example.springbootweb.services.interfaces.ICatalogVersionService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService implements ICatalogVersionService {
+
+	private final CatalogVersionRepository catalogVersionRepository;
+
+	private final QuizRepository quizRepository;
+
+	private final QuestionRepository questionRepository;
+
+	private final AnswerRepository answerRepository;
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<String> getResourceETag(CatalogResource resource, UUID id) {
+		Optional<String> version = switch (resource) {
+			case QUIZZES -> quizRepository.findDetailVersionById(id);
+			case QUESTIONS -> questionRepository.findVersionById(id).map(String::valueOf);
+			case ANSWERS -> answerRepository.findVersionById(id).map(String::valueOf);
+		};
+		return version.map(v -> quote(resource.getKey() + "-" + id + "-" + v));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public String getCollectionETag(CatalogResource resource) {
+		long version = catalogVersionRepository.findVersionByName(resource.getKey()).orElse(0L);
+		return quote(resource.getKey() + "-" + version);
+	}
+
+	private String quote(String tag) {
+		return "\"" + tag + "\"";
+	}
+
+}
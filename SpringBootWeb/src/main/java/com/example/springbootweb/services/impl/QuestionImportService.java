@@ -0,0 +1,198 @@
+package com.example.springbootweb.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportResponse;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportResponse.RowError;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.OptionRow;
+import com.example.springbootweb.entities.enums.QuestionImportFormat;
+import com.example.springbootweb.entities.enums.QuestionType;
+import com.example.springbootweb.entities.imports.QuestionImportProperties;
+import com.example.springbootweb.exceptions.BadRequestException;
+import com.example.springbootweb.exceptions.ResourceNotFoundException;
+import com.example.springbootweb.repositories.QuizRepository;
+import com.example.springbootweb.repositories.jdbc.QuestionBatchRepository;
+import com.example.springbootweb.services.imports.CsvQuestionRowReader;
+import com.example.springbootweb.services.imports.NdjsonQuestionRowReader;
+import com.example.springbootweb.services.imports.ParsedRow;
+import com.example.springbootweb.services.imports.QuestionRowReader;
+import com.example.springbootweb.services.interfaces.IQuestionImportService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Imports question banks without loading them into memory: rows are read and validated
+ * one at a time and buffered only until a chunk is full. Each chunk is written by
+ * {@link QuestionBatchRepository} in its own transaction, so a database error only fails
+ * the rows of that chunk and everything imported before it stays.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestionImportService implements IQuestionImportService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(QuestionImportService.class);
+
+	private final QuestionBatchRepository questionBatchRepository;
+
+	private final QuizRepository quizRepository;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Validator validator;
+
+	private final ObjectMapper objectMapper;
+
+	private final QuestionImportProperties properties;
+
+	@Override
+	public QuestionImportResponse importQuestions(InputStream input, QuestionImportFormat format, UUID quizId) {
+		if (quizId != null && !quizRepository.existsById(quizId)) {
+			throw new ResourceNotFoundException(ErrorMessage.QUIZ_NOT_FOUND + quizId);
+		}
+
+		long started = System.nanoTime();
+		ImportProgress progress = new ImportProgress(properties.maxErrors());
+		int nextOrder = quizId != null ? questionBatchRepository.findMaxQuestionOrder(quizId) + 1 : 0;
+		List<ParsedRow> chunk = new ArrayList<>(properties.chunkSize());
+
+		try (QuestionRowReader reader = openReader(input, format)) {
+			ParsedRow parsed;
+			while ((parsed = reader.next()) != null) {
+				progress.processedRows++;
+				String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+				if (error != null) {
+					progress.fail(parsed.line(), error);
+					continue;
+				}
+				chunk.add(parsed);
+				if (chunk.size() == properties.chunkSize()) {
+					nextOrder = writeChunk(chunk, quizId, nextOrder, progress);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				writeChunk(chunk, quizId, nextOrder, progress);
+			}
+		}
+		catch (IOException e) {
+			throw new BadRequestException("Could not read import file: " + e.getMessage());
+		}
+
+		long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+		LOG.info("Question import finished in {} ms: {} row(s), {} imported, {} failed", durationMillis,
+				progress.processedRows, progress.importedQuestions, progress.failedRows);
+		return new QuestionImportResponse(progress.processedRows, progress.importedQuestions, progress.failedRows,
+				progress.errors, progress.failedRows > progress.errors.size(), durationMillis);
+	}
+
+	// ==================== Helper Methods ====================
+
+	private QuestionRowReader openReader(InputStream input, QuestionImportFormat format) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		return switch (format) {
+			case CSV -> new CsvQuestionRowReader(reader);
+			case NDJSON -> new NdjsonQuestionRowReader(reader, objectMapper);
+		};
+	}
+
+	/**
+	 * Writes the chunk and clears it.
+	 * @return the quiz position for the first question of the next chunk
+	 */
+	private int writeChunk(List<ParsedRow> chunk, UUID quizId, int firstOrder, ImportProgress progress) {
+		List<QuestionImportRow> rows = chunk.stream().map(ParsedRow::row).toList();
+		int nextOrder = firstOrder;
+		try {
+			transactionTemplate.executeWithoutResult(status -> questionBatchRepository.insertAll(rows, quizId, firstOrder));
+			progress.importedQuestions += rows.size();
+			nextOrder += rows.size();
+		}
+		catch (DataAccessException e) {
+			LOG.warn("Question import chunk starting on line {} failed", chunk.get(0).line(), e);
+			String message = "Not imported, the chunk starting on line " + chunk.get(0).line()
+					+ " failed: " + e.getMostSpecificCause().getMessage();
+			chunk.forEach(row -> progress.fail(row.line(), message));
+		}
+		chunk.clear();
+		LOG.info("Question import progress: {} row(s) read, {} imported, {} failed", progress.processedRows,
+				progress.importedQuestions, progress.failedRows);
+		return nextOrder;
+	}
+
+	/**
+	 * Bean Validation of the row plus the option rules of the choice types.
+	 * @return the first error, or {@code null} if the row is valid
+	 */
+	private String validate(QuestionImportRow row) {
+		Set<ConstraintViolation<QuestionImportRow>> violations = validator.validate(row);
+		if (!violations.isEmpty()) {
+			ConstraintViolation<QuestionImportRow> violation = violations.iterator().next();
+			return violation.getPropertyPath() + ": " + violation.getMessage();
+		}
+
+		QuestionType type = row.questionType();
+		List<OptionRow> options = row.options() != null ? row.options() : List.of();
+		if ((type == QuestionType.SINGLE_CHOICE || type == QuestionType.MULTIPLE_CHOICE) && options.size() < 2) {
+			return type + " questions need at least 2 options";
+		}
+		if (options.isEmpty()) {
+			return null;
+		}
+		if (type == QuestionType.TRUE_FALSE && options.size() != 2) {
+			return "TRUE_FALSE questions need exactly 2 options";
+		}
+		long correct = options.stream().filter(option -> Boolean.TRUE.equals(option.isCorrect())).count();
+		if ((type == QuestionType.SINGLE_CHOICE || type == QuestionType.TRUE_FALSE) && correct != 1) {
+			return "Exactly one option must be correct";
+		}
+		if (type == QuestionType.MULTIPLE_CHOICE && correct == 0) {
+			return "At least one option must be correct";
+		}
+		return null;
+	}
+
+	private static final class ImportProgress {
+
+		private final int maxErrors;
+
+		private final List<RowError> errors = new ArrayList<>();
+
+		private int processedRows;
+
+		private int importedQuestions;
+
+		private int failedRows;
+
+		private ImportProgress(int maxErrors) {
+			this.maxErrors = maxErrors;
+		}
+
+		private void fail(long line, String message) {
+			failedRows++;
+			if (errors.size() < maxErrors) {
+				errors.add(new RowError(line, message));
+			}
+		}
+
+	}
+
+}
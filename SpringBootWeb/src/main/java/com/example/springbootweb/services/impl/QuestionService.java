@@ -15,8 +15,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.questionoption.UpdateQuestionOptionRequest;
 import com.example.springbootweb.entities.dtos.questions.CreateQuestionRequest;
 import com.example.springbootweb.entities.dtos.questions.QuestionDetailResponse;
@@ -33,6 +35,7 @@ import com.example.springbootweb.mappers.QuestionOptionMapper;
 import com.example.springbootweb.repositories.QuestionRepository;
 import com.example.springbootweb.repositories.specifications.QuestionSpecifications;
 import com.example.springbootweb.services.interfaces.IQuestionService;
+import com.example.springbootweb.services.pagination.CursorPagination;
 
 import lombok.RequiredArgsConstructor;
 
@@ -53,8 +56,10 @@ public class QuestionService implements IQuestionService {
 	public List<QuestionSummaryResponse> getAllQuestions(QuestionFilter filter) {
 		logger.info("Fetching all questions with filter: {}", filter);
 		Specification<Question> spec = QuestionSpecifications.fromFilter(filter);
-		List<Question> questions = questionRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "content"));
-		return questions.stream().map(questionMapper::toSummary).collect(Collectors.toList());
+		// Keyword searches are ordered by relevance inside the specification
+		Sort sort = StringUtils.hasText(filter.getContentKeyword()) ? Sort.unsorted()
+				: Sort.by(Sort.Direction.ASC, "content");
+		return questionRepository.findSummaries(spec, sort);
 	}
 
 	@Override
@@ -73,25 +78,33 @@ public class QuestionService implements IQuestionService {
 		}
 
 		Specification<Question> spec = QuestionSpecifications.fromFilter(filter);
-		Page<Question> questionPage = questionRepository.findAll(spec, PageRequest.of(pageNumber, pageSize));
-		return questionPage.map(questionMapper::toSummary);
+		return questionRepository.findSummaries(spec, PageRequest.of(pageNumber, pageSize));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPageResponse<QuestionSummaryResponse> getQuestionsByCursor(String cursor, Integer size,
+			boolean includeTotal, QuestionFilter filter) {
+		logger.info("Fetching questions by cursor - size: {}, includeTotal: {}, filter: {}",
+				size, includeTotal, filter);
+		Specification<Question> spec = QuestionSpecifications.fromFilter(filter);
+		return CursorPagination.page(questionRepository, spec, Sort.by(Sort.Direction.ASC, "id"), cursor, size,
+				includeTotal, questionMapper::toSummary);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public QuestionDetailResponse getQuestionById(UUID id) {
 		logger.info("Fetching question with id: {}", id);
-		Question question = questionRepository.findById(id)
+		return questionRepository.findDetailById(id)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.QUESTION_NOT_FOUND + id));
-		return questionMapper.toResponse(question);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public List<QuestionSummaryResponse> getActiveQuestions() {
 		logger.info("Fetching active questions");
-		List<Question> questions = questionRepository.findByIsActiveTrue();
-		return questions.stream().map(questionMapper::toSummary).collect(Collectors.toList());
+		return questionRepository.findSummaries(QuestionSpecifications.isActive(true), Sort.unsorted());
 	}
 
 	@Override
@@ -101,16 +114,15 @@ public class QuestionService implements IQuestionService {
 		if (content == null || content.trim().isEmpty()) {
 			throw new BadRequestException(ErrorMessage.SEARCH_CONTENT_EMPTY);
 		}
-		List<Question> questions = questionRepository.findByContentContainingIgnoreCase(content);
-		return questions.stream().map(questionMapper::toSummary).collect(Collectors.toList());
+		return questionRepository.findSummaries(QuestionSpecifications.contentContains(content), Sort.unsorted());
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public List<QuestionSummaryResponse> getQuestionsByType(QuestionType questionType) {
 		logger.info("Fetching questions with type: {}", questionType);
-		List<Question> questions = questionRepository.findByQuestionType(questionType);
-		return questions.stream().map(questionMapper::toSummary).collect(Collectors.toList());
+		return questionRepository.findSummaries(QuestionSpecifications.hasQuestionType(questionType),
+				Sort.unsorted());
 	}
 
 	@Override
@@ -140,7 +152,7 @@ public class QuestionService implements IQuestionService {
 	@Transactional
 	public QuestionDetailResponse updateQuestion(UUID id, UpdateQuestionRequest updateQuestionRequest) {
 		logger.info("Updating question with id: {}", id);
-		Question question = questionRepository.findById(id)
+		Question question = questionRepository.findForUpdateById(id)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.QUESTION_NOT_FOUND + id));
 		questionMapper.updateEntity(updateQuestionRequest, question);
 
@@ -2,12 +2,13 @@ package com.example.springbootweb.services.impl;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizzes.CreateQuizRequest;
 import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
 import com.example.springbootweb.entities.dtos.quizzes.QuizFilter;
@@ -20,6 +21,7 @@ import com.example.springbootweb.exceptions.ResourceNotFoundException;
 import com.example.springbootweb.mappers.QuizMapper;
 import com.example.springbootweb.repositories.QuizRepository;
 import com.example.springbootweb.services.interfaces.IQuizService;
+import com.example.springbootweb.services.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,12 +45,13 @@ public class QuizService implements IQuizService {
         logger.info("Fetching all quizzes with filter: {}", filter);
 
         Specification<Quiz> spec = QuizSpecifications.fromFilter(filter);
-        List<Quiz> quizzes = quizRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "title"));
+        // Keyword searches are ordered by relevance inside the specification
+        Sort sort = StringUtils.hasText(filter.getTitleKeyword()) ? Sort.unsorted()
+                : Sort.by(Sort.Direction.ASC, "title");
+        List<QuizSummaryResponse> quizzes = quizRepository.findSummaries(spec, sort);
         logger.debug("Found {} quizzes", quizzes.size());
 
-        return quizzes.stream()
-                .map(quizMapper::toSummary)
-                .collect(Collectors.toList());
+        return quizzes;
     }
 
     @Override
@@ -67,10 +70,20 @@ public class QuizService implements IQuizService {
         }
 
         Specification<Quiz> spec = QuizSpecifications.fromFilter(filter);
-        Page<Quiz> quizPage = quizRepository.findAll(spec, PageRequest.of(pageNumber, pageSize));
+        Page<QuizSummaryResponse> quizPage = quizRepository.findSummaries(spec, PageRequest.of(pageNumber, pageSize));
         logger.debug("Found {} quizzes in page {}", quizPage.getNumberOfElements(), pageNumber);
 
-        return quizPage.map(quizMapper::toSummary);
+        return quizPage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<QuizSummaryResponse> getQuizzesByCursor(String cursor, Integer size, boolean includeTotal,
+            QuizFilter filter) {
+        logger.info("Fetching quizzes by cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        Specification<Quiz> spec = QuizSpecifications.fromFilter(filter);
+        return CursorPagination.page(quizRepository, spec, Sort.by(Sort.Direction.ASC, "title"), cursor, size,
+                includeTotal, quizMapper::toSummary);
     }
 
     @Override
@@ -78,14 +91,14 @@ public class QuizService implements IQuizService {
     public QuizDetailResponse getQuizById(UUID id) {
         logger.info("Fetching quiz with id: {}", id);
 
-        Quiz quiz = quizRepository.findById(id)
+        QuizDetailResponse quiz = quizRepository.findDetailById(id)
                 .orElseThrow(() -> {
                     logger.error(QUIZ_NOT_FOUND_WITH_ID, id);
                     return new ResourceNotFoundException(ErrorMessage.QUIZ_NOT_FOUND + id);
                 });
 
-        logger.debug("Successfully found quiz: {}", quiz.getTitle());
-        return quizMapper.toResponse(quiz);
+        logger.debug("Successfully found quiz: {}", quiz.title());
+        return quiz;
     }
 
     @Override
@@ -93,12 +106,11 @@ public class QuizService implements IQuizService {
     public List<QuizSummaryResponse> getActiveQuizzes() {
         logger.info("Fetching active quizzes");
 
-        List<Quiz> quizzes = quizRepository.findByIsActiveTrue();
+        List<QuizSummaryResponse> quizzes = quizRepository.findSummaries(QuizSpecifications.isActive(true),
+                Sort.unsorted());
         logger.debug("Found {} active quizzes", quizzes.size());
 
-        return quizzes.stream()
-                .map(quizMapper::toSummary)
-                .collect(Collectors.toList());
+        return quizzes;
     }
 
     @Override
@@ -111,12 +123,12 @@ public class QuizService implements IQuizService {
             throw new BadRequestException("Search title cannot be empty");
         }
 
-        List<Quiz> quizzes = quizRepository.findByTitleContainingIgnoreCase(title);
+        // Ordered by relevance inside the specification
+        List<QuizSummaryResponse> quizzes = quizRepository.findSummaries(QuizSpecifications.titleContains(title),
+                Sort.unsorted());
         logger.debug("Found {} quizzes matching title: {}", quizzes.size(), title);
 
-        return quizzes.stream()
-                .map(quizMapper::toSummary)
-                .collect(Collectors.toList());
+        return quizzes;
     }
 
     @Override
@@ -129,12 +141,11 @@ public class QuizService implements IQuizService {
             throw new BadRequestException("Invalid duration range");
         }
 
-        List<Quiz> quizzes = quizRepository.findByDurationRange(minDuration, maxDuration);
+        List<QuizSummaryResponse> quizzes = quizRepository
+                .findSummaries(QuizSpecifications.durationBetween(minDuration, maxDuration), Sort.unsorted());
         logger.debug("Found {} quizzes in duration range", quizzes.size());
 
-        return quizzes.stream()
-                .map(quizMapper::toSummary)
-                .collect(Collectors.toList());
+        return quizzes;
     }
 
     @Override
@@ -208,9 +219,22 @@ public class QuizService implements IQuizService {
         }
 
         Specification<Quiz> spec = QuizSpecifications.fromFilter(filter);
-        Page<Quiz> quizPage = quizRepository.findAll(spec, PageRequest.of(pageNumber, pageSize));
+        Page<QuizDetailResponse> quizPage = quizRepository.findDetails(spec, PageRequest.of(pageNumber, pageSize));
         logger.debug("Found {} quiz details in page {}", quizPage.getNumberOfElements(), pageNumber);
 
-        return quizPage.map(quizMapper::toResponse);
+        return quizPage;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<QuizDetailResponse> getQuizDetailsByCursor(String cursor, Integer size,
+            boolean includeTotal, QuizFilter filter) {
+        logger.info("Fetching quiz details by cursor - size: {}, includeTotal: {}, filter: {}",
+                size, includeTotal, filter);
+        Specification<Quiz> spec = QuizSpecifications.fromFilter(filter);
+        // The details (with counts) of the whole page come from one projection query
+        return CursorPagination.pageBatched(quizRepository, spec, Sort.by(Sort.Direction.ASC, "title"), cursor,
+                size, includeTotal,
+                (quizzes, offset) -> quizRepository.findDetailsByIds(quizzes.stream().map(Quiz::getId).toList()));
     }
 }
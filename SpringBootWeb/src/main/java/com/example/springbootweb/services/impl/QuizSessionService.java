@@ -1,13 +1,15 @@
 package com.example.springbootweb.services.impl;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,9 +19,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.LeaderboardResponse;
+import com.example.springbootweb.entities.dtos.quizsessions.QuestionBundleResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizQuestionResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionDetailResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionFilter;
@@ -28,29 +35,30 @@ import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionSummaryRe
 import com.example.springbootweb.entities.dtos.quizsessions.SubmitAnswerRequest;
 import com.example.springbootweb.entities.dtos.quizsessions.SubmitAnswerResponse;
 import com.example.springbootweb.entities.enums.QuestionType;
+import com.example.springbootweb.entities.events.QuizSessionEvent;
 import com.example.springbootweb.entities.enums.QuizSessionStatus;
-import com.example.springbootweb.entities.models.Answer;
-import com.example.springbootweb.entities.models.Question;
 import com.example.springbootweb.entities.models.Quiz;
-import com.example.springbootweb.entities.models.QuizQuestion;
 import com.example.springbootweb.entities.models.QuizSession;
 import com.example.springbootweb.entities.models.SessionAnswer;
 import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.AnswerSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.QuestionSnapshot;
 import com.example.springbootweb.exceptions.BadRequestException;
 import com.example.springbootweb.exceptions.ResourceNotFoundException;
 import com.example.springbootweb.mappers.QuizSessionMapper;
-import com.example.springbootweb.repositories.AnswerRepository;
 import com.example.springbootweb.repositories.QuizRepository;
 import com.example.springbootweb.repositories.QuizSessionRepository;
 import com.example.springbootweb.repositories.SessionAnswerRepository;
 import com.example.springbootweb.repositories.UserRepository;
 import com.example.springbootweb.repositories.specifications.QuizSessionSpecifications;
+import com.example.springbootweb.services.events.SessionEventPublisher;
+import com.example.springbootweb.services.grading.QuizResults;
 import com.example.springbootweb.services.interfaces.IQuizSessionService;
-
-import lombok.RequiredArgsConstructor;
+import com.example.springbootweb.services.interfaces.IQuizVersionService;
+import com.example.springbootweb.services.pagination.CursorPagination;
 
 @Service
-@RequiredArgsConstructor
 public class QuizSessionService implements IQuizSessionService {
 
 	private static final Logger log = LoggerFactory.getLogger(QuizSessionService.class);
@@ -67,10 +75,34 @@ public class QuizSessionService implements IQuizSessionService {
 
 	private final UserRepository userRepository;
 
-	private final AnswerRepository answerRepository;
+	private final IQuizVersionService quizVersionService;
 
 	private final QuizSessionMapper quizSessionMapper;
 
+	private final SessionEventPublisher sessionEventPublisher;
+
+	/**
+	 * Writes that must land whatever the caller's transaction does: it may be read-only, or
+	 * about to roll back.
+	 */
+	private final TransactionTemplate ownTransaction;
+
+	public QuizSessionService(QuizSessionRepository quizSessionRepository,
+			SessionAnswerRepository sessionAnswerRepository, QuizRepository quizRepository,
+			UserRepository userRepository, IQuizVersionService quizVersionService,
+			QuizSessionMapper quizSessionMapper, SessionEventPublisher sessionEventPublisher,
+			PlatformTransactionManager transactionManager) {
+		this.quizSessionRepository = quizSessionRepository;
+		this.sessionAnswerRepository = sessionAnswerRepository;
+		this.quizRepository = quizRepository;
+		this.userRepository = userRepository;
+		this.quizVersionService = quizVersionService;
+		this.quizSessionMapper = quizSessionMapper;
+		this.sessionEventPublisher = sessionEventPublisher;
+		this.ownTransaction = new TransactionTemplate(transactionManager);
+		this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
 	// ==================== Session Lifecycle ====================
 
 	@Override
@@ -91,39 +123,38 @@ public class QuizSessionService implements IQuizSessionService {
 			throw new BadRequestException("You already have an active session for this quiz");
 		}
 
-		// Get questions for this quiz
-		List<QuizQuestion> quizQuestions = quiz.getQuizQuestions();
-		if (quizQuestions == null || quizQuestions.isEmpty()) {
-			throw new BadRequestException("Quiz has no questions");
-		}
+		// Pin the session to the latest published version of the quiz
+		QuizSnapshot snapshot = quizVersionService.getLatestSnapshot(quizId);
+		int totalQuestions = snapshot.questions().size();
 
 		// Create new session
 		LocalDateTime now = LocalDateTime.now();
 		QuizSession session = QuizSession.builder()
 			.userId(userId)
 			.quizId(quizId)
+			.quizVersionId(snapshot.versionId())
 			.status(QuizSessionStatus.IN_PROGRESS)
 			.createdAt(now)
 			.startedAt(now)
-			.expiresAt(now.plusMinutes(quiz.getDuration()))
-			.totalQuestions(quizQuestions.size())
-			.maxPoints(POINTS_PER_QUESTION.multiply(BigDecimal.valueOf(quizQuestions.size())))
+			.expiresAt(now.plusMinutes(snapshot.duration()))
+			.totalQuestions(totalQuestions)
+			.maxPoints(POINTS_PER_QUESTION.multiply(BigDecimal.valueOf(totalQuestions)))
 			.currentQuestionIndex(0)
 			.build();
 
 		QuizSession saved = quizSessionRepository.save(session);
 		log.info("Created quiz session: {}", saved.getId());
+		sessionEventPublisher.publishAfterCommit(new QuizSessionEvent.SessionStarted(saved.getId(), quizId, userId,
+				saved.getTotalQuestions(), Instant.now()));
 
-		return mapToResponse(saved, quiz);
+		return mapToResponse(saved, snapshot);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public QuizSessionDetailResponse getSession(UUID sessionId, UUID userId) {
 		QuizSession session = getAndValidateSession(sessionId, userId);
-		Quiz quiz = quizRepository.findById(session.getQuizId())
-			.orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
-		return mapToResponse(session, quiz);
+		return mapToResponse(session, snapshotFor(session));
 	}
 
 	@Override
@@ -142,9 +173,7 @@ public class QuizSessionService implements IQuizSessionService {
 		session.setStatus(QuizSessionStatus.PAUSED);
 
 		QuizSession saved = quizSessionRepository.save(session);
-		Quiz quiz = quizRepository.findById(session.getQuizId())
-			.orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
-		return mapToResponse(saved, quiz);
+		return mapToResponse(saved, snapshotFor(saved));
 	}
 
 	@Override
@@ -158,16 +187,15 @@ public class QuizSessionService implements IQuizSessionService {
 		}
 
 		// Recalculate expiry time based on remaining time
-		Quiz quiz = quizRepository.findById(session.getQuizId())
-			.orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
+		QuizSnapshot snapshot = snapshotFor(session);
 
-		int totalSeconds = quiz.getDuration() * 60;
+		int totalSeconds = snapshot.duration() * 60;
 		int remainingSeconds = totalSeconds - session.getTimeSpentSeconds();
 		session.setExpiresAt(LocalDateTime.now().plusSeconds(remainingSeconds));
 		session.setStatus(QuizSessionStatus.IN_PROGRESS);
 
 		QuizSession saved = quizSessionRepository.save(session);
-		return mapToResponse(saved, quiz);
+		return mapToResponse(saved, snapshot);
 	}
 
 	@Override
@@ -201,34 +229,55 @@ public class QuizSessionService implements IQuizSessionService {
 		QuizSession session = getAndValidateSession(sessionId, userId);
 		validateSessionInProgress(session);
 
-		Quiz quiz = quizRepository.findById(session.getQuizId())
-			.orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
-
-		List<QuizQuestion> quizQuestions = quiz.getQuizQuestions();
-		if (questionIndex < 0 || questionIndex >= quizQuestions.size()) {
+		List<QuestionSnapshot> questions = snapshotFor(session).questions();
+		if (questionIndex < 0 || questionIndex >= questions.size()) {
 			throw new BadRequestException("Invalid question index");
 		}
 
-		Question question = quizQuestions.get(questionIndex).getQuestion();
+		QuestionSnapshot question = questions.get(questionIndex);
 
 		// Check if already answered
 		SessionAnswer existingAnswer = sessionAnswerRepository
-			.findByQuizSessionIdAndQuestionId(sessionId, question.getId())
+			.findByQuizSessionIdAndQuestionId(sessionId, question.id())
 			.orElse(null);
 
 		// Map answers (without revealing correct answer)
-		List<QuizQuestionResponse.QuizAnswerOption> options = question.getAnswers()
+		List<QuizQuestionResponse.QuizAnswerOption> options = question.answers()
 			.stream()
-			.filter(Answer::getIsActive)
-			.map(a -> new QuizQuestionResponse.QuizAnswerOption(a.getId(), a.getContent()))
+			.filter(AnswerSnapshot::isActive)
+			.map(a -> new QuizQuestionResponse.QuizAnswerOption(a.id(), a.content()))
 			.toList();
 
-		return new QuizQuestionResponse(question.getId(), question.getContent(), question.getQuestionType(),
+		return new QuizQuestionResponse(question.id(), question.content(), question.questionType(),
 				questionIndex + 1, session.getTotalQuestions(), options, existingAnswer != null,
 				existingAnswer != null ? existingAnswer.getAnswerId() : null,
 				existingAnswer != null ? existingAnswer.getTextResponse() : null);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public QuestionBundleResponse getQuestionBundle(UUID sessionId, UUID userId) {
+		QuizSession session = getAndValidateSession(sessionId, userId);
+		validateSessionInProgress(session);
+		QuizSnapshot snapshot = snapshotFor(session);
+
+		List<QuestionSnapshot> questions = snapshot.questions();
+		List<QuestionBundleResponse.BundleQuestion> bundleQuestions = new ArrayList<>(questions.size());
+		for (int i = 0; i < questions.size(); i++) {
+			QuestionSnapshot question = questions.get(i);
+			List<QuizQuestionResponse.QuizAnswerOption> options = question.answers()
+				.stream()
+				.filter(AnswerSnapshot::isActive)
+				.map(a -> new QuizQuestionResponse.QuizAnswerOption(a.id(), a.content()))
+				.toList();
+			bundleQuestions.add(new QuestionBundleResponse.BundleQuestion(question.id(), i + 1, question.content(),
+					question.questionType(), options));
+		}
+
+		return new QuestionBundleResponse(snapshot.quizId(), snapshot.versionId(), snapshot.versionNumber(),
+				snapshot.title(), snapshot.duration(), questions.size(), bundleQuestions);
+	}
+
 	@Override
 	@Transactional
 	public SubmitAnswerResponse submitAnswer(UUID sessionId, SubmitAnswerRequest request, UUID userId) {
@@ -237,15 +286,8 @@ public class QuizSessionService implements IQuizSessionService {
 		validateSessionInProgress(session);
 		checkSessionExpiry(session);
 
-		// Validate question belongs to this quiz
-		Quiz quiz = quizRepository.findById(session.getQuizId())
-			.orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
-
-		Question question = quiz.getQuizQuestions()
-			.stream()
-			.map(QuizQuestion::getQuestion)
-			.filter(q -> q.getId().equals(request.questionId()))
-			.findFirst()
+		// Validate question belongs to the quiz version of this session
+		QuestionSnapshot question = snapshotFor(session).findQuestion(request.questionId())
 			.orElseThrow(() -> new BadRequestException("Question not part of this quiz"));
 
 		// Check if already answered - update if so
@@ -260,10 +302,10 @@ public class QuizSessionService implements IQuizSessionService {
 		Boolean isCorrect = null;
 		BigDecimal pointsAwarded = BigDecimal.ZERO;
 
-		if (isAutoGradable(question.getQuestionType()) && request.answerId() != null) {
-			Answer selectedAnswer = answerRepository.findById(request.answerId())
+		if (isAutoGradable(question.questionType()) && request.answerId() != null) {
+			AnswerSnapshot selectedAnswer = question.findAnswer(request.answerId())
 				.orElseThrow(() -> new BadRequestException("Invalid answer ID"));
-			isCorrect = selectedAnswer.getIsCorrect();
+			isCorrect = selectedAnswer.isCorrect();
 			pointsAwarded = Boolean.TRUE.equals(isCorrect) ? POINTS_PER_QUESTION : BigDecimal.ZERO;
 		}
 		// For text-based questions, isCorrect remains null until manual review
@@ -295,6 +337,9 @@ public class QuizSessionService implements IQuizSessionService {
 		}
 
 		quizSessionRepository.save(session);
+		sessionEventPublisher.publishAfterCommit(new QuizSessionEvent.AnswerSubmitted(sessionId, session.getQuizId(),
+				userId, request.questionId(), request.answerId(), isCorrect, pointsAwarded,
+				sessionAnswer.getTimeSpentSeconds(), Instant.now()));
 
 		// Calculate remaining time
 		int remainingTime = calculateRemainingTime(session);
@@ -370,6 +415,9 @@ public class QuizSessionService implements IQuizSessionService {
 
 		quizSessionRepository.save(session);
 		log.info("Quiz submitted. Score: {}, Passed: {}", session.getScore(), session.getIsPassed());
+		sessionEventPublisher.publishAfterCommit(new QuizSessionEvent.QuizSubmitted(sessionId, session.getQuizId(),
+				userId, session.getScore(), session.getIsPassed(), session.getCorrectAnswers(),
+				session.getTotalQuestions(), session.getTimeSpentSeconds(), Instant.now()));
 
 		return getResult(sessionId, userId);
 	}
@@ -384,8 +432,7 @@ public class QuizSessionService implements IQuizSessionService {
 			throw new BadRequestException("Results not available yet");
 		}
 
-		Quiz quiz = quizRepository.findById(session.getQuizId())
-			.orElseThrow(() -> new ResourceNotFoundException("Quiz not found"));
+		QuizSnapshot quiz = snapshotFor(session);
 
 		User user = userRepository.findById(session.getUserId())
 			.orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -393,51 +440,12 @@ public class QuizSessionService implements IQuizSessionService {
 		// Get all answers with details
 		List<SessionAnswer> sessionAnswers = sessionAnswerRepository.findByQuizSessionIdOrderByAnswerOrder(sessionId);
 
-		List<QuizSessionResultResponse.AnswerResultResponse> answerResults = new ArrayList<>();
-
-		for (QuizQuestion qq : quiz.getQuizQuestions()) {
-			Question question = qq.getQuestion();
-			SessionAnswer sa = sessionAnswers.stream()
-				.filter(a -> a.getQuestionId().equals(question.getId()))
-				.findFirst()
-				.orElse(null);
-
-			// Find correct answer
-			Answer correctAnswer = question.getAnswers()
-				.stream()
-				.filter(a -> Boolean.TRUE.equals(a.getIsCorrect()))
-				.findFirst()
-				.orElse(null);
-
-			// Find selected answer
-			Answer selectedAnswer = sa != null && sa.getAnswerId() != null ? question.getAnswers()
-				.stream()
-				.filter(a -> a.getId().equals(sa.getAnswerId()))
-				.findFirst()
-				.orElse(null) : null;
-
-			// All options
-			List<QuizSessionResultResponse.AnswerOption> allOptions = question.getAnswers()
-				.stream()
-				.filter(Answer::getIsActive)
-				.map(a -> new QuizSessionResultResponse.AnswerOption(a.getId(), a.getContent(), a.getIsCorrect(),
-						sa != null && a.getId().equals(sa.getAnswerId())))
-				.toList();
-
-			answerResults.add(new QuizSessionResultResponse.AnswerResultResponse(question.getId(),
-					question.getContent(), question.getQuestionType().name(), sa != null ? sa.getAnswerId() : null,
-					selectedAnswer != null ? selectedAnswer.getContent() : null,
-					correctAnswer != null ? correctAnswer.getId() : null,
-					correctAnswer != null ? correctAnswer.getContent() : null, sa != null ? sa.getTextResponse() : null,
-					sa != null && Boolean.TRUE.equals(sa.getIsCorrect()),
-					sa != null ? sa.getPointsAwarded() : BigDecimal.ZERO, POINTS_PER_QUESTION,
-					sa != null ? sa.getTimeSpentSeconds() : 0, sa != null && Boolean.TRUE.equals(sa.getIsReviewed()),
-					sa != null ? sa.getReviewerFeedback() : null, allOptions));
-		}
+		List<QuizSessionResultResponse.AnswerResultResponse> answerResults = QuizResults.answerResults(quiz,
+				sessionAnswers, POINTS_PER_QUESTION);
 
 		// Calculate statistics
-		int rank = quizSessionRepository.getUserRank(quiz.getId(), session.getScore(), session.getTimeSpentSeconds());
-		long totalParticipants = quizSessionRepository.countCompletedSessions(quiz.getId());
+		int rank = quizSessionRepository.getUserRank(quiz.quizId(), session.getScore(), session.getTimeSpentSeconds());
+		long totalParticipants = quizSessionRepository.countCompletedSessions(quiz.quizId());
 
 		int avgTimePerQuestion = session.getTotalQuestions() > 0
 				? session.getTimeSpentSeconds() / session.getTotalQuestions() : 0;
@@ -448,7 +456,7 @@ public class QuizSessionService implements IQuizSessionService {
 				avgTimePerQuestion, null, // Could calculate fastest/slowest
 				null, rank, (int) totalParticipants);
 
-		return new QuizSessionResultResponse(session.getId(), quiz.getId(), quiz.getTitle(), quiz.getDescription(),
+		return new QuizSessionResultResponse(session.getId(), quiz.quizId(), quiz.title(), quiz.description(),
 				user.getId(), user.getDisplayName(), session.getStatus(), session.getStartedAt(),
 				session.getFinishedAt(), session.getTimeSpentSeconds(), session.getTotalQuestions(),
 				session.getAnsweredQuestions(), session.getCorrectAnswers(),
@@ -467,10 +475,9 @@ public class QuizSessionService implements IQuizSessionService {
 		// Build Specification from filter
 		Specification<QuizSession> spec = QuizSessionSpecifications.fromFilter(quizSessionFilter);
 
-		return quizSessionRepository.findAll(spec, Sort.by(Sort.Direction.DESC, "createdAt"))
-			.stream()
-			.map(this::mapToSummary)
-			.toList();
+		List<QuizSession> sessions = quizSessionRepository.findAll(spec, Sort.by(Sort.Direction.DESC, "createdAt"));
+		Map<UUID, Quiz> quizzes = quizzesOf(sessions);
+		return sessions.stream().map(session -> mapToSummary(session, quizzes)).toList();
 	}
 
 	@Override
@@ -482,7 +489,23 @@ public class QuizSessionService implements IQuizSessionService {
 		Specification<QuizSession> spec = QuizSessionSpecifications.fromFilter(quizSessionFilter);
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-		return quizSessionRepository.findAll(spec, pageable).map(this::mapToSummary);
+		Page<QuizSession> sessions = quizSessionRepository.findAll(spec, pageable);
+		Map<UUID, Quiz> quizzes = quizzesOf(sessions.getContent());
+		return sessions.map(session -> mapToSummary(session, quizzes));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPageResponse<QuizSessionSummaryResponse> getUserHistoryByCursor(UUID userId, String cursor,
+			Integer size, boolean includeTotal, QuizSessionFilter quizSessionFilter) {
+		Specification<QuizSession> spec = QuizSessionSpecifications.fromFilter(quizSessionFilter)
+			.and(QuizSessionSpecifications.hasUserId(userId));
+
+		return CursorPagination.pageBatched(quizSessionRepository, spec, Sort.by(Sort.Direction.DESC, "createdAt"),
+				cursor, size, includeTotal, (sessions, offset) -> {
+					Map<UUID, Quiz> quizzes = quizzesOf(sessions);
+					return sessions.stream().map(session -> mapToSummary(session, quizzes)).toList();
+				});
 	}
 
 	@Override
@@ -509,6 +532,22 @@ public class QuizSessionService implements IQuizSessionService {
 		return buildLeaderboard(quiz, sessionsPage.getContent());
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPageResponse<LeaderboardResponse.LeaderboardEntry> getLeaderboardByCursor(UUID quizId, String cursor,
+			Integer size, boolean includeTotal) {
+		if (!quizRepository.existsById(quizId)) {
+			throw new ResourceNotFoundException("Quiz not found: " + quizId);
+		}
+		Specification<QuizSession> spec = QuizSessionSpecifications.hasQuizId(quizId)
+			.and(QuizSessionSpecifications.completedOnly());
+		// Same ordering as findLeaderboard, the cursor carries the rank offset
+		Sort sort = Sort.by(Sort.Order.desc("score"), Sort.Order.asc("timeSpentSeconds"));
+
+		return CursorPagination.pageBatched(quizSessionRepository, spec, sort, cursor, size, includeTotal,
+				(sessions, offset) -> leaderboardEntries(sessions, offset.intValue() + 1));
+	}
+
 	// ==================== Admin/System Operations ====================
 
 	@Override
@@ -519,11 +558,7 @@ public class QuizSessionService implements IQuizSessionService {
 
 		for (QuizSession session : expiredSessions) {
 			try {
-				calculateFinalScore(session);
-				session.setStatus(QuizSessionStatus.TIMED_OUT);
-				session.setFinishedAt(LocalDateTime.now());
-				session.setIsPassed(session.getScore().compareTo(PASSING_SCORE) >= 0);
-				quizSessionRepository.save(session);
+				timeOut(session);
 				log.info("Auto-submitted expired session: {}", session.getId());
 			}
 			catch (Exception e) {
@@ -551,20 +586,64 @@ public class QuizSessionService implements IQuizSessionService {
 		return session;
 	}
 
+	/**
+	 * Snapshot of the quiz version the session grades against. Sessions started before
+	 * quiz versioning are pinned to the latest version on first use, read-only requests
+	 * included, so that a version published later does not change their questions.
+	 */
+	private QuizSnapshot snapshotFor(QuizSession session) {
+		if (session.getQuizVersionId() == null) {
+			session.setQuizVersionId(pinLatestVersion(session));
+		}
+		return quizVersionService.getSnapshot(session.getQuizVersionId());
+	}
+
+	/**
+	 * @return the version the session is pinned to: the latest one, or the one a concurrent
+	 * request pinned first
+	 */
+	private UUID pinLatestVersion(QuizSession session) {
+		UUID latest = quizVersionService.getLatestSnapshot(session.getQuizId()).versionId();
+		return ownTransaction.execute(status -> {
+			quizSessionRepository.pinQuizVersion(session.getId(), latest);
+			return quizSessionRepository.findQuizVersionIdById(session.getId()).orElse(latest);
+		});
+	}
+
 	private void validateSessionInProgress(QuizSession session) {
 		if (session.getStatus() != QuizSessionStatus.IN_PROGRESS) {
 			throw new BadRequestException("Session is not in progress");
 		}
 	}
 
+	/**
+	 * Rejects a request on an expired session, timing the session out as the scheduled job
+	 * would. The timeout is written in a transaction of its own: the caller's rolls back on
+	 * the exception.
+	 */
 	private void checkSessionExpiry(QuizSession session) {
 		if (session.getExpiresAt() != null && LocalDateTime.now().isAfter(session.getExpiresAt())) {
-			session.setStatus(QuizSessionStatus.TIMED_OUT);
-			quizSessionRepository.save(session);
+			ownTransaction.executeWithoutResult(status -> quizSessionRepository.findById(session.getId())
+				.filter(expired -> expired.getStatus() == QuizSessionStatus.IN_PROGRESS)
+				.ifPresent(this::timeOut));
 			throw new BadRequestException("Session has expired");
 		}
 	}
 
+	private void timeOut(QuizSession session) {
+		calculateFinalScore(session);
+		session.setStatus(QuizSessionStatus.TIMED_OUT);
+		session.setFinishedAt(LocalDateTime.now());
+		session.setIsPassed(session.getScore().compareTo(PASSING_SCORE) >= 0);
+		quizSessionRepository.save(session);
+		publishTimedOut(session);
+	}
+
+	private void publishTimedOut(QuizSession session) {
+		sessionEventPublisher.publishAfterCommit(new QuizSessionEvent.SessionTimedOut(session.getId(),
+				session.getQuizId(), session.getUserId(), session.getScore(), session.getIsPassed(), Instant.now()));
+	}
+
 	private boolean isAutoGradable(QuestionType type) {
 		return type == QuestionType.SINGLE_CHOICE || type == QuestionType.MULTIPLE_CHOICE
 				|| type == QuestionType.TRUE_FALSE;
@@ -587,31 +666,8 @@ public class QuizSessionService implements IQuizSessionService {
 	}
 
 	private void calculateFinalScore(QuizSession session) {
-		List<SessionAnswer> answers = sessionAnswerRepository.findByQuizSessionIdOrderByAnswerOrder(session.getId());
-
-		int correct = 0;
-		BigDecimal pointsEarned = BigDecimal.ZERO;
-
-		for (SessionAnswer answer : answers) {
-			if (Boolean.TRUE.equals(answer.getIsCorrect())) {
-				correct++;
-				pointsEarned = pointsEarned
-					.add(answer.getPointsAwarded() != null ? answer.getPointsAwarded() : BigDecimal.ZERO);
-			}
-		}
-
-		session.setCorrectAnswers(correct);
-		session.setAnsweredQuestions(answers.size());
-		session.setPointsEarned(pointsEarned);
-
-		// Calculate percentage score
-		if (session.getTotalQuestions() > 0) {
-			BigDecimal score = BigDecimal.valueOf(correct)
-				.divide(BigDecimal.valueOf(session.getTotalQuestions()), 4, RoundingMode.HALF_UP)
-				.multiply(BigDecimal.valueOf(100))
-				.setScale(2, RoundingMode.HALF_UP);
-			session.setScore(score);
-		}
+		QuizResults.applyFinalScore(session,
+				sessionAnswerRepository.findByQuizSessionIdOrderByAnswerOrder(session.getId()));
 	}
 
 	private void recalculateSessionScore(QuizSession session) {
@@ -621,7 +677,7 @@ public class QuizSessionService implements IQuizSessionService {
 	/**
 	 * Map QuizSession to QuizSessionDetailResponse using MapStruct.
 	 */
-	private QuizSessionDetailResponse mapToResponse(QuizSession session, Quiz quiz) {
+	private QuizSessionDetailResponse mapToResponse(QuizSession session, QuizSnapshot quiz) {
 		User user = userRepository.findById(session.getUserId()).orElse(null);
 		return quizSessionMapper.toDetailResponse(session, quiz, user, calculateRemainingTime(session));
 	}
@@ -629,23 +685,42 @@ public class QuizSessionService implements IQuizSessionService {
 	/**
 	 * Map QuizSession to QuizSessionSummaryResponse using MapStruct.
 	 */
-	private QuizSessionSummaryResponse mapToSummary(QuizSession session) {
-		Quiz quiz = quizRepository.findById(session.getQuizId()).orElse(null);
-		return quizSessionMapper.toSummaryResponse(session, quiz);
+	private QuizSessionSummaryResponse mapToSummary(QuizSession session, Map<UUID, Quiz> quizzes) {
+		return quizSessionMapper.toSummaryResponse(session, quizzes.get(session.getQuizId()));
+	}
+
+	/**
+	 * Quizzes of the sessions by id, loaded with one query.
+	 */
+	private Map<UUID, Quiz> quizzesOf(List<QuizSession> sessions) {
+		return quizRepository.findAllById(sessions.stream().map(QuizSession::getQuizId).collect(Collectors.toSet()))
+			.stream()
+			.collect(Collectors.toMap(Quiz::getId, Function.identity()));
 	}
 
 	/**
 	 * Build leaderboard response using MapStruct.
 	 */
 	private LeaderboardResponse buildLeaderboard(Quiz quiz, List<QuizSession> sessions) {
-		AtomicInteger rank = new AtomicInteger(1);
-
-		List<LeaderboardResponse.LeaderboardEntry> entries = sessions.stream().map(session -> {
-			User user = userRepository.findById(session.getUserId()).orElse(null);
-			return quizSessionMapper.toLeaderboardEntry(session, user, rank.getAndIncrement());
-		}).toList();
+		return quizSessionMapper.toLeaderboardResponse(quiz, leaderboardEntries(sessions, 1));
+	}
 
-		return quizSessionMapper.toLeaderboardResponse(quiz, entries);
+	/**
+	 * Leaderboard rows numbered from {@code firstRank}. The users of all rows are loaded
+	 * with one query.
+	 */
+	private List<LeaderboardResponse.LeaderboardEntry> leaderboardEntries(List<QuizSession> sessions,
+			int firstRank) {
+		Map<UUID, User> users = userRepository
+			.findByIdIn(sessions.stream().map(QuizSession::getUserId).collect(Collectors.toSet()))
+			.stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
+		List<LeaderboardResponse.LeaderboardEntry> entries = new ArrayList<>(sessions.size());
+		for (QuizSession session : sessions) {
+			entries.add(quizSessionMapper.toLeaderboardEntry(session, users.get(session.getUserId()),
+					firstRank + entries.size()));
+		}
+		return entries;
 	}
 
 }
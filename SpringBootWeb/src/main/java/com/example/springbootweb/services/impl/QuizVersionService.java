@@ -0,0 +1,168 @@
+package com.example.springbootweb.services.impl;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse;
+import com.example.springbootweb.entities.models.Question;
+import com.example.springbootweb.entities.models.Quiz;
+import com.example.springbootweb.entities.models.QuizQuestion;
+import com.example.springbootweb.entities.models.QuizVersion;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.AnswerSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.QuestionSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizVersionProperties;
+import com.example.springbootweb.exceptions.BadRequestException;
+import com.example.springbootweb.exceptions.ResourceNotFoundException;
+import com.example.springbootweb.repositories.QuizRepository;
+import com.example.springbootweb.repositories.QuizVersionRepository;
+import com.example.springbootweb.services.interfaces.IQuizVersionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Publishes quiz versions and serves their snapshots. Snapshots are immutable, so the
+ * in-memory cache needs no invalidation: it is keyed by version id and only bounded by
+ * size. Its hit rate is exported as the {@code cache.*} metrics of cache
+ * {@code quiz-snapshots}.
+ */
+@Service
+public class QuizVersionService implements IQuizVersionService {
+
+	private static final Logger LOG = LoggerFactory.getLogger(QuizVersionService.class);
+
+	private static final String SNAPSHOT_CACHE = "quiz-snapshots";
+
+	private final QuizVersionRepository quizVersionRepository;
+
+	private final QuizRepository quizRepository;
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Implicit first publication runs in its own transaction, so it also works when the
+	 * caller's transaction is read-only.
+	 */
+	private final TransactionTemplate publishTransaction;
+
+	private final Cache<UUID, QuizSnapshot> snapshots;
+
+	public QuizVersionService(QuizVersionRepository quizVersionRepository, QuizRepository quizRepository,
+			ObjectMapper objectMapper, PlatformTransactionManager transactionManager, QuizVersionProperties properties,
+			MeterRegistry meterRegistry) {
+		this.quizVersionRepository = quizVersionRepository;
+		this.quizRepository = quizRepository;
+		this.objectMapper = objectMapper;
+		this.publishTransaction = new TransactionTemplate(transactionManager);
+		this.publishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.snapshots = Caffeine.newBuilder().maximumSize(properties.snapshotCacheSize()).recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, snapshots, SNAPSHOT_CACHE);
+	}
+
+	@Override
+	@Transactional
+	public QuizVersionResponse publishVersion(UUID quizId, UUID userId) {
+		Quiz quiz = quizRepository.findForPublishById(quizId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.QUIZ_NOT_FOUND + quizId));
+		QuizVersion version = publish(quiz, userId);
+		return toResponse(version);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<QuizVersionResponse> getVersions(UUID quizId) {
+		if (!quizRepository.existsById(quizId)) {
+			throw new ResourceNotFoundException(ErrorMessage.QUIZ_NOT_FOUND + quizId);
+		}
+		return quizVersionRepository.findResponsesByQuizId(quizId);
+	}
+
+	@Override
+	public QuizSnapshot getLatestSnapshot(UUID quizId) {
+		UUID versionId = quizVersionRepository.findLatestIdByQuizId(quizId)
+			.orElseGet(() -> publishTransaction.execute(status -> publishFirstVersion(quizId)));
+		return getSnapshot(versionId);
+	}
+
+	@Override
+	public QuizSnapshot getSnapshot(UUID versionId) {
+		return snapshots.get(versionId, this::loadSnapshot);
+	}
+
+	// ==================== Helper Methods ====================
+
+	private UUID publishFirstVersion(UUID quizId) {
+		Quiz quiz = quizRepository.findForPublishById(quizId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.QUIZ_NOT_FOUND + quizId));
+		// A concurrent first session may have published while we waited for the lock
+		return quizVersionRepository.findLatestIdByQuizId(quizId).orElseGet(() -> publish(quiz, null).getId());
+	}
+
+	/**
+	 * Freeze the quiz into a new version. The caller must hold the quiz row lock.
+	 */
+	private QuizVersion publish(Quiz quiz, UUID userId) {
+		List<QuizQuestion> quizQuestions = quiz.getQuizQuestions();
+		if (quizQuestions == null || quizQuestions.isEmpty()) {
+			throw new BadRequestException("Quiz has no questions");
+		}
+
+		List<QuestionSnapshot> questions = quizQuestions.stream()
+			.sorted(Comparator.comparing(QuizQuestion::getOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+			.map(quizQuestion -> toSnapshot(quizQuestion.getQuestion()))
+			.toList();
+		int versionNumber = quizVersionRepository.findMaxVersionNumber(quiz.getId()) + 1;
+		QuizSnapshot snapshot = new QuizSnapshot(null, quiz.getId(), versionNumber, quiz.getTitle(),
+				quiz.getDescription(), quiz.getDuration(), questions);
+
+		QuizVersion version = quizVersionRepository.save(QuizVersion.builder()
+			.quizId(quiz.getId())
+			.versionNumber(versionNumber)
+			.title(quiz.getTitle())
+			.duration(quiz.getDuration())
+			.totalQuestions(questions.size())
+			.snapshot(objectMapper.writeValueAsString(snapshot))
+			.publishedAt(LocalDateTime.now())
+			.publishedBy(userId)
+			.build());
+		LOG.info("Published version {} of quiz {} with {} question(s)", versionNumber, quiz.getId(), questions.size());
+		return version;
+	}
+
+	private QuestionSnapshot toSnapshot(Question question) {
+		List<AnswerSnapshot> answers = question.getAnswers()
+			.stream()
+			.map(answer -> new AnswerSnapshot(answer.getId(), answer.getContent(),
+					Boolean.TRUE.equals(answer.getIsCorrect()), Boolean.TRUE.equals(answer.getIsActive())))
+			.toList();
+		return new QuestionSnapshot(question.getId(), question.getContent(), question.getQuestionType(), answers);
+	}
+
+	private QuizSnapshot loadSnapshot(UUID versionId) {
+		String json = quizVersionRepository.findSnapshotById(versionId)
+			.orElseThrow(() -> new ResourceNotFoundException("Quiz version not found: " + versionId));
+		return objectMapper.readValue(json, QuizSnapshot.class).withVersionId(versionId);
+	}
+
+	private QuizVersionResponse toResponse(QuizVersion version) {
+		return new QuizVersionResponse(version.getId(), version.getQuizId(), version.getVersionNumber(),
+				version.getTitle(), version.getDuration(), version.getTotalQuestions(), version.getPublishedAt(),
+				version.getPublishedBy());
+	}
+
+}
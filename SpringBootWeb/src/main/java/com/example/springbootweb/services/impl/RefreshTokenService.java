@@ -4,52 +4,88 @@ import java.time.Instant;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.util.Pair;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.springbootweb.entities.constants.ErrorMessage;
 import com.example.springbootweb.entities.constants.SuccessMessage;
+import com.example.springbootweb.entities.jwt.RefreshTokenProperties;
 import com.example.springbootweb.entities.models.RefreshToken;
-import com.example.springbootweb.entities.models.User;
 import com.example.springbootweb.repositories.RefreshTokenRepository;
-import com.example.springbootweb.repositories.UserRepository;
+import com.example.springbootweb.repositories.jdbc.RefreshTokenJdbcRepository;
 import com.example.springbootweb.services.interfaces.IRefreshTokenService;
+import com.example.springbootweb.services.jwt.JwtTokenUtil;
+import com.example.springbootweb.services.jwt.RevokedTokenFilter;
 
 import lombok.RequiredArgsConstructor;
 
 /**
- * @param refreshTokenRepository
- * @param userRepository
- * @param jwtTokenUtil
- * @param customUserDetailsService
+ * Refresh tokens are stored as SHA-256 digests only, one row per user. Revoked tokens
+ * are also put in a {@link RevokedTokenFilter}, so replaying them costs no query.
  */
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService implements IRefreshTokenService {
         private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
         private final RefreshTokenRepository refreshTokenRepository;
-        private final UserRepository userRepository;
+        private final RefreshTokenJdbcRepository refreshTokenJdbcRepository;
+        private final RevokedTokenFilter revokedTokenFilter;
+        private final RefreshTokenProperties properties;
 
         @Override
-        @Transactional
-        public RefreshToken saveRefreshToken(String email, RefreshToken refreshToken) {
-                final User user = userRepository.findByEmail(email)
-                                .orElseThrow(() -> new UsernameNotFoundException(ErrorMessage.USER_NOT_FOUND + email));
-                refreshTokenRepository.deleteByUser(user);
-                refreshTokenRepository.flush();
-                return refreshTokenRepository.save(refreshToken);
+        public void saveRefreshToken(RefreshToken refreshToken) {
+                String replaced = refreshTokenJdbcRepository.upsert(refreshToken.getUser().getId(),
+                                refreshToken.getTokenHash(), refreshToken.getExpiryDate());
+                if (replaced != null) {
+                        revokedTokenFilter.revoke(replaced);
+                }
         }
 
         @Override
-        public Pair<Boolean, String> validateRefreshToken(String token) {
-                RefreshToken refreshToken = refreshTokenRepository.findByToken(token).orElse(null);
+        public Validation validateRefreshToken(String token) {
+                if (token == null || token.isBlank()) {
+                        return new Validation(null, ErrorMessage.REFRESH_TOKEN_MISSING);
+                }
+                String tokenHash = JwtTokenUtil.hash(token);
+                if (revokedTokenFilter.mightBeRevoked(tokenHash)) {
+                        return new Validation(null, ErrorMessage.INVALID_REFRESH_TOKEN);
+                }
 
-                return refreshToken == null ? Pair.of(false, ErrorMessage.INVALID_REFRESH_TOKEN)
-                                : refreshToken.getExpiryDate().isBefore(Instant.now())
-                                                ? Pair.of(false, ErrorMessage.REFRESH_TOKEN_EXPIRED)
-                                                : Pair.of(true, SuccessMessage.REFRESH_TOKEN_VALID);
+                RefreshToken refreshToken = refreshTokenRepository.findWithUserByTokenHash(tokenHash).orElse(null);
+                if (refreshToken == null) {
+                        return new Validation(null, ErrorMessage.INVALID_REFRESH_TOKEN);
+                }
+                if (refreshToken.getExpiryDate().isBefore(Instant.now())) {
+                        return new Validation(null, ErrorMessage.REFRESH_TOKEN_EXPIRED);
+                }
+                refreshToken.setToken(token);
+                return new Validation(refreshToken, SuccessMessage.REFRESH_TOKEN_VALID);
+        }
+
+        @Override
+        public void revokeRefreshToken(String token) {
+                String tokenHash = JwtTokenUtil.hash(token);
+                revokedTokenFilter.revoke(tokenHash);
+                refreshTokenRepository.deleteByTokenHash(tokenHash);
+        }
+
+        @Override
+        @Scheduled(fixedDelayString = "${jwt.refresh-tokens.purge-interval:PT1H}")
+        public int purgeExpiredTokens() {
+                Instant now = Instant.now();
+                int batchSize = properties.purgeBatchSize();
+                int total = 0;
+                int deleted;
+                // Each batch commits on its own
+                do {
+                        deleted = refreshTokenJdbcRepository.deleteExpiredBatch(now, batchSize);
+                        total += deleted;
+                }
+                while (deleted == batchSize);
+                if (total > 0) {
+                        logger.info("Purged {} expired refresh token(s)", total);
+                }
+                return total;
         }
 
 }
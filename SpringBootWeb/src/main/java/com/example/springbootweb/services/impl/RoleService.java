@@ -1,6 +1,7 @@
 package com.example.springbootweb.services.impl;
 
 import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.roles.CreateRoleRequest;
 import com.example.springbootweb.entities.dtos.roles.RoleDetailResponse;
 import com.example.springbootweb.entities.dtos.roles.RoleFilter;
@@ -13,6 +14,7 @@ import com.example.springbootweb.mappers.RoleMapper;
 import com.example.springbootweb.repositories.RoleRepository;
 import com.example.springbootweb.repositories.specifications.RoleSpecifications;
 import com.example.springbootweb.services.interfaces.IRoleService;
+import com.example.springbootweb.services.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,7 +27,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,8 +43,7 @@ public class RoleService implements IRoleService {
 	public List<RoleSummaryResponse> getAllRoles(RoleFilter filter) {
 		logger.info("Fetching all roles with filter: {}", filter);
 		Specification<Role> spec = RoleSpecifications.fromFilter(filter);
-		List<Role> roles = roleRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "name"));
-		return roles.stream().map(roleMapper::toSummary).collect(Collectors.toList());
+		return roleRepository.findSummaries(spec, Sort.by(Sort.Direction.ASC, "name"));
 	}
 
 	@Override
@@ -62,25 +62,32 @@ public class RoleService implements IRoleService {
 		}
 
 		Specification<Role> spec = RoleSpecifications.fromFilter(filter);
-		Page<Role> rolePage = roleRepository.findAll(spec, PageRequest.of(pageNumber, pageSize));
-		return rolePage.map(roleMapper::toSummary);
+		return roleRepository.findSummaries(spec, PageRequest.of(pageNumber, pageSize));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPageResponse<RoleSummaryResponse> getRolesByCursor(String cursor, Integer size, boolean includeTotal,
+			RoleFilter filter) {
+		logger.info("Fetching roles by cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+		Specification<Role> spec = RoleSpecifications.fromFilter(filter);
+		return CursorPagination.page(roleRepository, spec, Sort.by(Sort.Direction.ASC, "name"), cursor, size,
+				includeTotal, roleMapper::toSummary);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public RoleDetailResponse getRoleById(UUID id) {
 		logger.info("Fetching role with id: {}", id);
-		Role role = roleRepository.findById(id)
+		return roleRepository.findDetailById(id)
 			.orElseThrow(() -> new ResourceNotFoundException("Role not found with id: " + id));
-		return roleMapper.toResponse(role);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public List<RoleSummaryResponse> getActiveRoles() {
 		logger.info("Fetching active roles");
-		List<Role> roles = roleRepository.findByIsActiveTrue();
-		return roles.stream().map(roleMapper::toSummary).collect(Collectors.toList());
+		return roleRepository.findSummaries(RoleSpecifications.isActive(true), Sort.unsorted());
 	}
 
 	@Override
@@ -90,8 +97,7 @@ public class RoleService implements IRoleService {
 		if (name == null || name.trim().isEmpty()) {
 			throw new BadRequestException("Search name cannot be empty");
 		}
-		List<Role> roles = roleRepository.findByNameContainingIgnoreCase(name);
-		return roles.stream().map(roleMapper::toSummary).collect(Collectors.toList());
+		return roleRepository.findSummaries(RoleSpecifications.nameContains(name), Sort.unsorted());
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package com.example.springbootweb.services.impl;
 
 import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.users.CreateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UpdateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UserDetailResponse;
@@ -15,6 +16,8 @@ import com.example.springbootweb.repositories.RoleRepository;
 import com.example.springbootweb.repositories.UserRepository;
 import com.example.springbootweb.repositories.specifications.UserSpecifications;
 import com.example.springbootweb.services.interfaces.IUserService;
+import com.example.springbootweb.services.jwt.TokenVersionService;
+import com.example.springbootweb.services.pagination.CursorPagination;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,12 +28,12 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,16 +44,16 @@ public class UserService implements IUserService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenVersionService tokenVersionService;
 
     @Override
     @Transactional(readOnly = true)
     public List<UserSummaryResponse> getAllUsers(UserFilter filter) {
         logger.info("Fetching all users with filter: {}", filter);
         Specification<User> spec = UserSpecifications.fromFilter(filter);
-        List<User> users = userRepository.findAll(spec, Sort.by(Sort.Direction.ASC, "email"));
-        return users.stream()
-                .map(userMapper::toSummary)
-                .collect(Collectors.toList());
+        // Keyword searches are ordered by similarity inside the specification
+        Sort sort = StringUtils.hasText(filter.getKeyword()) ? Sort.unsorted() : Sort.by(Sort.Direction.ASC, "email");
+        return userRepository.findSummaries(spec, sort);
     }
 
     @Override
@@ -69,42 +72,42 @@ public class UserService implements IUserService {
         }
 
         Specification<User> spec = UserSpecifications.fromFilter(filter);
-        Page<User> userPage = userRepository.findAll(spec, PageRequest.of(pageNumber, pageSize));
-        return userPage.map(userMapper::toSummary);
+        return userRepository.findSummaries(spec, PageRequest.of(pageNumber, pageSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserSummaryResponse> getUsersByCursor(String cursor, Integer size, boolean includeTotal,
+            UserFilter filter) {
+        logger.info("Fetching users by cursor - size: {}, includeTotal: {}, filter: {}", size, includeTotal, filter);
+        Specification<User> spec = UserSpecifications.fromFilter(filter);
+        return CursorPagination.page(userRepository, spec, Sort.by(Sort.Direction.ASC, "email"), cursor, size,
+                includeTotal, userMapper::toSummary);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDetailResponse getUserById(UUID id) {
         logger.info("Fetching user with id: {}", id);
-        User user = userRepository.findById(id)
+        return userRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorMessage.USER_NOT_FOUND + ": " + id));
-        return userMapper.toResponse(user);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<UserSummaryResponse> getActiveUsers() {
         logger.info("Fetching active users");
-        List<User> users = userRepository.findByIsActiveTrue();
-        return users.stream()
-                .map(userMapper::toSummary)
-                .collect(Collectors.toList());
+        return userRepository.findSummaries(UserSpecifications.isActive(true), Sort.unsorted());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserSummaryResponse> searchUsers(String keyword) {
-        logger.info("Searching users with keyword: {}", keyword);
+    public List<UserSummaryResponse> searchUsers(String keyword, boolean fuzzy) {
+        logger.info("Searching users with keyword: {}, fuzzy: {}", keyword, fuzzy);
         if (keyword == null || keyword.trim().isEmpty()) {
             throw new BadRequestException("Search keyword cannot be empty");
         }
-        List<User> users = userRepository
-                .findByEmailContainingIgnoreCaseOrFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(keyword,
-                        keyword, keyword);
-        return users.stream()
-                .map(userMapper::toSummary)
-                .collect(Collectors.toList());
+        return userRepository.findSummaries(UserSpecifications.keywordMatches(keyword, fuzzy), Sort.unsorted());
     }
 
     @Override
@@ -143,6 +146,8 @@ public class UserService implements IUserService {
         userMapper.updateEntity(updateUserRequest, user);
 
         User updatedUser = userRepository.save(user);
+        // Roles or the active flag may have changed, which revokes the user's tokens
+        tokenVersionService.evict(id);
         return userMapper.toResponse(updatedUser);
     }
 
@@ -154,6 +159,7 @@ public class UserService implements IUserService {
             throw new ResourceNotFoundException(ErrorMessage.USER_NOT_FOUND + ": " + id);
         }
         userRepository.deleteById(id);
+        tokenVersionService.evict(id);
     }
 
     @Override
@@ -0,0 +1,179 @@
+package com.example.springbootweb.services.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.AnswerRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.OptionRow;
+import com.example.springbootweb.entities.enums.QuestionType;
+import com.example.springbootweb.exceptions.BadRequestException;
+
+/**
+ * Reads questions from a CSV file with a header row. Column names are case-insensitive
+ * and may appear in any order:
+ * <ul>
+ * <li>{@code content} - question text (required)</li>
+ * <li>{@code questionType} - a {@link QuestionType} name (required)</li>
+ * <li>{@code isActive} - {@code true} or {@code false}, defaults to {@code true}</li>
+ * <li>{@code options} - option texts separated by {@code |}, in display order</li>
+ * <li>{@code correctOptions} - 1-based positions of the correct options, separated by
+ * {@code |}</li>
+ * <li>{@code answers} - reference answer texts separated by {@code |}</li>
+ * </ul>
+ * Texts containing {@code |} cannot be expressed in CSV; use NDJSON for them.
+ */
+public final class CsvQuestionRowReader implements QuestionRowReader {
+
+	private static final String LIST_SEPARATOR = "\\|";
+
+	private static final String CONTENT = "content";
+
+	private static final String QUESTION_TYPE = "questiontype";
+
+	private static final String IS_ACTIVE = "isactive";
+
+	private static final String OPTIONS = "options";
+
+	private static final String CORRECT_OPTIONS = "correctoptions";
+
+	private static final String ANSWERS = "answers";
+
+	private final Reader source;
+
+	private final CsvRecordReader records;
+
+	private final Map<String, Integer> columns = new HashMap<>();
+
+	private boolean finished;
+
+	/**
+	 * @throws BadRequestException if the header row is missing or lacks a required column
+	 */
+	public CsvQuestionRowReader(Reader source) throws IOException {
+		this.source = source;
+		this.records = new CsvRecordReader(source);
+		List<String> header = records.next();
+		if (header == null) {
+			throw new BadRequestException("CSV file is empty");
+		}
+		for (int i = 0; i < header.size(); i++) {
+			columns.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+		}
+		if (!columns.containsKey(CONTENT) || !columns.containsKey(QUESTION_TYPE)) {
+			throw new BadRequestException("CSV header must contain the columns content and questionType");
+		}
+	}
+
+	@Override
+	public ParsedRow next() throws IOException {
+		if (finished) {
+			return null;
+		}
+		List<String> record;
+		try {
+			do {
+				record = records.next();
+				if (record == null) {
+					finished = true;
+					return null;
+				}
+			}
+			while (record.size() == 1 && record.get(0).isBlank());
+		}
+		catch (IllegalStateException e) {
+			finished = true;
+			return ParsedRow.failed(records.recordLine(), e.getMessage());
+		}
+
+		try {
+			return ParsedRow.parsed(records.recordLine(), toRow(record));
+		}
+		catch (IllegalArgumentException e) {
+			return ParsedRow.failed(records.recordLine(), e.getMessage());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		source.close();
+	}
+
+	private QuestionImportRow toRow(List<String> record) {
+		String type = column(record, QUESTION_TYPE);
+		QuestionType questionType = null;
+		if (type != null) {
+			try {
+				questionType = QuestionType.valueOf(type.toUpperCase(Locale.ROOT));
+			}
+			catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Unknown question type: " + type);
+			}
+		}
+
+		String isActive = column(record, IS_ACTIVE);
+		if (isActive != null && !"true".equalsIgnoreCase(isActive) && !"false".equalsIgnoreCase(isActive)) {
+			throw new IllegalArgumentException("isActive must be true or false: " + isActive);
+		}
+
+		List<String> optionTexts = list(column(record, OPTIONS));
+		Set<Integer> correct = correctPositions(column(record, CORRECT_OPTIONS), optionTexts.size());
+		List<OptionRow> options = new ArrayList<>(optionTexts.size());
+		for (int i = 0; i < optionTexts.size(); i++) {
+			options.add(new OptionRow(optionTexts.get(i), correct.contains(i + 1)));
+		}
+
+		List<AnswerRow> answers = list(column(record, ANSWERS)).stream()
+			.map(answer -> new AnswerRow(answer, true))
+			.toList();
+
+		return new QuestionImportRow(column(record, CONTENT), questionType,
+				isActive != null ? Boolean.valueOf(isActive) : null, options, answers);
+	}
+
+	private String column(List<String> record, String name) {
+		Integer index = columns.get(name);
+		if (index == null || index >= record.size()) {
+			return null;
+		}
+		String value = record.get(index).strip();
+		return value.isEmpty() ? null : value;
+	}
+
+	private static List<String> list(String value) {
+		if (value == null) {
+			return List.of();
+		}
+		List<String> items = new ArrayList<>();
+		for (String item : value.split(LIST_SEPARATOR)) {
+			items.add(item.strip());
+		}
+		return items;
+	}
+
+	private static Set<Integer> correctPositions(String value, int optionCount) {
+		Set<Integer> positions = new HashSet<>();
+		for (String item : list(value)) {
+			int position;
+			try {
+				position = Integer.parseInt(item);
+			}
+			catch (NumberFormatException e) {
+				throw new IllegalArgumentException("correctOptions must contain option positions: " + item);
+			}
+			if (position < 1 || position > optionCount) {
+				throw new IllegalArgumentException("correctOptions refers to a missing option: " + position);
+			}
+			positions.add(position);
+		}
+		return positions;
+	}
+
+}
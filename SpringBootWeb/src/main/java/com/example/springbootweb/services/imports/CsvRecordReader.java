@@ -0,0 +1,96 @@
+package com.example.springbootweb.services.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 record reader: comma separated fields, optionally enclosed in double
+ * quotes, with {@code ""} as an escaped quote. Quoted fields may span lines. Both
+ * {@code \n} and {@code \r\n} end a record. A byte order mark at the start of the input
+ * (written by Excel's "CSV UTF-8") is skipped.
+ */
+final class CsvRecordReader {
+
+	private static final int BYTE_ORDER_MARK = '\uFEFF';
+
+	private final Reader reader;
+
+	private boolean started;
+
+	private long line = 1;
+
+	private long recordLine;
+
+	CsvRecordReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Line on which the record last returned by {@link #next()} starts.
+	 */
+	long recordLine() {
+		return recordLine;
+	}
+
+	/**
+	 * @return the fields of the next record, or {@code null} at the end of the input
+	 * @throws IllegalStateException if the input ends inside a quoted field
+	 */
+	List<String> next() throws IOException {
+		int c = reader.read();
+		if (!started) {
+			started = true;
+			if (c == BYTE_ORDER_MARK) {
+				c = reader.read();
+			}
+		}
+		if (c == -1) {
+			return null;
+		}
+		recordLine = line;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean inQuotes = false;
+		while (true) {
+			if (c == -1) {
+				if (inQuotes) {
+					throw new IllegalStateException("Unterminated quoted field");
+				}
+				fields.add(field.toString());
+				return fields;
+			}
+			if (inQuotes) {
+				if (c == '"') {
+					c = reader.read();
+					if (c != '"') {
+						inQuotes = false;
+						continue;
+					}
+				}
+				else if (c == '\n') {
+					line++;
+				}
+				field.append((char) c);
+			}
+			else if (c == '"' && field.isEmpty()) {
+				inQuotes = true;
+			}
+			else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			}
+			else if (c == '\n') {
+				line++;
+				fields.add(field.toString());
+				return fields;
+			}
+			else if (c != '\r') {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.example.springbootweb.services.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Reads questions from a newline-delimited JSON file, one {@link QuestionImportRow}
+ * object per line. Blank lines are skipped. Each line is parsed on its own, so a broken
+ * line only fails that row.
+ */
+public final class NdjsonQuestionRowReader implements QuestionRowReader {
+
+	private final BufferedReader source;
+
+	private final ObjectReader rowReader;
+
+	private long line;
+
+	public NdjsonQuestionRowReader(BufferedReader source, ObjectMapper objectMapper) {
+		this.source = source;
+		this.rowReader = objectMapper.readerFor(QuestionImportRow.class);
+	}
+
+	@Override
+	public ParsedRow next() throws IOException {
+		String text;
+		do {
+			text = source.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		}
+		while (text.isBlank());
+
+		try {
+			QuestionImportRow row = rowReader.readValue(text);
+			return row != null ? ParsedRow.parsed(line, row) : ParsedRow.failed(line, "Expected a JSON object");
+		}
+		catch (JacksonException e) {
+			return ParsedRow.failed(line, "Invalid JSON: " + e.getOriginalMessage());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		source.close();
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.example.springbootweb.services.imports;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+
+/**
+ * A row read from an import file: either the parsed question or the reason it could not
+ * be parsed.
+ *
+ * @param line 1-based line where the row starts
+ * @param row the parsed question, {@code null} if parsing failed
+ * @param error the parse error, {@code null} if parsing succeeded
+ */
+public record ParsedRow(long line, QuestionImportRow row, String error) {
+
+	public static ParsedRow parsed(long line, QuestionImportRow row) {
+		return new ParsedRow(line, row, null);
+	}
+
+	public static ParsedRow failed(long line, String error) {
+		return new ParsedRow(line, null, error);
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.example.springbootweb.services.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import file one row at a time, so files of any size are processed with
+ * constant memory. A malformed row is reported as a failed {@link ParsedRow} and reading
+ * continues with the next one.
+ */
+public interface QuestionRowReader extends Closeable {
+
+	/**
+	 * @return the next non-blank row, or {@code null} at the end of the file
+	 */
+	ParsedRow next() throws IOException;
+
+}
@@ -0,0 +1,47 @@
+package com.example.springbootweb.services.interfaces;
+
+import java.util.UUID;
+
+import com.example.springbootweb.entities.dtos.analytics.CreateReportJobRequest;
+import com.example.springbootweb.entities.dtos.analytics.ReportJobResponse;
+
+/**
+ * Service interface for asynchronous analytics reports. Reports are computed on a
+ * dedicated worker pool and their serialized results are kept for a limited time.
+ */
+public interface IAnalyticsReportService {
+
+	/**
+	 * Queue a report. If the user already has an identical report (same type and target)
+	 * queued or running, that job is returned instead of starting a new one.
+	 * @param request Report type, target and priority
+	 * @param userId The requesting user
+	 * @return The queued (or already in-flight) job
+	 */
+	ReportJobResponse submitReport(CreateReportJobRequest request, UUID userId);
+
+	/**
+	 * Get the current state of a report job.
+	 * @param jobId The job ID
+	 * @param requesterId The requesting user, who must have queued the job; {@code null}
+	 * for administrators, who may read every job
+	 * @return Job status
+	 */
+	ReportJobResponse getReportJob(UUID jobId, UUID requesterId);
+
+	/**
+	 * Get the result of a completed report as the JSON document that was stored.
+	 * @param jobId The job ID
+	 * @param requesterId The requesting user, who must have queued the job; {@code null}
+	 * for administrators, who may read every job
+	 * @return Serialized report
+	 */
+	String getReportResult(UUID jobId, UUID requesterId);
+
+	/**
+	 * Delete reports whose results have expired.
+	 * @return Number of deleted jobs
+	 */
+	int purgeExpiredReports();
+
+}
@@ -5,6 +5,7 @@ import com.example.springbootweb.entities.dtos.answers.AnswerResponse;
 import com.example.springbootweb.entities.dtos.answers.AnswerSummaryResponse;
 import com.example.springbootweb.entities.dtos.answers.CreateAnswerRequest;
 import com.example.springbootweb.entities.dtos.answers.UpdateAnswerRequest;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 
 import org.springframework.data.domain.Page;
 
@@ -16,6 +17,9 @@ public interface IAnswerService {
 
     Page<AnswerSummaryResponse> getPagedAnswers(Integer page, Integer size, AnswerFilter filter);
 
+    CursorPageResponse<AnswerSummaryResponse> getAnswersByCursor(String cursor, Integer size, boolean includeTotal,
+            AnswerFilter filter);
+
     AnswerResponse getAnswerById(UUID id);
 
     List<AnswerSummaryResponse> getActiveAnswers();
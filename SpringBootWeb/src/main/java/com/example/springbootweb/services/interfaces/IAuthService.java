@@ -1,7 +1,5 @@
 package com.example.springbootweb.services.interfaces;
 
-import java.util.UUID;
-
 import com.example.springbootweb.entities.dtos.auths.LoginRequestDto;
 import com.example.springbootweb.entities.dtos.auths.LoginResponseDto;
 import com.example.springbootweb.entities.dtos.auths.RegisterRequestDto;
@@ -22,10 +20,4 @@ public interface IAuthService {
 
     Pair<Boolean, String> refreshToken(HttpServletRequest request, HttpServletResponse response);
 
-    /**
-     * Get user ID by email (username from UserDetails)
-     * @param email The user's email address
-     * @return UUID of the user
-     */
-    UUID getUserIdByEmail(String email);
 }
@@ -0,0 +1,30 @@
+package com.example.springbootweb.services.interfaces;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.enums.CatalogResource;
+
+/**
+ * Strong ETags for catalog reads, computed from version columns only so a conditional
+ * GET can be answered without loading or serializing anything.
+ */
+public interface ICatalogVersionService {
+
+	/**
+	 * ETag of a single resource, derived from its {@code version} column.
+	 * @param resource The resource type
+	 * @param id The resource ID
+	 * @return The quoted ETag, or empty if the resource does not exist
+	 */
+	Optional<String> getResourceETag(CatalogResource resource, UUID id);
+
+	/**
+	 * ETag shared by every list, search and count read of a resource type. It changes
+	 * whenever any row of the type (or of a table shown in its responses) is written.
+	 * @param resource The resource type
+	 * @return The quoted ETag
+	 */
+	String getCollectionETag(CatalogResource resource);
+
+}
@@ -0,0 +1,25 @@
+package com.example.springbootweb.services.interfaces;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionImportResponse;
+import com.example.springbootweb.entities.enums.QuestionImportFormat;
+
+/**
+ * Service interface for bulk importing question banks.
+ */
+public interface IQuestionImportService {
+
+	/**
+	 * Stream questions from a CSV or NDJSON file into the database. Rows are validated one
+	 * by one; invalid rows are reported and skipped, valid rows are written in chunks,
+	 * each chunk in its own transaction.
+	 * @param input File content, UTF-8 encoded. Closed by this method
+	 * @param format File format
+	 * @param quizId Optional quiz the questions are appended to, in file order
+	 * @return Row counts and per-row errors
+	 */
+	QuestionImportResponse importQuestions(InputStream input, QuestionImportFormat format, UUID quizId);
+
+}
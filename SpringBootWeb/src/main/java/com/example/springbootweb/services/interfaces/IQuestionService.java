@@ -1,5 +1,6 @@
 package com.example.springbootweb.services.interfaces;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.questions.CreateQuestionRequest;
 import com.example.springbootweb.entities.dtos.questions.QuestionDetailResponse;
 import com.example.springbootweb.entities.dtos.questions.QuestionFilter;
@@ -17,6 +18,9 @@ public interface IQuestionService {
 
     Page<QuestionSummaryResponse> getPagedQuestions(Integer page, Integer size, QuestionFilter filter);
 
+    CursorPageResponse<QuestionSummaryResponse> getQuestionsByCursor(String cursor, Integer size, boolean includeTotal,
+            QuestionFilter filter);
+
     QuestionDetailResponse getQuestionById(UUID id);
 
     List<QuestionSummaryResponse> getActiveQuestions();
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizzes.CreateQuizRequest;
 import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
 import com.example.springbootweb.entities.dtos.quizzes.QuizFilter;
@@ -17,8 +18,14 @@ public interface IQuizService {
 
     Page<QuizSummaryResponse> getPagedQuizzes(Integer page, Integer size, QuizFilter filter);
 
+    CursorPageResponse<QuizSummaryResponse> getQuizzesByCursor(String cursor, Integer size, boolean includeTotal,
+            QuizFilter filter);
+
     Page<QuizDetailResponse> getPagedQuizDetail(Integer page, Integer size, QuizFilter filter);
 
+    CursorPageResponse<QuizDetailResponse> getQuizDetailsByCursor(String cursor, Integer size, boolean includeTotal,
+            QuizFilter filter);
+
     QuizDetailResponse getQuizById(UUID id);
 
     List<QuizSummaryResponse> getActiveQuizzes();
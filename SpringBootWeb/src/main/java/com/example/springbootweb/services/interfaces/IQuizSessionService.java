@@ -5,7 +5,9 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.LeaderboardResponse;
+import com.example.springbootweb.entities.dtos.quizsessions.QuestionBundleResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizQuestionResponse;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionFilter;
 import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionDetailResponse;
@@ -88,6 +90,16 @@ public interface IQuizSessionService {
      */
     QuizQuestionResponse getQuestionByIndex(UUID sessionId, int questionIndex, UUID userId);
 
+    /**
+     * Get every question of the quiz version the session is pinned to, so clients can
+     * load the whole quiz at once. Contains no correct answers and no session progress.
+     *
+     * @param sessionId The session ID
+     * @param userId The user ID
+     * @return QuestionBundleResponse of the session's quiz version
+     */
+    QuestionBundleResponse getQuestionBundle(UUID sessionId, UUID userId);
+
     /**
      * Submit an answer for a question.
      *
@@ -180,6 +192,23 @@ public interface IQuizSessionService {
             int size,
             QuizSessionFilter quizSessionFilter);
 
+    /**
+     * Get user's quiz session history with cursor (keyset) pagination, newest first.
+     *
+     * @param userId The user ID
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size Page size
+     * @param includeTotal Whether to also count all matching sessions
+     * @param quizSessionFilter Optional filters
+     * @return One page of quiz session summaries
+     */
+    CursorPageResponse<QuizSessionSummaryResponse> getUserHistoryByCursor(
+            UUID userId,
+            String cursor,
+            Integer size,
+            boolean includeTotal,
+            QuizSessionFilter quizSessionFilter);
+
     /**
      * Get leaderboard for a quiz.
      *
@@ -199,6 +228,19 @@ public interface IQuizSessionService {
      */
     LeaderboardResponse getLeaderboard(UUID quizId, int page, int size);
 
+    /**
+     * Get leaderboard entries with cursor (keyset) pagination. Ranks continue across
+     * pages.
+     *
+     * @param quizId The quiz ID
+     * @param cursor nextCursor of the previous page, null for the first page
+     * @param size Page size
+     * @param includeTotal Whether to also count all participants
+     * @return One page of leaderboard entries
+     */
+    CursorPageResponse<LeaderboardResponse.LeaderboardEntry> getLeaderboardByCursor(UUID quizId, String cursor,
+            Integer size, boolean includeTotal);
+
     // ==================== Admin/System Operations ====================
 
     /**
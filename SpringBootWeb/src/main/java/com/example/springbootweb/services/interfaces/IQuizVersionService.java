@@ -0,0 +1,47 @@
+package com.example.springbootweb.services.interfaces;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.dtos.quizzes.QuizVersionResponse;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+
+/**
+ * Service interface for published quiz versions. A version freezes the questions and
+ * answer key of a quiz; sessions are pinned to one and never see later edits.
+ */
+public interface IQuizVersionService {
+
+	/**
+	 * Publish the current state of a quiz as its next version. New sessions start on it,
+	 * sessions already in progress keep their version.
+	 * @param quizId The quiz ID
+	 * @param userId The publishing user
+	 * @return The new version
+	 */
+	QuizVersionResponse publishVersion(UUID quizId, UUID userId);
+
+	/**
+	 * Get the published versions of a quiz, newest first.
+	 * @param quizId The quiz ID
+	 * @return Versions without their snapshots
+	 */
+	List<QuizVersionResponse> getVersions(UUID quizId);
+
+	/**
+	 * Get the snapshot of the latest published version of a quiz. A quiz that was never
+	 * published gets its first version published implicitly.
+	 * @param quizId The quiz ID
+	 * @return The snapshot new sessions should start on
+	 */
+	QuizSnapshot getLatestSnapshot(UUID quizId);
+
+	/**
+	 * Get the snapshot of a version. Snapshots never change and are served from memory
+	 * after the first load.
+	 * @param versionId The version ID
+	 * @return The snapshot
+	 */
+	QuizSnapshot getSnapshot(UUID versionId);
+
+}
@@ -1,11 +1,39 @@
 package com.example.springbootweb.services.interfaces;
 
 import com.example.springbootweb.entities.models.RefreshToken;
-import org.springframework.data.util.Pair;
 
 public interface IRefreshTokenService {
 
-    RefreshToken saveRefreshToken(String username, RefreshToken refreshToken);
+    /**
+     * Store a newly issued refresh token with a single upsert, replacing (and revoking)
+     * the user's previous one.
+     */
+    void saveRefreshToken(RefreshToken refreshToken);
 
-    Pair<Boolean, String> validateRefreshToken(String token);
+    /**
+     * Check a refresh token with at most one lookup, which also loads its user.
+     */
+    Validation validateRefreshToken(String token);
+
+    /**
+     * Delete the refresh token and reject it from now on, e.g. on logout.
+     */
+    void revokeRefreshToken(String token);
+
+    /**
+     * Delete expired refresh tokens in batches.
+     * @return number of deleted tokens
+     */
+    int purgeExpiredTokens();
+
+    /**
+     * @param refreshToken the stored token with its user, {@code null} if invalid
+     * @param message why the token is (in)valid
+     */
+    record Validation(RefreshToken refreshToken, String message) {
+
+        public boolean isValid() {
+            return refreshToken != null;
+        }
+    }
 }
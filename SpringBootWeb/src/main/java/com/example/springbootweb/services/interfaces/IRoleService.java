@@ -1,5 +1,6 @@
 package com.example.springbootweb.services.interfaces;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.roles.CreateRoleRequest;
 import com.example.springbootweb.entities.dtos.roles.RoleDetailResponse;
 import com.example.springbootweb.entities.dtos.roles.RoleFilter;
@@ -16,6 +17,9 @@ public interface IRoleService {
 
     Page<RoleSummaryResponse> getPagedRoles(Integer page, Integer size, RoleFilter filter);
 
+    CursorPageResponse<RoleSummaryResponse> getRolesByCursor(String cursor, Integer size, boolean includeTotal,
+            RoleFilter filter);
+
     RoleDetailResponse getRoleById(UUID id);
 
     List<RoleSummaryResponse> getActiveRoles();
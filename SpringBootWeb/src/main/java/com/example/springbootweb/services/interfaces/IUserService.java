@@ -1,5 +1,6 @@
 package com.example.springbootweb.services.interfaces;
 
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
 import com.example.springbootweb.entities.dtos.users.CreateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UpdateUserRequest;
 import com.example.springbootweb.entities.dtos.users.UserDetailResponse;
@@ -16,11 +17,14 @@ public interface IUserService {
 
     Page<UserSummaryResponse> getPagedUsers(Integer page, Integer size, UserFilter filter);
 
+    CursorPageResponse<UserSummaryResponse> getUsersByCursor(String cursor, Integer size, boolean includeTotal,
+            UserFilter filter);
+
     UserDetailResponse getUserById(UUID id);
 
     List<UserSummaryResponse> getActiveUsers();
 
-    List<UserSummaryResponse> searchUsers(String keyword);
+    List<UserSummaryResponse> searchUsers(String keyword, boolean fuzzy);
 
     UserDetailResponse createUser(CreateUserRequest createUserRequest);
 
@@ -0,0 +1,49 @@
+package com.example.springbootweb.services.jwt;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Principal of requests authenticated by access token, built from the verified claims
+ * alone. Controllers read the user id from here instead of looking the user up by email.
+ *
+ * @param id user id
+ * @param email user email, the token subject
+ * @param authorities role authorities, e.g. {@code ROLE_ADMIN}
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email,
+        List<GrantedAuthority> authorities) implements UserDetails {
+
+    public static AuthenticatedUser from(VerifiedToken token) {
+        List<GrantedAuthority> authorities = token.roles()
+                .stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new AuthenticatedUser(token.userId(), token.subject(), authorities);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Never available, the password is only checked at login.
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
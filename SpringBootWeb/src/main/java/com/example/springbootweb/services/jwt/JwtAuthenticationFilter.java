@@ -6,8 +6,6 @@ import java.util.List;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,7 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
 
     // List of public endpoints that do not require authentication
     private static final List<String> PUBLIC_ENDPOINTS = Arrays.asList("/api/auth/login", "/api/auth/register",
@@ -47,17 +45,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
             return;
         }
-        final String userEmail = jwtService.extractUserSubject(accessTokenJwt);
-        // Check if userEmail exists and user is not authenticated
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            // Check if token is valid
-            if (jwtService.isTokenValid(accessTokenJwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
-                        null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        // Parsed and verified once, then served from the verified-token cache
+        VerifiedToken token = jwtService.verify(accessTokenJwt).orElse(null);
+        // The principal comes from the claims alone; only revoked tokens are rejected
+        if (token != null && token.userId() != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && tokenVersionService.isCurrent(token.userId(), token.tokenVersion())) {
+            AuthenticatedUser principal = AuthenticatedUser.from(token);
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(principal,
+                    null, principal.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
         filterChain.doFilter(request, response);
     }
@@ -1,25 +1,30 @@
 package com.example.springbootweb.services.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import com.example.springbootweb.entities.constants.ErrorMessage;
 import com.example.springbootweb.entities.jwt.JwtProperties;
 import com.example.springbootweb.entities.models.RefreshToken;
 import com.example.springbootweb.entities.models.User;
-import com.example.springbootweb.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
@@ -30,6 +35,8 @@ import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,14 +49,22 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtTokenUtil {
     private final JwtProperties props;
-    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     private JWSSigner signer;
     private JWSVerifier verifier;
+    /** Verified access tokens keyed by SHA-256 digest. */
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    private static final String VERIFIED_TOKEN_CACHE = "verified-tokens";
 
     public static final String REFRESH_TOKEN = "refresh_token";
     public static final String ACCESS_TOKEN = "access_token";
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String TOKEN_VERSION_CLAIM = "tv";
+
     @PostConstruct
     public void init() {
         try {
@@ -58,25 +73,58 @@ public class JwtTokenUtil {
         } catch (JOSEException e) {
             throw new RuntimeException("Could not initialize JWT signer/verifier", e);
         }
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(props.verifiedCacheSize())
+                .expireAfter(Expiry.creating((String digest, VerifiedToken token) -> timeToExpiry(token)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, VERIFIED_TOKEN_CACHE);
     }
 
-    public String extractUserSubject(String token) {
-        return extractClaim(token, JWTClaimsSet::getSubject);
-    }
+    /**
+     * Verify the token once and return its claims. Valid tokens are remembered by digest
+     * until they expire, so the same token on later requests is neither parsed nor
+     * verified again.
+     *
+     * @return the claims, or empty if the token is malformed, badly signed or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        String digest = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached.isExpired(now) ? Optional.empty() : Optional.of(cached);
+        }
 
-    public <T> T extractClaim(String token, Function<JWTClaimsSet, T> claimsResolver) {
-        final JWTClaimsSet claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        VerifiedToken verified = parseAndVerify(token);
+        if (verified == null || verified.isExpired(now)) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(digest, verified);
+        return Optional.of(verified);
     }
 
-    public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+    public String extractUserSubject(String token) {
+        return verify(token).map(VerifiedToken::subject)
+                .orElseThrow(() -> new RuntimeException("Invalid JWT token"));
     }
 
-    public Boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUserSubject(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    /**
+     * Access token carrying everything needed to authenticate later requests without a
+     * user lookup: user id, role authorities and the current token version.
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(ROLES_CLAIM, user.getRoles()
+                .stream()
+                .map(role -> "ROLE_" + role.getName().toUpperCase())
+                .toList());
+        claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion() != null ? user.getTokenVersion() : 0L);
+        return createToken(claims, user.getEmail());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -103,39 +151,66 @@ public class JwtTokenUtil {
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expiration = extractExpiration(token);
-        return expiration != null && expiration.before(new Date());
+    private VerifiedToken parseAndVerify(String token) {
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            if (!signedJWT.verify(verifier)) {
+                log.debug("Rejected JWT with invalid signature");
+                return null;
+            }
+            JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+            if (claims.getSubject() == null) {
+                return null;
+            }
+            String userId = claims.getStringClaim(USER_ID_CLAIM);
+            List<String> roles = claims.getStringListClaim(ROLES_CLAIM);
+            Long tokenVersion = claims.getLongClaim(TOKEN_VERSION_CLAIM);
+            return new VerifiedToken(claims.getSubject(), claims.getJWTID(), toInstant(claims.getIssueTime()),
+                    toInstant(claims.getExpirationTime()), userId != null ? UUID.fromString(userId) : null,
+                    roles != null ? List.copyOf(roles) : List.of(), tokenVersion != null ? tokenVersion : 0L);
+        } catch (ParseException | JOSEException | IllegalArgumentException | IllegalStateException e) {
+            log.debug("Rejected malformed JWT: {}", e.getMessage());
+            return null;
+        }
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, JWTClaimsSet::getExpirationTime);
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
 
-    private JWTClaimsSet extractAllClaims(String token) {
+    /**
+     * SHA-256 hex digest of a token, the form tokens are cached and stored in so that
+     * neither holds usable tokens.
+     */
+    public static String hash(String token) {
         try {
-            SignedJWT signedJWT = SignedJWT.parse(token);
-
-            if (!signedJWT.verify(verifier)) {
-                throw new RuntimeException("Invalid JWT signature");
-            }
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 
-            return signedJWT.getJWTClaimsSet();
-        } catch (ParseException | JOSEException e) {
-            throw new RuntimeException("Invalid JWT token", e);
+    /**
+     * Keeps each entry until its token expires; tokens without expiration are kept for
+     * one access token lifetime.
+     */
+    private Duration timeToExpiry(VerifiedToken token) {
+        if (token.expiresAt() == null) {
+            return Duration.ofMillis(props.expiration());
         }
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
     }
 
-    public RefreshToken generateRefreshToken(UserDetails userDetails) {
+    public RefreshToken generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("type", "refresh");
-        String token = createToken(claims, userDetails.getUsername());
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(
-                        () -> new UsernameNotFoundException(ErrorMessage.USER_NOT_FOUND + userDetails.getUsername()));
+        String token = createToken(claims, user.getEmail());
 
         return RefreshToken.builder()
                 .token(token)
+                .tokenHash(hash(token))
                 .user(user)
                 .expiryDate(Instant.now().plusMillis(props.refreshExpiration()))
                 .build();
@@ -0,0 +1,127 @@
+package com.example.springbootweb.services.jwt;
+
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.springbootweb.entities.jwt.RefreshTokenProperties;
+
+/**
+ * Bloom filter of revoked refresh token hashes (logged out or replaced by a newer
+ * login), so replayed tokens are rejected without a database lookup. A token that is not
+ * in the filter is still looked up, which keeps revocations made by other instances or
+ * before a restart effective.
+ * <p>
+ * Bloom filters cannot forget, so two generations are kept: a new one is started when
+ * the current one is full or once per refresh token lifetime, after which nothing in the
+ * oldest could still be valid. Dropping an entry early only costs a lookup.
+ */
+@Component
+public class RevokedTokenFilter {
+
+    private final int capacity;
+
+    private final int bits;
+
+    private final int hashFunctions;
+
+    private volatile Generation current;
+
+    private volatile Generation previous;
+
+    public RevokedTokenFilter(RefreshTokenProperties properties) {
+        this.capacity = properties.revokedFilterCapacity();
+        double ln2 = Math.log(2);
+        this.bits = (int) Math.ceil(-capacity * Math.log(properties.revokedFilterFalsePositiveRate()) / (ln2 * ln2));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bits / capacity * ln2));
+        this.current = new Generation(bits);
+        this.previous = new Generation(bits);
+    }
+
+    /**
+     * @param tokenHash SHA-256 hex digest of the token, see {@link JwtTokenUtil#hash(String)}
+     */
+    public void revoke(String tokenHash) {
+        Generation generation = current;
+        if (generation.count.incrementAndGet() > capacity) {
+            generation = rotate(generation);
+        }
+        generation.add(tokenHash, hashFunctions);
+    }
+
+    /**
+     * @return {@code false} if the token was certainly not revoked through this instance
+     */
+    public boolean mightBeRevoked(String tokenHash) {
+        return current.mightContain(tokenHash, hashFunctions) || previous.mightContain(tokenHash, hashFunctions);
+    }
+
+    @Scheduled(fixedRateString = "${jwt.refresh-expiration}", initialDelayString = "${jwt.refresh-expiration}")
+    public void rotate() {
+        rotate(current);
+    }
+
+    /**
+     * Start a new generation unless another thread already replaced {@code full}.
+     */
+    private synchronized Generation rotate(Generation full) {
+        if (current == full) {
+            previous = current;
+            current = new Generation(bits);
+        }
+        return current;
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+
+        private final long size;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Generation(int bits) {
+            this.words = new AtomicLongArray((bits + 63) / 64);
+            this.size = (long) words.length() * 64;
+        }
+
+        void add(String tokenHash, int hashFunctions) {
+            long[] h = seeds(tokenHash);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h[0] + i * h[1], size);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value;
+                do {
+                    value = words.get(word);
+                }
+                while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+            }
+        }
+
+        boolean mightContain(String tokenHash, int hashFunctions) {
+            long[] h = seeds(tokenHash);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(h[0] + i * h[1], size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The hash is already uniformly distributed, so its first 128 bits serve as the
+         * two seeds of double hashing.
+         */
+        private static long[] seeds(String tokenHash) {
+            return new long[] { HexFormat.fromHexDigitsToLong(tokenHash, 0, 16),
+                    HexFormat.fromHexDigitsToLong(tokenHash, 16, 32) | 1 };
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.springbootweb.services.jwt;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.springbootweb.entities.jwt.JwtProperties;
+import com.example.springbootweb.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Revocation check for access tokens. A token is accepted only while the token version
+ * it carries is still the user's current one; the version is bumped by database triggers
+ * when the user is disabled, changes password or email, or gets different roles.
+ * <p>
+ * Current versions are cached per user for {@link JwtProperties#revocationCheckInterval()},
+ * so most requests make no query. Changes made through this instance are seen at once
+ * (see {@link #evict(UUID)}), changes made elsewhere within that interval.
+ */
+@Service
+public class TokenVersionService {
+
+    private static final String CACHE_NAME = "token-versions";
+
+    /** Cached for users that are disabled or gone; no token version ever matches it. */
+    private static final long REVOKED = -1;
+
+    private final LoadingCache<UUID, Long> currentVersions;
+
+    public TokenVersionService(UserRepository userRepository, JwtProperties props, MeterRegistry meterRegistry) {
+        this.currentVersions = Caffeine.newBuilder()
+                .maximumSize(props.verifiedCacheSize())
+                .expireAfterWrite(props.revocationCheckInterval())
+                .recordStats()
+                .build(userId -> userRepository.findActiveTokenVersionById(userId).orElse(REVOKED));
+        CaffeineCacheMetrics.monitor(meterRegistry, currentVersions, CACHE_NAME);
+    }
+
+    public boolean isCurrent(UUID userId, long tokenVersion) {
+        return tokenVersion != REVOKED && currentVersions.get(userId) == tokenVersion;
+    }
+
+    /**
+     * Forget the cached version of a user whose account state changed. Inside a
+     * transaction this happens after commit, so the new version is what gets loaded next.
+     */
+    public void evict(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    currentVersions.invalidate(userId);
+                }
+            });
+        } else {
+            currentVersions.invalidate(userId);
+        }
+    }
+}
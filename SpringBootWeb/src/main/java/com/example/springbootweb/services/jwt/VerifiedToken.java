@@ -0,0 +1,31 @@
+package com.example.springbootweb.services.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims of a token whose signature has been checked. Produced once per token by
+ * {@link JwtTokenUtil#verify(String)}; callers read it instead of parsing the token again.
+ *
+ * @param subject user email
+ * @param tokenId {@code jti} claim
+ * @param issuedAt issue time, or {@code null} if absent
+ * @param expiresAt expiration time, or {@code null} for a token that never expires
+ * @param userId user id, or {@code null} for tokens issued before it was embedded
+ * @param roles role authorities of the user when the token was issued
+ * @param tokenVersion account-state version of the user when the token was issued
+ */
+public record VerifiedToken(
+        String subject,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt,
+        UUID userId,
+        List<String> roles,
+        long tokenVersion) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.springbootweb.services.logging;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Logs every request as a single {@code key=value} line on logger {@code ACCESS_LOG},
+ * after the response status is known:
+ * <pre>
+ * method=POST path=/api/auth/login status=200 duration_ms=87 client=10.0.0.7
+ * </pre>
+ * Registered ahead of the security filter chain, so rejected (401, 429) requests are
+ * logged too. The query string is left out since it may carry search terms.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+	private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !ACCESS_LOG.isInfoEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long start = System.nanoTime();
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			long durationMs = (System.nanoTime() - start) / 1_000_000;
+			ACCESS_LOG.info("method={} path={} status={} duration_ms={} client={}", request.getMethod(),
+					request.getRequestURI(), response.getStatus(), durationMs, request.getRemoteAddr());
+		}
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.springbootweb.services.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.web.filter.CommonsRequestLoggingFilter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * {@link CommonsRequestLoggingFilter} that logs only a random sample of the requests, so
+ * payload logging can stay on in production without formatting every request body.
+ */
+public class SampledRequestLoggingFilter extends CommonsRequestLoggingFilter {
+
+	private final double sampleRate;
+
+	public SampledRequestLoggingFilter(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@Override
+	protected boolean shouldLog(HttpServletRequest request) {
+		return sampleRate > 0 && super.shouldLog(request)
+				&& (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.example.springbootweb.services.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every method of the {@code I*Service} beans, plus JWT verification, as
+ * {@code service.invocations{operation, outcome}}, where {@code operation} is
+ * {@code ClassName.method} and {@code outcome} is {@code success} or {@code error}.
+ * Repository queries are already timed by Spring Boot as
+ * {@code spring.data.repository.invocations}.
+ * <p>
+ * The two timers of a method are resolved once and kept per {@link Method}, so an
+ * invocation costs two {@code nanoTime} calls and a map lookup. Histograms and SLO
+ * buckets are configured under {@code management.metrics.distribution.*}.
+ */
+@Aspect
+@Component
+public class ServiceTimingAspect {
+
+	private static final String METRIC_NAME = "service.invocations";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+
+	public ServiceTimingAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Around("execution(public * com.example.springbootweb.services.interfaces.I*Service+.*(..))"
+			+ " || execution(public * com.example.springbootweb.services.jwt.JwtTokenUtil.verify(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		long start = System.nanoTime();
+		Timers methodTimers = timers.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+				method -> register(joinPoint));
+		try {
+			Object result = joinPoint.proceed();
+			methodTimers.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return result;
+		}
+		catch (Throwable ex) {
+			methodTimers.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			throw ex;
+		}
+	}
+
+	private Timers register(ProceedingJoinPoint joinPoint) {
+		String operation = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName() + "."
+				+ joinPoint.getSignature().getName();
+		return new Timers(timer(operation, "success"), timer(operation, "error"));
+	}
+
+	private Timer timer(String operation, String outcome) {
+		return Timer.builder(METRIC_NAME)
+			.description("Latency of service methods")
+			.tag("operation", operation)
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	private record Timers(Timer success, Timer error) {
+	}
+
+}
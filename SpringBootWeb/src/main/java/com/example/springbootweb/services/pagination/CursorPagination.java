@@ -0,0 +1,241 @@
+package com.example.springbootweb.services.pagination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.type.descriptor.java.CoercionException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.orm.jpa.JpaSystemException;
+
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
+import com.example.springbootweb.exceptions.BadRequestException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset pagination on top of Spring Data's {@link Window} scrolling. Each page is
+ * fetched with {@code WHERE (sort keys) > (keys of the last row) ORDER BY ... LIMIT n+1},
+ * so the cost of a page does not depend on how deep it is, and no count query runs
+ * unless the client asks for the total.
+ * <p>
+ * The sort always ends with {@code id} so the position is unique. Cursors are the keys
+ * of the last row (plus the number of rows before it) serialized into an opaque
+ * URL-safe token; they are only valid for the sort they were created with.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CursorPagination {
+
+	public static final int DEFAULT_SIZE = 10;
+
+	public static final int MAX_SIZE = 100;
+
+	private static final String ID = "id";
+
+	private static final byte VERSION = 1;
+
+	private static final int MAX_CURSOR_LENGTH = 2048;
+
+	/**
+	 * Fetch one page and map its rows.
+	 * @param cursor {@code nextCursor} of the previous page, {@code null} for the first
+	 * page
+	 * @param includeTotal whether to also run a count query for {@code totalElements}
+	 */
+	public static <T, R> CursorPageResponse<R> page(JpaSpecificationExecutor<T> repository, Specification<T> spec,
+			Sort sort, String cursor, Integer size, boolean includeTotal, Function<? super T, ? extends R> mapper) {
+		return pageIndexed(repository, spec, sort, cursor, size, includeTotal,
+				(item, position) -> mapper.apply(item));
+	}
+
+	/**
+	 * Same as {@link #page}, the mapper also receives the 0-based position of each row in
+	 * the whole result (e.g. to number leaderboard ranks).
+	 */
+	public static <T, R> CursorPageResponse<R> pageIndexed(JpaSpecificationExecutor<T> repository,
+			Specification<T> spec, Sort sort, String cursor, Integer size, boolean includeTotal,
+			BiFunction<? super T, Long, ? extends R> mapper) {
+		return pageBatched(repository, spec, sort, cursor, size, includeTotal, (rows, offset) -> {
+			List<R> content = new ArrayList<>(rows.size());
+			for (int i = 0; i < rows.size(); i++) {
+				content.add(mapper.apply(rows.get(i), offset + i));
+			}
+			return content;
+		});
+	}
+
+	/**
+	 * Same as {@link #page}, the rows of a page are mapped together so the mapper can load
+	 * whatever they reference with one query instead of one per row. The mapper receives
+	 * the rows and the 0-based position of the first one in the whole result, and returns
+	 * the items of the page in row order.
+	 */
+	public static <T, R> CursorPageResponse<R> pageBatched(JpaSpecificationExecutor<T> repository,
+			Specification<T> spec, Sort sort, String cursor, Integer size, boolean includeTotal,
+			BiFunction<? super List<T>, Long, ? extends List<R>> mapper) {
+		int pageSize = size == null ? DEFAULT_SIZE : size;
+		if (pageSize < 1 || pageSize > MAX_SIZE) {
+			throw new BadRequestException("Size must be between 1 and " + MAX_SIZE);
+		}
+		Sort keysetSort = withIdTiebreaker(sort);
+		Position position = decode(cursor, keysetSort);
+
+		Window<T> window;
+		try {
+			window = repository.findBy(spec,
+					query -> query.sortBy(keysetSort).limit(pageSize).scroll(position.scrollPosition()));
+		}
+		catch (JpaSystemException e) {
+			// A well-formed cursor whose keys were edited to values of another type
+			if (e.getCause() instanceof CoercionException) {
+				throw new BadRequestException("Invalid cursor");
+			}
+			throw e;
+		}
+
+		List<R> content = window.isEmpty() ? List.of() : mapper.apply(window.getContent(), position.offset());
+
+		String nextCursor = null;
+		if (window.hasNext() && !window.isEmpty()) {
+			nextCursor = encode((KeysetScrollPosition) window.positionAt(window.size() - 1),
+					position.offset() + window.size());
+		}
+		Long total = includeTotal ? repository.count(spec) : null;
+		return new CursorPageResponse<>(content, content.size(), nextCursor != null, nextCursor, total);
+	}
+
+	// ==================== Helper Methods ====================
+
+	static Sort withIdTiebreaker(Sort sort) {
+		if (sort.getOrderFor(ID) != null) {
+			return sort;
+		}
+		Sort.Direction direction = sort.stream().reduce((first, second) -> second)
+			.map(Sort.Order::getDirection)
+			.orElse(Sort.Direction.ASC);
+		return sort.and(Sort.by(direction, ID));
+	}
+
+	static String encode(KeysetScrollPosition position, long offset) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeByte(VERSION);
+			out.writeLong(offset);
+			out.writeByte(position.getKeys().size());
+			for (Map.Entry<String, Object> key : position.getKeys().entrySet()) {
+				out.writeUTF(key.getKey());
+				writeValue(out, key.getValue());
+			}
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not encode cursor", e);
+		}
+	}
+
+	static Position decode(String cursor, Sort sort) {
+		if (cursor == null || cursor.isBlank()) {
+			return new Position(ScrollPosition.keyset(), 0);
+		}
+		if (cursor.length() > MAX_CURSOR_LENGTH) {
+			throw new BadRequestException("Invalid cursor");
+		}
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)));
+			if (in.readByte() != VERSION) {
+				throw new BadRequestException("Invalid cursor");
+			}
+			long offset = in.readLong();
+			int count = in.readByte();
+			Map<String, Object> keys = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				keys.put(in.readUTF(), readValue(in));
+			}
+			Set<String> expected = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+			if (offset < 0 || !keys.keySet().equals(expected) || in.available() > 0) {
+				throw new BadRequestException("Cursor does not belong to this list");
+			}
+			return new Position(ScrollPosition.forward(keys), offset);
+		}
+		catch (IOException | IllegalArgumentException | DateTimeException e) {
+			throw new BadRequestException("Invalid cursor");
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		switch (value) {
+			case null -> out.writeByte('N');
+			case String s -> {
+				out.writeByte('S');
+				out.writeUTF(s);
+			}
+			case UUID u -> {
+				out.writeByte('U');
+				out.writeLong(u.getMostSignificantBits());
+				out.writeLong(u.getLeastSignificantBits());
+			}
+			case LocalDateTime t -> {
+				out.writeByte('T');
+				out.writeUTF(t.toString());
+			}
+			case Integer n -> {
+				out.writeByte('I');
+				out.writeInt(n);
+			}
+			case Long n -> {
+				out.writeByte('L');
+				out.writeLong(n);
+			}
+			case BigDecimal d -> {
+				out.writeByte('D');
+				out.writeUTF(d.toString());
+			}
+			case Boolean b -> {
+				out.writeByte('B');
+				out.writeBoolean(b);
+			}
+			default -> throw new IllegalStateException("Unsupported cursor key type: " + value.getClass());
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte tag = in.readByte();
+		return switch (tag) {
+			case 'N' -> null;
+			case 'S' -> in.readUTF();
+			case 'U' -> new UUID(in.readLong(), in.readLong());
+			case 'T' -> LocalDateTime.parse(in.readUTF());
+			case 'I' -> in.readInt();
+			case 'L' -> in.readLong();
+			case 'D' -> new BigDecimal(in.readUTF());
+			case 'B' -> in.readBoolean();
+			default -> throw new IllegalArgumentException("Unknown cursor key type: " + tag);
+		};
+	}
+
+	record Position(KeysetScrollPosition scrollPosition, long offset) {
+	}
+
+}
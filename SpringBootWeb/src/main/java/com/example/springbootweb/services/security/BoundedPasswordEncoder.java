@@ -0,0 +1,146 @@
+package com.example.springbootweb.services.security;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.exceptions.TooManyRequestsException;
+import com.example.springbootweb.services.executors.BoundedPriorityExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Runs the delegate's (BCrypt) hashing on a small bounded pool instead of the calling
+ * request thread, so a burst of logins can only use that many cores. Password checks
+ * (logins) go before encodes (registrations, password changes). When the queue is full
+ * the caller gets a {@link TooManyRequestsException} right away instead of waiting, and
+ * the same when its password has not been hashed within the timeout (the queued work is
+ * then dropped).
+ * <p>
+ * Metrics: {@code auth.password.hashing} (hash time, per operation),
+ * {@code auth.password.hashing.wait} (time queued), {@code auth.password.hashing.rejected}
+ * and the {@code queued}/{@code active} gauges registered with the executor.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private static final int MATCHES_PRIORITY = 0;
+
+	private static final int ENCODE_PRIORITY = 1;
+
+	private final PasswordEncoder delegate;
+
+	private final BoundedPriorityExecutor executor;
+
+	private final long timeoutNanos;
+
+	private final long retryAfterSeconds;
+
+	private final Timer encodeTimer;
+
+	private final Timer matchesTimer;
+
+	private final Timer waitTimer;
+
+	private final Counter rejected;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, BoundedPriorityExecutor executor, Duration timeout,
+			long retryAfterSeconds, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.executor = executor;
+		this.timeoutNanos = timeout.toNanos();
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.encodeTimer = hashTimer("encode", meterRegistry);
+		this.matchesTimer = hashTimer("matches", meterRegistry);
+		this.waitTimer = Timer.builder("auth.password.hashing.wait")
+			.description("Time a password waited for a hashing worker")
+			.register(meterRegistry);
+		this.rejected = Counter.builder("auth.password.hashing.rejected")
+			.description("Password hashing requests rejected because the queue was full or they timed out")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return hash(ENCODE_PRIORITY, encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return hash(MATCHES_PRIORITY, matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> T hash(int priority, Timer timer, Supplier<T> hashing) {
+		long queuedAt = System.nanoTime();
+		CompletableFuture<T> result = new CompletableFuture<>();
+		boolean accepted = executor.trySubmit(priority, () -> {
+			if (result.isDone()) {
+				// The caller timed out while this was queued
+				return;
+			}
+			waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+			try {
+				result.complete(timer.record(hashing));
+			}
+			catch (Throwable e) {
+				// Errors too, or the caller would only learn about them from the timeout
+				result.completeExceptionally(e);
+				if (e instanceof Error error) {
+					throw error;
+				}
+			}
+		});
+		if (!accepted) {
+			throw busy();
+		}
+
+		try {
+			return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			result.cancel(false);
+			throw busy();
+		}
+		catch (InterruptedException e) {
+			result.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+		}
+		catch (ExecutionException e) {
+			switch (e.getCause()) {
+				case RuntimeException cause -> throw cause;
+				case Error cause -> throw cause;
+				case null, default -> throw new IllegalStateException("Password hashing failed", e.getCause());
+			}
+		}
+	}
+
+	private TooManyRequestsException busy() {
+		rejected.increment();
+		return new TooManyRequestsException(ErrorMessage.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+	}
+
+	private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+		return Timer.builder("auth.password.hashing")
+			.description("Time spent hashing a password")
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.example.springbootweb.services.security;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.springbootweb.entities.constants.ErrorMessage;
+import com.example.springbootweb.entities.security.RateLimitProperties;
+import com.example.springbootweb.exceptions.ErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Rejects requests over their {@link RateLimiter} policy with {@code 429 Too Many
+ * Requests} and {@code Retry-After}, before they reach a controller or take a database
+ * connection. Runs in the security filter chain right after
+ * {@link com.example.springbootweb.services.jwt.JwtAuthenticationFilter}, so per-user
+ * policies see the authenticated user.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final RateLimiter rateLimiter;
+
+	private final RateLimitProperties properties;
+
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !properties.enabled();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long retryAfterSeconds = rateLimiter.acquire(request);
+		if (retryAfterSeconds == 0) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		ErrorResponse errorResponse = ErrorResponse.builder()
+			.timestamp(LocalDateTime.now())
+			.status(HttpStatus.TOO_MANY_REQUESTS.value())
+			.error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+			.message(ErrorMessage.RATE_LIMIT_EXCEEDED)
+			.path(request.getRequestURI())
+			.build();
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), errorResponse);
+	}
+
+}
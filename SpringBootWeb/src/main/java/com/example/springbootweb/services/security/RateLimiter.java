@@ -0,0 +1,141 @@
+package com.example.springbootweb.services.security;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.example.springbootweb.entities.security.RateLimitProperties;
+import com.example.springbootweb.entities.security.RateLimitProperties.KeyType;
+import com.example.springbootweb.entities.security.RateLimitProperties.Policy;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Token buckets of the {@code app.rate-limit} policies, one per client and policy.
+ * <p>
+ * Buckets live in a bounded cache and are dropped once idle for a full refill period;
+ * by then they would be full again, so forgetting them changes nothing. Past
+ * {@code max-keys} the least recently seen clients are dropped and start over with a
+ * full bucket.
+ * <p>
+ * Metrics: {@code ratelimit.requests} (per policy and outcome) and the {@code cache.*}
+ * metrics of caches {@code rate-limit.<policy>}.
+ */
+@Component
+public class RateLimiter {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private final List<Route> routes;
+
+	public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+		PathPatternParser parser = PathPatternParser.defaultInstance;
+		this.routes = properties.policies()
+			.entrySet()
+			.stream()
+			.map(entry -> new Route(entry.getKey(), entry.getValue(), parser, properties.maxKeys(), meterRegistry))
+			.toList();
+	}
+
+	/**
+	 * Counts the request against the first policy matching it.
+	 * @return {@code 0} if the request may proceed, otherwise the seconds until the
+	 * client may retry
+	 */
+	public long acquire(HttpServletRequest request) {
+		if (routes.isEmpty()) {
+			return 0;
+		}
+		PathContainer path = PathContainer.parsePath(request.getServletPath());
+		for (Route route : routes) {
+			if (route.matches(request.getMethod(), path)) {
+				return route.acquire(clientKey(route.policy.key(), request));
+			}
+		}
+		return 0;
+	}
+
+	private static String clientKey(KeyType keyType, HttpServletRequest request) {
+		if (keyType == KeyType.USER) {
+			Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+			if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+				return "user:" + user.id();
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private static final class Route {
+
+		private final Policy policy;
+
+		private final List<PathPattern> patterns;
+
+		private final Set<String> methods;
+
+		private final long refillPeriodNanos;
+
+		private final Cache<String, TokenBucket> buckets;
+
+		private final Counter allowed;
+
+		private final Counter rejected;
+
+		Route(String name, Policy policy, PathPatternParser parser, long maxKeys, MeterRegistry meterRegistry) {
+			this.policy = policy;
+			this.patterns = policy.paths().stream().map(parser::parse).toList();
+			this.methods = policy.methods().stream().map(String::toUpperCase).collect(Collectors.toSet());
+			this.refillPeriodNanos = policy.refillPeriod().toNanos();
+			this.buckets = Caffeine.newBuilder()
+				.maximumSize(maxKeys)
+				.expireAfterAccess(policy.refillPeriod())
+				.recordStats()
+				.build();
+			CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit." + name);
+			this.allowed = counter(name, "allowed", meterRegistry);
+			this.rejected = counter(name, "rejected", meterRegistry);
+		}
+
+		boolean matches(String method, PathContainer path) {
+			if (!methods.isEmpty() && !methods.contains(method)) {
+				return false;
+			}
+			return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+		}
+
+		long acquire(String key) {
+			long now = System.nanoTime();
+			long waitNanos = buckets.get(key, k -> new TokenBucket(policy.capacity(), refillPeriodNanos, now))
+				.tryConsume(now);
+			if (waitNanos == 0) {
+				allowed.increment();
+				return 0;
+			}
+			rejected.increment();
+			return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+		}
+
+		private static Counter counter(String policy, String outcome, MeterRegistry meterRegistry) {
+			return Counter.builder("ratelimit.requests")
+				.description("Requests checked against a rate limit policy")
+				.tag("policy", policy)
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+		}
+
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.example.springbootweb.services.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count and a refill timestamp, the state is
+ * the single instant at which the bucket will be full again (the "theoretical arrival
+ * time" of GCRA), so taking a token is one compare-and-set and needs no refill thread.
+ * Each token pushes that instant {@code interval} further; a request is allowed while
+ * the instant stays within {@code capacity * interval} of now.
+ */
+final class TokenBucket {
+
+	private final long intervalNanos;
+
+	private final long burstNanos;
+
+	private final AtomicLong fullAt;
+
+	TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+		this.intervalNanos = Math.max(1, refillPeriodNanos / capacity);
+		this.burstNanos = intervalNanos * capacity;
+		this.fullAt = new AtomicLong(nowNanos);
+	}
+
+	/**
+	 * Takes a token if one is available.
+	 * @return {@code 0} if a token was taken, otherwise the nanoseconds until one will be
+	 * available
+	 */
+	long tryConsume(long nowNanos) {
+		while (true) {
+			long current = fullAt.get();
+			long next = Math.max(current, nowNanos) + intervalNanos;
+			long excess = next - nowNanos - burstNanos;
+			if (excess > 0) {
+				return excess;
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,23 @@
+-- liquibase formatted sql
+
+-- changeset luubach:analytics-report-jobs-1
+CREATE TABLE analytics_report_jobs
+(
+    id            UUID         NOT NULL,
+    report_type   VARCHAR(30)  NOT NULL,
+    target_id     UUID         NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    priority      VARCHAR(10)  NOT NULL,
+    requested_by  UUID,
+    created_at    TIMESTAMP    NOT NULL,
+    started_at    TIMESTAMP,
+    finished_at   TIMESTAMP,
+    expires_at    TIMESTAMP,
+    result        TEXT,
+    error_message VARCHAR(1000),
+    CONSTRAINT pk_analytics_report_jobs PRIMARY KEY (id)
+);
+
+-- changeset luubach:analytics-report-jobs-2
+CREATE INDEX idx_analytics_report_jobs_expires_at ON analytics_report_jobs (expires_at);
+CREATE INDEX idx_analytics_report_jobs_status ON analytics_report_jobs (status);
@@ -0,0 +1,60 @@
+-- liquibase formatted sql
+
+-- changeset luubach:full-text-search-1
+ALTER TABLE quizzes ADD COLUMN search_vector TSVECTOR;
+ALTER TABLE questions ADD COLUMN search_vector TSVECTOR;
+ALTER TABLE answers ADD COLUMN search_vector TSVECTOR;
+
+-- changeset luubach:full-text-search-2 splitStatements:false
+-- Quiz titles get weight A and descriptions weight B, so a title-only search can use
+-- the 'A' weight filter (word:*A) on the same index.
+CREATE OR REPLACE FUNCTION quizzes_search_vector_update() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.search_vector :=
+            setweight(to_tsvector('simple', coalesce(NEW.title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(NEW.description, '')), 'B');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION content_search_vector_update() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('simple', coalesce(NEW.content, '')), 'A');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+-- changeset luubach:full-text-search-3
+CREATE TRIGGER trg_quizzes_search_vector
+    BEFORE INSERT OR UPDATE OF title, description
+    ON quizzes
+    FOR EACH ROW
+EXECUTE FUNCTION quizzes_search_vector_update();
+
+CREATE TRIGGER trg_questions_search_vector
+    BEFORE INSERT OR UPDATE OF content
+    ON questions
+    FOR EACH ROW
+EXECUTE FUNCTION content_search_vector_update();
+
+CREATE TRIGGER trg_answers_search_vector
+    BEFORE INSERT OR UPDATE OF content
+    ON answers
+    FOR EACH ROW
+EXECUTE FUNCTION content_search_vector_update();
+
+-- changeset luubach:full-text-search-4
+UPDATE quizzes
+SET search_vector = setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+                    setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+UPDATE questions
+SET search_vector = setweight(to_tsvector('simple', coalesce(content, '')), 'A');
+UPDATE answers
+SET search_vector = setweight(to_tsvector('simple', coalesce(content, '')), 'A');
+
+-- changeset luubach:full-text-search-5 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quizzes_search_vector ON quizzes USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_questions_search_vector ON questions USING GIN (search_vector);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_answers_search_vector ON answers USING GIN (search_vector);
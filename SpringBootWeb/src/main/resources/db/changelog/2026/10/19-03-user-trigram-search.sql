@@ -0,0 +1,9 @@
+-- liquibase formatted sql
+
+-- changeset luubach:user-trigram-search-1
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- changeset luubach:user-trigram-search-2 runInTransaction:false
+-- Must stay identical to the user_search_text function registered in SearchFunctionContributor
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_search_trgm
+    ON users USING GIN ((lower(first_name || ' ' || last_name || ' ' || email)) gin_trgm_ops);
@@ -0,0 +1,13 @@
+-- liquibase formatted sql
+
+-- changeset luubach:keyset-pagination-indexes-1 runInTransaction:false
+-- Cover the ORDER BY of each cursor endpoint (sort key + id tiebreaker) so a page is an
+-- index range scan that stops after size + 1 rows
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quizzes_title_id ON quizzes (title, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_roles_name_id ON roles (name, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_id ON users (email, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_sessions_user_created_id
+    ON quiz_sessions (user_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_sessions_leaderboard
+    ON quiz_sessions (quiz_id, score DESC, time_spent_seconds, id)
+    WHERE status IN ('SUBMITTED', 'GRADED', 'TIMED_OUT');
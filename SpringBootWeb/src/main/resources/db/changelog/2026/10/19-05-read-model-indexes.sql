@@ -0,0 +1,10 @@
+-- liquibase formatted sql
+
+-- changeset luubach:read-model-indexes-1 runInTransaction:false
+-- Foreign keys read by the catalog projections: question/attempt counts per quiz, the
+-- options and answers of a question
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_questions_quiz_id ON quiz_questions (quiz_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_quizzes_quiz_id ON user_quizzes (quiz_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_options_question_order
+    ON question_options (question_id, order_index);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_answers_question_id ON answers (question_id);
@@ -0,0 +1,66 @@
+-- liquibase formatted sql
+
+-- changeset luubach:catalog-versions-1
+-- Optimistic lock versions, also the ETags of single quizzes/questions/answers
+ALTER TABLE quizzes ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE questions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE answers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- changeset luubach:catalog-versions-2
+-- One change counter per catalog resource, the ETag of its list endpoints
+CREATE TABLE catalog_versions
+(
+    name    VARCHAR(50) NOT NULL,
+    version BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_catalog_versions PRIMARY KEY (name)
+);
+INSERT INTO catalog_versions (name) VALUES ('quizzes'), ('questions'), ('answers');
+
+-- changeset luubach:catalog-versions-3 splitStatements:false
+CREATE OR REPLACE FUNCTION bump_catalog_version() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE catalog_versions SET version = version + 1 WHERE name = TG_ARGV[0];
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- changeset luubach:catalog-versions-4
+-- Statement-level, so a bulk write bumps the counter once. Covers writes that bypass
+-- the application too (imports, manual fixes, FK cascades).
+CREATE TRIGGER trg_quizzes_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON quizzes
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('quizzes');
+
+-- Quiz details show question and attempt counts
+CREATE TRIGGER trg_quiz_questions_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON quiz_questions
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('quizzes');
+
+CREATE TRIGGER trg_user_quizzes_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON user_quizzes
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('quizzes');
+
+CREATE TRIGGER trg_questions_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON questions
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('questions');
+
+CREATE TRIGGER trg_question_options_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON question_options
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('questions');
+
+CREATE TRIGGER trg_answers_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON answers
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('answers');
@@ -0,0 +1,45 @@
+-- liquibase formatted sql
+
+-- changeset luubach:quiz-versions-1
+-- Published, immutable snapshots of a quiz (questions and answer key as JSON)
+CREATE TABLE quiz_versions
+(
+    id              UUID         NOT NULL,
+    quiz_id         UUID         NOT NULL,
+    version_number  INTEGER      NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    duration        INTEGER      NOT NULL,
+    total_questions INTEGER      NOT NULL,
+    snapshot        TEXT         NOT NULL,
+    published_at    TIMESTAMP    NOT NULL,
+    published_by    UUID,
+    CONSTRAINT pk_quiz_versions PRIMARY KEY (id),
+    CONSTRAINT uq_quiz_versions_quiz_number UNIQUE (quiz_id, version_number),
+    CONSTRAINT fk_quiz_versions_quiz FOREIGN KEY (quiz_id) REFERENCES quizzes (id) ON DELETE CASCADE
+);
+
+-- changeset luubach:quiz-versions-2 splitStatements:false
+-- Snapshots are cached forever by the application, so they must never change in place
+CREATE OR REPLACE FUNCTION reject_quiz_version_update() RETURNS TRIGGER AS
+$$
+BEGIN
+    RAISE EXCEPTION 'quiz_versions rows are immutable, publish a new version instead';
+END
+$$ LANGUAGE plpgsql;
+
+-- changeset luubach:quiz-versions-3
+CREATE TRIGGER trg_quiz_versions_immutable
+    BEFORE UPDATE
+    ON quiz_versions
+    FOR EACH ROW
+EXECUTE FUNCTION reject_quiz_version_update();
+
+-- changeset luubach:quiz-versions-4
+-- Version a session was started on; NULL for sessions started before versioning
+ALTER TABLE quiz_sessions ADD COLUMN quiz_version_id UUID;
+ALTER TABLE quiz_sessions
+    ADD CONSTRAINT fk_quiz_sessions_quiz_version FOREIGN KEY (quiz_version_id) REFERENCES quiz_versions (id)
+        ON DELETE SET NULL;
+
+-- changeset luubach:quiz-versions-5 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_sessions_quiz_version ON quiz_sessions (quiz_version_id);
@@ -0,0 +1,43 @@
+-- liquibase formatted sql
+
+-- changeset luubach:user-token-version-1
+-- Account-state version embedded in access tokens; a token carrying an older value is rejected
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
+
+-- changeset luubach:user-token-version-2 splitStatements:false
+CREATE OR REPLACE FUNCTION bump_user_token_version() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF NEW.is_active IS DISTINCT FROM OLD.is_active
+        OR NEW.password IS DISTINCT FROM OLD.password
+        OR NEW.email IS DISTINCT FROM OLD.email THEN
+        NEW.token_version = OLD.token_version + 1;
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+-- changeset luubach:user-token-version-3 splitStatements:false
+-- Tokens embed the roles, so any role change invalidates them as well
+CREATE OR REPLACE FUNCTION bump_user_roles_token_version() RETURNS TRIGGER AS
+$$
+BEGIN
+    UPDATE users SET token_version = token_version + 1
+    WHERE id = CASE WHEN TG_OP = 'DELETE' THEN OLD.user_id ELSE NEW.user_id END;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- changeset luubach:user-token-version-4
+-- Triggers rather than application code, so manual fixes and other writers are covered too
+CREATE TRIGGER trg_users_token_version
+    BEFORE UPDATE
+    ON users
+    FOR EACH ROW
+EXECUTE FUNCTION bump_user_token_version();
+
+CREATE TRIGGER trg_user_roles_token_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON user_roles
+    FOR EACH ROW
+EXECUTE FUNCTION bump_user_roles_token_version();
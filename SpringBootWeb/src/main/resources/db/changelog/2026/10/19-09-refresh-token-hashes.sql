@@ -0,0 +1,27 @@
+-- liquibase formatted sql
+
+-- changeset luubach:refresh-token-hashes-1
+-- Store SHA-256 hex digests instead of the tokens themselves
+ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64);
+UPDATE refresh_tokens SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex');
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+-- changeset luubach:refresh-token-hashes-2
+-- One refresh token per user, which the login upsert relies on; keep the newest if there are several
+DELETE FROM refresh_tokens r
+    USING refresh_tokens newer
+WHERE r.user_id = newer.user_id
+  AND (r.expiry_date, r.id) < (newer.expiry_date, newer.id);
+DELETE FROM refresh_tokens WHERE user_id IS NULL;
+ALTER TABLE refresh_tokens ALTER COLUMN user_id SET NOT NULL;
+
+-- changeset luubach:refresh-token-hashes-3 runInTransaction:false
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+
+-- changeset luubach:refresh-token-hashes-4 runInTransaction:false
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_refresh_tokens_user ON refresh_tokens (user_id);
+
+-- changeset luubach:refresh-token-hashes-5 runInTransaction:false
+-- Batched purge of expired tokens
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
@@ -0,0 +1,28 @@
+-- liquibase formatted sql
+
+-- changeset luubach:query-plan-indexes-1 runInTransaction:false
+-- session_answers only had its primary key: every read below scanned the whole table.
+-- Answers of one session (result, grading, submit-answer upsert) and the session side of
+-- the per-quiz and per-user analytics joins. The included columns are the ones the
+-- analytics aggregate, so those joins are answered from the index alone.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_session_answers_session_question
+    ON session_answers (quiz_session_id, question_id)
+    INCLUDE (id, is_correct, time_spent_seconds);
+-- Per-question analytics: difficulty, answer distribution, time analysis
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_session_answers_question_session
+    ON session_answers (question_id, quiz_session_id)
+    INCLUDE (id, answer_id, is_correct, time_spent_seconds);
+
+-- changeset luubach:query-plan-indexes-2 runInTransaction:false
+-- Per-quiz statistics over every status (the leaderboard index only has completed ones)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_sessions_quiz_status ON quiz_sessions (quiz_id, status);
+-- Auto-submit sweep, only ever looks at sessions still in progress
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_sessions_expiring
+    ON quiz_sessions (expires_at)
+    WHERE status = 'IN_PROGRESS';
+-- Recent activity and average score since a date on the admin dashboard
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_quiz_sessions_completed_finished
+    ON quiz_sessions (finished_at DESC)
+    WHERE status IN ('SUBMITTED', 'GRADED', 'TIMED_OUT');
+-- New users since a date on the admin dashboard
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at ON users (created_at);
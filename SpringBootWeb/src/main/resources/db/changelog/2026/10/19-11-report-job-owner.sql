@@ -0,0 +1,9 @@
+-- liquibase formatted sql
+
+-- changeset luubach:report-job-owner-1
+-- Instance whose executor holds a queued/running job, and when it last confirmed it is alive
+ALTER TABLE analytics_report_jobs ADD COLUMN owner_instance VARCHAR(100);
+ALTER TABLE analytics_report_jobs ADD COLUMN heartbeat_at TIMESTAMP;
+
+-- changeset luubach:report-job-owner-2
+CREATE INDEX idx_analytics_report_jobs_owner_instance ON analytics_report_jobs (owner_instance);
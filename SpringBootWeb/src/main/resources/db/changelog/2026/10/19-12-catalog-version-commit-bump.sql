@@ -0,0 +1,102 @@
+-- liquibase formatted sql
+
+-- changeset luubach:catalog-version-commit-bump-1 splitStatements:false
+-- The statement-level triggers of catalog-versions-4 updated the catalog_versions row
+-- right away, so its row lock was held until the end of the writing transaction and
+-- every other writer of the resource (admin edits, import chunks) queued behind it.
+-- Bumping at commit keeps the lock for the commit only. The counter still moves in the
+-- same transaction as the data, so an ETag is never ahead of what readers can see (a
+-- sequence would be). The first row of a transaction bumps, the other rows only check
+-- the transaction-local marker.
+CREATE OR REPLACE FUNCTION bump_catalog_version_at_commit() RETURNS TRIGGER AS
+$$
+DECLARE
+    marker TEXT := 'catalog_versions.bumped_' || TG_ARGV[0];
+BEGIN
+    IF current_setting(marker, true) IS DISTINCT FROM 'on' THEN
+        PERFORM set_config(marker, 'on', true);
+        UPDATE catalog_versions SET version = version + 1 WHERE name = TG_ARGV[0];
+    END IF;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+-- changeset luubach:catalog-version-commit-bump-2
+-- Constraint triggers are row-level only; TRUNCATE keeps a statement trigger
+DROP TRIGGER trg_quizzes_catalog_version ON quizzes;
+CREATE CONSTRAINT TRIGGER trg_quizzes_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON quizzes
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_catalog_version_at_commit('quizzes');
+CREATE TRIGGER trg_quizzes_catalog_version_truncate
+    AFTER TRUNCATE
+    ON quizzes
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('quizzes');
+
+DROP TRIGGER trg_quiz_questions_catalog_version ON quiz_questions;
+CREATE CONSTRAINT TRIGGER trg_quiz_questions_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON quiz_questions
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_catalog_version_at_commit('quizzes');
+CREATE TRIGGER trg_quiz_questions_catalog_version_truncate
+    AFTER TRUNCATE
+    ON quiz_questions
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('quizzes');
+
+DROP TRIGGER trg_user_quizzes_catalog_version ON user_quizzes;
+CREATE CONSTRAINT TRIGGER trg_user_quizzes_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON user_quizzes
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_catalog_version_at_commit('quizzes');
+CREATE TRIGGER trg_user_quizzes_catalog_version_truncate
+    AFTER TRUNCATE
+    ON user_quizzes
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('quizzes');
+
+DROP TRIGGER trg_questions_catalog_version ON questions;
+CREATE CONSTRAINT TRIGGER trg_questions_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON questions
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_catalog_version_at_commit('questions');
+CREATE TRIGGER trg_questions_catalog_version_truncate
+    AFTER TRUNCATE
+    ON questions
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('questions');
+
+DROP TRIGGER trg_question_options_catalog_version ON question_options;
+CREATE CONSTRAINT TRIGGER trg_question_options_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON question_options
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_catalog_version_at_commit('questions');
+CREATE TRIGGER trg_question_options_catalog_version_truncate
+    AFTER TRUNCATE
+    ON question_options
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('questions');
+
+DROP TRIGGER trg_answers_catalog_version ON answers;
+CREATE CONSTRAINT TRIGGER trg_answers_catalog_version
+    AFTER INSERT OR UPDATE OR DELETE
+    ON answers
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW
+EXECUTE FUNCTION bump_catalog_version_at_commit('answers');
+CREATE TRIGGER trg_answers_catalog_version_truncate
+    AFTER TRUNCATE
+    ON answers
+    FOR EACH STATEMENT
+EXECUTE FUNCTION bump_catalog_version('answers');
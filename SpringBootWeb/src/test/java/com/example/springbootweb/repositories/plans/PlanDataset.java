@@ -0,0 +1,51 @@
+package com.example.springbootweb.repositories.plans;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.datagen.DataGenerator;
+
+/**
+ * The {@code datagen} dataset of the database given by {@code -Dquery-plans.url}, shared
+ * by the tests that need realistic data volumes.
+ * <p>
+ * Liquibase does not create the base tables of the application (users, quizzes,
+ * questions, answers, quiz_sessions, ...): the database must already have them. Call
+ * {@link #ensureSeeded(JdbcTemplate)} once the Spring context is up, so that the context's
+ * Liquibase has migrated the rest of the schema before the generator writes to it.
+ */
+public final class PlanDataset {
+
+    /**
+     * Dataset the baseline was recorded on; changing it means recording a new baseline.
+     */
+    private static final String[] ARGS = { "--seed=42", "--users=20000", "--quizzes=500", "--sessions=200000",
+            "--until=2026-10-01T00:00" };
+
+    public static final int SESSIONS = 200_000;
+
+    public static final LocalDateTime UNTIL = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    private PlanDataset() {
+    }
+
+    /**
+     * Fills the database unless it already holds the dataset, truncating the tables the
+     * generator writes.
+     */
+    public static void ensureSeeded(JdbcTemplate jdbcTemplate) throws Exception {
+        Long sessions = jdbcTemplate.queryForObject("SELECT count(*) FROM quiz_sessions", Long.class);
+        if (sessions != null && sessions == SESSIONS) {
+            return;
+        }
+        List<String> args = new ArrayList<>(List.of(ARGS));
+        args.addAll(List.of("--url=" + System.getProperty("query-plans.url"),
+                "--user=" + System.getProperty("query-plans.username", "postgres"),
+                "--password=" + System.getProperty("query-plans.password", ""), "--truncate", "--skip-fk-checks"));
+        DataGenerator.main(args.toArray(String[]::new));
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.example.springbootweb.repositories.plans;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Wraps the {@link DataSource} so that, while {@link #record(Runnable) recording}, every
+ * prepared {@code SELECT} is first run under {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT
+ * JSON)} with the same bound parameters. The query itself then runs normally, so the
+ * repository method returns as usual.
+ * <p>
+ * Only what goes through {@link Connection#prepareStatement} is seen, which is
+ * everything Hibernate runs.
+ */
+final class PlanRecorder {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private final ThreadLocal<List<QueryPlan>> recording = new ThreadLocal<>();
+
+    DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args) -> {
+            Object result = method.invoke(dataSource, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    /**
+     * Runs the action and returns the plans of the queries it ran, in order.
+     */
+    List<QueryPlan> record(Runnable action) {
+        List<QueryPlan> plans = new ArrayList<>();
+        recording.set(plans);
+        try {
+            action.run();
+        }
+        finally {
+            recording.remove();
+        }
+        return plans;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            if (method.getName().equals("prepareStatement") && args[0] instanceof String sql && isSelect(sql)) {
+                return wrap(connection, (PreparedStatement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrap(Connection connection, PreparedStatement statement, String sql) {
+        List<Object[]> parameters = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.add(new Object[] { method, args });
+            }
+            else if (name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            else if ((name.equals("executeQuery") || name.equals("execute")) && (args == null || args.length == 0)) {
+                List<QueryPlan> plans = recording.get();
+                if (plans != null) {
+                    plans.add(explain(connection, sql, parameters));
+                }
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    private static QueryPlan explain(Connection connection, String sql, List<Object[]> parameters)
+            throws SQLException, ReflectiveOperationException {
+        try (PreparedStatement explain = connection
+            .prepareStatement("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql)) {
+            for (Object[] parameter : parameters) {
+                ((Method) parameter[0]).invoke(explain, (Object[]) parameter[1]);
+            }
+            try (ResultSet result = explain.executeQuery()) {
+                result.next();
+                return new QueryPlan(sql, JSON.readTree(result.getString(1)).get(0));
+            }
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return start.startsWith("select") || start.startsWith("with");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return invocation.invoke(method, args);
+            }
+            catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(PlanRecorder.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+
+        Object invoke(Method method, Object[] args) throws Throwable;
+
+    }
+
+}
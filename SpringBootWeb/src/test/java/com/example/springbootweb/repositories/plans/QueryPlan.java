@@ -0,0 +1,51 @@
+package com.example.springbootweb.repositories.plans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * One {@code EXPLAIN (ANALYZE, FORMAT JSON)} result.
+ *
+ * @param sql the statement as Hibernate prepared it
+ * @param explain the single element of the JSON array PostgreSQL returns
+ */
+record QueryPlan(String sql, JsonNode explain) {
+
+    /**
+     * Planner estimate for the whole statement; stable for a given dataset and
+     * statistics, unlike the measured time.
+     */
+    double totalCost() {
+        return explain.get("Plan").get("Total Cost").asDouble();
+    }
+
+    double executionTimeMillis() {
+        return explain.get("Execution Time").asDouble();
+    }
+
+    /**
+     * Tables read with a sequential scan anywhere in the plan.
+     */
+    List<String> sequentialScans() {
+        List<String> tables = new ArrayList<>();
+        collectSequentialScans(explain.get("Plan"), tables);
+        return tables;
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> tables) {
+        if ("Seq Scan".equals(node.path("Node Type").asString())) {
+            tables.add(node.path("Relation Name").asString());
+        }
+        for (JsonNode child : node.path("Plans").values()) {
+            collectSequentialScans(child, tables);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sql + "\n" + explain.toPrettyString();
+    }
+
+}
@@ -0,0 +1,322 @@
+package com.example.springbootweb.repositories.plans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.springbootweb.entities.enums.QuizSessionStatus;
+import com.example.springbootweb.repositories.AnalyticsRepository;
+import com.example.springbootweb.repositories.QuizSessionRepository;
+import com.example.springbootweb.repositories.SessionAnswerRepository;
+import com.example.springbootweb.repositories.specifications.QuizSessionSpecifications;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Runs the repository queries of the quiz-taking flow and the analytics against a seeded
+ * dataset and checks their plans: no sequential scan over a large table (unless the
+ * query aggregates the whole table by design), and no planner cost above the stored
+ * baseline by more than {@link #COST_TOLERANCE}.
+ * <p>
+ * Needs a dedicated PostgreSQL database that already has the base tables of the
+ * application, which the Liquibase changelog does not create; the test context's Liquibase
+ * migrates the rest. The first run then fills it with the {@link PlanDataset} (truncating
+ * the tables it writes) and later runs reuse it:
+ *
+ * <pre>
+ * ./mvnw -pl SpringBootWeb -am test -Dtest=QueryPlanRegressionTests -Dsurefire.failIfNoSpecifiedTests=false \
+ *     -Dquery-plans.url=jdbc:postgresql://localhost:5432/QuizPlans?currentSchema=dbo
+ * </pre>
+ *
+ * Add {@code -Dquery-plans.update-baseline=true} to rewrite
+ * {@code src/test/resources/query-plans/baseline.json} after an intended change.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "query-plans.url", matches = ".+")
+@TestPropertySource(properties = { "spring.datasource.url=${query-plans.url}",
+        "spring.datasource.username=${query-plans.username:postgres}",
+        "spring.datasource.password=${query-plans.password:}" })
+@Import(QueryPlanRegressionTests.PlanRecorderConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTests {
+
+    private static final LocalDateTime DATASET_UNTIL = PlanDataset.UNTIL;
+
+    private static final String BASELINE_RESOURCE = "query-plans/baseline.json";
+
+    private static final Path BASELINE_SOURCE = Path.of("src/test/resources", BASELINE_RESOURCE);
+
+    /**
+     * Estimates move a little with every ANALYZE sample; a real regression (a lost index,
+     * a new join) is usually an order of magnitude.
+     */
+    private static final double COST_TOLERANCE = 1.3;
+
+    /**
+     * Tables below this many rows may be scanned sequentially.
+     */
+    private static final long LARGE_TABLE_ROWS = 10_000;
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private static final Map<String, Double> recordedCosts = new TreeMap<>();
+
+    @Autowired
+    private PlanRecorder planRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AnalyticsRepository analyticsRepository;
+
+    @Autowired
+    private QuizSessionRepository quizSessionRepository;
+
+    @Autowired
+    private SessionAnswerRepository sessionAnswerRepository;
+
+    /**
+     * Not static: runs once the context, and with it Liquibase, is up.
+     */
+    @BeforeAll
+    void seedDataset() throws Exception {
+        PlanDataset.ensureSeeded(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void updateBaseline() throws IOException {
+        if (Boolean.getBoolean("query-plans.update-baseline") && !recordedCosts.isEmpty()) {
+            ObjectNode baseline = JSON.createObjectNode();
+            recordedCosts.forEach(baseline::put);
+            Files.writeString(BASELINE_SOURCE,
+                    JSON.writerWithDefaultPrettyPrinter().writeValueAsString(baseline) + System.lineSeparator());
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueryPlans() throws IOException {
+        // The busiest quiz and user: the worst case for every per-quiz and per-user query
+        UUID quizId = jdbcTemplate.queryForObject("""
+                SELECT quiz_id FROM quiz_sessions GROUP BY quiz_id ORDER BY count(*) DESC, quiz_id LIMIT 1
+                """, UUID.class);
+        UUID userId = jdbcTemplate.queryForObject("""
+                SELECT user_id FROM quiz_sessions GROUP BY user_id ORDER BY count(*) DESC, user_id LIMIT 1
+                """, UUID.class);
+        UUID sessionId = jdbcTemplate.queryForObject(
+                "SELECT id FROM quiz_sessions WHERE user_id = ? AND status = 'GRADED' ORDER BY id LIMIT 1", UUID.class,
+                userId);
+        UUID questionId = jdbcTemplate.queryForObject("""
+                SELECT qq.question_id FROM quiz_questions qq JOIN questions q ON q.id = qq.question_id
+                WHERE qq.quiz_id = ? AND q.question_type = 'SINGLE_CHOICE' ORDER BY qq."order" LIMIT 1
+                """, UUID.class, quizId);
+        LocalDateTime monthAgo = DATASET_UNTIL.minusMonths(1);
+        PageRequest top10 = PageRequest.of(0, 10);
+
+        Map<String, Double> baseline = readBaseline();
+        Map<String, Long> tableRows = tableRows();
+        Set<String> none = Set.of();
+        // Dashboard aggregates over every session by design; only their cost is checked
+        Set<String> wholeTable = Set.of("quiz_sessions");
+        // Per-question answers come from their index, but most sessions are completed:
+        // hashing them all is as fast as one primary key probe per answer
+        Set<String> completedSessions = Set.of("quiz_sessions");
+        // Same, and the selected options are looked up in a hash of the (small) answer table
+        Set<String> completedSessionsAndAnswers = Set.of("quiz_sessions", "answers");
+
+        return Stream.of(
+                // Quiz taking
+                check("QuizSession.findByUserIdAndStatus", none, baseline, tableRows,
+                        () -> quizSessionRepository.findByUserIdAndStatus(userId, QuizSessionStatus.IN_PROGRESS)),
+                check("QuizSession.hasActiveSession", none, baseline, tableRows,
+                        () -> quizSessionRepository.hasActiveSession(userId, quizId)),
+                check("QuizSession.findExpiredSessions", none, baseline, tableRows,
+                        () -> quizSessionRepository.findExpiredSessions(DATASET_UNTIL)),
+                check("SessionAnswer.findByQuizSessionIdOrderByAnswerOrder", none, baseline, tableRows,
+                        () -> sessionAnswerRepository.findByQuizSessionIdOrderByAnswerOrder(sessionId)),
+                check("SessionAnswer.findByQuizSessionIdAndQuestionId", none, baseline, tableRows,
+                        () -> sessionAnswerRepository.findByQuizSessionIdAndQuestionId(sessionId, questionId)),
+                check("SessionAnswer.countByQuizSessionId", none, baseline, tableRows,
+                        () -> sessionAnswerRepository.countByQuizSessionId(sessionId)),
+
+                // History and leaderboard
+                check("QuizSession.findByUserIdOrderByCreatedAtDesc", none, baseline, tableRows,
+                        () -> quizSessionRepository.findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(0, 20))),
+                check("QuizSession.findAll(hasUserId, completedOnly)", none, baseline, tableRows,
+                        () -> quizSessionRepository.findAll(
+                                QuizSessionSpecifications.hasUserId(userId)
+                                    .and(QuizSessionSpecifications.completedOnly()),
+                                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                check("QuizSession.findLeaderboard", none, baseline, tableRows,
+                        () -> quizSessionRepository.findLeaderboard(quizId, PageRequest.of(0, 20))),
+                check("QuizSession.findAll(hasQuizId, completedOnly)", none, baseline, tableRows,
+                        () -> quizSessionRepository.findAll(
+                                QuizSessionSpecifications.hasQuizId(quizId)
+                                    .and(QuizSessionSpecifications.completedOnly()),
+                                PageRequest.of(0, 20,
+                                        Sort.by(Sort.Order.desc("score"), Sort.Order.asc("timeSpentSeconds"))))),
+                check("QuizSession.getUserRank", none, baseline, tableRows,
+                        () -> quizSessionRepository.getUserRank(quizId, new BigDecimal("80.00"), 300)),
+
+                // Quiz analytics
+                check("Analytics.getQuizBasicStatistics", none, baseline, tableRows,
+                        () -> analyticsRepository.getQuizBasicStatistics(quizId)),
+                check("Analytics.getQuizScoreStatistics", none, baseline, tableRows,
+                        () -> analyticsRepository.getQuizScoreStatistics(quizId)),
+                check("Analytics.getScoreDistribution", none, baseline, tableRows,
+                        () -> analyticsRepository.getScoreDistribution(quizId)),
+                check("Analytics.getQuestionPerformance", none, baseline, tableRows,
+                        () -> analyticsRepository.getQuestionPerformance(quizId)),
+
+                // User analytics
+                check("Analytics.getUserOverviewStats", none, baseline, tableRows,
+                        () -> analyticsRepository.getUserOverviewStats(userId)),
+                check("Analytics.getUserAnswerStats", none, baseline, tableRows,
+                        () -> analyticsRepository.getUserAnswerStats(userId)),
+                check("Analytics.getUserPerformanceByQuestionType", none, baseline, tableRows,
+                        () -> analyticsRepository.getUserPerformanceByQuestionType(userId)),
+                check("Analytics.getUserRecentAttempts", none, baseline, tableRows,
+                        () -> analyticsRepository.getUserRecentAttempts(userId, top10)),
+                check("Analytics.getUserProgressOverTime", none, baseline, tableRows,
+                        () -> analyticsRepository.getUserProgressOverTime(userId, DATASET_UNTIL.minusMonths(6))),
+
+                // Question analytics
+                check("Analytics.getQuestionDifficultyMetrics", completedSessions, baseline, tableRows,
+                        () -> analyticsRepository.getQuestionDifficultyMetrics(questionId)),
+                check("Analytics.getAnswerDistribution", completedSessionsAndAnswers, baseline, tableRows,
+                        () -> analyticsRepository.getAnswerDistribution(questionId)),
+                check("Analytics.getQuestionTimeAnalysis", completedSessions, baseline, tableRows,
+                        () -> analyticsRepository.getQuestionTimeAnalysis(questionId)),
+
+                // Admin dashboard
+                check("Analytics.getRecentCompletedActivities", none, baseline, tableRows,
+                        () -> analyticsRepository.getRecentCompletedActivities(top10)),
+                check("Analytics.getAverageScoreSince", none, baseline, tableRows,
+                        () -> analyticsRepository.getAverageScoreSince(monthAgo)),
+                check("Analytics.countNewUsersSince", none, baseline, tableRows,
+                        () -> analyticsRepository.countNewUsersSince(monthAgo)),
+                check("Analytics.countActiveUsers", wholeTable, baseline, tableRows,
+                        () -> analyticsRepository.countActiveUsers()),
+                check("Analytics.getActivityStats", wholeTable, baseline, tableRows,
+                        () -> analyticsRepository.getActivityStats(DATASET_UNTIL.minusDays(1),
+                                DATASET_UNTIL.minusWeeks(1), monthAgo)),
+                check("Analytics.getTopPerformers", wholeTable, baseline, tableRows,
+                        () -> analyticsRepository.getTopPerformers(top10)),
+                check("Analytics.getPopularQuizzes", wholeTable, baseline, tableRows,
+                        () -> analyticsRepository.getPopularQuizzes(top10)),
+                check("Analytics.getQuizCompletionRates", wholeTable, baseline, tableRows,
+                        () -> analyticsRepository.getQuizCompletionRates()),
+                check("Analytics.getOverallPassRate", wholeTable, baseline, tableRows,
+                        () -> analyticsRepository.getOverallPassRate()));
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Runs the query and checks every statement it issued (a page also runs its count
+     * query).
+     */
+    private DynamicTest check(String name, Set<String> allowedSequentialScans, Map<String, Double> baseline,
+            Map<String, Long> tableRows, Runnable query) {
+        return DynamicTest.dynamicTest(name, () -> {
+            List<QueryPlan> plans = planRecorder.record(query);
+            assertThat(plans).as("statements run by %s", name).isNotEmpty();
+            for (int i = 0; i < plans.size(); i++) {
+                QueryPlan plan = plans.get(i);
+                String key = plans.size() == 1 ? name : name + "#" + (i + 1);
+                recordedCosts.put(key, plan.totalCost());
+
+                assertThat(plan.sequentialScans())
+                    .as("sequential scans over large tables in %s:%n%s", key, plan)
+                    .filteredOn(table -> tableRows.getOrDefault(table, 0L) >= LARGE_TABLE_ROWS)
+                    .allMatch(allowedSequentialScans::contains);
+                if (!Boolean.getBoolean("query-plans.update-baseline")) {
+                    assertThat(baseline).as("baseline cost of %s, record it with -Dquery-plans.update-baseline=true",
+                            key).containsKey(key);
+                    assertThat(plan.totalCost()).as("planner cost of %s (baseline %s):%n%s", key, baseline.get(key),
+                            plan).isLessThanOrEqualTo(baseline.get(key) * COST_TOLERANCE);
+                }
+            }
+        });
+    }
+
+    private Map<String, Long> tableRows() {
+        Map<String, Long> rows = new TreeMap<>();
+        jdbcTemplate.query("""
+                SELECT relname, reltuples::bigint FROM pg_class
+                WHERE relkind = 'r' AND relnamespace = current_schema()::regnamespace
+                """, (RowCallbackHandler) row -> rows.put(row.getString(1), row.getLong(2)));
+        return rows;
+    }
+
+    private static Map<String, Double> readBaseline() throws IOException {
+        Map<String, Double> baseline = new TreeMap<>();
+        ClassLoader classLoader = QueryPlanRegressionTests.class.getClassLoader();
+        try (InputStream in = classLoader.getResourceAsStream(BASELINE_RESOURCE)) {
+            if (in != null) {
+                JSON.readTree(in)
+                    .properties()
+                    .forEach(entry -> baseline.put(entry.getKey(), entry.getValue().asDouble()));
+            }
+        }
+        return baseline;
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class PlanRecorderConfig {
+
+        @Bean
+        PlanRecorder planRecorder() {
+            return new PlanRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor planRecordingDataSource(ObjectProvider<PlanRecorder> planRecorder) {
+            return new BeanPostProcessor() {
+
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? planRecorder.getObject().wrap(dataSource) : bean;
+                }
+
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.example.springbootweb.repositories.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+/**
+ * Statement count assertions for {@code @SpringBootTest} tests, to pin the number of
+ * queries a service method runs and catch N+1 regressions:
+ *
+ * <pre>
+ * LeaderboardResponse leaderboard = QueryCounts.assertAtMost(3, () -&gt; quizSessionService.getLeaderboard(quizId, 10));
+ * </pre>
+ *
+ * Only statements run by Hibernate on the test thread are counted.
+ */
+public final class QueryCounts {
+
+    private QueryCounts() {
+    }
+
+    /**
+     * Runs the action and returns what it did.
+     */
+    public static QueryStats count(Runnable action) {
+        QueryStats.start();
+        try {
+            action.run();
+        }
+        catch (RuntimeException | Error ex) {
+            QueryStats.stop();
+            throw ex;
+        }
+        return QueryStats.stop();
+    }
+
+    /**
+     * Runs the action, failing if it ran more than {@code maxStatements} statements.
+     */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        QueryStats.start();
+        T result;
+        QueryStats stats;
+        try {
+            result = action.get();
+        }
+        finally {
+            stats = QueryStats.stop();
+        }
+        assertThat(stats.statements())
+            .as("SQL statements (most repeated: %s)", stats.mostRepeated().orElse(null))
+            .isLessThanOrEqualTo(maxStatements);
+        return result;
+    }
+
+    /**
+     * Runs the action, failing if it ran more than {@code maxStatements} statements.
+     */
+    public static void assertAtMost(int maxStatements, Runnable action) {
+        assertAtMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+}
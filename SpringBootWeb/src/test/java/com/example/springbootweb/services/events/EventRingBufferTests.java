@@ -0,0 +1,86 @@
+package com.example.springbootweb.services.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class EventRingBufferTests {
+
+    @Test
+    void rejectsPublishWhenSlowestCursorIsAFullBufferBehind() {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        EventRingBuffer.Cursor cursor = buffer.newCursor();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.tryPublish(i)).isTrue();
+        }
+        assertThat(buffer.tryPublish(4)).isFalse();
+
+        List<Integer> batch = new ArrayList<>();
+        cursor.commit(buffer.poll(cursor, 2, batch));
+        assertThat(batch).containsExactly(0, 1);
+        assertThat(buffer.tryPublish(4)).isTrue();
+    }
+
+    @Test
+    void everyCursorSeesEveryEventFromConcurrentProducers() throws InterruptedException {
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(64);
+        EventRingBuffer.Cursor first = buffer.newCursor();
+        EventRingBuffer.Cursor second = buffer.newCursor();
+        int producers = 4;
+        int perProducer = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.tryPublish(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        long firstSum = 0;
+        long secondSum = 0;
+        int seen = 0;
+        List<Integer> batch = new ArrayList<>();
+        while (seen < producers * perProducer) {
+            long last = buffer.poll(first, 16, batch);
+            for (int value : batch) {
+                firstSum += value;
+            }
+            seen += batch.size();
+            first.commit(last);
+            batch.clear();
+
+            last = buffer.poll(second, 16, batch);
+            for (int value : batch) {
+                secondSum += value;
+            }
+            second.commit(last);
+            batch.clear();
+        }
+        while (second.get() < first.get()) {
+            long last = buffer.poll(second, 16, batch);
+            for (int value : batch) {
+                secondSum += value;
+            }
+            second.commit(last);
+            batch.clear();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        long expected = (long) producers * perProducer * (perProducer - 1) / 2;
+        assertThat(firstSum).isEqualTo(expected);
+        assertThat(secondSum).isEqualTo(expected);
+    }
+
+}
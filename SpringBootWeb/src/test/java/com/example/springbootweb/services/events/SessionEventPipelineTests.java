@@ -0,0 +1,119 @@
+package com.example.springbootweb.services.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.springbootweb.entities.events.QuizSessionEvent;
+import com.example.springbootweb.entities.events.SessionEventProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SessionEventPipelineTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<QuizSessionEvent> received = new CopyOnWriteArrayList<>();
+
+    private SessionEventPipeline pipeline;
+
+    private SessionEventPublisher publisher;
+
+    @BeforeEach
+    void startPipeline() {
+        SessionEventConsumer recorder = new SessionEventConsumer() {
+            @Override
+            public String name() {
+                return "recorder";
+            }
+
+            @Override
+            public void onEvents(List<QuizSessionEvent> events) {
+                received.addAll(events);
+            }
+        };
+        pipeline = new SessionEventPipeline(new SessionEventProperties(16, 4, null, null, null),
+                List.of(recorder, new SessionOutcomeMetrics(meterRegistry)), meterRegistry);
+        publisher = new SessionEventPublisher(pipeline);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void stopPipeline() {
+        pipeline.stop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deliversEventsToEveryConsumerOnlyAfterCommit() {
+        UUID sessionId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishAfterCommit(started(sessionId));
+        publisher.publishAfterCommit(submitted(sessionId, true, "80"));
+
+        assertThat(received).isEmpty();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // Lag drops to zero once a consumer has handled the batch
+        await(() -> received.size() == 2 && lag("recorder") == 0 && lag("outcome-metrics") == 0);
+        assertThat(received).extracting(QuizSessionEvent::sessionId).containsOnly(sessionId);
+        assertThat(meterRegistry.get("quiz.sessions.started").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("quiz.sessions.finished").tag("outcome", "passed").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("quiz.sessions.score").summary().totalAmount()).isEqualTo(80);
+    }
+
+    @Test
+    void dropsEventsOfRolledBackTransactions() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publishAfterCommit(started(UUID.randomUUID()));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        publisher.publishAfterCommit(submitted(UUID.randomUUID(), false, "20"));
+
+        await(() -> received.size() == 1 && lag("outcome-metrics") == 0);
+        assertThat(received.getFirst()).isInstanceOf(QuizSessionEvent.QuizSubmitted.class);
+        assertThat(meterRegistry.get("quiz.sessions.started").counter().count()).isZero();
+    }
+
+    private double lag(String consumer) {
+        return meterRegistry.get("quiz.session.events.lag").tag("consumer", consumer).gauge().value();
+    }
+
+    private static QuizSessionEvent started(UUID sessionId) {
+        return new QuizSessionEvent.SessionStarted(sessionId, UUID.randomUUID(), UUID.randomUUID(), 10,
+                Instant.now());
+    }
+
+    private static QuizSessionEvent submitted(UUID sessionId, boolean passed, String score) {
+        return new QuizSessionEvent.QuizSubmitted(sessionId, UUID.randomUUID(), UUID.randomUUID(),
+                new BigDecimal(score), passed, 8, 10, 120, Instant.now());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+}
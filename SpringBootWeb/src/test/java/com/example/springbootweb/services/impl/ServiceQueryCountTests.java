@@ -0,0 +1,124 @@
+package com.example.springbootweb.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.springbootweb.entities.dtos.analytics.AdminDashboardResponse;
+import com.example.springbootweb.entities.dtos.analytics.AdminDashboardResponse.TopPerformerDto;
+import com.example.springbootweb.entities.dtos.pagination.CursorPageResponse;
+import com.example.springbootweb.entities.dtos.quizsessions.LeaderboardResponse;
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionFilter;
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionSummaryResponse;
+import com.example.springbootweb.repositories.plans.PlanDataset;
+import com.example.springbootweb.repositories.stats.QueryCounts;
+import com.example.springbootweb.services.interfaces.IAnalyticsService;
+import com.example.springbootweb.services.interfaces.IQuizSessionService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pins the number of SQL statements of service methods that map a page of rows, so that
+ * loading something per row (an N+1) fails here instead of showing up as a slow endpoint.
+ * The second-level cache is cleared before each test: the counts are those of a cold
+ * cache, the worst case.
+ * <p>
+ * Runs on the database and {@link PlanDataset} of the query-plan suite, only when
+ * {@code -Dquery-plans.url} is set.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "query-plans.url", matches = ".+")
+@TestPropertySource(properties = { "spring.datasource.url=${query-plans.url}",
+        "spring.datasource.username=${query-plans.username:postgres}",
+        "spring.datasource.password=${query-plans.password:}" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ServiceQueryCountTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IQuizSessionService quizSessionService;
+
+    @Autowired
+    private IAnalyticsService analyticsService;
+
+    @BeforeAll
+    void seedDataset() throws Exception {
+        PlanDataset.ensureSeeded(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void leaderboardLoadsTheUsersOfAllRowsAtOnce() {
+        UUID quizId = busiestQuiz();
+
+        // quiz, page, count, users
+        LeaderboardResponse leaderboard = QueryCounts.assertAtMost(4, () -> quizSessionService.getLeaderboard(quizId, 50));
+
+        assertThat(leaderboard.entries()).hasSize(50);
+    }
+
+    @Test
+    void historyLoadsTheQuizzesOfAllRowsAtOnce() {
+        UUID userId = userWithMostQuizzes();
+        QuizSessionFilter filter = QuizSessionFilter.builder().userId(userId).build();
+
+        // page, count, quizzes
+        Page<QuizSessionSummaryResponse> page = QueryCounts.assertAtMost(3,
+                () -> quizSessionService.getUserHistory(userId, 0, 20, filter));
+        // page, quizzes
+        CursorPageResponse<QuizSessionSummaryResponse> cursorPage = QueryCounts.assertAtMost(2,
+                () -> quizSessionService.getUserHistoryByCursor(userId, null, 20, false, filter));
+
+        assertThat(page.getContent()).hasSize(20)
+            .extracting(QuizSessionSummaryResponse::quizTitle)
+            .doesNotContainNull();
+        assertThat(cursorPage.content()).isEqualTo(page.getContent());
+    }
+
+    @Test
+    void adminDashboardDoesNotLoadRowsOneByOne() {
+        // The counts and aggregates, plus one query for the users or quizzes of each list
+        AdminDashboardResponse dashboard = QueryCounts.assertAtMost(21, () -> analyticsService.getAdminDashboard());
+
+        assertThat(dashboard.topPerformers()).hasSize(10)
+            .extracting(TopPerformerDto::userName)
+            .doesNotContain("Unknown");
+    }
+
+    private UUID busiestQuiz() {
+        return jdbcTemplate.queryForObject("""
+                SELECT quiz_id FROM quiz_sessions GROUP BY quiz_id ORDER BY count(*) DESC, quiz_id LIMIT 1
+                """, UUID.class);
+    }
+
+    /**
+     * A history page of this user spans many quizzes, where per-row loading shows most.
+     */
+    private UUID userWithMostQuizzes() {
+        return jdbcTemplate.queryForObject("""
+                SELECT user_id FROM quiz_sessions GROUP BY user_id ORDER BY count(DISTINCT quiz_id) DESC, user_id
+                LIMIT 1
+                """, UUID.class);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.springbootweb.services.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.AnswerRow;
+import com.example.springbootweb.entities.dtos.questions.QuestionImportRow.OptionRow;
+import com.example.springbootweb.entities.enums.QuestionType;
+import com.example.springbootweb.exceptions.BadRequestException;
+
+class CsvQuestionRowReaderTests {
+
+    @Test
+    void mapsColumnsByNameInAnyOrderAndCase() throws IOException {
+        List<ParsedRow> rows = readAll("""
+                QuestionType,CONTENT,correctOptions,options,isActive,answers
+                single_choice,"Which is a prime, 4 or 5?",2,4|5,false,
+                LONG_ANSWER,Explain recursion,,,,A function that calls itself|Self reference
+                """);
+
+        assertThat(rows).extracting(ParsedRow::error).containsOnlyNulls();
+        assertThat(rows).extracting(ParsedRow::line).containsExactly(2L, 3L);
+        QuestionImportRow choice = rows.get(0).row();
+        assertThat(choice.content()).isEqualTo("Which is a prime, 4 or 5?");
+        assertThat(choice.questionType()).isEqualTo(QuestionType.SINGLE_CHOICE);
+        assertThat(choice.isActive()).isFalse();
+        assertThat(choice.options()).containsExactly(new OptionRow("4", false), new OptionRow("5", true));
+        assertThat(choice.answers()).isEmpty();
+        QuestionImportRow essay = rows.get(1).row();
+        assertThat(essay.isActive()).isNull();
+        assertThat(essay.options()).isEmpty();
+        assertThat(essay.answers()).containsExactly(new AnswerRow("A function that calls itself", true),
+                new AnswerRow("Self reference", true));
+    }
+
+    @Test
+    void keepsEscapedQuotesAndNumbersRowsSpanningLinesByTheirFirstLine() throws IOException {
+        List<ParsedRow> rows = readAll("content,questionType,options,correctOptions\n"
+                + "\"What does \"\"\\n\"\" print?\nAssume Java.\",SINGLE_CHOICE,\"a newline|\"\"\\n\"\"\",1\n"
+                + "\n"
+                + "Second question,TRUE_FALSE,True|False,1\n");
+
+        assertThat(rows).extracting(ParsedRow::line).containsExactly(2L, 5L);
+        assertThat(rows.get(0).row().content()).isEqualTo("What does \"\\n\" print?\nAssume Java.");
+        assertThat(rows.get(0).row().options()).extracting(OptionRow::content)
+            .containsExactly("a newline", "\"\\n\"");
+        assertThat(rows.get(1).row().content()).isEqualTo("Second question");
+    }
+
+    @Test
+    void reportsInvalidRowsAndContinues() throws IOException {
+        List<ParsedRow> rows = readAll("""
+                content,questionType,options,correctOptions,isActive
+                Unknown type,ESSAY,,,
+                Bad flag,TRUE_FALSE,True|False,1,yes
+                Position out of range,SINGLE_CHOICE,a|b,3,
+                Position zero,SINGLE_CHOICE,a|b,0,
+                Not a position,MULTIPLE_CHOICE,a|b,1|b,
+                Fine,MULTIPLE_CHOICE,a|b|c,1|3|3,
+                """);
+
+        assertThat(rows).extracting(ParsedRow::error).containsExactly("Unknown question type: ESSAY",
+                "isActive must be true or false: yes", "correctOptions refers to a missing option: 3",
+                "correctOptions refers to a missing option: 0", "correctOptions must contain option positions: b",
+                null);
+        assertThat(rows).extracting(ParsedRow::line).containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(rows.get(5).row().options()).extracting(OptionRow::isCorrect).containsExactly(true, false, true);
+    }
+
+    @Test
+    void stopsAtAnUnterminatedQuoteWithItsLine() throws IOException {
+        List<ParsedRow> rows = readAll("content,questionType\n"
+                + "Fine question,TRUE_FALSE\n"
+                + "\"Never closed,TRUE_FALSE\n"
+                + "Swallowed,TRUE_FALSE\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).isNull();
+        assertThat(rows.get(1)).isEqualTo(ParsedRow.failed(3, "Unterminated quoted field"));
+    }
+
+    @Test
+    void acceptsHeaderAfterByteOrderMark() throws IOException {
+        List<ParsedRow> rows = readAll("\uFEFFcontent,questionType\r\nWith BOM,TRUE_FALSE\r\n");
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.error()).isNull();
+            assertThat(row.row().content()).isEqualTo("With BOM");
+        });
+    }
+
+    @Test
+    void rejectsMissingHeaderOrRequiredColumns() {
+        assertThatThrownBy(() -> new CsvQuestionRowReader(new StringReader("")))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("CSV file is empty");
+        assertThatThrownBy(() -> new CsvQuestionRowReader(new StringReader("content,options\n")))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("CSV header must contain the columns content and questionType");
+    }
+
+    private static List<ParsedRow> readAll(String csv) throws IOException {
+        List<ParsedRow> rows = new ArrayList<>();
+        try (CsvQuestionRowReader reader = new CsvQuestionRowReader(new StringReader(csv))) {
+            for (ParsedRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+}
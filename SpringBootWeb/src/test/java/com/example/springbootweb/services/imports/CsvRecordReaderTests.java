@@ -0,0 +1,74 @@
+package com.example.springbootweb.services.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTests {
+
+    @Test
+    void splitsPlainFieldsOnCommas() throws IOException {
+        CsvRecordReader reader = reader("a,b,,d\r\ne,f\n");
+
+        assertThat(reader.next()).containsExactly("a", "b", "", "d");
+        assertThat(reader.next()).containsExactly("e", "f");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void keepsCommasAndEscapedQuotesInsideQuotedFields() throws IOException {
+        CsvRecordReader reader = reader("\"a, b\",\"say \"\"hi\"\"\",\"\"\n");
+
+        assertThat(reader.next()).containsExactly("a, b", "say \"hi\"", "");
+    }
+
+    @Test
+    void readsTheLastRecordWithoutTrailingNewline() throws IOException {
+        CsvRecordReader reader = reader("a,b\nc,\"d\"");
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThat(reader.next()).containsExactly("c", "d");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void reportsTheStartLineOfRecordsSpanningLines() throws IOException {
+        CsvRecordReader reader = reader("h1,h2\n\"line one\nline two\r\nline three\",x\nlast,y\n");
+
+        assertThat(reader.next()).containsExactly("h1", "h2");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("line one\nline two\r\nline three", "x");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("last", "y");
+        assertThat(reader.recordLine()).isEqualTo(5);
+    }
+
+    @Test
+    void failsOnUnterminatedQuotedField() throws IOException {
+        CsvRecordReader reader = reader("a,b\n\"never closed,c\nd\n");
+
+        assertThat(reader.next()).containsExactly("a", "b");
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalStateException.class)
+            .hasMessage("Unterminated quoted field");
+        assertThat(reader.recordLine()).isEqualTo(2);
+    }
+
+    @Test
+    void skipsLeadingByteOrderMark() throws IOException {
+        CsvRecordReader reader = reader("\uFEFFcontent,questionType\n\uFEFFx,y\n");
+
+        assertThat(reader.next()).containsExactly("content", "questionType");
+        // Only at the start of the input
+        assertThat(reader.next()).containsExactly("\uFEFFx", "y");
+        assertThat(reader("\uFEFF").next()).isNull();
+    }
+
+    private static CsvRecordReader reader(String csv) {
+        return new CsvRecordReader(new StringReader(csv));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.example.springbootweb.services.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class SampledRequestLoggingFilterTests {
+
+    private static final String LEVEL_PREFIX = "logging.level.";
+
+    private final LoggingSystem loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+
+    private final List<String> configuredLoggers = new ArrayList<>();
+
+    /**
+     * Applies the logger levels of the shipped application.yaml, as Spring Boot would.
+     */
+    @BeforeEach
+    void applyShippedLogLevels() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yaml"));
+        Properties properties = yaml.getObject();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(LEVEL_PREFIX)) {
+                String logger = name.substring(LEVEL_PREFIX.length());
+                loggingSystem.setLogLevel(logger, LogLevel.valueOf(properties.getProperty(name).toUpperCase()));
+                configuredLoggers.add(logger);
+            }
+        }
+    }
+
+    @AfterEach
+    void resetLogLevels() {
+        configuredLoggers.forEach(logger -> loggingSystem.setLogLevel(logger, null));
+    }
+
+    @Test
+    void logsEveryRequestAtFullSampleRate() {
+        SampledRequestLoggingFilter filter = new SampledRequestLoggingFilter(1.0);
+
+        assertThat(filter.shouldLog(new MockHttpServletRequest("POST", "/api/quizzes"))).isTrue();
+    }
+
+    @Test
+    void logsNothingAtZeroSampleRate() {
+        SampledRequestLoggingFilter filter = new SampledRequestLoggingFilter(0);
+
+        assertThat(filter.shouldLog(new MockHttpServletRequest("POST", "/api/quizzes"))).isFalse();
+    }
+
+}
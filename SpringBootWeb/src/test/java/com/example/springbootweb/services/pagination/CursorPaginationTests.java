@@ -0,0 +1,177 @@
+package com.example.springbootweb.services.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.type.descriptor.java.CoercionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.orm.jpa.JpaSystemException;
+
+import com.example.springbootweb.exceptions.BadRequestException;
+
+class CursorPaginationTests {
+
+    private static final Sort LEADERBOARD = Sort.by(Sort.Order.desc("score"), Sort.Order.asc("timeSpentSeconds"),
+            Sort.Order.asc("id"));
+
+    @Test
+    void roundTripsTheKeysOfEverySupportedTypeAndTheOffset() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("score", new BigDecimal("85.71"));
+        keys.put("timeSpentSeconds", 321);
+        keys.put("attempts", 7L);
+        keys.put("title", "Đại số tuyến tính");
+        keys.put("createdAt", LocalDateTime.of(2026, 10, 19, 11, 18, 36, 626_803_000));
+        keys.put("isActive", true);
+        keys.put("finishedAt", null);
+        keys.put("id", UUID.randomUUID());
+        Sort sort = Sort.by(keys.keySet().toArray(String[]::new));
+
+        String cursor = CursorPagination.encode(ScrollPosition.forward(keys), 40);
+        CursorPagination.Position position = CursorPagination.decode(cursor, sort);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(position.offset()).isEqualTo(40);
+        assertThat(position.scrollPosition().getKeys()).containsExactlyEntriesOf(keys);
+        assertThat(position.scrollPosition().scrollsForward()).isTrue();
+    }
+
+    @Test
+    void startsAtTheFirstPageWithoutCursor() {
+        CursorPagination.Position position = CursorPagination.decode(null, LEADERBOARD);
+
+        assertThat(position.offset()).isZero();
+        assertThat(position.scrollPosition().isInitial()).isTrue();
+        assertThat(CursorPagination.decode("  ", LEADERBOARD).scrollPosition().isInitial()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not a cursor", "zzzz", "AQ", "%%%", "AQAAAAAAAAAA" })
+    void rejectsGarbage(String cursor) {
+        assertThatThrownBy(() -> CursorPagination.decode(cursor, LEADERBOARD))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsOverlongCursors() {
+        String cursor = leaderboardCursor() + "A".repeat(2048);
+
+        assertThatThrownBy(() -> CursorPagination.decode(cursor, LEADERBOARD))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsTamperedCursors() throws IOException {
+        byte[] valid = Base64.getUrlDecoder().decode(leaderboardCursor());
+
+        byte[] otherVersion = valid.clone();
+        otherVersion[0] = 2;
+        byte[] truncated = Arrays.copyOf(valid, valid.length - 3);
+        byte[] trailing = Arrays.copyOf(valid, valid.length + 1);
+
+        for (byte[] tampered : new byte[][] { otherVersion, truncated, trailing }) {
+            assertThatThrownBy(() -> CursorPagination.decode(encode(tampered), LEADERBOARD))
+                .isInstanceOf(BadRequestException.class);
+        }
+        assertThatThrownBy(() -> CursorPagination.decode(encode(cursorBytes(-1, 'D')), LEADERBOARD))
+            .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> CursorPagination.decode(encode(cursorBytes(3, 'X')), LEADERBOARD))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsCursorsOfAnotherSort() {
+        Sort history = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+        assertThatThrownBy(() -> CursorPagination.decode(leaderboardCursor(), history))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Cursor does not belong to this list");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rejectsKeysThatCannotBeBoundToTheSortAttributes() {
+        JpaSpecificationExecutor<Object> repository = mock(JpaSpecificationExecutor.class);
+        when(repository.findBy(any(Specification.class), any()))
+            .thenThrow(new JpaSystemException(new CoercionException("Error coercing value")));
+
+        assertThatThrownBy(() -> CursorPagination.page(repository, Specification.unrestricted(), LEADERBOARD,
+                leaderboardCursor(), 10, false, row -> row))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void appendsTheIdInTheDirectionOfTheLastOrder() {
+        Sort sort = Sort.by(Sort.Order.desc("score"), Sort.Order.asc("timeSpentSeconds"));
+
+        assertThat(CursorPagination.withIdTiebreaker(sort)).isEqualTo(sort.and(Sort.by(Sort.Direction.ASC, "id")));
+        assertThat(CursorPagination.withIdTiebreaker(Sort.by(Sort.Direction.DESC, "createdAt")))
+            .isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        assertThat(CursorPagination.withIdTiebreaker(Sort.unsorted())).isEqualTo(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    @Test
+    void keepsAnExplicitIdOrder() {
+        Sort sort = Sort.by(Sort.Order.desc("id"), Sort.Order.asc("title"));
+
+        assertThat(CursorPagination.withIdTiebreaker(sort)).isSameAs(sort);
+    }
+
+    private static String leaderboardCursor() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("score", new BigDecimal("85.71"));
+        keys.put("timeSpentSeconds", 321);
+        keys.put("id", UUID.randomUUID());
+        return CursorPagination.encode(ScrollPosition.forward(keys), 3);
+    }
+
+    /**
+     * A leaderboard cursor written by hand, with the given offset and type tag of the
+     * score.
+     */
+    private static byte[] cursorBytes(long offset, char scoreTag) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(1);
+        out.writeLong(offset);
+        out.writeByte(3);
+        out.writeUTF("score");
+        out.writeByte(scoreTag);
+        out.writeUTF("85.71");
+        out.writeUTF("timeSpentSeconds");
+        out.writeByte('I');
+        out.writeInt(321);
+        out.writeUTF("id");
+        out.writeByte('U');
+        out.writeLong(1);
+        out.writeLong(2);
+        return bytes.toByteArray();
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.springbootweb.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.example.springbootweb.exceptions.TooManyRequestsException;
+import com.example.springbootweb.services.executors.BoundedPriorityExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicInteger encoded = new AtomicInteger();
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void hashesOnTheWorkers() {
+        encoder = encoder(new Delegate(() -> {
+        }), Duration.ofSeconds(5));
+
+        assertThat(encoder.encode("secret")).isEqualTo("hash-of-secret");
+        assertThat(encoder.matches("secret", "hash-of-secret")).isTrue();
+    }
+
+    @Test
+    void passesErrorsOfTheDelegateToTheCaller() {
+        encoder = encoder(new Delegate(() -> {
+            throw new StackOverflowError("deep");
+        }), Duration.ofSeconds(30));
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(StackOverflowError.class).hasMessage("deep");
+        // Not after the 30 seconds timeout
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void rejectsCallersThatWaitedLongerThanTheTimeoutAndDropsTheirWork() throws InterruptedException {
+        encoder = encoder(new Delegate(() -> {
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), Duration.ofMillis(300));
+
+        // Holds the only worker until released
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                encoder.encode("first");
+            }
+            catch (TooManyRequestsException e) {
+                // expected, the worker is released later
+            }
+        });
+        started.await();
+        assertThatThrownBy(() -> encoder.encode("second")).isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        holder.join();
+        // Queued after "second", so it only returns once the worker got past it
+        assertThat(encoder.encode("third")).isEqualTo("hash-of-third");
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(2);
+        // "first" was hashed although nobody waited for it any more, "second" was dropped
+        assertThat(encoded.get()).isEqualTo(2);
+    }
+
+    private BoundedPasswordEncoder encoder(PasswordEncoder delegate, Duration timeout) {
+        return new BoundedPasswordEncoder(delegate, new BoundedPriorityExecutor("hashing-test-", 1, 4), timeout, 2,
+                meterRegistry);
+    }
+
+    private class Delegate implements PasswordEncoder {
+
+        private final Runnable work;
+
+        Delegate(Runnable work) {
+            this.work = work;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            work.run();
+            encoded.incrementAndGet();
+            return "hash-of-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            work.run();
+            return encodedPassword.equals("hash-of-" + rawPassword);
+        }
+
+    }
+
+}
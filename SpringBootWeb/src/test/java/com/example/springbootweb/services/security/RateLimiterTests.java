@@ -0,0 +1,126 @@
+package com.example.springbootweb.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.springbootweb.entities.security.RateLimitProperties;
+import com.example.springbootweb.entities.security.RateLimitProperties.KeyType;
+import com.example.springbootweb.entities.security.RateLimitProperties.Policy;
+import com.example.springbootweb.services.jwt.AuthenticatedUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTests {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void countsRequestsAgainstTheFirstMatchingPolicyOnly() {
+        Map<String, Policy> policies = new LinkedHashMap<>();
+        policies.put("login", new Policy(List.of("/api/auth/login"), List.of("POST"), KeyType.IP, 1, HOUR));
+        policies.put("api", new Policy(List.of("/api/**"), List.of(), KeyType.IP, 3, HOUR));
+        RateLimiter limiter = limiter(policies);
+
+        assertThat(limiter.acquire(request("POST", "/api/auth/login"))).isZero();
+        assertThat(limiter.acquire(request("POST", "/api/auth/login"))).isBetween(3599L, 3600L);
+        // The exhausted login bucket does not spill over into the broader policy
+        assertThat(drain(limiter, request("GET", "/api/quizzes"))).isEqualTo(3);
+        assertThat(rejected("login")).isEqualTo(1);
+        assertThat(rejected("api")).isEqualTo(1);
+    }
+
+    @Test
+    void skipsPoliciesOfOtherMethods() {
+        Map<String, Policy> policies = new LinkedHashMap<>();
+        policies.put("login", new Policy(List.of("/api/auth/login"), List.of("POST"), KeyType.IP, 1, HOUR));
+        policies.put("api", new Policy(List.of("/api/**"), List.of(), KeyType.IP, 3, HOUR));
+        RateLimiter limiter = limiter(policies);
+
+        // A GET of the login path falls through to the next policy
+        assertThat(drain(limiter, request("GET", "/api/auth/login"))).isEqualTo(3);
+        assertThat(limiter.acquire(request("POST", "/api/auth/login"))).isZero();
+    }
+
+    @Test
+    void letsUnmatchedRequestsThrough() {
+        RateLimiter limiter = limiter(
+                Map.of("api", new Policy(List.of("/api/**"), List.of(), KeyType.IP, 1, HOUR)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.acquire(request("GET", "/actuator/health"))).isZero();
+        }
+        assertThat(limiter(Map.of()).acquire(request("GET", "/api/quizzes"))).isZero();
+    }
+
+    @Test
+    void keepsOneBucketPerClient() {
+        RateLimiter limiter = limiter(
+                Map.of("analytics", new Policy(List.of("/api/analytics/**"), List.of(), KeyType.USER, 2, HOUR)));
+        MockHttpServletRequest request = request("GET", "/api/analytics/admin/dashboard");
+
+        signIn(UUID.randomUUID());
+        assertThat(drain(limiter, request)).isEqualTo(2);
+        signIn(UUID.randomUUID());
+        assertThat(drain(limiter, request)).isEqualTo(2);
+
+        // Anonymous requests are keyed by address
+        SecurityContextHolder.clearContext();
+        assertThat(drain(limiter, request)).isEqualTo(2);
+        request.setRemoteAddr("10.0.0.2");
+        assertThat(drain(limiter, request)).isEqualTo(2);
+    }
+
+    private RateLimiter limiter(Map<String, Policy> policies) {
+        return new RateLimiter(new RateLimitProperties(true, 1000, policies), meterRegistry);
+    }
+
+    private double rejected(String policy) {
+        return meterRegistry.get("ratelimit.requests").tag("policy", policy).tag("outcome", "rejected")
+            .counter().count();
+    }
+
+    /**
+     * @return the number of requests allowed until the first rejection
+     */
+    private static int drain(RateLimiter limiter, MockHttpServletRequest request) {
+        int allowed = 0;
+        while (limiter.acquire(request) == 0) {
+            allowed++;
+        }
+        return allowed;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private static void signIn(UUID userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user@example.com",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext()
+            .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.springbootweb.services.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    /** Far from zero, as System.nanoTime() may be, negative values included. */
+    private static final long START = -42 * SECOND;
+
+    @Test
+    void allowsABurstUpToTheCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 5 * SECOND, START);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(START)).as("token %d", i + 1).isZero();
+        }
+        assertThat(bucket.tryConsume(START)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void tellsHowLongUntilTheNextToken() {
+        TokenBucket bucket = new TokenBucket(5, 5 * SECOND, START);
+        drain(bucket, START);
+
+        assertThat(bucket.tryConsume(START + SECOND / 4)).isEqualTo(3 * SECOND / 4);
+        assertThat(bucket.tryConsume(START + SECOND - 1)).isEqualTo(1);
+        // Rejected attempts do not use up anything
+        assertThat(bucket.tryConsume(START + SECOND)).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(5, 5 * SECOND, START);
+        drain(bucket, START);
+
+        long later = START + 2 * SECOND;
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void neverHoldsMoreThanTheCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 5 * SECOND, START);
+        drain(bucket, START);
+
+        long muchLater = START + 3600 * SECOND;
+        assertThat(drain(bucket, muchLater)).isEqualTo(5);
+    }
+
+    @Test
+    void spreadsTheRefillEvenlyOverThePeriod() {
+        // 10 requests per minute: one every 6 seconds
+        TokenBucket bucket = new TokenBucket(10, 60 * SECOND, START);
+        drain(bucket, START);
+
+        assertThat(bucket.tryConsume(START)).isEqualTo(6 * SECOND);
+        assertThat(bucket.tryConsume(START + 6 * SECOND)).isZero();
+    }
+
+    @Test
+    void handsOutEachTokenOnceUnderContention() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1000, 1000 * SECOND, START);
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < 500; j++) {
+                    if (bucket.tryConsume(START) == 0) {
+                        taken.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(taken.get()).isEqualTo(1000);
+    }
+
+    /**
+     * @return the number of tokens taken until the bucket was empty
+     */
+    private static int drain(TokenBucket bucket, long nowNanos) {
+        int taken = 0;
+        while (bucket.tryConsume(nowNanos) == 0) {
+            taken++;
+        }
+        return taken;
+    }
+
+}
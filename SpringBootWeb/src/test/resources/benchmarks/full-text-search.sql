@@ -0,0 +1,82 @@
+-- Compares the old substring search with the tsvector search on 1M synthetic questions.
+-- Runs in its own schema and drops it at the end, so it is safe against a dev database:
+--
+--   psql "$DB_URL" -f src/test/resources/benchmarks/full-text-search.sql
+--
+-- Change :keyword to try other selectivities (common words match many rows, rare words few).
+
+\set ON_ERROR_STOP on
+\set keyword 'ngan'
+\timing on
+
+DROP SCHEMA IF EXISTS fts_bench CASCADE;
+CREATE SCHEMA fts_bench;
+SET search_path = fts_bench;
+
+CREATE TABLE questions
+(
+    id            BIGINT PRIMARY KEY,
+    content       TEXT NOT NULL,
+    search_vector TSVECTOR
+);
+
+-- Same trigger body as changeset full-text-search-2
+CREATE FUNCTION content_search_vector_update() RETURNS TRIGGER AS
+$$
+BEGIN
+    NEW.search_vector := setweight(to_tsvector('simple', coalesce(NEW.content, '')), 'A');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_questions_search_vector
+    BEFORE INSERT OR UPDATE OF content
+    ON questions
+    FOR EACH ROW
+EXECUTE FUNCTION content_search_vector_update();
+
+-- 1M rows of 12 words drawn from a 2,000 word vocabulary; write time includes the trigger
+INSERT INTO questions (id, content)
+SELECT g,
+       (SELECT string_agg(w, ' ')
+        FROM (SELECT CASE WHEN random() < 0.001 THEN 'ngannhan' ELSE 'word' || (random() * 2000)::INT END AS w
+              FROM generate_series(1, 12)
+              WHERE g > 0) words)
+FROM generate_series(1, 1000000) g;
+
+CREATE INDEX idx_questions_search_vector ON questions USING GIN (search_vector);
+ANALYZE questions;
+
+SELECT pg_size_pretty(pg_relation_size('questions'))                   AS table_size,
+       pg_size_pretty(pg_relation_size('idx_questions_search_vector')) AS gin_size;
+
+-- Before: what findByContentContainingIgnoreCase generated (sequential scan, every row)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, content
+FROM questions
+WHERE lower(content) LIKE '%' || :'keyword' || '%'
+ORDER BY id
+LIMIT 20;
+
+-- After: QuestionRepository.searchByContent (bitmap scan on the GIN index, ranked)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, content
+FROM questions
+WHERE search_vector @@ to_tsquery('simple', :'keyword' || ':*')
+ORDER BY ts_rank(search_vector, to_tsquery('simple', :'keyword' || ':*')) DESC, id
+LIMIT 20;
+
+-- Counting query behind a Page<QuestionResponse>
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM questions
+WHERE search_vector @@ to_tsquery('simple', :'keyword' || ':*');
+
+-- Write overhead of the trigger on updates
+EXPLAIN (ANALYZE, BUFFERS)
+UPDATE questions
+SET content = content || ' edited'
+WHERE id <= 10000;
+
+RESET search_path;
+DROP SCHEMA fts_bench CASCADE;
@@ -0,0 +1,110 @@
+package com.example.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import com.example.springbootweb.entities.enums.QuestionType;
+import com.example.springbootweb.entities.enums.QuizSessionStatus;
+import com.example.springbootweb.entities.models.Quiz;
+import com.example.springbootweb.entities.models.QuizSession;
+import com.example.springbootweb.entities.models.Role;
+import com.example.springbootweb.entities.models.SessionAnswer;
+import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.AnswerSnapshot;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot.QuestionSnapshot;
+
+/**
+ * Deterministic test data shaped like a real session: four options per question, about
+ * 70% of the questions answered correctly.
+ */
+final class Fixtures {
+
+	static final int OPTIONS_PER_QUESTION = 4;
+
+	private Fixtures() {
+	}
+
+	static User user() {
+		return User.builder()
+			.id(UUID.randomUUID())
+			.firstName("Bench")
+			.lastName("User")
+			.email("bench.user@example.com")
+			.password("$2a$10$abcdefghijklmnopqrstuv")
+			.tokenVersion(3L)
+			.roles(Set.of(Role.builder().id(UUID.randomUUID()).name("user").description("User").build()))
+			.build();
+	}
+
+	static Quiz quiz() {
+		return Quiz.builder()
+			.id(UUID.randomUUID())
+			.title("Java Streams and Collections")
+			.description("Covers collectors, spliterators and the collection framework")
+			.duration(30)
+			.thumbnailUrl("https://cdn.example.com/quiz/streams.png")
+			.version(7L)
+			.quizQuestions(new ArrayList<>())
+			.userQuizzes(new ArrayList<>())
+			.build();
+	}
+
+	static QuizSnapshot snapshot(Quiz quiz, int questionCount) {
+		List<QuestionSnapshot> questions = new ArrayList<>(questionCount);
+		for (int q = 0; q < questionCount; q++) {
+			List<AnswerSnapshot> answers = new ArrayList<>(OPTIONS_PER_QUESTION);
+			for (int a = 0; a < OPTIONS_PER_QUESTION; a++) {
+				answers.add(new AnswerSnapshot(UUID.randomUUID(), "Option " + a + " of question " + q, a == 0, true));
+			}
+			questions.add(new QuestionSnapshot(UUID.randomUUID(), "Which statement about question " + q + " is true?",
+					QuestionType.SINGLE_CHOICE, answers));
+		}
+		return new QuizSnapshot(UUID.randomUUID(), quiz.getId(), 1, quiz.getTitle(), quiz.getDescription(),
+				quiz.getDuration(), questions);
+	}
+
+	static QuizSession session(QuizSnapshot quiz, User user) {
+		LocalDateTime startedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+		return QuizSession.builder()
+			.id(UUID.randomUUID())
+			.userId(user.getId())
+			.quizId(quiz.quizId())
+			.quizVersionId(quiz.versionId())
+			.status(QuizSessionStatus.SUBMITTED)
+			.startedAt(startedAt)
+			.finishedAt(startedAt.plusMinutes(25))
+			.expiresAt(startedAt.plusMinutes(quiz.duration()))
+			.timeSpentSeconds(1500)
+			.totalQuestions(quiz.questions().size())
+			.maxPoints(BigDecimal.valueOf(quiz.questions().size()))
+			.build();
+	}
+
+	static List<SessionAnswer> answers(QuizSession session, QuizSnapshot quiz) {
+		SplittableRandom random = new SplittableRandom(42);
+		List<SessionAnswer> answers = new ArrayList<>(quiz.questions().size());
+		int order = 0;
+		for (QuestionSnapshot question : quiz.questions()) {
+			boolean correct = random.nextInt(10) < 7;
+			AnswerSnapshot selected = question.answers().get(correct ? 0 : 1 + random.nextInt(OPTIONS_PER_QUESTION - 1));
+			answers.add(SessionAnswer.builder()
+				.id(UUID.randomUUID())
+				.quizSessionId(session.getId())
+				.questionId(question.id())
+				.answerId(selected.id())
+				.isCorrect(correct)
+				.pointsAwarded(correct ? BigDecimal.ONE : BigDecimal.ZERO)
+				.timeSpentSeconds(15 + random.nextInt(60))
+				.answerOrder(order++)
+				.build());
+		}
+		return answers;
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.example.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionResultResponse;
+import com.example.springbootweb.entities.enums.DifficultyLevel;
+import com.example.springbootweb.entities.models.QuizSession;
+import com.example.springbootweb.entities.models.SessionAnswer;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.services.grading.QuizResults;
+
+/**
+ * Session grading: the final score (BigDecimal), the per-question result assembly of
+ * {@code getResult} and the difficulty classification of the analytics reports.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GradingBenchmark {
+
+	@Param({ "20", "100" })
+	private int questions;
+
+	private QuizSnapshot quiz;
+
+	private QuizSession session;
+
+	private List<SessionAnswer> answers;
+
+	private BigDecimal[] correctRates;
+
+	@Setup
+	public void setUp() {
+		quiz = Fixtures.snapshot(Fixtures.quiz(), questions);
+		session = Fixtures.session(quiz, Fixtures.user());
+		answers = Fixtures.answers(session, quiz);
+		correctRates = new BigDecimal[101];
+		for (int rate = 0; rate <= 100; rate++) {
+			correctRates[rate] = BigDecimal.valueOf(rate * 100L, 2);
+		}
+	}
+
+	@Benchmark
+	public BigDecimal finalScore() {
+		QuizResults.applyFinalScore(session, answers);
+		return session.getScore();
+	}
+
+	@Benchmark
+	public List<QuizSessionResultResponse.AnswerResultResponse> resultAssembly() {
+		return QuizResults.answerResults(quiz, answers, BigDecimal.ONE);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public void difficultyFromCorrectRate(Blackhole blackhole) {
+		for (BigDecimal rate : correctRates) {
+			blackhole.consume(DifficultyLevel.fromCorrectRate(rate));
+		}
+	}
+
+}
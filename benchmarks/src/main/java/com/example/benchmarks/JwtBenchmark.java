@@ -0,0 +1,92 @@
+package com.example.benchmarks;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.springbootweb.entities.jwt.JwtProperties;
+import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.services.jwt.JwtTokenUtil;
+import com.example.springbootweb.services.jwt.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Access token creation and verification. {@code verifyCached} is the common case of a
+ * token seen before; {@code verifyUncached} cycles through more tokens than the
+ * verified-token cache holds, so every call parses the token and checks its signature.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtBenchmark {
+
+	private static final String SECRET = "benchmark-secret-that-is-at-least-256-bits-long!!";
+
+	private static final int UNCACHED_TOKENS = 1024;
+
+	private JwtTokenUtil cachingTokens;
+
+	private JwtTokenUtil nonCachingTokens;
+
+	private User user;
+
+	private String token;
+
+	private String[] uncachedTokens;
+
+	private int next;
+
+	@Setup
+	public void setUp() {
+		cachingTokens = tokenUtil(10_000);
+		nonCachingTokens = tokenUtil(1);
+		user = Fixtures.user();
+		token = cachingTokens.generateToken(user);
+		cachingTokens.verify(token);
+		uncachedTokens = new String[UNCACHED_TOKENS];
+		for (int i = 0; i < UNCACHED_TOKENS; i++) {
+			user.setTokenVersion((long) i);
+			uncachedTokens[i] = nonCachingTokens.generateToken(user);
+		}
+	}
+
+	@Benchmark
+	public String create() {
+		return cachingTokens.generateToken(user);
+	}
+
+	@Benchmark
+	public Optional<VerifiedToken> verifyCached() {
+		return cachingTokens.verify(token);
+	}
+
+	@Benchmark
+	public Optional<VerifiedToken> verifyUncached() {
+		next = (next + 1) % UNCACHED_TOKENS;
+		return nonCachingTokens.verify(uncachedTokens[next]);
+	}
+
+	private static JwtTokenUtil tokenUtil(long verifiedCacheSize) {
+		JwtProperties properties = new JwtProperties(SECRET, Duration.ofHours(1).toMillis(),
+				Duration.ofDays(7).toMillis(), verifiedCacheSize, Duration.ofSeconds(30));
+		JwtTokenUtil tokenUtil = new JwtTokenUtil(properties, new SimpleMeterRegistry());
+		tokenUtil.init();
+		return tokenUtil;
+	}
+
+}
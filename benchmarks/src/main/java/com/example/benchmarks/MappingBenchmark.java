@@ -0,0 +1,81 @@
+package com.example.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionDetailResponse;
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionSummaryResponse;
+import com.example.springbootweb.entities.dtos.quizzes.QuizDetailResponse;
+import com.example.springbootweb.entities.dtos.quizzes.QuizSummaryResponse;
+import com.example.springbootweb.entities.models.Quiz;
+import com.example.springbootweb.entities.models.QuizSession;
+import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.mappers.QuizMapper;
+import com.example.springbootweb.mappers.QuizSessionMapper;
+
+/**
+ * The generated MapStruct mappers of quizzes and quiz sessions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+	private QuizMapper quizMapper;
+
+	private QuizSessionMapper quizSessionMapper;
+
+	private Quiz quiz;
+
+	private QuizSnapshot snapshot;
+
+	private QuizSession session;
+
+	private User user;
+
+	@Setup
+	public void setUp() {
+		quizMapper = Mappers.getMapper(QuizMapper.class);
+		quizSessionMapper = Mappers.getMapper(QuizSessionMapper.class);
+		quiz = Fixtures.quiz();
+		user = Fixtures.user();
+		snapshot = Fixtures.snapshot(quiz, 20);
+		session = Fixtures.session(snapshot, user);
+	}
+
+	@Benchmark
+	public QuizDetailResponse quizDetail() {
+		return quizMapper.toResponse(quiz);
+	}
+
+	@Benchmark
+	public QuizSummaryResponse quizSummary() {
+		return quizMapper.toSummary(quiz);
+	}
+
+	@Benchmark
+	public QuizSessionDetailResponse sessionDetail() {
+		return quizSessionMapper.toDetailResponse(session, snapshot, user, 300);
+	}
+
+	@Benchmark
+	public QuizSessionSummaryResponse sessionSummary() {
+		return quizSessionMapper.toSummaryResponse(session, quiz);
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.example.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.springbootweb.entities.dtos.quizsessions.QuizSessionResultResponse;
+import com.example.springbootweb.entities.models.QuizSession;
+import com.example.springbootweb.entities.models.SessionAnswer;
+import com.example.springbootweb.entities.models.User;
+import com.example.springbootweb.entities.quizversions.QuizSnapshot;
+import com.example.springbootweb.services.grading.QuizResults;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson serialization of the quiz result, the largest response of a session.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+	@Param({ "20", "100" })
+	private int questions;
+
+	private JsonMapper jsonMapper;
+
+	private QuizSessionResultResponse result;
+
+	@Setup
+	public void setUp() {
+		jsonMapper = JsonMapper.builder().build();
+		User user = Fixtures.user();
+		QuizSnapshot quiz = Fixtures.snapshot(Fixtures.quiz(), questions);
+		QuizSession session = Fixtures.session(quiz, user);
+		List<SessionAnswer> answers = Fixtures.answers(session, quiz);
+		QuizResults.applyFinalScore(session, answers);
+		result = new QuizSessionResultResponse(session.getId(), quiz.quizId(), quiz.title(), quiz.description(),
+				user.getId(), user.getDisplayName(), session.getStatus(), session.getStartedAt(),
+				session.getFinishedAt(), session.getTimeSpentSeconds(), session.getTotalQuestions(),
+				session.getAnsweredQuestions(), session.getCorrectAnswers(),
+				session.getTotalQuestions() - session.getCorrectAnswers(), 0, session.getScore(),
+				session.getPointsEarned(), session.getMaxPoints(), true, new BigDecimal("60.00"),
+				QuizResults.answerResults(quiz, answers, BigDecimal.ONE),
+				new QuizSessionResultResponse.QuizStatistics(70.0, 75, null, null, 3, 120));
+	}
+
+	@Benchmark
+	public byte[] serializeResult() {
+		return jsonMapper.writeValueAsBytes(result);
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.example.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Streams rows into one table with {@code COPY ... FROM STDIN} (text format), which is
+ * an order of magnitude faster than batched inserts. Values are written field by field:
+ * <pre>
+ * copy.value(id).value(name).nullValue().endRow();
+ * </pre>
+ * Rows become visible when the writer is closed (the COPY is one statement).
+ */
+final class CopyWriter implements AutoCloseable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final Writer out;
+
+	private boolean firstField = true;
+
+	private long rows;
+
+	CopyWriter(Connection connection, String table, String... columns) throws SQLException {
+		String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+		PGCopyOutputStream stream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE);
+		out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+
+	CopyWriter value(UUID value) throws IOException {
+		return value == null ? nullValue() : raw(value.toString());
+	}
+
+	CopyWriter value(String value) throws IOException {
+		if (value == null) {
+			return nullValue();
+		}
+		separate();
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			switch (ch) {
+				case '\\' -> out.write("\\\\");
+				case '\t' -> out.write("\\t");
+				case '\n' -> out.write("\\n");
+				case '\r' -> out.write("\\r");
+				default -> out.write(ch);
+			}
+		}
+		return this;
+	}
+
+	CopyWriter value(long value) throws IOException {
+		return raw(Long.toString(value));
+	}
+
+	CopyWriter value(Boolean value) throws IOException {
+		return value == null ? nullValue() : raw(value ? "t" : "f");
+	}
+
+	CopyWriter value(BigDecimal value) throws IOException {
+		return value == null ? nullValue() : raw(value.toPlainString());
+	}
+
+	CopyWriter value(LocalDate value) throws IOException {
+		return value == null ? nullValue() : raw(value.toString());
+	}
+
+	CopyWriter value(LocalDateTime value) throws IOException {
+		return value == null ? nullValue() : raw(value.toString().replace('T', ' '));
+	}
+
+	CopyWriter nullValue() throws IOException {
+		return raw("\\N");
+	}
+
+	void endRow() throws IOException {
+		out.write('\n');
+		firstField = true;
+		rows++;
+	}
+
+	long rows() {
+		return rows;
+	}
+
+	/**
+	 * Ends the COPY; a failed row surfaces here as an {@link IOException} wrapping the
+	 * server error.
+	 */
+	@Override
+	public void close() throws IOException {
+		out.close();
+	}
+
+	private CopyWriter raw(String value) throws IOException {
+		separate();
+		out.write(value);
+		return this;
+	}
+
+	private void separate() throws IOException {
+		if (!firstField) {
+			out.write('\t');
+		}
+		firstField = false;
+	}
+
+}
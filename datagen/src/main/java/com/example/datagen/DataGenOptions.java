@@ -0,0 +1,88 @@
+package com.example.datagen;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line of the generator, as {@code --name=value} pairs.
+ *
+ * @param url JDBC URL of a database already migrated by the application (Liquibase)
+ * @param user database user
+ * @param password database password
+ * @param scale row counts to generate
+ * @param seed the same seed (and scale) always produces the same rows, ids included
+ * @param until the newest generated timestamp; data spreads over the year before it.
+ * Fixed by default so that runs are reproducible
+ * @param threads connections loading quiz sessions in parallel
+ * @param truncate empty every table the generator writes before loading
+ * @param skipForeignKeyChecks load quiz sessions and session answers with
+ * {@code session_replication_role = replica}, which skips their foreign key checks (several
+ * times faster, needs a superuser). Safe because every reference is derived from the
+ * seed; those tables have no triggers of their own that would be skipped too
+ */
+record DataGenOptions(String url, String user, String password, Scale scale, long seed, LocalDateTime until,
+		int threads, boolean truncate, boolean skipForeignKeyChecks) {
+
+	static final String USAGE = """
+			Usage: java -jar datagen.jar --url=jdbc:postgresql://localhost:5432/QuizDB?currentSchema=dbo
+			         [--user=postgres] [--password=...] [--scale=small|medium|large] [--users=N] [--quizzes=N]
+			         [--sessions=N] [--seed=42] [--until=2026-10-01T00:00] [--threads=<cores>] [--truncate]
+			         [--skip-fk-checks]
+			""";
+
+	static DataGenOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--")) {
+				throw new IllegalArgumentException("Unexpected argument: " + arg);
+			}
+			int equals = arg.indexOf('=');
+			values.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals),
+					equals < 0 ? "true" : arg.substring(equals + 1));
+		}
+		String url = values.get("url");
+		if (url == null) {
+			throw new IllegalArgumentException("--url is required");
+		}
+		Scale scale = Scale.of(values.getOrDefault("scale", "small"));
+		scale = new Scale(intValue(values, "users", scale.users()), intValue(values, "quizzes", scale.quizzes()),
+				longValue(values, "sessions", scale.sessions()));
+		LocalDateTime until = LocalDateTime.parse(values.getOrDefault("until", "2026-10-01T00:00"));
+		return new DataGenOptions(url, values.getOrDefault("user", "postgres"), values.getOrDefault("password", ""),
+				scale, longValue(values, "seed", 42), until,
+				intValue(values, "threads", Runtime.getRuntime().availableProcessors()),
+				Boolean.parseBoolean(values.getOrDefault("truncate", "false")),
+				Boolean.parseBoolean(values.getOrDefault("skip-fk-checks", "false")));
+	}
+
+	private static int intValue(Map<String, String> values, String name, int defaultValue) {
+		return values.containsKey(name) ? Integer.parseInt(values.get(name).replace("_", "")) : defaultValue;
+	}
+
+	private static long longValue(Map<String, String> values, String name, long defaultValue) {
+		return values.containsKey(name) ? Long.parseLong(values.get(name).replace("_", "")) : defaultValue;
+	}
+
+	/**
+	 * Row counts of the generated dataset. Questions, answers and session answers follow
+	 * from these: 5-25 questions per quiz, up to 4 answers per question, and a session
+	 * answers most questions of its quiz.
+	 */
+	record Scale(int users, int quizzes, long sessions) {
+
+		static Scale of(String name) {
+			return switch (name) {
+				// ~300k session answers, seconds to load
+				case "small" -> new Scale(1_000, 50, 20_000);
+				// ~13M session answers
+				case "medium" -> new Scale(50_000, 1_000, 1_000_000);
+				// ~65M session answers
+				case "large" -> new Scale(200_000, 5_000, 5_000_000);
+				default -> throw new IllegalArgumentException("Unknown scale: " + name);
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.example.datagen;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry point: fills a database migrated by the application with a synthetic dataset
+ * (users, quizzes, questions, answers, quiz sessions and session answers) of the
+ * requested scale. See {@link DataGenOptions#USAGE}.
+ * <p>
+ * The generator only appends rows; rerunning with the same seed collides with the
+ * previous run's ids unless {@code --truncate} is given.
+ */
+public final class DataGenerator {
+
+	/**
+	 * Every table the generator writes, children first.
+	 */
+	private static final String[] TABLES = { "session_answers", "quiz_sessions", "quiz_questions", "answers",
+			"questions", "quizzes", "users" };
+
+	private DataGenerator() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		DataGenOptions options;
+		try {
+			options = DataGenOptions.parse(args);
+		}
+		catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.print(DataGenOptions.USAGE);
+			System.exit(2);
+			return;
+		}
+
+		Dataset dataset = new Dataset(options.seed(), options.scale(), options.until());
+		long start = System.nanoTime();
+		try (Connection connection = connect(options)) {
+			if (options.truncate()) {
+				System.out.println("Truncating " + String.join(", ", TABLES));
+				execute(connection, "TRUNCATE " + String.join(", ", TABLES) + " CASCADE");
+			}
+			step("users", () -> Loaders.users(connection, dataset));
+			step("quizzes", () -> Loaders.quizzes(connection, dataset));
+			step("questions", () -> Loaders.questions(connection, dataset));
+			step("answers", () -> Loaders.answers(connection, dataset));
+			step("quiz_questions", () -> Loaders.quizQuestions(connection, dataset));
+		}
+		loadSessions(options, dataset);
+		try (Connection connection = connect(options)) {
+			// VACUUM also sets the visibility map, so index-only scans are costed like on a
+			// database autovacuum has already been through
+			for (String table : TABLES) {
+				execute(connection, "VACUUM (ANALYZE) " + table);
+			}
+		}
+		System.out.printf("Done in %.1fs (seed %d)%n", (System.nanoTime() - start) / 1e9, options.seed());
+	}
+
+	/**
+	 * Loads session chunks on {@code threads} connections; chunks are independent, so
+	 * the result is the same whatever the number of threads.
+	 */
+	private static void loadSessions(DataGenOptions options, Dataset dataset) throws Exception {
+		int chunks = Loaders.sessionChunks(dataset);
+		AtomicInteger done = new AtomicInteger();
+		AtomicLong answers = new AtomicLong();
+		long start = System.nanoTime();
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, options.threads()))) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				int index = chunk;
+				futures.add(executor.submit(() -> {
+					try (Connection connection = connect(options)) {
+						if (options.skipForeignKeyChecks()) {
+							execute(connection, "SET session_replication_role = replica");
+						}
+						answers.addAndGet(Loaders.sessionChunk(connection, dataset, index));
+					}
+					int finished = done.incrementAndGet();
+					if (finished % 10 == 0 || finished == chunks) {
+						System.out.printf("  sessions: %d/%d chunks%n", finished, chunks);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException e) {
+					executor.shutdownNow();
+					throw (Exception) e.getCause();
+				}
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%-16s %,12d rows %8.1fs %,10.0f rows/s%n", "quiz_sessions", dataset.scale().sessions(),
+				seconds, dataset.scale().sessions() / seconds);
+		System.out.printf("%-16s %,12d rows %8.1fs %,10.0f rows/s%n", "session_answers", answers.get(), seconds,
+				answers.get() / seconds);
+	}
+
+	private static void step(String table, Load load) throws Exception {
+		long start = System.nanoTime();
+		long rows = load.run();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%-16s %,12d rows %8.1fs %,10.0f rows/s%n", table, rows, seconds, rows / seconds);
+	}
+
+	/**
+	 * Autocommit connection; every COPY commits on its own. Commits do not wait for the
+	 * WAL flush, a crash loses at most the last moments of a run that would be redone
+	 * anyway.
+	 */
+	private static Connection connect(DataGenOptions options) throws SQLException {
+		Connection connection = DriverManager.getConnection(options.url(), options.user(), options.password());
+		execute(connection, "SET synchronous_commit = off");
+		return connection;
+	}
+
+	private static void execute(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Load {
+
+		long run() throws Exception;
+
+	}
+
+}
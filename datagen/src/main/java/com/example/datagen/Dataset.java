@@ -0,0 +1,257 @@
+package com.example.datagen;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * The shape of the generated data as pure functions of the seed: ids, question types,
+ * answer keys, user ability and question difficulty are all derived by hashing, so any
+ * loader can compute them without looking at rows written by another.
+ * <p>
+ * Distributions aim at what production looks like rather than uniform noise:
+ * <ul>
+ * <li>quiz popularity and user activity are heavily skewed (a few quizzes and users
+ * account for most sessions)</li>
+ * <li>quizzes have 5-25 questions, mostly single choice</li>
+ * <li>the chance of a correct answer depends on both the user and the question, so
+ * scores and difficulty levels spread out</li>
+ * <li>most sessions are graded; some were abandoned half-way or timed out</li>
+ * </ul>
+ */
+final class Dataset {
+
+	static final int USERS = 1;
+
+	static final int QUIZZES = 2;
+
+	static final int QUESTIONS = 3;
+
+	static final int ANSWERS = 4;
+
+	static final int QUIZ_QUESTIONS = 5;
+
+	static final int SESSIONS = 6;
+
+	static final int SESSION_ANSWERS = 7;
+
+	/**
+	 * Answer slots reserved per question, whatever its type.
+	 */
+	static final int MAX_ANSWERS = 4;
+
+	private static final int MIN_QUESTIONS_PER_QUIZ = 5;
+
+	private static final int MAX_QUESTIONS_PER_QUIZ = 25;
+
+	private static final String[] FIRST_NAMES = { "An", "Binh", "Chi", "Dung", "Giang", "Ha", "Hieu", "Hoa", "Huong",
+			"Khanh", "Lan", "Linh", "Long", "Mai", "Minh", "Nam", "Ngoc", "Phuong", "Quang", "Son", "Thao", "Trang",
+			"Trung", "Tuan", "Vy", "Anna", "David", "Emma", "John", "Sophia" };
+
+	private static final String[] LAST_NAMES = { "Nguyen", "Tran", "Le", "Pham", "Hoang", "Phan", "Vu", "Vo", "Dang",
+			"Bui", "Do", "Ho", "Ngo", "Duong", "Ly", "Luu", "Smith", "Brown", "Wilson", "Taylor" };
+
+	private static final String[] WORDS = { "java", "spring", "stream", "lambda", "thread", "memory", "garbage",
+			"collector", "class", "interface", "record", "generic", "collection", "map", "list", "set", "queue",
+			"database", "index", "query", "transaction", "isolation", "lock", "join", "table", "column", "schema",
+			"network", "socket", "protocol", "http", "cache", "latency", "throughput", "security", "token", "cookie",
+			"password", "hash", "cipher", "algorithm", "sort", "search", "tree", "graph", "array", "string", "number",
+			"history", "geography", "river", "mountain", "capital", "country", "biology", "cell", "energy", "physics",
+			"force", "chemistry", "element", "reaction", "math", "equation", "function", "derivative", "integral",
+			"probability", "statistics", "grammar", "vocabulary", "sentence", "literature", "poem", "music", "art" };
+
+	private final long seed;
+
+	private final DataGenOptions.Scale scale;
+
+	private final LocalDateTime until;
+
+	/**
+	 * First question index of every quiz, plus the total at the end.
+	 */
+	private final int[] questionOffsets;
+
+	Dataset(long seed, DataGenOptions.Scale scale, LocalDateTime until) {
+		this.seed = seed;
+		this.scale = scale;
+		this.until = until;
+		this.questionOffsets = new int[scale.quizzes() + 1];
+		for (int quiz = 0; quiz < scale.quizzes(); quiz++) {
+			int spread = MAX_QUESTIONS_PER_QUIZ - MIN_QUESTIONS_PER_QUIZ + 1;
+			int count = MIN_QUESTIONS_PER_QUIZ + (int) Long.remainderUnsigned(hash(QUIZZES, quiz, 1), spread);
+			questionOffsets[quiz + 1] = questionOffsets[quiz] + count;
+		}
+	}
+
+	DataGenOptions.Scale scale() {
+		return scale;
+	}
+
+	LocalDateTime until() {
+		return until;
+	}
+
+	/**
+	 * Random stream for one unit of work (a table, a chunk of sessions), independent of
+	 * the order or thread in which units run.
+	 */
+	SplittableRandom random(int table, long unit) {
+		return new SplittableRandom(hash(table, unit, 0));
+	}
+
+	/**
+	 * Random-looking (version 4 layout) but reproducible id of a row.
+	 */
+	UUID id(int table, long index) {
+		long high = (hash(table, index, 11) & ~0xF000L) | 0x4000L;
+		long low = (hash(table, index, 12) & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+		return new UUID(high, low);
+	}
+
+	// ==================== Catalog ====================
+
+	int totalQuestions() {
+		return questionOffsets[scale.quizzes()];
+	}
+
+	int firstQuestion(int quiz) {
+		return questionOffsets[quiz];
+	}
+
+	int questionCount(int quiz) {
+		return questionOffsets[quiz + 1] - questionOffsets[quiz];
+	}
+
+	/**
+	 * Time limit in minutes.
+	 */
+	int duration(int quiz) {
+		return 10 + 5 * (int) Long.remainderUnsigned(hash(QUIZZES, quiz, 2), 11);
+	}
+
+	/**
+	 * 55% single choice, 15% multiple choice, 15% true/false, 10% fill in the blanks, 5%
+	 * long answer.
+	 */
+	String questionType(int question) {
+		int bucket = (int) Long.remainderUnsigned(hash(QUESTIONS, question, 1), 100);
+		if (bucket < 55) {
+			return "SINGLE_CHOICE";
+		}
+		if (bucket < 70) {
+			return "MULTIPLE_CHOICE";
+		}
+		if (bucket < 85) {
+			return "TRUE_FALSE";
+		}
+		return bucket < 95 ? "FILL_IN_THE_BLANKS" : "LONG_ANSWER";
+	}
+
+	int answerCount(int question) {
+		return switch (questionType(question)) {
+			case "SINGLE_CHOICE", "MULTIPLE_CHOICE" -> MAX_ANSWERS;
+			case "TRUE_FALSE" -> 2;
+			case "FILL_IN_THE_BLANKS" -> 1;
+			default -> 0;
+		};
+	}
+
+	/**
+	 * Whether the answer in the slot is correct. Multiple choice questions have two
+	 * correct answers, fill in the blanks questions store their expected text as the one
+	 * correct answer.
+	 */
+	boolean isCorrect(int question, int slot) {
+		int count = answerCount(question);
+		int correct = (int) Long.remainderUnsigned(hash(QUESTIONS, question, 2), count);
+		if ("MULTIPLE_CHOICE".equals(questionType(question))) {
+			return slot == correct || slot == (correct + 1) % count;
+		}
+		return slot == correct;
+	}
+
+	boolean isAutoGradable(int question) {
+		return switch (questionType(question)) {
+			case "SINGLE_CHOICE", "MULTIPLE_CHOICE", "TRUE_FALSE" -> true;
+			default -> false;
+		};
+	}
+
+	/**
+	 * Between -0.25 (easy) and 0.25 (hard), subtracted from the user's ability.
+	 */
+	double difficulty(int question) {
+		return unit(hash(QUESTIONS, question, 3)) * 0.5 - 0.25;
+	}
+
+	// ==================== Users ====================
+
+	/**
+	 * Baseline chance of answering an average question correctly, 0.35 to 0.95.
+	 */
+	double ability(int user) {
+		return 0.35 + unit(hash(USERS, user, 1)) * 0.6;
+	}
+
+	String email(int user) {
+		return "datagen-" + seed + "-" + user + "@example.com";
+	}
+
+	// ==================== Text ====================
+
+	String firstName(SplittableRandom random) {
+		return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+	}
+
+	String lastName(SplittableRandom random) {
+		return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+	}
+
+	/**
+	 * Space separated words, capitalized.
+	 */
+	String sentence(SplittableRandom random, int minWords, int maxWords) {
+		int words = random.nextInt(minWords, maxWords + 1);
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			String word = WORDS[random.nextInt(WORDS.length)];
+			if (i == 0) {
+				sentence.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+			}
+			else {
+				sentence.append(' ').append(word);
+			}
+		}
+		return sentence.toString();
+	}
+
+	/**
+	 * A timestamp within the year before {@link #until()}, more recent ones more likely.
+	 */
+	LocalDateTime pastTimestamp(SplittableRandom random) {
+		long seconds = (long) (365L * 24 * 3600 * Math.pow(random.nextDouble(), 1.5));
+		return until.minusSeconds(seconds);
+	}
+
+	// ==================== Helper Methods ====================
+
+	private long hash(int table, long index, int field) {
+		long h = mix(seed ^ 0x9E37_79B9_7F4A_7C15L * table);
+		h = mix(h ^ index);
+		return mix(h ^ field);
+	}
+
+	private static double unit(long hash) {
+		return (hash >>> 11) * 0x1.0p-53;
+	}
+
+	/**
+	 * SplitMix64 finalizer.
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+		return z ^ (z >>> 31);
+	}
+
+}
@@ -0,0 +1,254 @@
+package com.example.datagen;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Writes the tables of a {@link Dataset}. Every loader draws from its own random stream,
+ * so the rows do not depend on which loaders ran before or on how many threads load the
+ * sessions.
+ */
+final class Loaders {
+
+	/**
+	 * Sessions per parallel unit of work; each chunk has its own random stream, so the
+	 * chunk size is part of what the seed reproduces and must not change.
+	 */
+	static final int SESSIONS_PER_CHUNK = 50_000;
+
+	/**
+	 * BCrypt hash of {@code DataGen#2026}, the password of every generated user.
+	 */
+	private static final String PASSWORD_HASH = "$2a$10$2t/6NixfxCSNWHEu3ua5P.dQAi9swkI2lhbCcVhQUyhaUwTQtQS3K";
+
+	private static final BigDecimal PASSING_SCORE = new BigDecimal("60.00");
+
+	private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+	private Loaders() {
+	}
+
+	static long users(Connection connection, Dataset dataset) throws SQLException, IOException {
+		SplittableRandom random = dataset.random(Dataset.USERS, 0);
+		try (CopyWriter copy = new CopyWriter(connection, "users", "id", "first_name", "last_name", "email", "password",
+				"date_of_birth", "is_active", "created_at")) {
+			for (int user = 0; user < dataset.scale().users(); user++) {
+				copy.value(dataset.id(Dataset.USERS, user))
+					.value(dataset.firstName(random))
+					.value(dataset.lastName(random))
+					.value(dataset.email(user))
+					.value(PASSWORD_HASH)
+					.value(LocalDate.of(1970, 1, 1).plusDays(random.nextInt(14_000)))
+					.value(random.nextInt(100) >= 2)
+					.value(dataset.pastTimestamp(random))
+					.endRow();
+			}
+			return copy.rows();
+		}
+	}
+
+	static long quizzes(Connection connection, Dataset dataset) throws SQLException, IOException {
+		SplittableRandom random = dataset.random(Dataset.QUIZZES, 0);
+		try (CopyWriter copy = new CopyWriter(connection, "quizzes", "id", "title", "description", "duration",
+				"is_active")) {
+			for (int quiz = 0; quiz < dataset.scale().quizzes(); quiz++) {
+				copy.value(dataset.id(Dataset.QUIZZES, quiz))
+					.value(dataset.sentence(random, 2, 5))
+					.value(dataset.sentence(random, 10, 30))
+					.value(dataset.duration(quiz))
+					.value(random.nextInt(100) >= 5)
+					.endRow();
+			}
+			return copy.rows();
+		}
+	}
+
+	static long questions(Connection connection, Dataset dataset) throws SQLException, IOException {
+		SplittableRandom random = dataset.random(Dataset.QUESTIONS, 0);
+		try (CopyWriter copy = new CopyWriter(connection, "questions", "id", "content", "question_type",
+				"is_active")) {
+			for (int question = 0; question < dataset.totalQuestions(); question++) {
+				copy.value(dataset.id(Dataset.QUESTIONS, question))
+					.value(dataset.sentence(random, 8, 20) + "?")
+					.value(dataset.questionType(question))
+					.value(true)
+					.endRow();
+			}
+			return copy.rows();
+		}
+	}
+
+	static long answers(Connection connection, Dataset dataset) throws SQLException, IOException {
+		SplittableRandom random = dataset.random(Dataset.ANSWERS, 0);
+		try (CopyWriter copy = new CopyWriter(connection, "answers", "id", "content", "is_correct", "is_active",
+				"question_id")) {
+			for (int question = 0; question < dataset.totalQuestions(); question++) {
+				boolean trueFalse = "TRUE_FALSE".equals(dataset.questionType(question));
+				for (int slot = 0; slot < dataset.answerCount(question); slot++) {
+					copy.value(dataset.id(Dataset.ANSWERS, (long) question * Dataset.MAX_ANSWERS + slot))
+						.value(trueFalse ? (slot == 0 ? "True" : "False") : dataset.sentence(random, 1, 6))
+						.value(dataset.isCorrect(question, slot))
+						.value(true)
+						.value(dataset.id(Dataset.QUESTIONS, question))
+						.endRow();
+				}
+			}
+			return copy.rows();
+		}
+	}
+
+	static long quizQuestions(Connection connection, Dataset dataset) throws SQLException, IOException {
+		try (CopyWriter copy = new CopyWriter(connection, "quiz_questions", "id", "quiz_id", "question_id",
+				"\"order\"")) {
+			for (int quiz = 0; quiz < dataset.scale().quizzes(); quiz++) {
+				for (int k = 0; k < dataset.questionCount(quiz); k++) {
+					int question = dataset.firstQuestion(quiz) + k;
+					copy.value(dataset.id(Dataset.QUIZ_QUESTIONS, question))
+						.value(dataset.id(Dataset.QUIZZES, quiz))
+						.value(dataset.id(Dataset.QUESTIONS, question))
+						.value(k + 1)
+						.endRow();
+				}
+			}
+			return copy.rows();
+		}
+	}
+
+	/**
+	 * Loads one chunk of sessions, then their answers. Both passes replay the same random
+	 * stream, so the answers agree with the totals written on their session without
+	 * holding the chunk in memory (a connection runs one COPY at a time, and answers must
+	 * follow their sessions for the foreign key).
+	 * @return the number of session answers written
+	 */
+	static long sessionChunk(Connection connection, Dataset dataset, int chunk) throws SQLException, IOException {
+		try (CopyWriter sessions = new CopyWriter(connection, "quiz_sessions", "id", "user_id", "quiz_id", "status",
+				"created_at", "started_at", "finished_at", "expires_at", "time_spent_seconds", "correct_answers",
+				"total_questions", "answered_questions", "score", "points_earned", "max_points", "is_passed",
+				"current_question_index")) {
+			generateSessions(dataset, chunk, sessions, null);
+		}
+		try (CopyWriter answers = new CopyWriter(connection, "session_answers", "id", "quiz_session_id",
+				"question_id", "answer_id", "text_response", "is_correct", "points_awarded", "answered_at",
+				"time_spent_seconds", "answer_order", "is_reviewed")) {
+			generateSessions(dataset, chunk, null, answers);
+			return answers.rows();
+		}
+	}
+
+	static int sessionChunks(Dataset dataset) {
+		return (int) ((dataset.scale().sessions() + SESSIONS_PER_CHUNK - 1) / SESSIONS_PER_CHUNK);
+	}
+
+	// ==================== Helper Methods ====================
+
+	/**
+	 * Generates the sessions of a chunk, writing either the sessions or their answers.
+	 */
+	private static void generateSessions(Dataset dataset, int chunk, CopyWriter sessions, CopyWriter answers)
+			throws IOException {
+		SplittableRandom random = dataset.random(Dataset.SESSIONS, chunk);
+		long first = (long) chunk * SESSIONS_PER_CHUNK;
+		long last = Math.min(first + SESSIONS_PER_CHUNK, dataset.scale().sessions());
+		for (long index = first; index < last; index++) {
+			UUID sessionId = dataset.id(Dataset.SESSIONS, index);
+			// Skewed: a few users and quizzes account for most sessions
+			int user = (int) (dataset.scale().users() * Math.pow(random.nextDouble(), 1.6));
+			int quiz = (int) (dataset.scale().quizzes() * Math.pow(random.nextDouble(), 3));
+			int total = dataset.questionCount(quiz);
+			LocalDateTime startedAt = dataset.pastTimestamp(random);
+
+			int outcome = random.nextInt(100);
+			String status = outcome < 85 ? "GRADED" : outcome < 95 ? "ABANDONED" : "TIMED_OUT";
+			int answered = switch (status) {
+				case "GRADED" -> total;
+				case "ABANDONED" -> random.nextInt(total);
+				default -> random.nextInt(total / 2, total + 1);
+			};
+
+			int correct = 0;
+			int timeSpent = 0;
+			for (int k = 0; k < answered; k++) {
+				int question = dataset.firstQuestion(quiz) + k;
+				int seconds = random.nextInt(5, 91);
+				timeSpent += seconds;
+				double chance = dataset.ability(user) - dataset.difficulty(question);
+				boolean isCorrect = random.nextDouble() < chance;
+				int slot = answerSlot(dataset, question, isCorrect, random);
+				Boolean graded = dataset.isAutoGradable(question) ? isCorrect : null;
+				if (Boolean.TRUE.equals(graded)) {
+					correct++;
+				}
+				if (answers != null) {
+					UUID answerId = graded != null
+							? dataset.id(Dataset.ANSWERS, (long) question * Dataset.MAX_ANSWERS + slot) : null;
+					answers.value(dataset.id(Dataset.SESSION_ANSWERS, index * 32 + k))
+						.value(sessionId)
+						.value(dataset.id(Dataset.QUESTIONS, question))
+						.value(answerId)
+						.value(graded != null ? null : "synthetic response")
+						.value(graded)
+						.value(Boolean.TRUE.equals(graded) ? BigDecimal.ONE : BigDecimal.ZERO)
+						.value(startedAt.plusSeconds(timeSpent))
+						.value(seconds)
+						.value(k + 1)
+						.value(false)
+						.endRow();
+				}
+			}
+
+			if (sessions != null) {
+				boolean finished = !"ABANDONED".equals(status);
+				BigDecimal score = BigDecimal.valueOf(correct)
+					.divide(BigDecimal.valueOf(total), 4, RoundingMode.HALF_UP)
+					.multiply(HUNDRED)
+					.setScale(2, RoundingMode.HALF_UP);
+				sessions.value(sessionId)
+					.value(dataset.id(Dataset.USERS, user))
+					.value(dataset.id(Dataset.QUIZZES, quiz))
+					.value(status)
+					.value(startedAt)
+					.value(startedAt)
+					.value(finished ? startedAt.plusSeconds(timeSpent) : null)
+					.value(startedAt.plusMinutes(dataset.duration(quiz)))
+					.value(timeSpent)
+					.value(correct)
+					.value(total)
+					.value(answered)
+					.value(score)
+					.value(BigDecimal.valueOf(correct))
+					.value(BigDecimal.valueOf(total))
+					.value(finished ? score.compareTo(PASSING_SCORE) >= 0 : null)
+					.value(Math.max(0, answered - 1))
+					.endRow();
+			}
+		}
+	}
+
+	/**
+	 * The correct answer slot, or a random wrong one. Always draws from the random stream
+	 * so that both passes over a chunk stay in step.
+	 */
+	private static int answerSlot(Dataset dataset, int question, boolean correct, SplittableRandom random) {
+		int count = dataset.answerCount(question);
+		int start = random.nextInt(Dataset.MAX_ANSWERS);
+		if (count == 0) {
+			return 0;
+		}
+		for (int i = 0; i < count; i++) {
+			int slot = (start + i) % count;
+			if (dataset.isCorrect(question, slot) == correct) {
+				return slot;
+			}
+		}
+		return start % count;
+	}
+
+}
@@ -0,0 +1,228 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The quiz API as seen by one virtual user. Every call is timed and recorded under its
+ * route template (e.g. {@code POST /api/quiz-sessions/{id}/submit-answer}), so results
+ * aggregate across sessions and users.
+ * <p>
+ * All users share one {@link HttpClient} (and its connection pool); each user keeps its
+ * own {@code access_token} cookie and sends it explicitly, like separate browsers would.
+ */
+final class ApiClient {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * How long a call may keep waiting out rate limiting (429) before it fails: one refill
+	 * period of the app's {@code auth} policy.
+	 */
+	private static final Duration MAX_RATE_LIMIT_WAIT = Duration.ofMinutes(1);
+
+	private static final String ACCESS_TOKEN_COOKIE = "access_token";
+
+	private final HttpClient http;
+
+	private final JsonMapper json;
+
+	private final URI baseUrl;
+
+	private final Map<String, EndpointStats> stats;
+
+	private String accessToken;
+
+	ApiClient(HttpClient http, JsonMapper json, URI baseUrl, Map<String, EndpointStats> stats) {
+		this.http = http;
+		this.json = json;
+		this.baseUrl = baseUrl;
+		this.stats = stats;
+	}
+
+	static Map<String, EndpointStats> newStats() {
+		return new ConcurrentHashMap<>();
+	}
+
+	// ==================== Auth ====================
+
+	/**
+	 * Log in, registering the account first if it does not exist yet.
+	 */
+	void loginOrRegister(String email, String password) {
+		if (login(email, password)) {
+			return;
+		}
+		call("POST", "/api/auth/register", "/api/auth/register",
+				Map.of("email", email, "password", password, "firstName", "Load", "lastName", "Test", "dateOfBirth",
+						LocalDate.of(2000, 1, 1).toString()));
+		if (!login(email, password)) {
+			throw new IllegalStateException("Could not log in as " + email);
+		}
+	}
+
+	boolean login(String email, String password) {
+		Optional<HttpResponse<String>> response = send("POST", "/api/auth/login", "/api/auth/login",
+				Map.of("email", email, "password", password));
+		if (response.isEmpty() || response.get().statusCode() != 200) {
+			return false;
+		}
+		accessToken = response.get()
+			.headers()
+			.allValues("Set-Cookie")
+			.stream()
+			.filter(cookie -> cookie.startsWith(ACCESS_TOKEN_COOKIE + "="))
+			.map(cookie -> cookie.substring(ACCESS_TOKEN_COOKIE.length() + 1, indexOrLength(cookie, ';')))
+			.findFirst()
+			.orElse(null);
+		return accessToken != null;
+	}
+
+	// ==================== Quiz taking ====================
+
+	/**
+	 * One complete attempt: start a session, fetch its questions, answer every one of
+	 * them with a random option, submit and read the result.
+	 * @return {@code true} if every step succeeded
+	 */
+	boolean takeQuiz(UUID quizId) {
+		JsonNode session = call("POST", "/api/quiz-sessions/start/" + quizId, "/api/quiz-sessions/start/{quizId}",
+				null);
+		if (session == null) {
+			return false;
+		}
+		String sessionId = session.path("id").asString();
+		JsonNode bundle = call("GET", "/api/quiz-sessions/" + sessionId + "/questions",
+				"/api/quiz-sessions/{id}/questions", null);
+		if (bundle == null) {
+			return false;
+		}
+		boolean ok = true;
+		for (JsonNode question : bundle.path("questions").values()) {
+			ok &= call("POST", "/api/quiz-sessions/" + sessionId + "/submit-answer",
+					"/api/quiz-sessions/{id}/submit-answer", answer(question)) != null;
+		}
+		ok &= call("POST", "/api/quiz-sessions/" + sessionId + "/submit", "/api/quiz-sessions/{id}/submit",
+				null) != null;
+		ok &= call("GET", "/api/quiz-sessions/" + sessionId + "/result", "/api/quiz-sessions/{id}/result",
+				null) != null;
+		return ok;
+	}
+
+	boolean leaderboard(UUID quizId) {
+		return call("GET", "/api/quiz-history/quiz/" + quizId + "/leaderboard",
+				"/api/quiz-history/quiz/{quizId}/leaderboard", null) != null;
+	}
+
+	boolean adminDashboard() {
+		return call("GET", "/api/analytics/admin/dashboard", "/api/analytics/admin/dashboard", null) != null;
+	}
+
+	// ==================== Helper Methods ====================
+
+	private Map<String, Object> answer(JsonNode question) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<String> options = new ArrayList<>();
+		question.path("options").values().forEach(option -> options.add(option.path("id").asString()));
+		String questionType = question.path("questionType").asString();
+		Map<String, Object> answer = new HashMap<>();
+		answer.put("questionId", question.path("id").asString());
+		answer.put("timeSpentSeconds", random.nextInt(5, 60));
+		if ("FILL_IN_THE_BLANKS".equals(questionType) || "LONG_ANSWER".equals(questionType) || options.isEmpty()) {
+			answer.put("textResponse", "load test answer");
+		}
+		else if ("MULTIPLE_CHOICE".equals(questionType)) {
+			List<String> picked = new ArrayList<>();
+			for (String option : options) {
+				if (random.nextBoolean()) {
+					picked.add(option);
+				}
+			}
+			answer.put("answerIds", picked.isEmpty() ? List.of(options.getFirst()) : picked);
+		}
+		else {
+			answer.put("answerId", options.get(random.nextInt(options.size())));
+		}
+		return answer;
+	}
+
+	/**
+	 * @return the parsed 2xx response body ({@code null} body reads as an empty node),
+	 * or {@code null} if the call failed
+	 */
+	private JsonNode call(String method, String path, String endpoint, Object body) {
+		return send(method, path, endpoint, body).filter(response -> response.statusCode() / 100 == 2)
+			.map(response -> response.body().isEmpty() ? json.createObjectNode() : json.readTree(response.body()))
+			.orElse(null);
+	}
+
+	private Optional<HttpResponse<String>> send(String method, String path, String endpoint, Object body) {
+		HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+			.timeout(REQUEST_TIMEOUT)
+			.header("Accept", "application/json")
+			.method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+					: HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body)));
+		if (body != null) {
+			request.header("Content-Type", "application/json");
+		}
+		if (accessToken != null) {
+			request.header("Cookie", ACCESS_TOKEN_COOKIE + "=" + accessToken);
+		}
+		EndpointStats endpointStats = stats.computeIfAbsent(method + " " + endpoint, key -> new EndpointStats());
+		HttpRequest httpRequest = request.build();
+		long waitDeadline = System.nanoTime() + MAX_RATE_LIMIT_WAIT.toNanos();
+		while (true) {
+			long start = System.nanoTime();
+			try {
+				HttpResponse<String> response = http.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+				int status = response.statusCode();
+				long retryAfterNanos = status == 429 ? retryAfterNanos(response) : 0;
+				// Rate limited calls that are retried count under 429, not as errors
+				boolean retry = retryAfterNanos > 0 && start + retryAfterNanos < waitDeadline;
+				endpointStats.record(System.nanoTime() - start, String.valueOf(status), status >= 400 && !retry);
+				if (!retry) {
+					return Optional.of(response);
+				}
+				Thread.sleep(Duration.ofNanos(retryAfterNanos));
+			}
+			catch (IOException e) {
+				endpointStats.record(System.nanoTime() - start, "IO", true);
+				return Optional.empty();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+		}
+	}
+
+	/**
+	 * @return the wait the {@code Retry-After} header (in seconds) asks for, {@code 0}
+	 * without one
+	 */
+	private static long retryAfterNanos(HttpResponse<String> response) {
+		return Duration.ofSeconds(response.headers().firstValueAsLong("Retry-After").orElse(0)).toNanos();
+	}
+
+	private static int indexOrLength(String value, char ch) {
+		int index = value.indexOf(ch);
+		return index < 0 ? value.length() : index;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.example.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and outcomes of the calls to one endpoint, safe to record from any number
+ * of threads. Latencies are kept in microseconds with three significant digits.
+ */
+final class EndpointStats {
+
+	private static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+	private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+	private final LongAdder errors = new LongAdder();
+
+	private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+	void record(long latencyNanos, String outcome, boolean error) {
+		latencies.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, latencyNanos / 1_000)));
+		outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+		if (error) {
+			errors.increment();
+		}
+	}
+
+	long count() {
+		return latencies.getTotalCount();
+	}
+
+	long errors() {
+		return errors.sum();
+	}
+
+	double errorRate() {
+		long count = count();
+		return count == 0 ? 0 : (double) errors() / count;
+	}
+
+	/**
+	 * @return the latency at the percentile (0-100), in milliseconds
+	 */
+	double percentileMillis(double percentile) {
+		return latencies.getValueAtPercentile(percentile) / 1_000.0;
+	}
+
+	double maxMillis() {
+		return latencies.getMaxValue() / 1_000.0;
+	}
+
+	/**
+	 * Calls per HTTP status ({@code 200}, {@code 429}, ...) or failure ({@code IO}).
+	 */
+	Map<String, Long> outcomes() {
+		Map<String, Long> counts = new TreeMap<>();
+		outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+		return counts;
+	}
+
+}
@@ -0,0 +1,114 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Entry point: runs one scenario against the quiz API and prints latency percentiles,
+ * throughput and error rate per endpoint. See {@link LoadTestOptions#USAGE}.
+ * <p>
+ * The process exits with status 1 if any endpoint returned errors, so it can gate a
+ * pipeline.
+ */
+public final class LoadTest {
+
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options;
+		try {
+			options = LoadTestOptions.parse(args);
+		}
+		catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.print(LoadTestOptions.USAGE);
+			System.exit(2);
+			return;
+		}
+
+		StubServer stub = options.stub() ? new StubServer() : null;
+		try (stub) {
+			URI baseUrl = stub != null ? stub.baseUrl() : options.baseUrl();
+			JsonMapper json = JsonMapper.builder().build();
+			Map<String, EndpointStats> stats = ApiClient.newStats();
+			long failures;
+			long start = System.nanoTime();
+			try (HttpClient http = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(10))
+				.version(HttpClient.Version.HTTP_1_1)
+				.build()) {
+				System.out.printf("Running %s with %d user(s) against %s%n", options.scenario().label(),
+						options.users(), baseUrl);
+				failures = Scenarios.run(options, () -> new ApiClient(http, json, baseUrl, stats));
+			}
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+			Map<String, EndpointStats> sorted = new TreeMap<>(stats);
+			print(sorted, elapsed, failures);
+			if (options.report() != null) {
+				Files.writeString(options.report(), json.writerWithDefaultPrettyPrinter()
+					.writeValueAsString(report(json, options, sorted, elapsed, failures)));
+				System.out.println("Report written to " + options.report().toAbsolutePath());
+			}
+			if (failures > 0 || sorted.values().stream().anyMatch(endpoint -> endpoint.errors() > 0)) {
+				System.exit(1);
+			}
+		}
+	}
+
+	private static void print(Map<String, EndpointStats> stats, Duration elapsed, long failures) {
+		double seconds = elapsed.toNanos() / 1e9;
+		System.out.printf("%n%-52s %8s %7s %9s %9s %9s %9s %9s %9s %8s%n", "Endpoint", "Count", "Errors", "p50 ms",
+				"p90 ms", "p99 ms", "p99.9 ms", "max ms", "req/s", "Errors %");
+		stats.forEach((endpoint, endpointStats) -> {
+			System.out.printf("%-52s %8d %7d", endpoint, endpointStats.count(), endpointStats.errors());
+			for (double percentile : PERCENTILES) {
+				System.out.printf(" %9.1f", endpointStats.percentileMillis(percentile));
+			}
+			System.out.printf(" %9.1f %9.1f %7.2f%%%n", endpointStats.maxMillis(), endpointStats.count() / seconds,
+					endpointStats.errorRate() * 100);
+			if (endpointStats.errors() > 0) {
+				System.out.printf("%-52s %s%n", "", endpointStats.outcomes());
+			}
+		});
+		System.out.printf("%nElapsed %.1fs, %d failed attempt(s)%n", seconds, failures);
+	}
+
+	private static ObjectNode report(JsonMapper json, LoadTestOptions options, Map<String, EndpointStats> stats,
+			Duration elapsed, long failures) {
+		double seconds = elapsed.toNanos() / 1e9;
+		ObjectNode report = json.createObjectNode();
+		report.put("scenario", options.scenario().label());
+		report.put("users", options.users());
+		report.put("elapsedSeconds", seconds);
+		report.put("failedAttempts", failures);
+		ObjectNode endpoints = report.putObject("endpoints");
+		stats.forEach((endpoint, endpointStats) -> {
+			ObjectNode node = endpoints.putObject(endpoint);
+			node.put("count", endpointStats.count());
+			node.put("errors", endpointStats.errors());
+			node.put("errorRate", endpointStats.errorRate());
+			node.put("throughputPerSecond", endpointStats.count() / seconds);
+			ObjectNode latency = node.putObject("latencyMillis");
+			for (double percentile : PERCENTILES) {
+				latency.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile)
+						: String.valueOf(percentile)), endpointStats.percentileMillis(percentile));
+			}
+			latency.put("max", endpointStats.maxMillis());
+			ObjectNode outcomes = node.putObject("outcomes");
+			endpointStats.outcomes().forEach(outcomes::put);
+		});
+		return report;
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Command line of the load test, as {@code --name=value} pairs.
+ *
+ * @param scenario scenario to run
+ * @param baseUrl the application, e.g. {@code http://localhost:8080}; ignored with
+ * {@code stub}
+ * @param stub run against the embedded {@link StubServer} instead of the application,
+ * to check the harness itself
+ * @param quizId quiz taken or ranked by the scenarios
+ * @param users concurrent virtual users
+ * @param duration how long the steady scenarios run
+ * @param thinkTime pause between two requests of a user in the steady scenarios
+ * @param userPassword password of the generated {@code loadtest-user-N@example.com}
+ * users, registered on first use
+ * @param adminEmail admin account for {@code admin-dashboard}
+ * @param adminPassword password of the admin account
+ * @param report where to write the JSON report, or {@code null} for none
+ */
+record LoadTestOptions(
+		Scenarios.Type scenario,
+		URI baseUrl,
+		boolean stub,
+		UUID quizId,
+		int users,
+		Duration duration,
+		Duration thinkTime,
+		String userPassword,
+		String adminEmail,
+		String adminPassword,
+		Path report) {
+
+	static final String USAGE = """
+			Usage: java -jar loadtest.jar --scenario=<exam-start-storm|steady-practice|leaderboard-refresh|admin-dashboard>
+			         [--base-url=http://localhost:8080 | --stub] [--quiz-id=<uuid>] [--users=100] [--duration=60s]
+			         [--think-time=500ms] [--user-password=LoadTest#2026] [--admin-email=...] [--admin-password=...]
+			         [--report=report.json]
+			""";
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--")) {
+				throw new IllegalArgumentException("Unexpected argument: " + arg);
+			}
+			int equals = arg.indexOf('=');
+			values.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals),
+					equals < 0 ? "true" : arg.substring(equals + 1));
+		}
+		boolean stub = Boolean.parseBoolean(values.getOrDefault("stub", "false"));
+		String quizId = values.get("quiz-id");
+		if (quizId == null && !stub) {
+			throw new IllegalArgumentException("--quiz-id is required");
+		}
+		return new LoadTestOptions(Scenarios.Type.of(values.getOrDefault("scenario", "exam-start-storm")),
+				URI.create(values.getOrDefault("base-url", "http://localhost:8080")), stub,
+				quizId != null ? UUID.fromString(quizId) : UUID.randomUUID(),
+				Integer.parseInt(values.getOrDefault("users", "100")),
+				duration(values.getOrDefault("duration", "60s")), duration(values.getOrDefault("think-time", "500ms")),
+				values.getOrDefault("user-password", "LoadTest#2026"), values.get("admin-email"),
+				values.get("admin-password"), values.containsKey("report") ? Path.of(values.get("report")) : null);
+	}
+
+	/**
+	 * {@code 500ms}, {@code 30s}, {@code 5m} or an ISO-8601 duration.
+	 */
+	static Duration duration(String value) {
+		if (value.endsWith("ms")) {
+			return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+		}
+		if (value.endsWith("s")) {
+			return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		if (value.endsWith("m")) {
+			return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		return Duration.parse(value);
+	}
+
+}
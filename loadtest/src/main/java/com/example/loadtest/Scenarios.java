@@ -0,0 +1,140 @@
+package com.example.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The traffic shapes the quiz app has to survive. Every virtual user runs on its own
+ * virtual thread, so thousands of users cost no more than their sockets.
+ */
+final class Scenarios {
+
+	private Scenarios() {
+	}
+
+	enum Type {
+
+		/**
+		 * All users log in, wait for each other, then start and finish the same quiz at
+		 * the same instant, like a class at the start of an exam.
+		 */
+		EXAM_START_STORM,
+
+		/**
+		 * Users take the quiz over and over with think time between attempts, for the
+		 * whole duration.
+		 */
+		STEADY_PRACTICE,
+
+		/**
+		 * Users keep refreshing the leaderboard of the quiz for the whole duration.
+		 */
+		LEADERBOARD_REFRESH,
+
+		/**
+		 * The admin account keeps reloading the analytics dashboard from every user slot
+		 * for the whole duration.
+		 */
+		ADMIN_DASHBOARD;
+
+		static Type of(String name) {
+			return valueOf(name.toUpperCase(Locale.ROOT).replace('-', '_'));
+		}
+
+		String label() {
+			return name().toLowerCase(Locale.ROOT).replace('_', '-');
+		}
+
+	}
+
+	/**
+	 * Run the scenario to completion.
+	 * @param clients creates the client of one virtual user
+	 * @return attempts (quiz attempts or page loads) that did not complete, over all
+	 * users
+	 */
+	static long run(LoadTestOptions options, Supplier<ApiClient> clients) throws InterruptedException {
+		LongAdder failures = new LongAdder();
+		CountDownLatch ready = new CountDownLatch(options.users());
+		long deadline = System.nanoTime() + options.duration().toNanos();
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> running = new ArrayList<>();
+			for (int user = 0; user < options.users(); user++) {
+				int index = user;
+				running.add(users.submit(() -> {
+					ApiClient client = clients.get();
+					try {
+						login(options, client, index);
+					}
+					finally {
+						ready.countDown();
+					}
+					ready.await();
+					runUser(options, client, deadline, failures);
+					return null;
+				}));
+			}
+			for (Future<?> user : running) {
+				try {
+					user.get();
+				}
+				catch (ExecutionException e) {
+					failures.increment();
+					System.err.println("Virtual user failed: " + e.getCause());
+				}
+			}
+		}
+		return failures.sum();
+	}
+
+	private static void login(LoadTestOptions options, ApiClient client, int index) {
+		if (options.scenario() == Type.ADMIN_DASHBOARD) {
+			if (options.adminEmail() == null || !client.login(options.adminEmail(), options.adminPassword())) {
+				throw new IllegalStateException("admin-dashboard needs a valid --admin-email and --admin-password");
+			}
+			return;
+		}
+		client.loginOrRegister("loadtest-user-%05d@example.com".formatted(index), options.userPassword());
+	}
+
+	private static void runUser(LoadTestOptions options, ApiClient client, long deadline, LongAdder failures)
+			throws InterruptedException {
+		if (options.scenario() == Type.EXAM_START_STORM) {
+			if (!client.takeQuiz(options.quizId())) {
+				failures.increment();
+			}
+			return;
+		}
+		while (System.nanoTime() < deadline) {
+			boolean ok = switch (options.scenario()) {
+				case STEADY_PRACTICE -> client.takeQuiz(options.quizId());
+				case LEADERBOARD_REFRESH -> client.leaderboard(options.quizId());
+				case ADMIN_DASHBOARD -> client.adminDashboard();
+				case EXAM_START_STORM -> throw new IllegalStateException();
+			};
+			if (!ok) {
+				failures.increment();
+			}
+			think(options.thinkTime());
+		}
+	}
+
+	private static void think(Duration thinkTime) throws InterruptedException {
+		if (!thinkTime.isZero()) {
+			// +/- 50% so users do not move in lockstep
+			long millis = thinkTime.toMillis();
+			Thread.sleep(millis / 2 + ThreadLocalRandom.current().nextLong(millis + 1));
+		}
+	}
+
+}
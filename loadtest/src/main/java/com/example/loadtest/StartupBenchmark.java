@@ -0,0 +1,218 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Starts the JVM, CDS and native builds of the application one after the other and
+ * measures, per start, the time from spawning the process until the readiness probe
+ * answers and the resident memory at that point. See {@link StartupOptions#USAGE}.
+ * <p>
+ * Resident memory is read from {@code /proc}, so it is only reported on Linux. The
+ * process exits with status 1 if any start timed out or exited early.
+ */
+public final class StartupBenchmark {
+
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+	private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+
+	private StartupBenchmark() {
+	}
+
+	/**
+	 * One start of a build.
+	 *
+	 * @param readyMillis time from spawning the process until the probe answered 200
+	 * @param rssKiB resident memory once ready ({@code VmRSS}), {@code -1} if unknown
+	 * @param peakRssKiB peak resident memory once ready ({@code VmHWM}), {@code -1} if
+	 * unknown
+	 */
+	record Run(long readyMillis, long rssKiB, long peakRssKiB) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		StartupOptions options;
+		try {
+			options = StartupOptions.parse(args);
+		}
+		catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.print(StartupOptions.USAGE);
+			System.exit(2);
+			return;
+		}
+
+		Map<String, List<Run>> results = new LinkedHashMap<>();
+		int failures = 0;
+		try (HttpClient http = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(1))
+			.version(HttpClient.Version.HTTP_1_1)
+			.build()) {
+			for (StartupOptions.Variant variant : options.variants()) {
+				List<Run> runs = new ArrayList<>();
+				for (int i = 1; i <= options.runs(); i++) {
+					try {
+						Run run = start(http, options, variant);
+						runs.add(run);
+						System.out.printf("%-8s run %d: ready in %d ms, RSS %s MB%n", variant.name(), i,
+								run.readyMillis(), megabytes(run.rssKiB()));
+					}
+					catch (IOException e) {
+						failures++;
+						System.out.printf("%-8s run %d: %s%n", variant.name(), i, e.getMessage());
+					}
+				}
+				results.put(variant.name(), runs);
+			}
+		}
+
+		print(results);
+		if (options.report() != null) {
+			JsonMapper json = JsonMapper.builder().build();
+			Files.writeString(options.report(),
+					json.writerWithDefaultPrettyPrinter().writeValueAsString(report(json, options, results)));
+			System.out.println("Report written to " + options.report().toAbsolutePath());
+		}
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+
+	private static Run start(HttpClient http, StartupOptions options, StartupOptions.Variant variant)
+			throws IOException, InterruptedException {
+		List<String> command = new ArrayList<>(variant.command());
+		if (variant.java()) {
+			command.addAll(1, options.javaOptions());
+		}
+		command.addAll(options.appArgs());
+
+		Path log = Files.createTempFile("startup-" + variant.name() + "-", ".log");
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+		try {
+			long deadline = start + options.timeout().toNanos();
+			HttpRequest probe = HttpRequest.newBuilder(options.readyUrl()).timeout(Duration.ofSeconds(1)).build();
+			while (true) {
+				if (!process.isAlive()) {
+					throw new IOException("exited with status " + process.exitValue() + " before it was ready, see "
+							+ log);
+				}
+				if (System.nanoTime() > deadline) {
+					throw new IOException("not ready after " + options.timeout().toSeconds() + "s, see " + log);
+				}
+				if (isReady(http, probe)) {
+					long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+					Run run = new Run(readyMillis, procStatus(process.pid(), "VmRSS"),
+							procStatus(process.pid(), "VmHWM"));
+					Files.deleteIfExists(log);
+					return run;
+				}
+				Thread.sleep(POLL_INTERVAL);
+			}
+		}
+		finally {
+			stop(process);
+		}
+	}
+
+	private static boolean isReady(HttpClient http, HttpRequest probe) throws InterruptedException {
+		try {
+			return http.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+		}
+		catch (IOException e) {
+			// Not listening yet, or listening but not answering yet
+			return false;
+		}
+	}
+
+	/**
+	 * SIGTERM first so the application shuts down gracefully and releases the port before
+	 * the next start.
+	 */
+	private static void stop(Process process) throws InterruptedException {
+		process.destroy();
+		if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+			process.destroyForcibly().waitFor();
+		}
+	}
+
+	/**
+	 * A {@code kB} field of {@code /proc/<pid>/status}, {@code -1} where there is none.
+	 */
+	private static long procStatus(long pid, String field) {
+		Path status = Path.of("/proc", String.valueOf(pid), "status");
+		try {
+			for (String line : Files.readAllLines(status)) {
+				if (line.startsWith(field + ":")) {
+					return Long.parseLong(line.substring(field.length() + 1).replace("kB", "").trim());
+				}
+			}
+		}
+		catch (IOException e) {
+			// Not Linux
+		}
+		return -1;
+	}
+
+	private static void print(Map<String, List<Run>> results) {
+		System.out.printf("%n%-8s %5s %12s %12s %12s %12s %15s%n", "Build", "Runs", "ready p50 ms", "ready min ms",
+				"ready max ms", "RSS p50 MB", "peak RSS p50 MB");
+		results.forEach((name, runs) -> {
+			if (runs.isEmpty()) {
+				System.out.printf("%-8s %5d %12s%n", name, 0, "-");
+				return;
+			}
+			System.out.printf("%-8s %5d %12d %12d %12d %12s %15s%n", name, runs.size(), median(runs, Run::readyMillis),
+					runs.stream().mapToLong(Run::readyMillis).min().orElseThrow(),
+					runs.stream().mapToLong(Run::readyMillis).max().orElseThrow(), megabytes(median(runs, Run::rssKiB)),
+					megabytes(median(runs, Run::peakRssKiB)));
+		});
+	}
+
+	private static ObjectNode report(JsonMapper json, StartupOptions options, Map<String, List<Run>> results) {
+		ObjectNode report = json.createObjectNode();
+		report.put("readyUrl", options.readyUrl().toString());
+		ObjectNode builds = report.putObject("builds");
+		results.forEach((name, runs) -> {
+			ObjectNode build = builds.putObject(name);
+			build.put("runs", runs.size());
+			if (!runs.isEmpty()) {
+				build.put("readyMillisMedian", median(runs, Run::readyMillis));
+				build.put("rssKiBMedian", median(runs, Run::rssKiB));
+				build.put("peakRssKiBMedian", median(runs, Run::peakRssKiB));
+			}
+			ArrayNode all = build.putArray("starts");
+			runs.forEach(run -> all.addObject()
+				.put("readyMillis", run.readyMillis())
+				.put("rssKiB", run.rssKiB())
+				.put("peakRssKiB", run.peakRssKiB()));
+		});
+		return report;
+	}
+
+	private static long median(List<Run> runs, ToLongFunction<Run> value) {
+		long[] sorted = runs.stream().mapToLong(value).sorted().toArray();
+		return sorted[(sorted.length - 1) / 2];
+	}
+
+	private static String megabytes(long kib) {
+		return kib < 0 ? "n/a" : String.format("%.0f", kib / 1024.0);
+	}
+
+}
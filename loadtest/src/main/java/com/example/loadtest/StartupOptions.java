@@ -0,0 +1,110 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of the startup benchmark, as {@code --name=value} pairs. At least one of
+ * {@code jvm}, {@code cds} and {@code native} is required.
+ *
+ * @param variants builds to start, in the order they are measured
+ * @param runs starts per build; the report shows the median and the spread
+ * @param readyUrl endpoint polled until it answers 200, the application's readiness
+ * probe by default
+ * @param timeout how long a start may take before the run counts as failed
+ * @param javaOptions JVM options added to the {@code jvm} and {@code cds} command lines
+ * @param appArgs application arguments added to every command line
+ * @param report where to write the JSON report, or {@code null} for none
+ */
+record StartupOptions(
+		List<Variant> variants,
+		int runs,
+		URI readyUrl,
+		Duration timeout,
+		List<String> javaOptions,
+		List<String> appArgs,
+		Path report) {
+
+	static final String USAGE = """
+			Usage: java -cp loadtest.jar com.example.loadtest.StartupBenchmark
+			         [--jvm=SpringBootWeb/target/SpringBootWeb-<version>-exec.jar] [--cds=SpringBootWeb/target/cds]
+			         [--native=SpringBootWeb/target/SpringBootWeb] [--runs=5]
+			         [--ready-url=http://localhost:8080/actuator/health/readiness] [--timeout=120s]
+			         [--java-options="-Xmx512m"] [--app-args="--server.port=8080"] [--report=startup.json]
+			The application is configured as usual, e.g. SPRING_DATASOURCE_URL in the environment.
+			""";
+
+	/**
+	 * One build to measure.
+	 *
+	 * @param name label in the report
+	 * @param command command line, before {@link #javaOptions()} and {@link #appArgs()}
+	 * are added
+	 * @param java whether the command starts a JVM
+	 */
+	record Variant(String name, List<String> command, boolean java) {
+	}
+
+	static StartupOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+				throw new IllegalArgumentException("Unexpected argument: " + arg);
+			}
+			int equals = arg.indexOf('=');
+			values.put(arg.substring(2, equals), arg.substring(equals + 1));
+		}
+		String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		List<Variant> variants = new ArrayList<>();
+		if (values.containsKey("jvm")) {
+			variants.add(new Variant("jvm", List.of(java, "-jar", values.get("jvm")), true));
+		}
+		if (values.containsKey("cds")) {
+			variants.add(new Variant("cds", cdsCommand(java, Path.of(values.get("cds"))), true));
+		}
+		if (values.containsKey("native")) {
+			variants.add(new Variant("native", List.of(values.get("native")), false));
+		}
+		if (variants.isEmpty()) {
+			throw new IllegalArgumentException("One of --jvm, --cds or --native is required");
+		}
+		return new StartupOptions(variants, Integer.parseInt(values.getOrDefault("runs", "5")),
+				URI.create(values.getOrDefault("ready-url", "http://localhost:8080/actuator/health/readiness")),
+				LoadTestOptions.duration(values.getOrDefault("timeout", "120s")),
+				words(values.get("java-options")), words(values.get("app-args")),
+				values.containsKey("report") ? Path.of(values.get("report")) : null);
+	}
+
+	/**
+	 * The {@code -Pcds} output: the extracted {@code app.jar} with the cache its training
+	 * run left next to it, a JDK 25 AOT cache ({@code app.aot}) or a CDS archive
+	 * ({@code app.jsa}) from an older JDK. The jar was AOT-processed, so its generated
+	 * initializers are used too.
+	 */
+	private static List<String> cdsCommand(String java, Path directory) {
+		Path jar = directory.resolve("app.jar");
+		Path aotCache = directory.resolve("app.aot");
+		Path archive = directory.resolve("app.jsa");
+		String cacheOption;
+		if (aotCache.toFile().isFile()) {
+			cacheOption = "-XX:AOTCache=" + aotCache;
+		}
+		else if (archive.toFile().isFile()) {
+			cacheOption = "-XX:SharedArchiveFile=" + archive;
+		}
+		else {
+			throw new IllegalArgumentException("No app.aot or app.jsa in " + directory + ", build it with -Pcds");
+		}
+		return List.of(java, cacheOption, "-Dspring.aot.enabled=true", "-jar", jar.toString());
+	}
+
+	private static List<String> words(String value) {
+		return value == null || value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+	}
+
+}
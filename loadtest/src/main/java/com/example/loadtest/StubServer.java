@@ -0,0 +1,76 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stand-in for the quiz API with canned responses, used with {@code --stub} to check
+ * the harness itself (and its own overhead) without a database or a running app.
+ */
+final class StubServer implements AutoCloseable {
+
+	private static final String BUNDLE = """
+			{"quizId":"%s","totalQuestions":3,"questions":[
+			{"id":"%s","questionType":"SINGLE_CHOICE","options":[{"id":"%s"},{"id":"%s"}]},
+			{"id":"%s","questionType":"MULTIPLE_CHOICE","options":[{"id":"%s"},{"id":"%s"}]},
+			{"id":"%s","questionType":"FILL_IN_THE_BLANKS","options":[]}]}
+			""".formatted(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+			UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+	private final HttpServer server;
+
+	StubServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/", this::handle);
+		server.start();
+	}
+
+	URI baseUrl() {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange; InputStream body = exchange.getRequestBody()) {
+			body.readAllBytes();
+			String path = exchange.getRequestURI().getPath();
+			if (path.equals("/api/auth/login")) {
+				exchange.getResponseHeaders().add("Set-Cookie", "access_token=stub; Path=/; HttpOnly");
+				respond(exchange, "{}");
+			}
+			else if (path.startsWith("/api/quiz-sessions/start/")) {
+				respond(exchange, "{\"id\":\"" + UUID.randomUUID() + "\"}");
+			}
+			else if (path.endsWith("/questions")) {
+				respond(exchange, BUNDLE);
+			}
+			else {
+				respond(exchange, "{}");
+			}
+		}
+	}
+
+	private static void respond(HttpExchange exchange, String json) throws IOException {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+}